@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Time-to-first-request: launches a command, polls a URL until it answers 200, reports the elapsed time
+# and stops the process. Repeats RUNS times (default 3) and prints the median.
+#
+#   scripts/measure-startup.sh http://localhost:8080/api/continents -- \
+#       docker run --rm -p 8080:8080 --env-file .env surf-spots-api:optimised
+#
+# See docs/startup.md.
+set -euo pipefail
+
+if [[ $# -lt 3 || "$2" != "--" ]]; then
+  echo "Usage: $0 <url> -- <command...>" >&2
+  exit 1
+fi
+
+URL="$1"
+shift 2
+RUNS="${RUNS:-3}"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+
+now_ms() {
+  date +%s%3N
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+  start=$(now_ms)
+  "$@" >"${LOG_FILE:-/dev/null}" 2>&1 &
+  pid=$!
+  elapsed=""
+  while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "run $run: process exited before answering" >&2
+      exit 1
+    fi
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)" == "200" ]]; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    sleep 0.05
+  done
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  if [[ -z "$elapsed" ]]; then
+    echo "run $run: no 200 from $URL within ${TIMEOUT_SECONDS}s" >&2
+    exit 1
+  fi
+  echo "run $run: first 200 after ${elapsed} ms"
+  results+=("$elapsed")
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }')
+echo "median time-to-first-request: ${median} ms (${RUNS} runs)"
@@ -0,0 +1,172 @@
+package com.lovettj.surfspotsapi.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.entity.AccommodationOption;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Facility;
+import com.lovettj.surfspotsapi.entity.FoodOption;
+import com.lovettj.surfspotsapi.entity.Hazard;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SubRegion;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+import com.lovettj.surfspotsapi.enums.BeachBottomType;
+import com.lovettj.surfspotsapi.enums.CrowdLevel;
+import com.lovettj.surfspotsapi.enums.Parking;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
+import com.lovettj.surfspotsapi.enums.Tide;
+import com.lovettj.surfspotsapi.enums.WaveDirection;
+
+/**
+ * Deterministic in-memory catalog shaped like production reference data (6 continents, 134 countries,
+ * 691 regions, 85 sub-regions, the 20 seeded swell seasons) with fully populated spots, so benchmark
+ * runs on different machines and branches measure the same input.
+ */
+public final class SyntheticCatalog {
+
+    public static final int CONTINENTS = 6;
+    public static final int COUNTRIES = 134;
+    public static final int REGIONS = 691;
+    public static final int SUB_REGIONS = 85;
+
+    private static final long SEED = 20_240_601L;
+    private static final String SWELL_SEASONS_RESOURCE = "static/seedData/swell-seasons.json";
+
+    private final List<Region> regions;
+    private final List<SubRegion> subRegions;
+    private final List<SwellSeason> swellSeasons;
+
+    private SyntheticCatalog() {
+        List<Continent> continents = new ArrayList<>();
+        for (int index = 0; index < CONTINENTS; index++) {
+            Continent continent = Continent.builder().id((long) index + 1).name("Continent " + index).build();
+            continent.generateSlug();
+            continents.add(continent);
+        }
+        List<Country> countries = new ArrayList<>();
+        for (int index = 0; index < COUNTRIES; index++) {
+            Country country = Country.builder()
+                    .id((long) index + 1)
+                    .name("Country " + index)
+                    .continent(continents.get(index % CONTINENTS))
+                    .build();
+            country.generateSlug();
+            countries.add(country);
+        }
+        regions = new ArrayList<>();
+        for (int index = 0; index < REGIONS; index++) {
+            Region region = Region.builder()
+                    .id((long) index + 1)
+                    .name("Region " + index)
+                    .country(countries.get(index % COUNTRIES))
+                    .build();
+            region.generateSlug();
+            regions.add(region);
+        }
+        subRegions = new ArrayList<>();
+        for (int index = 0; index < SUB_REGIONS; index++) {
+            SubRegion subRegion = SubRegion.builder()
+                    .id((long) index + 1)
+                    .name("Sub Region " + index)
+                    .region(regions.get(index * (REGIONS / SUB_REGIONS)))
+                    .build();
+            subRegion.generateSlug();
+            subRegions.add(subRegion);
+        }
+        swellSeasons = loadSwellSeasons();
+    }
+
+    public static SyntheticCatalog create() {
+        return new SyntheticCatalog();
+    }
+
+    public List<SwellSeason> swellSeasons() {
+        return swellSeasons;
+    }
+
+    /** {@code count} approved spots; the same count always yields the same spots. */
+    public List<SurfSpot> surfSpots(int count) {
+        Random random = new Random(SEED);
+        List<SurfSpot> spots = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Region region = regions.get(random.nextInt(REGIONS));
+            // Roughly one spot in eight sits in a sub-region, as in the seed data.
+            SubRegion subRegion = random.nextInt(8) == 0 ? subRegions.get(random.nextInt(SUB_REGIONS)) : null;
+            if (subRegion != null) {
+                region = subRegion.getRegion();
+            }
+            SurfSpot spot = SurfSpot.builder()
+                    .id((long) index + 1)
+                    .name("Synthetic Spot " + index)
+                    .description("Peak " + index + " breaks on mid-period groundswell and cleans up on offshore winds.")
+                    .latitude(-50 + random.nextDouble() * 110)
+                    .longitude(-180 + random.nextDouble() * 360)
+                    .region(region)
+                    .subRegion(subRegion)
+                    .status(SurfSpotStatus.APPROVED)
+                    .type(pick(random, SurfSpotType.values()))
+                    .beachBottomType(pick(random, BeachBottomType.values()))
+                    .skillLevel(pick(random, SkillLevel.values()))
+                    .tide(pick(random, Tide.values()))
+                    .waveDirection(pick(random, WaveDirection.values()))
+                    .crowdLevel(pick(random, CrowdLevel.values()))
+                    .parking(pick(random, Parking.values()))
+                    .swellDirection("W-NW")
+                    .windDirection("E-SE")
+                    .minSurfHeight(0.5 + random.nextInt(4) * 0.5)
+                    .maxSurfHeight(2.5 + random.nextInt(6) * 0.5)
+                    .swellSeason(swellSeasons.get(random.nextInt(swellSeasons.size())))
+                    .foodNearby(random.nextBoolean())
+                    .foodOptions(List.of(pick(random, FoodOption.values())))
+                    .accommodationNearby(random.nextBoolean())
+                    .accommodationOptions(List.of(pick(random, AccommodationOption.values())))
+                    .facilities(List.of(pick(random, Facility.values()), pick(random, Facility.values())))
+                    .hazards(List.of(pick(random, Hazard.values())))
+                    .boatRequired(false)
+                    .isWavepool(false)
+                    .isRiverWave(false)
+                    .isWslTourStop(random.nextInt(50) == 0)
+                    .forecasts(List.of("https://www.surf-forecast.com/breaks/Synthetic-" + index))
+                    .webcams(List.of())
+                    .createdBy("SYSTEM")
+                    .build();
+            spot.generateSlug();
+            spots.add(spot);
+        }
+        return spots;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static List<SwellSeason> loadSwellSeasons() {
+        ObjectMapper mapper =
+                new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        try (InputStream input =
+                SyntheticCatalog.class.getClassLoader().getResourceAsStream(SWELL_SEASONS_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing " + SWELL_SEASONS_RESOURCE + " on the classpath");
+            }
+            List<SwellSeason> seasons = mapper.readValue(input, new TypeReference<List<SwellSeason>>() {});
+            for (int index = 0; index < seasons.size(); index++) {
+                seasons.get(index).setId((long) index + 1);
+            }
+            return seasons;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
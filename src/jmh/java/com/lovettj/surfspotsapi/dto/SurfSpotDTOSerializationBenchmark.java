@@ -0,0 +1,50 @@
+package com.lovettj.surfspotsapi.dto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+
+/** Response body cost of a 500-spot list, with the same Jackson defaults Spring Boot applies. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfSpotDTOSerializationBenchmark {
+
+    private static final int SPOT_COUNT = 500;
+
+    private ObjectWriter writer;
+    private List<SurfSpotDTO> surfSpots;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, SurfSpotDTO.class));
+        surfSpots = SyntheticCatalog.create().surfSpots(SPOT_COUNT).stream()
+                .map(SurfSpotDTO::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeSurfSpotList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(surfSpots);
+    }
+}
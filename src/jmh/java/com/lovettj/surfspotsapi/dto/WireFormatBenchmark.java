@@ -0,0 +1,145 @@
+package com.lovettj.surfspotsapi.dto;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+import com.lovettj.surfspotsapi.enums.CrowdLevel;
+import com.lovettj.surfspotsapi.enums.SessionStatus;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.Tide;
+import com.lovettj.surfspotsapi.enums.WaveFace;
+import com.lovettj.surfspotsapi.enums.WaveSize;
+
+/**
+ * JSON vs CBOR for the two highest-volume payloads: a 500-spot map list and a 200-session history.
+ * Encoding uses the mapper each format gets in the app (config/CborConfig). Decoding reads into a
+ * tree, which is closest to what a mobile client does with a response. Payload sizes are printed once
+ * per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final int SPOT_COUNT = 500;
+    private static final int SESSION_COUNT = 200;
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private ObjectWriter spotListWriter;
+    private List<SurfSpotDTO> surfSpots;
+    private UserSurfSessionsDTO surfSessions;
+    private byte[] encodedSurfSpots;
+    private byte[] encodedSurfSessions;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        mapper = "cbor".equals(format) ? builder.factory(new CBORFactory()).build() : builder.build();
+        spotListWriter = mapper.writerFor(
+                mapper.getTypeFactory().constructCollectionType(List.class, SurfSpotDTO.class));
+        surfSpots = SyntheticCatalog.create().surfSpots(SPOT_COUNT).stream()
+                .map(SurfSpotDTO::new)
+                .toList();
+        surfSessions = syntheticSessions();
+
+        encodedSurfSpots = spotListWriter.writeValueAsBytes(surfSpots);
+        encodedSurfSessions = mapper.writeValueAsBytes(surfSessions);
+        System.out.printf("%s payload: %d spots = %d bytes, %d sessions = %d bytes%n",
+                format, SPOT_COUNT, encodedSurfSpots.length, SESSION_COUNT, encodedSurfSessions.length);
+    }
+
+    @Benchmark
+    public byte[] encodeSurfSpotList() throws IOException {
+        return spotListWriter.writeValueAsBytes(surfSpots);
+    }
+
+    @Benchmark
+    public JsonNode decodeSurfSpotList() throws IOException {
+        return mapper.readTree(encodedSurfSpots);
+    }
+
+    @Benchmark
+    public byte[] encodeSurfSessions() throws IOException {
+        return mapper.writeValueAsBytes(surfSessions);
+    }
+
+    @Benchmark
+    public JsonNode decodeSurfSessions() throws IOException {
+        return mapper.readTree(encodedSurfSessions);
+    }
+
+    private static UserSurfSessionsDTO syntheticSessions() {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        List<SurfSessionListItemDTO> sessions = IntStream.range(0, SESSION_COUNT)
+                .mapToObj(index -> {
+                    LocalDate day = firstDay.plusDays(index * 3L);
+                    Instant start = day.atTime(7, 30).toInstant(ZoneOffset.UTC);
+                    return SurfSessionListItemDTO.builder()
+                            .id((long) index + 1)
+                            .sessionDate(day)
+                            .durationMinutes(60 + index % 90)
+                            .sessionStartTime(LocalTime.of(7, 30))
+                            .sessionEndTime(LocalTime.of(9, 0))
+                            .sessionStartInstant(start)
+                            .sessionEndInstant(start.plusSeconds(90 * 60))
+                            .status(SessionStatus.COMPLETED)
+                            .createdAt(LocalDateTime.of(day, LocalTime.NOON))
+                            .surfSpotId((long) index % 40 + 1)
+                            .surfSpotName("Spot " + (index % 40 + 1))
+                            .startLatitude(38.7 + index % 40 * 0.01)
+                            .startLongitude(-9.4 + index % 40 * 0.01)
+                            .spotPath("/surf-spots/europe/portugal/lisbon/spot-" + (index % 40 + 1))
+                            .waveSize(WaveSize.values()[index % WaveSize.values().length])
+                            .crowdLevel(CrowdLevel.values()[index % CrowdLevel.values().length])
+                            .waveFace(WaveFace.values()[index % WaveFace.values().length])
+                            .sessionRating(1 + index % 5)
+                            .swellDirection("W-NW")
+                            .windDirection("E")
+                            .tide(Tide.values()[index % Tide.values().length])
+                            .sessionNotes("Fun peaks on the push, a few sets closing out on the inside.")
+                            .skillLevel(SkillLevel.INTERMEDIATE)
+                            .surfboardId("board-" + index % 3)
+                            .surfboardName("6'2 shortboard")
+                            .media(List.of())
+                            .build();
+                })
+                .toList();
+        return UserSurfSessionsDTO.builder()
+                .totalSessions(SESSION_COUNT)
+                .spotsSurfedCount(40)
+                .boardsUsedCount(3)
+                .sessions(sessions)
+                .build();
+    }
+}
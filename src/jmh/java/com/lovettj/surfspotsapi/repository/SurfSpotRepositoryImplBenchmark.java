@@ -0,0 +1,48 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.Tide;
+import com.lovettj.surfspotsapi.enums.WaveDirection;
+
+/** Filter expansion that runs for every filtered list request before the criteria query is built. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfSpotRepositoryImplBenchmark {
+
+    private final SurfSpotRepositoryImpl repository = new SurfSpotRepositoryImpl();
+    private final List<SkillLevel> skillLevels = List.of(SkillLevel.INTERMEDIATE, SkillLevel.ADVANCED);
+    private final List<Tide> tides = List.of(Tide.MID);
+    private final List<WaveDirection> waveDirections = List.of(WaveDirection.LEFT);
+
+    @Benchmark
+    public List<SkillLevel> expandSkillLevelFilter() {
+        return repository.expandEnumFilter(skillLevels, SkillLevel.values());
+    }
+
+    @Benchmark
+    public List<Tide> expandTideFilter() {
+        return repository.expandEnumFilter(tides, Tide.values());
+    }
+
+    @Benchmark
+    public List<WaveDirection> expandWaveDirectionFilter() {
+        return repository.expandEnumFilter(waveDirections, WaveDirection.values());
+    }
+}
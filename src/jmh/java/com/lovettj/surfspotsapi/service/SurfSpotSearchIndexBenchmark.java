@@ -0,0 +1,67 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.service.SurfSpotSearchIndex.Document;
+import com.lovettj.surfspotsapi.service.SurfSpotSearchIndex.Hit;
+import com.lovettj.surfspotsapi.util.SurfSpotPathUtil;
+
+/**
+ * {@link SurfSpotSearchIndex#search} latency distribution (sample mode, so the CSV has p99). Synthetic
+ * names all share "synthetic spot", which makes the broad queries worst cases: every spot matches and is
+ * scored and sorted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfSpotSearchIndexBenchmark {
+
+    @Param({"5000"})
+    public int spotCount;
+
+    @Param({"synthetic spot 42", "region 12", "synthetc spot", "groundswel", "s"})
+    public String query;
+
+    private SurfSpotSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        List<SurfSpot> spots = SyntheticCatalog.create().surfSpots(spotCount);
+        index = SurfSpotSearchIndex.build(spots.stream()
+                .map(spot -> new Document(
+                        spot.getId(),
+                        spot.getName(),
+                        SurfSpotPathUtil.pathFor(spot),
+                        spot.getRegion().getName(),
+                        spot.getSubRegion() != null ? spot.getSubRegion().getName() : null,
+                        spot.getRegion().getCountry().getName(),
+                        spot.getDescription(),
+                        spot.getLatitude(),
+                        spot.getLongitude(),
+                        spot.getId() % 50))
+                .toList());
+    }
+
+    @Benchmark
+    public List<Hit> search() {
+        return index.search(query, 10);
+    }
+}
@@ -0,0 +1,113 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.EventType;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SubRegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfEventRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+
+/**
+ * List-endpoint mapping and season filtering. Collaborators are stubbed once in setup; the repository
+ * calls they stand in for are two id-set queries per request, so the stubs add no per-spot cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfSpotServiceBenchmark {
+
+    private static final String USER_ID = "benchmark-user";
+
+    @Param({"500", "5000"})
+    private int spotCount;
+
+    private SurfSpotService surfSpotService;
+    private List<SurfSpot> surfSpots;
+    private SurfSpotFilterDTO winterSeasonFilter;
+
+    @Setup
+    public void setUp() {
+        surfSpots = SyntheticCatalog.create().surfSpots(spotCount);
+
+        SurfEventRepository surfEventRepository = mock(SurfEventRepository.class);
+        when(surfEventRepository.findLinkedSurfSpotIdsForSeasonYearExcludingStatuses(
+                        any(EventType.class), anyInt(), any()))
+                .thenReturn(idsEvery(50));
+        UserSurfSpotService userSurfSpotService = mock(UserSurfSpotService.class);
+        when(userSurfSpotService.findSurfedSpotIdsIn(anyString(), anyCollection())).thenReturn(idsEvery(7));
+        WatchListService watchListService = mock(WatchListService.class);
+        when(watchListService.findWatchedSpotIdsIn(anyString(), anyCollection())).thenReturn(idsEvery(11));
+
+        surfSpotService = new SurfSpotService(
+                mock(SurfSpotRepository.class),
+                mock(RegionRepository.class),
+                mock(SubRegionRepository.class),
+                userSurfSpotService,
+                watchListService,
+                mock(SwellSeasonDeterminationService.class),
+                surfEventRepository,
+                mock(NewSurfSpotEmailService.class),
+                mock(SurfSpotLocationIndex.class),
+                mock(CatalogVersionService.class),
+                mock(SurfSpotTileCache.class),
+                mock(SurfSpotSearchService.class),
+                mock(UserProfileStatsService.class),
+                mock(SurfSpotListingCache.class));
+
+        winterSeasonFilter = new SurfSpotFilterDTO();
+        winterSeasonFilter.setSeasons(List.of("December", "January", "February"));
+    }
+
+    @Benchmark
+    public List<SurfSpotDTO> mapSurfSpotsToDTOsAnonymous() {
+        return surfSpotService.mapSurfSpotsToDTOs(surfSpots, null);
+    }
+
+    @Benchmark
+    public List<SurfSpotDTO> mapSurfSpotsToDTOsSignedIn() {
+        return surfSpotService.mapSurfSpotsToDTOs(surfSpots, USER_ID);
+    }
+
+    @Benchmark
+    public List<SurfSpot> filterBySeason() {
+        return surfSpotService.filterBySeason(surfSpots, winterSeasonFilter);
+    }
+
+    private Set<Long> idsEvery(int step) {
+        return LongStream.rangeClosed(1, spotCount)
+                .filter(id -> id % step == 0)
+                .boxed()
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,58 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+import com.lovettj.surfspotsapi.repository.SwellSeasonRepository;
+
+/** Per-spot season lookup as used on spot create/update and seeding; the season cache is warm. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwellSeasonDeterminationServiceBenchmark {
+
+    private SwellSeasonDeterminationService service;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.create();
+        SwellSeasonRepository swellSeasonRepository = mock(SwellSeasonRepository.class);
+        when(swellSeasonRepository.findAll()).thenReturn(catalog.swellSeasons());
+        service = new SwellSeasonDeterminationService(swellSeasonRepository);
+
+        List<SurfSpot> spots = catalog.surfSpots(1024);
+        latitudes = spots.stream().mapToDouble(SurfSpot::getLatitude).toArray();
+        longitudes = spots.stream().mapToDouble(SurfSpot::getLongitude).toArray();
+        service.determineSwellSeason(latitudes[0], longitudes[0]);
+    }
+
+    @Benchmark
+    public Optional<SwellSeason> determineSwellSeason() {
+        int index = next++ & (latitudes.length - 1);
+        return service.determineSwellSeason(latitudes[index], longitudes[index]);
+    }
+}
@@ -0,0 +1,49 @@
+package com.lovettj.surfspotsapi.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lovettj.surfspotsapi.benchmark.SyntheticCatalog;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+
+/** Per-spot helpers called once for every spot in a list or nearby search. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoPathBenchmark {
+
+    private List<SurfSpot> spots;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        spots = SyntheticCatalog.create().surfSpots(1024);
+    }
+
+    @Benchmark
+    public double distanceKm() {
+        SurfSpot from = spots.get(next++ & 1023);
+        SurfSpot to = spots.get(next & 1023);
+        return CoordinateDistanceUtil.distanceKm(
+                from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude());
+    }
+
+    @Benchmark
+    public String surfSpotPathFor() {
+        return SurfSpotPathUtil.pathFor(spots.get(next++ & 1023));
+    }
+}
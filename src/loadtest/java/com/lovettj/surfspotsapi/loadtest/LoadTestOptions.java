@@ -0,0 +1,60 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, passed as {@code --name=value} through {@code -Dloadtest.args}.
+ * Leaving {@code jdbc-url} empty starts a throwaway Postgres container.
+ */
+record LoadTestOptions(
+        int users,
+        int sessionsPerUser,
+        int watchListSize,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        String reportFile,
+        boolean virtualThreads) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+            "users", "sessions-per-user", "watch-list-size", "concurrency", "warmup-seconds",
+            "duration-seconds", "jdbc-url", "jdbc-username", "jdbc-password", "report-file",
+            "virtual-threads");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "500")),
+                Integer.parseInt(values.getOrDefault("sessions-per-user", "40")),
+                Integer.parseInt(values.getOrDefault("watch-list-size", "15")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "120"))),
+                values.getOrDefault("jdbc-url", ""),
+                values.getOrDefault("jdbc-username", "postgres"),
+                values.getOrDefault("jdbc-password", "postgres"),
+                values.getOrDefault("report-file", "target/loadtest-report.csv"),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")));
+        values.keySet().removeAll(KNOWN_OPTIONS);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown load-test options: " + values.keySet());
+        }
+        if (options.users() < 1 || options.concurrency() < 1) {
+            throw new IllegalArgumentException("users and concurrency must be at least 1");
+        }
+        return options;
+    }
+}
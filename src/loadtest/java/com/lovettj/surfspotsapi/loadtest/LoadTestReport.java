@@ -0,0 +1,119 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/** Per-endpoint latency samples and error counts; thread-safe for the worker threads that record into it. */
+final class LoadTestReport {
+
+    record EndpointSummary(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double sqlPerRequest) {}
+
+    private final Map<String, Samples> samplesByEndpoint = new LinkedHashMap<>();
+
+    LoadTestReport(List<String> endpoints) {
+        endpoints.forEach(endpoint -> samplesByEndpoint.put(endpoint, new Samples()));
+    }
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        samplesByEndpoint.get(endpoint).add(latencyNanos, error);
+    }
+
+    List<EndpointSummary> summarize(Duration elapsed, SqlStatementCounter sqlStatementCounter) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<EndpointSummary> summaries = new ArrayList<>();
+        for (Map.Entry<String, Samples> entry : samplesByEndpoint.entrySet()) {
+            long[] latencies = entry.getValue().sorted();
+            long requests = latencies.length;
+            if (requests == 0) {
+                continue;
+            }
+            summaries.add(new EndpointSummary(
+                    entry.getKey(),
+                    requests,
+                    entry.getValue().errors(),
+                    requests / seconds,
+                    percentileMillis(latencies, 50),
+                    percentileMillis(latencies, 95),
+                    percentileMillis(latencies, 99),
+                    (double) sqlStatementCounter.statementsFor(entry.getKey()) / requests));
+        }
+        return summaries;
+    }
+
+    static void print(List<EndpointSummary> summaries, Duration elapsed) {
+        System.out.printf(Locale.ROOT, "%nLoad test results (%d s measured)%n", elapsed.toSeconds());
+        System.out.printf(Locale.ROOT, "%-18s %9s %7s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "SQL/req");
+        long totalRequests = 0;
+        for (EndpointSummary summary : summaries) {
+            totalRequests += summary.requests();
+            System.out.printf(Locale.ROOT, "%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %8.1f%n",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.sqlPerRequest());
+        }
+        System.out.printf(Locale.ROOT, "%-18s %9d %7s %9.1f%n",
+                "total", totalRequests, "", totalRequests / (elapsed.toNanos() / 1e9));
+    }
+
+    static void writeCsv(List<EndpointSummary> summaries, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,requests_per_second,p50_ms,p95_ms,p99_ms,sql_per_request");
+        for (EndpointSummary summary : summaries) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.2f",
+                    summary.endpoint(), summary.requests(), summary.errors(), summary.throughputPerSecond(),
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.sqlPerRequest()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    /** Nearest-rank percentile. */
+    private static double percentileMillis(long[] sortedNanos, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return sortedNanos[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
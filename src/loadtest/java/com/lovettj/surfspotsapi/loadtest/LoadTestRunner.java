@@ -0,0 +1,197 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.lovettj.surfspotsapi.SurfSpotsApplication;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SubRegion;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.loadtest.LoadTestReport.EndpointSummary;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SubRegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+
+/**
+ * End-to-end load test: starts Postgres (a Testcontainers {@code postgres:16} unless {@code --jdbc-url} is
+ * given), boots the API on a random port with the {@code prod} profile so Flyway and the reference-data
+ * seed run as in production, adds synthetic users, then replays {@link TrafficMix} from
+ * {@code --concurrency} client threads. Prints throughput, p50/p95/p99 and SQL statements per request.
+ *
+ * <p>Run with {@code ./mvnw -Pload-test test}; see {@code docs/load-testing.md}.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        PostgreSQLContainer<?> container = null;
+        String jdbcUrl = options.jdbcUrl();
+        String username = options.jdbcUsername();
+        String password = options.jdbcPassword();
+        if (jdbcUrl.isBlank()) {
+            container = new PostgreSQLContainer<>("postgres:16").withDatabaseName("surf_spots_load_test_db");
+            container.start();
+            jdbcUrl = container.getJdbcUrl();
+            username = container.getUsername();
+            password = container.getPassword();
+        }
+        try {
+            run(options, jdbcUrl, username, password);
+        } finally {
+            if (container != null) {
+                container.stop();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, String jdbcUrl, String username, String password)
+            throws Exception {
+        SqlStatementCounter sqlStatementCounter = new SqlStatementCounter();
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        SpringApplication application = new SpringApplication(SurfSpotsApplication.class);
+        application.addInitializers(context -> {
+            context.getBeanFactory().addBeanPostProcessor(sqlStatementCounter.dataSourceWrapper());
+            ((GenericApplicationContext) context).registerBean(
+                    "loadTestSqlCountingFilter",
+                    FilterRegistrationBean.class,
+                    () -> {
+                        FilterRegistrationBean<?> registration =
+                                new FilterRegistrationBean<>(sqlStatementCounter.requestFilter());
+                        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+                        return registration;
+                    });
+        });
+
+        try (ConfigurableApplicationContext context = application.run(
+                "--spring.profiles.active=prod",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--app.seed.enabled=true",
+                "--app.auth.session-secret=test-session-secret",
+                "--cors.allowed-origins=" + TrafficMix.APP_ORIGIN,
+                "--app.mail.enabled=false",
+                "--app.live-session.overdue-notification-enabled=false",
+                "--app.media.thumbnails.enabled=false",
+                "--spring.threads.virtual.enabled=" + options.virtualThreads())) {
+            List<String> userIds = loadOrCreateUsers(context, options);
+            TrafficMix trafficMix = buildTrafficMix(context, userIds);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            System.out.printf("Warming up for %d s with %d clients...%n",
+                    options.warmup().toSeconds(), options.concurrency());
+            drive(client, trafficMix, options.concurrency(), options.warmup(), null);
+            sqlStatementCounter.reset();
+
+            System.out.printf("Measuring for %d s...%n", options.duration().toSeconds());
+            LoadTestReport report = new LoadTestReport(
+                    trafficMix.endpoints().stream().map(TrafficMix.Endpoint::name).toList());
+            long started = System.nanoTime();
+            drive(client, trafficMix, options.concurrency(), options.duration(), report);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            List<EndpointSummary> summaries = report.summarize(elapsed, sqlStatementCounter);
+            LoadTestReport.print(summaries, elapsed);
+            LoadTestReport.writeCsv(summaries, Path.of(options.reportFile()));
+            System.out.println("Report written to " + options.reportFile());
+        }
+    }
+
+    private static List<String> loadOrCreateUsers(ConfigurableApplicationContext context, LoadTestOptions options) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        // Re-running against the same --jdbc-url reuses the users from the first run.
+        if (userRepository.findByEmail("loadtest-0@example.com").isPresent()) {
+            List<String> userIds = new ArrayList<>();
+            for (int index = 0; index < options.users(); index++) {
+                userRepository.findByEmail("loadtest-" + index + "@example.com")
+                        .map(User::getId)
+                        .ifPresent(userIds::add);
+            }
+            System.out.printf("Reusing %d existing load-test users%n", userIds.size());
+            return userIds;
+        }
+        System.out.printf("Creating %d synthetic users...%n", options.users());
+        return new SyntheticUserData(context).create(options);
+    }
+
+    private static TrafficMix buildTrafficMix(ConfigurableApplicationContext context, List<String> userIds) {
+        String port = context.getEnvironment().getProperty("local.server.port");
+        List<SpotCoordinates> spots = context.getBean(SurfSpotRepository.class)
+                .findCoordinatesByStatus(SurfSpotStatus.APPROVED);
+        List<Long> regionIds = context.getBean(RegionRepository.class).findAll().stream()
+                .map(Region::getId)
+                .toList();
+        List<String> subRegionSlugs = context.getBean(SubRegionRepository.class).findAll().stream()
+                .map(SubRegion::getSlug)
+                .toList();
+        return new TrafficMix("http://localhost:" + port, spots, regionIds, subRegionSlugs, userIds);
+    }
+
+    /** Runs {@code concurrency} closed-loop clients for {@code duration}; records into {@code report} when given. */
+    private static void drive(
+            HttpClient client, TrafficMix trafficMix, int concurrency, Duration duration, LoadTestReport report)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                Random random = new Random(worker);
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = trafficMix.next(random);
+                        String endpoint = request.headers()
+                                .firstValue(SqlStatementCounter.ENDPOINT_HEADER)
+                                .orElseThrow();
+                        long started = System.nanoTime();
+                        boolean error;
+                        try {
+                            HttpResponse<Void> response =
+                                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                            // The client does not follow redirects, so a 3xx did not reach the endpoint either.
+                            error = response.statusCode() < 200 || response.statusCode() >= 300;
+                        } catch (IOException exception) {
+                            error = true;
+                        }
+                        if (report != null) {
+                            report.record(endpoint, System.nanoTime() - started, error);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts JDBC statement executions per load-test endpoint. The application {@link DataSource} is wrapped
+ * so every {@code execute*} call bumps a counter on the current thread; {@link #requestFilter()} reads the
+ * endpoint name from {@link #ENDPOINT_HEADER} and adds the request's count to that endpoint's total.
+ * Work handed to other threads ({@code @Async}, after-commit emails) is not attributed to a request.
+ */
+final class SqlStatementCounter {
+
+    static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final ThreadLocal<long[]> currentRequestCount = new ThreadLocal<>();
+    private final Map<String, LongAdder> statementsByEndpoint = new ConcurrentHashMap<>();
+
+    BeanPostProcessor dataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    OncePerRequestFilter requestFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(
+                    HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                String endpoint = request.getHeader(ENDPOINT_HEADER);
+                if (endpoint == null) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                long[] count = new long[1];
+                currentRequestCount.set(count);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    currentRequestCount.remove();
+                    statementsByEndpoint.computeIfAbsent(endpoint, key -> new LongAdder()).add(count[0]);
+                }
+            }
+        };
+    }
+
+    long statementsFor(String endpoint) {
+        LongAdder total = statementsByEndpoint.get(endpoint);
+        return total != null ? total.sum() : 0;
+    }
+
+    void reset() {
+        statementsByEndpoint.clear();
+    }
+
+    private DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, result) ->
+                "getConnection".equals(method.getName()) ? proxy(Connection.class, (Connection) result, this::wrapStatement) : result);
+    }
+
+    private Object wrapStatement(Method method, Object result) {
+        if (!STATEMENT_FACTORIES.contains(method.getName())) {
+            return result;
+        }
+        ResultMapper countExecutions = (statementMethod, statementResult) -> {
+            if (EXECUTE_METHODS.contains(statementMethod.getName())) {
+                long[] count = currentRequestCount.get();
+                if (count != null) {
+                    count[0]++;
+                }
+            }
+            return statementResult;
+        };
+        if (result instanceof CallableStatement callable) {
+            return proxy(CallableStatement.class, callable, countExecutions);
+        }
+        if (result instanceof PreparedStatement prepared) {
+            return proxy(PreparedStatement.class, prepared, countExecutions);
+        }
+        return proxy(Statement.class, (Statement) result, countExecutions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                return invoke(method, target, args);
+            }
+            return mapper.map(method, invoke(method, target, args));
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        Object map(Method method, Object result);
+    }
+}
@@ -0,0 +1,131 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lovettj.surfspotsapi.entity.Settings;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.Trip;
+import com.lovettj.surfspotsapi.entity.TripMember;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
+import com.lovettj.surfspotsapi.enums.CrowdLevel;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.WaveSize;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.repository.TripMemberRepository;
+import com.lovettj.surfspotsapi.repository.TripRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+
+/**
+ * Creates load-test users on top of the seeded reference data: each user gets surf sessions, a watch
+ * list and a trip shared with another user, so the per-user endpoints return realistically sized lists.
+ * Uses the application's repositories so rows match what the services write.
+ */
+final class SyntheticUserData {
+
+    private static final long SEED = 7L;
+    private static final int USERS_PER_TRANSACTION = 50;
+
+    private final UserRepository userRepository;
+    private final SurfSpotRepository surfSpotRepository;
+    private final SurfSessionRepository surfSessionRepository;
+    private final WatchListRepository watchListRepository;
+    private final TripRepository tripRepository;
+    private final TripMemberRepository tripMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    SyntheticUserData(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.surfSpotRepository = context.getBean(SurfSpotRepository.class);
+        this.surfSessionRepository = context.getBean(SurfSessionRepository.class);
+        this.watchListRepository = context.getBean(WatchListRepository.class);
+        this.tripRepository = context.getBean(TripRepository.class);
+        this.tripMemberRepository = context.getBean(TripMemberRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    /** Returns the ids of the created users. */
+    List<String> create(LoadTestOptions options) {
+        List<Long> spotIds = surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED).stream()
+                .map(SpotCoordinates::getId)
+                .toList();
+        if (spotIds.isEmpty()) {
+            throw new IllegalStateException("No approved surf spots; reference data was not seeded");
+        }
+        Random random = new Random(SEED);
+        List<String> userIds = new ArrayList<>(options.users());
+        for (int first = 0; first < options.users(); first += USERS_PER_TRANSACTION) {
+            int from = first;
+            int to = Math.min(first + USERS_PER_TRANSACTION, options.users());
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int index = from; index < to; index++) {
+                    userIds.add(createUser(index, options, spotIds, userIds, random));
+                }
+            });
+        }
+        return userIds;
+    }
+
+    private String createUser(
+            int index, LoadTestOptions options, List<Long> spotIds, List<String> existingUserIds, Random random) {
+        User user = User.builder()
+                .email("loadtest-" + index + "@example.com")
+                .name("Load Test " + index)
+                .emailVerified(true)
+                .skillLevel(SkillLevel.values()[random.nextInt(SkillLevel.values().length)])
+                .build();
+        user.setSettings(Settings.builder().user(user).build());
+        user = userRepository.save(user);
+
+        for (int session = 0; session < options.sessionsPerUser(); session++) {
+            surfSessionRepository.save(SurfSession.builder()
+                    .user(user)
+                    .surfSpot(spotReference(spotIds, random))
+                    .sessionDate(LocalDate.now().minusDays(random.nextInt(730)))
+                    .durationMinutes(45 + random.nextInt(120))
+                    .waveSize(WaveSize.values()[random.nextInt(WaveSize.values().length)])
+                    .crowdLevel(CrowdLevel.values()[random.nextInt(CrowdLevel.values().length)])
+                    .sessionRating(1 + random.nextInt(5))
+                    .build());
+        }
+        // A spot can only be watched once per user.
+        User watcher = user;
+        random.ints(0, spotIds.size())
+                .distinct()
+                .limit(Math.min(options.watchListSize(), spotIds.size()))
+                .forEach(spotIndex -> watchListRepository.save(WatchListSurfSpot.builder()
+                        .user(watcher)
+                        .surfSpot(surfSpotRepository.getReferenceById(spotIds.get(spotIndex)))
+                        .build()));
+
+        Trip trip = tripRepository.save(Trip.builder()
+                .owner(user)
+                .title("Load test trip " + index)
+                .startDate(LocalDate.now().plusDays(random.nextInt(90)))
+                .endDate(LocalDate.now().plusDays(90 + random.nextInt(14)))
+                .build());
+        tripMemberRepository.save(TripMember.builder().trip(trip).user(user).build());
+        if (!existingUserIds.isEmpty()) {
+            User companion = userRepository.getReferenceById(
+                    existingUserIds.get(random.nextInt(existingUserIds.size())));
+            tripMemberRepository.save(TripMember.builder().trip(trip).user(companion).build());
+        }
+        return user.getId();
+    }
+
+    private SurfSpot spotReference(List<Long> spotIds, Random random) {
+        return surfSpotRepository.getReferenceById(spotIds.get(random.nextInt(spotIds.size())));
+    }
+}
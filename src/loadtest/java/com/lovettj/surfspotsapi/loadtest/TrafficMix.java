@@ -0,0 +1,129 @@
+package com.lovettj.surfspotsapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import com.lovettj.surfspotsapi.entity.SluggableEntity;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.testutil.SessionTestCookieFactory;
+
+/**
+ * Weighted request mix, roughly the share of API traffic the web app generates: map panning dominates,
+ * then spot detail pages and region lists; per-user pages are a smaller share. Half of the anonymous-capable
+ * requests carry a session so the signed-in flags (surfed, watched) are exercised.
+ */
+final class TrafficMix {
+
+    /** Sent on writes like the web app's fetches; the runner adds it to {@code cors.allowed-origins}. */
+    static final String APP_ORIGIN = "http://loadtest.local";
+
+    record Endpoint(String name, int weight, boolean requiresUser, BiFunction<Random, String, HttpRequest.Builder> request) {}
+
+    private final String baseUrl;
+    private final List<SpotCoordinates> spots;
+    private final List<Long> regionIds;
+    private final List<String> subRegionSlugs;
+    private final List<String> userIds;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    TrafficMix(
+            String baseUrl,
+            List<SpotCoordinates> spots,
+            List<Long> regionIds,
+            List<String> subRegionSlugs,
+            List<String> userIds) {
+        this.baseUrl = baseUrl;
+        this.spots = spots;
+        this.regionIds = regionIds;
+        this.subRegionSlugs = subRegionSlugs;
+        this.userIds = userIds;
+        this.endpoints = List.of(
+                new Endpoint("within-bounds", 35, false, (random, userId) -> withinBounds(random)),
+                new Endpoint("region-filter", 12, false, (random, userId) -> post(
+                        "/api/surf-spots/region-id/" + pick(random, regionIds), filterBody(random))),
+                new Endpoint("sub-region-filter", 5, false, (random, userId) -> post(
+                        "/api/surf-spots/sub-region/" + pick(random, subRegionSlugs), filterBody(random))),
+                new Endpoint("spot-detail", 20, false, (random, userId) -> get(
+                        "/api/surf-spots/" + SluggableEntity.slugFromName(pick(random, spots).getName()))),
+                new Endpoint("surf-sessions", 12, true, (random, userId) -> get("/api/surf-sessions")),
+                new Endpoint("watch-list", 10, true, (random, userId) -> get("/api/watch")),
+                new Endpoint("user-trips", 6, true, (random, userId) -> get("/api/trips/user/" + userId)));
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    boolean isUsable(Endpoint endpoint) {
+        return switch (endpoint.name()) {
+            case "region-filter" -> !regionIds.isEmpty();
+            case "sub-region-filter" -> !subRegionSlugs.isEmpty();
+            default -> true;
+        };
+    }
+
+    /** Picks the next endpoint by weight and builds its request, signed in as a random synthetic user. */
+    HttpRequest next(Random random) {
+        Endpoint endpoint;
+        do {
+            endpoint = pickByWeight(random);
+        } while (!isUsable(endpoint));
+        String userId = pick(random, userIds);
+        HttpRequest.Builder builder = endpoint.request().apply(random, userId)
+                .header(SqlStatementCounter.ENDPOINT_HEADER, endpoint.name());
+        if (endpoint.requiresUser() || random.nextBoolean()) {
+            builder.header("Cookie", "session=" + SessionTestCookieFactory.createSignedSessionCookie(userId).getValue());
+        }
+        return builder.build();
+    }
+
+    private Endpoint pickByWeight(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("Weights changed during selection");
+    }
+
+    /** A viewport of 1-4 degrees around a real spot, like a user panning the map near the coast. */
+    private HttpRequest.Builder withinBounds(Random random) {
+        SpotCoordinates centre = pick(random, spots);
+        double halfSpan = 0.5 + random.nextDouble() * 1.5;
+        String body = String.format(
+                Locale.ROOT,
+                "{\"minLatitude\":%.4f,\"maxLatitude\":%.4f,\"minLongitude\":%.4f,\"maxLongitude\":%.4f}",
+                centre.getLatitude() - halfSpan,
+                centre.getLatitude() + halfSpan,
+                Math.max(-180, centre.getLongitude() - halfSpan),
+                Math.min(180, centre.getLongitude() + halfSpan));
+        return post("/api/surf-spots/within-bounds", body);
+    }
+
+    private static String filterBody(Random random) {
+        return random.nextInt(4) == 0 ? "{\"seasons\":[\"January\",\"February\"]}" : "{}";
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Origin", APP_ORIGIN)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
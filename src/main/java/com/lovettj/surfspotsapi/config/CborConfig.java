@@ -0,0 +1,25 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Serves {@code application/cbor} to clients that put it in {@code Accept} (the mobile app on the spot
+ * list and surf session endpoints). It uses the same DTOs and is built from Boot's
+ * {@link Jackson2ObjectMapperBuilder}, so the CBOR output has the same fields as the JSON.
+ *
+ * <p>This bean replaces Spring MVC's default CBOR converter in its list position, after JSON. A request
+ * that accepts anything ({@code *}{@code /*}) therefore still gets JSON.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
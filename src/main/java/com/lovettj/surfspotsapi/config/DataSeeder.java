@@ -1,8 +1,10 @@
 package com.lovettj.surfspotsapi.config;
 
+import com.lovettj.surfspotsapi.service.ReferenceDataSyncService;
 import com.lovettj.surfspotsapi.service.SeedService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,10 +20,14 @@ public class DataSeeder {
      * Production data changes belong in migrations, not here.
      * {@code @Profile({"dev","prod","!test"})} is wrong: array entries are OR'd, so {@code dev}
      * still matches when both dev and test are active. Use a single expression instead.
+     * With {@code app.seed.sync-on-startup}, seed file changes are then applied incrementally.
      */
     @Bean
     @Profile("(dev | prod) & !test")
-    public CommandLineRunner seedData(SeedService seedService) {
+    public CommandLineRunner seedData(
+            SeedService seedService,
+            ReferenceDataSyncService referenceDataSyncService,
+            @Value("${app.seed.sync-on-startup:false}") boolean syncOnStartup) {
         return args -> {
             logger.info("Starting data seeding...");
             try {
@@ -29,6 +35,14 @@ public class DataSeeder {
                 logger.info("Data seeding completed successfully!");
             } catch (Exception e) {
                 logger.error("Failed to seed data: {}", e.getMessage(), e);
+                return;
+            }
+            if (syncOnStartup) {
+                try {
+                    referenceDataSyncService.sync(false);
+                } catch (Exception e) {
+                    logger.error("Reference data sync failed: {}", e.getMessage(), e);
+                }
             }
         };
     }
@@ -16,6 +16,8 @@ import org.springframework.stereotype.Component;
 import com.lovettj.surfspotsapi.dto.ContestScheduleImportDTO;
 import com.lovettj.surfspotsapi.service.ContestScheduleSyncService;
 import com.lovettj.surfspotsapi.service.ContestVenueLinkService;
+import com.lovettj.surfspotsapi.service.ReferenceDataSyncService;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService;
 import com.lovettj.surfspotsapi.util.ContestVenueLocationKeyUtil;
 
 @Component
@@ -26,14 +28,20 @@ public class EventCommandRunner implements ApplicationRunner {
 
     private final ContestScheduleSyncService contestScheduleSyncService;
     private final ContestVenueLinkService contestVenueLinkService;
+    private final ReferenceDataSyncService referenceDataSyncService;
+    private final UserProfileStatsService userProfileStatsService;
     private final ConfigurableApplicationContext applicationContext;
 
     public EventCommandRunner(
             ContestScheduleSyncService contestScheduleSyncService,
             ContestVenueLinkService contestVenueLinkService,
+            ReferenceDataSyncService referenceDataSyncService,
+            UserProfileStatsService userProfileStatsService,
             ConfigurableApplicationContext applicationContext) {
         this.contestScheduleSyncService = contestScheduleSyncService;
         this.contestVenueLinkService = contestVenueLinkService;
+        this.referenceDataSyncService = referenceDataSyncService;
+        this.userProfileStatsService = userProfileStatsService;
         this.applicationContext = applicationContext;
     }
 
@@ -45,6 +53,10 @@ public class EventCommandRunner implements ApplicationRunner {
                 runSync(args);
             } else if (args.containsOption("contest-link")) {
                 runLink(args);
+            } else if (args.containsOption("reference-sync")) {
+                referenceDataSyncService.sync(args.containsOption("dry-run"));
+            } else if (args.containsOption("profile-stats-rebuild")) {
+                userProfileStatsService.rebuildAll();
             } else {
                 printUsage();
                 exitCode = 1;
@@ -151,7 +163,11 @@ public class EventCommandRunner implements ApplicationRunner {
                 Event CLI usage:
                   --contest-sync --file=./ct-2026.html [--year=2026] [--dry-run]
                   --contest-link --venue-key=punta-roca-la-libertad-el-salvador --spot-id=123
+                  --reference-sync [--dry-run]
+                  --profile-stats-rebuild
                 Save the CT schedule page in your browser, then pass --file. Use --dry-run to preview without DB writes.
+                --reference-sync applies static/seedData changes (inserts, updates, deletes) by content hash.
+                --profile-stats-rebuild recomputes every user's profile counters (surfed spots, watch list, sessions).
                 Run with profile event-cli and web server disabled.
                 """);
     }
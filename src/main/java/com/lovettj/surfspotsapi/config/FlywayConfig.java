@@ -0,0 +1,31 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The Class Data Sharing training run in the Dockerfile boots the context with no database reachable.
+ * It sets {@code app.startup.training-run} to skip migrations; a bean condition would not work because
+ * an AOT-processed build evaluates conditions at build time.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.startup.training-run:false}") boolean trainingRun) {
+        return flyway -> {
+            if (trainingRun) {
+                logger.info("Startup training run: skipping Flyway migrations.");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,238 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.lovettj.surfspotsapi.security.AuthenticatedUserResolver;
+import com.lovettj.surfspotsapi.service.CatalogVersionService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Cache-Control and ETags for reference reads (continents, countries, regions, sub-regions), spot
+ * detail reads and spot map tiles. The ETag is {@code W/"<catalog version>-<year>"}: every write to geography, spots or
+ * contest links bumps the catalog version ({@link CatalogVersionService}), and the year covers the
+ * "on tour this season" flag on spots. A matching {@code If-None-Match} is answered with 304 here,
+ * before the controller runs and without a query. The tag is weak because the same version is served
+ * gzip-encoded or not (and Tomcat does not compress responses carrying a strong ETag).
+ *
+ * <p>Spot detail carries the caller's surfed/watched flags, so it varies on {@code Cookie}: anonymous
+ * responses are shared like reference data, signed-in responses are {@code private, no-cache} without an
+ * ETag. Map tiles only contain approved spots, so they are always shared. Headers are only applied to
+ * 200 responses so errors are never cached.
+ *
+ * <p>Runs after the Spring Security chain so CORS headers and the signed-in user are already resolved.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class HttpCacheFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String[] REFERENCE_PATTERNS = {
+        "/api/continents/**", "/api/countries/**", "/api/regions/**", "/api/sub-regions/**"
+    };
+    private static final String[] SPOT_PATTERNS = {"/api/surf-spots/*", "/api/surf-spots/id/*"};
+    private static final String TILE_PATTERN = "/api/surf-spots/tiles/**";
+    // Ranked partly by watch-list and session counts, which change without a catalog version bump.
+    private static final String SEARCH_PATH = "/api/surf-spots/search";
+
+    private enum Route { REFERENCE, SPOT, TILE }
+
+    private final CatalogVersionService catalogVersionService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final HttpCacheProperties properties;
+
+    public HttpCacheFilter(
+            CatalogVersionService catalogVersionService,
+            AuthenticatedUserResolver authenticatedUserResolver,
+            HttpCacheProperties properties) {
+        this.catalogVersionService = catalogVersionService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !(HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod()))
+                || routeOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Route route = routeOf(request);
+        boolean varyOnCookie = route == Route.SPOT;
+
+        if (varyOnCookie && authenticatedUserResolver.currentUserIdOrNull() != null) {
+            applyOnSuccess(request, response, filterChain, new CacheHeaders("private, no-cache", null, true));
+            return;
+        }
+
+        long version = catalogVersionService.current();
+        if (version == CatalogVersionService.UNKNOWN) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Duration maxAge = route == Route.REFERENCE ? properties.getReferenceMaxAge() : properties.getSpotMaxAge();
+        CacheHeaders headers = new CacheHeaders(
+                "public, max-age=" + maxAge.toSeconds(),
+                "W/\"" + version + "-" + LocalDate.now().getYear() + "\"",
+                varyOnCookie);
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), headers.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            headers.applyTo(response);
+            return;
+        }
+        applyOnSuccess(request, response, filterChain, headers);
+    }
+
+    /**
+     * Headers have to be set before the body commits the response, but the status is only known once the
+     * controller has run, so they are applied when the body is first written (or after the chain when
+     * nothing was written).
+     */
+    private void applyOnSuccess(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            CacheHeaders headers) throws ServletException, IOException {
+        CacheHeaderResponseWrapper wrapper = new CacheHeaderResponseWrapper(response, headers);
+        filterChain.doFilter(request, wrapper);
+        if (!response.isCommitted()) {
+            wrapper.applyIfSuccessful();
+        }
+    }
+
+    private static Route routeOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : REFERENCE_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return Route.REFERENCE;
+            }
+        }
+        if (PATH_MATCHER.match(TILE_PATTERN, path)) {
+            return Route.TILE;
+        }
+        if (SEARCH_PATH.equals(path)) {
+            return null;
+        }
+        for (String pattern : SPOT_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return Route.SPOT;
+            }
+        }
+        return null;
+    }
+
+    /** {@code If-None-Match} uses weak comparison: tags match when they are equal ignoring {@code W/}. */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String opaqueTag = withoutWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || withoutWeakPrefix(tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String withoutWeakPrefix(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private record CacheHeaders(String cacheControl, String etag, boolean varyOnCookie) {
+
+        void applyTo(HttpServletResponse response) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            if (etag != null) {
+                response.setHeader(HttpHeaders.ETAG, etag);
+            }
+            // The same version is served as JSON or CBOR (see CborConfig).
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            if (varyOnCookie) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+            }
+        }
+    }
+
+    private static final class CacheHeaderResponseWrapper extends HttpServletResponseWrapper {
+
+        private final CacheHeaders headers;
+        private boolean decided;
+
+        CacheHeaderResponseWrapper(HttpServletResponse response, CacheHeaders headers) {
+            super(response);
+            this.headers = headers;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyIfSuccessful();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyIfSuccessful();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyIfSuccessful();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            decided = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            decided = true;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            decided = true;
+            super.sendRedirect(location);
+        }
+
+        void applyIfSuccessful() {
+            if (decided) {
+                return;
+            }
+            decided = true;
+            if (getStatus() == HttpServletResponse.SC_OK) {
+                headers.applyTo(this);
+            }
+        }
+    }
+}
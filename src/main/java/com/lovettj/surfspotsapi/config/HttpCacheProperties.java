@@ -0,0 +1,42 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * HTTP caching of reference and spot reads, from {@code app.http-cache.*} (see {@link HttpCacheFilter}).
+ */
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    private boolean enabled = true;
+    /** Freshness of continent, country, region and sub-region responses before clients revalidate. */
+    private Duration referenceMaxAge = Duration.ofMinutes(5);
+    /** Freshness of anonymous spot detail and spot map tile responses before clients revalidate. */
+    private Duration spotMaxAge = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabledValue) {
+        this.enabled = enabledValue;
+    }
+
+    public Duration getReferenceMaxAge() {
+        return referenceMaxAge;
+    }
+
+    public void setReferenceMaxAge(Duration referenceMaxAgeValue) {
+        this.referenceMaxAge = referenceMaxAgeValue;
+    }
+
+    public Duration getSpotMaxAge() {
+        return spotMaxAge;
+    }
+
+    public void setSpotMaxAge(Duration spotMaxAgeValue) {
+        this.spotMaxAge = spotMaxAgeValue;
+    }
+}
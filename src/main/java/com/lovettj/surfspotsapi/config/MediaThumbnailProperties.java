@@ -0,0 +1,70 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Server-side thumbnail derivatives for uploaded images, from {@code app.media.thumbnails.*}.
+ * Work runs on a small dedicated pool so a burst of uploads cannot starve request or mail threads.
+ */
+@ConfigurationProperties(prefix = "app.media.thumbnails")
+public class MediaThumbnailProperties {
+
+    private boolean enabled = true;
+    /** Longest edge of the generated thumbnail, in pixels. */
+    private int maxEdgePx = 480;
+    /** JPEG quality between 0 and 1. */
+    private float jpegQuality = 0.8f;
+    /** Originals larger than this are left without a thumbnail (decoding them would be too costly). */
+    private long maxSourceBytes = 25L * 1024 * 1024;
+    private int workerThreads = 2;
+    /** Pending jobs beyond this are dropped; the list view falls back to the original. */
+    private int queueCapacity = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabledValue) {
+        this.enabled = enabledValue;
+    }
+
+    public int getMaxEdgePx() {
+        return maxEdgePx;
+    }
+
+    public void setMaxEdgePx(int maxEdgePxValue) {
+        this.maxEdgePx = maxEdgePxValue;
+    }
+
+    public float getJpegQuality() {
+        return jpegQuality;
+    }
+
+    public void setJpegQuality(float jpegQualityValue) {
+        this.jpegQuality = jpegQualityValue;
+    }
+
+    public long getMaxSourceBytes() {
+        return maxSourceBytes;
+    }
+
+    public void setMaxSourceBytes(long maxSourceBytesValue) {
+        this.maxSourceBytes = maxSourceBytesValue;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreadsValue) {
+        this.workerThreads = workerThreadsValue;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacityValue) {
+        this.queueCapacity = queueCapacityValue;
+    }
+}
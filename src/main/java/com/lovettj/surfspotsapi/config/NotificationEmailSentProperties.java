@@ -0,0 +1,32 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Monthly partitions of the {@code notification_email_sent} dedupe table from {@code app.notification-email.*}
+ * (see {@code NotificationEmailSentPartitionService}).
+ */
+@ConfigurationProperties(prefix = "app.notification-email")
+public class NotificationEmailSentProperties {
+
+    /** Months of sends kept, the current one included; older partitions are dropped. */
+    private int retentionMonths = 13;
+    /** Partitions created ahead of the current month, so sends never wait on the job. */
+    private int monthsAhead = 3;
+
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    public void setRetentionMonths(int retentionMonthsValue) {
+        this.retentionMonths = retentionMonthsValue;
+    }
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAheadValue) {
+        this.monthsAhead = monthsAheadValue;
+    }
+}
@@ -0,0 +1,101 @@
+package com.lovettj.surfspotsapi.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the auto-configured {@code dataSource} in a {@link ReadReplicaRoutingDataSource} when
+ * {@code app.datasource.replica.url} is set. Decided when the context starts rather than by a bean condition,
+ * so the replica can be configured on the container of the AOT-built image (see docs/startup.md).
+ */
+@Configuration
+public class ReadReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaDataSourceConfig.class);
+    private static final String PROPERTIES_PREFIX = "app.datasource.replica";
+    static final String REPLICA_APPLICATION_NAME = "surf-spots-api-replica";
+
+    @Bean
+    static BeanPostProcessor readReplicaDataSourcePostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof HikariDataSource primary)) {
+                    return bean;
+                }
+                ReadReplicaProperties properties = replicaProperties(environment);
+                if (!properties.isEnabled()) {
+                    return bean;
+                }
+                logger.info("Routing read-only transactions to the read replica at {}", properties.getUrl());
+                HikariDataSource replica = replicaPool(primary, properties);
+                replica.setMetricRegistry(meterRegistry.getObject());
+                return new ReadReplicaRoutingDataSource(primary, replica, properties, meterRegistry.getObject());
+            }
+        };
+    }
+
+    /**
+     * The open-in-view EntityManager otherwise holds the first transaction's connection for the rest of the
+     * request, so a write after a read would reach the replica. Releasing after each transaction lets every
+     * transaction be routed on its own. (In this mode the JPA dialect rejects custom isolation levels; none
+     * are used.)
+     */
+    @Bean
+    HibernatePropertiesCustomizer readReplicaConnectionHandling(Environment environment) {
+        return hibernateProperties -> {
+            if (replicaProperties(environment).isEnabled()) {
+                hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+            }
+        };
+    }
+
+    private static ReadReplicaProperties replicaProperties(Environment environment) {
+        return Binder.get(environment).bindOrCreate(PROPERTIES_PREFIX, ReadReplicaProperties.class);
+    }
+
+    /** The primary's pool settings against the replica; the pool starts on the first read, not at startup. */
+    static HikariDataSource replicaPool(HikariDataSource primary, ReadReplicaProperties properties) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setDriverClassName(primary.getDriverClassName());
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername() != null ? properties.getUsername() : primary.getUsername());
+        replica.setPassword(properties.getPassword() != null ? properties.getPassword() : primary.getPassword());
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        if (primary.getMinimumIdle() >= 0) {
+            replica.setMinimumIdle(Math.min(primary.getMinimumIdle(), properties.getMaximumPoolSize()));
+        }
+        replica.setConnectionTimeout(primary.getConnectionTimeout());
+        replica.setValidationTimeout(primary.getValidationTimeout());
+        replica.setIdleTimeout(primary.getIdleTimeout());
+        replica.setMaxLifetime(primary.getMaxLifetime());
+        replica.setKeepaliveTime(primary.getKeepaliveTime());
+        replica.setLeakDetectionThreshold(primary.getLeakDetectionThreshold());
+        replica.setAutoCommit(primary.isAutoCommit());
+        replica.setTransactionIsolation(primary.getTransactionIsolation());
+        replica.setDataSourceProperties(primary.getDataSourceProperties());
+        replica.setReadOnly(true);
+        // Tells replica sessions apart in pg_stat_activity.
+        replica.addDataSourceProperty("ApplicationName", REPLICA_APPLICATION_NAME);
+        return replica;
+    }
+}
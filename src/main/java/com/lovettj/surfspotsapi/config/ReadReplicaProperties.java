@@ -0,0 +1,91 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.lovettj.surfspotsapi.util.StringUtils;
+
+/**
+ * Read replica for read-only transactions from {@code app.datasource.replica.*} (see
+ * {@code ReadReplicaRoutingDataSource}). Off while {@code url} is blank; username and password default to
+ * the primary's.
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    /** Replica pool size; the other pool settings are copied from {@code spring.datasource.hikari}. */
+    private int maximumPoolSize = 20;
+    /** Reads go to the primary while the replica is further behind than this. */
+    private Duration maxLag = Duration.ofSeconds(5);
+    /** How often the replica's lag is measured (by the first read after the interval). */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+    /**
+     * After a user's write commits, their reads stay on the primary this long. Keep it at least
+     * {@code max-lag} plus {@code lag-check-interval}, the most the replica can be behind while in use.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return url != null;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String urlValue) {
+        this.url = StringUtils.blankToNull(urlValue);
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String usernameValue) {
+        this.username = StringUtils.blankToNull(usernameValue);
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String passwordValue) {
+        this.password = StringUtils.blankToNull(passwordValue);
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSizeValue) {
+        this.maximumPoolSize = maximumPoolSizeValue;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLagValue) {
+        this.maxLag = maxLagValue;
+    }
+
+    public Duration getLagCheckInterval() {
+        return lagCheckInterval;
+    }
+
+    public void setLagCheckInterval(Duration lagCheckIntervalValue) {
+        this.lagCheckInterval = lagCheckIntervalValue;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindowValue) {
+        this.readYourWritesWindow = readYourWritesWindowValue;
+    }
+}
@@ -0,0 +1,281 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovettj.surfspotsapi.security.AuthenticatedUserResolver;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions declared by application code (a service's {@code @Transactional(readOnly =
+ * true)}) to the replica pool and everything else to the primary. The physical connection is only taken at
+ * the first statement: Hibernate asks for one when the transaction begins, before the transaction manager
+ * has published the read-only flag and name this routes on.
+ *
+ * <p>Spring Data's own read-only transactions ({@code findById} called outside a service transaction) stay
+ * on the primary: they are the read half of read-modify-write flows, and an entity read from a lagging
+ * replica would write its stale columns back over newer data when saved.
+ *
+ * <p>A read-only transaction still goes to the primary while the replica is more than
+ * {@code app.datasource.replica.max-lag} behind or unreachable, and for a user whose write committed within
+ * {@code read-your-writes-window}, so they see it on the next page. That memory is per instance; another
+ * instance serving the user's next request does not have it. Lag is measured in the background every
+ * {@code lag-check-interval}; until the first measurement, reads stay on the primary. Routing is counted as
+ * {@code db.read.routing{target, reason}} and the last measured lag is {@code db.replica.lag}.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    /** Zero on a standby that has replayed all it received (an idle primary writes nothing to replay). */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())::float8, 'Infinity')
+            END
+            """;
+
+    private static final long MAX_RECENT_WRITERS = 100_000;
+
+    /** Transactions named after a method in this package (as {@code @Transactional} names them) may use the replica. */
+    static final String APPLICATION_PACKAGE = "com.lovettj.surfspotsapi.";
+
+    /** Seconds the replica is behind the primary. */
+    @FunctionalInterface
+    interface LagProbe {
+        double lagSeconds(DataSource replica) throws SQLException;
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadReplicaProperties properties;
+    private final LagProbe lagProbe;
+    private final Executor lagCheckExecutor;
+    private final Supplier<String> currentUserId;
+    private final Clock clock;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicBoolean lagCheckRunning = new AtomicBoolean();
+    private volatile Instant nextLagCheckAt = Instant.MIN;
+    private volatile double lastLagSeconds = Double.NaN;
+    private volatile boolean replicaUsable;
+
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter unavailableReads;
+    private final Counter recentWriteReads;
+    private final Counter undeclaredReads;
+
+    public ReadReplicaRoutingDataSource(
+            DataSource primary, DataSource replica, ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this(primary, replica, properties, meterRegistry, ReadReplicaRoutingDataSource::queryLagSeconds,
+                check -> Thread.ofVirtual().name("replica-lag-check").start(check),
+                new AuthenticatedUserResolver()::currentUserIdOrNull, Clock.systemUTC());
+    }
+
+    ReadReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReadReplicaProperties properties,
+            MeterRegistry meterRegistry,
+            LagProbe lagProbe,
+            Executor lagCheckExecutor,
+            Supplier<String> currentUserId,
+            Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.properties = properties;
+        this.lagProbe = lagProbe;
+        this.lagCheckExecutor = lagCheckExecutor;
+        this.currentUserId = currentUserId;
+        this.clock = clock;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_RECENT_WRITERS)
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+        this.replicaReads = routingCounter(meterRegistry, "replica", "read-only");
+        this.laggingReads = routingCounter(meterRegistry, "primary", "replica-lagging");
+        this.unavailableReads = routingCounter(meterRegistry, "primary", "replica-unavailable");
+        this.recentWriteReads = routingCounter(meterRegistry, "primary", "recent-write");
+        this.undeclaredReads = routingCounter(meterRegistry, "primary", "undeclared");
+        Gauge.builder("db.replica.lag", this, routing -> routing.lastLagSeconds)
+                .description("Replication lag at the last check; NaN while the replica is unreachable")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        setTargetDataSource(new RoutingDataSource());
+        // Postgres and Hikari defaults; set here so the proxy does not borrow a connection to look them up.
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeIfPossible(replica);
+        closeIfPossible(primary);
+    }
+
+    private Connection readOnlyConnection() throws SQLException {
+        String userId = currentUserId.get();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            recentWriteReads.increment();
+            return readOnlyPrimaryConnection();
+        }
+        if (!replicaCaughtUp()) {
+            laggingReads.increment();
+            return readOnlyPrimaryConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            markReplicaDown(e);
+            unavailableReads.increment();
+            return readOnlyPrimaryConnection();
+        }
+    }
+
+    static boolean isDeclaredByApplication(String transactionName) {
+        return transactionName != null && transactionName.startsWith(APPLICATION_PACKAGE);
+    }
+
+    /** Replica sessions are read-only by pool setting; keep a read-only transaction read-only here too. */
+    private Connection readOnlyPrimaryConnection() throws SQLException {
+        Connection connection = primary.getConnection();
+        try {
+            connection.setReadOnly(true);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    /** The last measured state; starts a new measurement in the background once the interval has passed. */
+    private boolean replicaCaughtUp() {
+        Instant now = clock.instant();
+        if (!now.isBefore(nextLagCheckAt) && lagCheckRunning.compareAndSet(false, true)) {
+            nextLagCheckAt = now.plus(properties.getLagCheckInterval());
+            try {
+                lagCheckExecutor.execute(this::checkLag);
+            } catch (RuntimeException e) {
+                lagCheckRunning.set(false);
+                throw e;
+            }
+        }
+        return replicaUsable;
+    }
+
+    private void checkLag() {
+        try {
+            double lagSeconds = lagProbe.lagSeconds(replica);
+            lastLagSeconds = lagSeconds;
+            boolean usable = lagSeconds * 1000 <= properties.getMaxLag().toMillis();
+            if (usable != replicaUsable) {
+                logger.info("Read replica {} ({} s behind)", usable ? "in use" : "lagging, reading from the primary",
+                        String.format("%.1f", lagSeconds));
+            }
+            replicaUsable = usable;
+        } catch (SQLException | RuntimeException e) {
+            markReplicaDown(e);
+        } finally {
+            lagCheckRunning.set(false);
+        }
+    }
+
+    private void markReplicaDown(Exception e) {
+        if (replicaUsable) {
+            logger.warn("Read replica unavailable, reading from the primary: {}", e.getMessage());
+        }
+        replicaUsable = false;
+        lastLagSeconds = Double.NaN;
+    }
+
+    /** Once the current read-write transaction commits, the current user's reads stay on the primary. */
+    private void rememberWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String userId = currentUserId.get();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static double queryLagSeconds(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.read.routing")
+                .description("Connections taken by read-only transactions, by the pool that served them")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /** What the proxy takes physical connections from. */
+    private final class RoutingDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (isDeclaredByApplication(TransactionSynchronizationManager.getCurrentTransactionName())) {
+                    return readOnlyConnection();
+                }
+                undeclaredReads.increment();
+                return readOnlyPrimaryConnection();
+            }
+            Connection connection = primary.getConnection();
+            rememberWriteOnCommit();
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
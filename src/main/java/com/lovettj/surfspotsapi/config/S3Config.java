@@ -1,9 +1,9 @@
 package com.lovettj.surfspotsapi.config;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -13,7 +13,13 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
+/**
+ * S3 clients are built on first media request rather than at startup. Whether credentials are set is
+ * decided at runtime (a {@code null} bean, seen as absent by {@code ObjectProvider.getIfAvailable})
+ * instead of by a bean condition, which an AOT-processed build would freeze at build time.
+ */
 @Configuration
+@Lazy
 public class S3Config {
 
     @Value("${app.storage.s3.endpoint:}")
@@ -36,8 +42,10 @@ public class S3Config {
     }
 
     @Bean
-    @ConditionalOnExpression("!'${app.storage.s3.access-key:}'.isEmpty() && !'${app.storage.s3.secret-key:}'.isEmpty()")
     public S3Client s3Client(S3Configuration s3Configuration) {
+        if (!hasCredentials()) {
+            return null;
+        }
         return S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
@@ -49,8 +57,10 @@ public class S3Config {
     }
 
     @Bean
-    @ConditionalOnExpression("!'${app.storage.s3.access-key:}'.isEmpty() && !'${app.storage.s3.secret-key:}'.isEmpty()")
     public S3Presigner s3Presigner(S3Configuration s3Configuration) {
+        if (!hasCredentials()) {
+            return null;
+        }
         return S3Presigner.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
@@ -60,5 +70,8 @@ public class S3Config {
                 .serviceConfiguration(s3Configuration)
                 .build();
     }
-}
 
+    private boolean hasCredentials() {
+        return !accessKey.isEmpty() && !secretKey.isEmpty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.lovettj.surfspotsapi.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -35,6 +37,18 @@ public class SecurityConfig {
             return new SessionCookieFilter(sessionCookieVerifier, userRepository);
         }
 
+        /**
+         * The filter runs inside the security chain only. Without this Boot also registers the bean as a
+         * servlet filter, and every signed-in request verifies the cookie (and queries the user) twice.
+         */
+        @Bean
+        FilterRegistrationBean<SessionCookieFilter> sessionCookieFilterServletRegistration(
+                SessionCookieFilter sessionCookieFilter) {
+            FilterRegistrationBean<SessionCookieFilter> registration = new FilterRegistrationBean<>(sessionCookieFilter);
+            registration.setEnabled(false);
+            return registration;
+        }
+
         @Bean
         CsrfOriginFilter csrfOriginFilter(AllowedOrigins allowedOrigins, ObjectMapper objectMapper) {
             return new CsrfOriginFilter(allowedOrigins, objectMapper);
@@ -62,16 +76,20 @@ public class SecurityConfig {
                     .requestMatchers("/api/surf-spots/region-id/**").permitAll()
                     .requestMatchers("/api/surf-spots/sub-region/**").permitAll()
                     .requestMatchers("/api/surf-spots/within-bounds").permitAll()
+                    .requestMatchers("/api/surf-spots/clusters").permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/surf-spots/management").authenticated()
                     .requestMatchers(HttpMethod.PATCH, "/api/surf-spots/management/*").authenticated()
                     .requestMatchers(HttpMethod.DELETE, "/api/surf-spots/management/*").authenticated()
                     .requestMatchers(HttpMethod.GET, "/api/surf-spots/*").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/surf-spots/id/*").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/surf-spots/tiles/**").permitAll()
                     // Dev-only HTML email previews (bean exists only with profile "dev")
                     .requestMatchers("/api/dev/mail-preview/**").permitAll()
                     // Static email assets (logo served by API in dev for mail preview without frontend)
                     .requestMatchers("/email/**").permitAll()
                     .requestMatchers("/error").permitAll()
+                    // Exposed only on management.server.port, which is not routed publicly
+                    .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                     .anyRequest().authenticated()
                     );
 
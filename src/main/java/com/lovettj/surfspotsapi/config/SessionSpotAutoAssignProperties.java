@@ -0,0 +1,32 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Background linking of spotless GPS sessions from {@code app.session-auto-assign.*}
+ * (see {@code SessionSpotAutoAssignService}).
+ */
+@ConfigurationProperties(prefix = "app.session-auto-assign")
+public class SessionSpotAutoAssignProperties {
+
+    /** Sessions read, matched and updated per transaction. */
+    private int batchSize = 500;
+    /** Caps one run; the next run continues from the saved cursor. */
+    private int maxBatchesPerRun = 100;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSizeValue) {
+        this.batchSize = batchSizeValue;
+    }
+
+    public int getMaxBatchesPerRun() {
+        return maxBatchesPerRun;
+    }
+
+    public void setMaxBatchesPerRun(int maxBatchesPerRunValue) {
+        this.maxBatchesPerRun = maxBatchesPerRunValue;
+    }
+}
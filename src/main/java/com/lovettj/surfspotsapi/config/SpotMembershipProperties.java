@@ -0,0 +1,33 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-user surfed/watched spot cache from {@code app.spot-membership.*} (see {@code UserSpotMembershipCache}).
+ */
+@ConfigurationProperties(prefix = "app.spot-membership")
+public class SpotMembershipProperties {
+
+    /** Upper bound on the users held; least recently used users go first. */
+    private long cacheMaxUsers = 10_000;
+    /** Entries are also reloaded after this long, so writes made by other instances show up. */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    public long getCacheMaxUsers() {
+        return cacheMaxUsers;
+    }
+
+    public void setCacheMaxUsers(long cacheMaxUsersValue) {
+        this.cacheMaxUsers = cacheMaxUsersValue;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtlValue) {
+        this.cacheTtl = cacheTtlValue;
+    }
+}
@@ -0,0 +1,21 @@
+package com.lovettj.surfspotsapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Map clustering from {@code app.spot-clusters.*} (see {@code SurfSpotClusterService}).
+ */
+@ConfigurationProperties(prefix = "app.spot-clusters")
+public class SurfSpotClusterProperties {
+
+    /** Highest map zoom answered with clusters; above it the endpoint returns individual spots. */
+    private int maxClusterZoom = 9;
+
+    public int getMaxClusterZoom() {
+        return maxClusterZoom;
+    }
+
+    public void setMaxClusterZoom(int maxClusterZoomValue) {
+        this.maxClusterZoom = maxClusterZoomValue;
+    }
+}
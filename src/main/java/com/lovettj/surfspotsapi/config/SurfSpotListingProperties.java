@@ -0,0 +1,33 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Region and sub-region listing snapshots from {@code app.spot-listings.*} (see {@code SurfSpotListingCache}).
+ */
+@ConfigurationProperties(prefix = "app.spot-listings")
+public class SurfSpotListingProperties {
+
+    /** Upper bound on the bytes held; least recently used listings go first. */
+    private long cacheMaxBytes = 64L * 1024 * 1024;
+    /** Listings are also rebuilt after this long, so writes made by other instances show up. */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytesValue) {
+        this.cacheMaxBytes = cacheMaxBytesValue;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtlValue) {
+        this.cacheTtl = cacheTtlValue;
+    }
+}
@@ -0,0 +1,33 @@
+package com.lovettj.surfspotsapi.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Encoded spot tile cache from {@code app.spot-tiles.*} (see {@code SurfSpotTileCache}).
+ */
+@ConfigurationProperties(prefix = "app.spot-tiles")
+public class SurfSpotTileProperties {
+
+    /** Upper bound on the encoded bytes held; least recently used tiles go first. */
+    private long cacheMaxBytes = 32L * 1024 * 1024;
+    /** Tiles are also rebuilt after this long, so writes made by other instances show up. */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytesValue) {
+        this.cacheMaxBytes = cacheMaxBytesValue;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtlValue) {
+        this.cacheTtl = cacheTtlValue;
+    }
+}
@@ -1,6 +1,7 @@
 package com.lovettj.surfspotsapi.controller;
 
 import com.lovettj.surfspotsapi.dto.LinkSessionsToSpotResultDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportResultDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionListItemDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionMediaDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionSummaryDTO;
@@ -10,11 +11,13 @@ import com.lovettj.surfspotsapi.requests.CreateSurfSessionMediaRequest;
 import com.lovettj.surfspotsapi.requests.EndLiveSurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.LinkSessionsToSpotRequest;
 import com.lovettj.surfspotsapi.requests.StartLiveSurfSessionRequest;
+import com.lovettj.surfspotsapi.requests.SurfSessionImportRequest;
 import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.UploadMediaRequest;
 import com.lovettj.surfspotsapi.response.ApiErrors;
 import com.lovettj.surfspotsapi.response.ApiResponse;
 import com.lovettj.surfspotsapi.security.AuthenticatedUserResolver;
+import com.lovettj.surfspotsapi.service.SurfSessionImportService;
 import com.lovettj.surfspotsapi.service.SurfSessionService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -28,12 +31,15 @@ import java.util.Map;
 public class SurfSessionController {
 
     private final SurfSessionService surfSessionService;
+    private final SurfSessionImportService surfSessionImportService;
     private final AuthenticatedUserResolver authenticatedUserResolver;
 
     public SurfSessionController(
             SurfSessionService surfSessionService,
+            SurfSessionImportService surfSessionImportService,
             AuthenticatedUserResolver authenticatedUserResolver) {
         this.surfSessionService = surfSessionService;
+        this.surfSessionImportService = surfSessionImportService;
         this.authenticatedUserResolver = authenticatedUserResolver;
     }
 
@@ -86,6 +92,18 @@ public class SurfSessionController {
                 .body(ApiResponse.success("Surf session saved", "Surf session saved", HttpStatus.CREATED.value()));
     }
 
+    /**
+     * Bulk import for wearable and partner sync. Always 200 with a per-item outcome; only a batch that is
+     * empty or too large is rejected as a whole.
+     */
+    @PostMapping("/surf-sessions/import")
+    @ApiFailureMessage(action = "import", target = "surf sessions")
+    public ResponseEntity<ApiResponse<SurfSessionImportResultDTO>> importSessions(
+            @RequestBody SurfSessionImportRequest request) {
+        String userId = authenticatedUserResolver.requireCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.success(surfSessionImportService.importSessions(userId, request)));
+    }
+
     @GetMapping("/surf-sessions")
     @ApiFailureMessage(action = "load", target = "surf sessions")
     public ResponseEntity<ApiResponse<UserSurfSessionsDTO>> getSessionsForUser() {
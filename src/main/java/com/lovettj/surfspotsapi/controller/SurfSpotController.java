@@ -1,12 +1,22 @@
 package com.lovettj.surfspotsapi.controller;
 
+import com.lovettj.surfspotsapi.config.HttpCacheProperties;
+import com.lovettj.surfspotsapi.dto.NormalizedSurfSpotsDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClustersDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotSearchResultDTO;
 import com.lovettj.surfspotsapi.requests.BoundingBox;
 import com.lovettj.surfspotsapi.security.AuthenticatedUserResolver;
+import com.lovettj.surfspotsapi.service.SurfSpotClusterService;
+import com.lovettj.surfspotsapi.service.SurfSpotListingCache;
+import com.lovettj.surfspotsapi.service.SurfSpotSearchService;
 import com.lovettj.surfspotsapi.service.SurfSpotService;
+import com.lovettj.surfspotsapi.service.SurfSpotTileService;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,13 +30,29 @@ import jakarta.persistence.EntityNotFoundException;
 @RestController
 @RequestMapping("/api/surf-spots")
 public class SurfSpotController {
+  static final String NORMALIZED_VIEW = "normalized";
+  static final MediaType VECTOR_TILE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
   private final SurfSpotService surfSpotService;
+  private final SurfSpotClusterService surfSpotClusterService;
+  private final SurfSpotTileService surfSpotTileService;
+  private final SurfSpotSearchService surfSpotSearchService;
   private final AuthenticatedUserResolver authenticatedUserResolver;
+  private final HttpCacheProperties httpCacheProperties;
 
   public SurfSpotController(
-      SurfSpotService surfSpotService, AuthenticatedUserResolver authenticatedUserResolver) {
+      SurfSpotService surfSpotService,
+      SurfSpotClusterService surfSpotClusterService,
+      SurfSpotTileService surfSpotTileService,
+      SurfSpotSearchService surfSpotSearchService,
+      AuthenticatedUserResolver authenticatedUserResolver,
+      HttpCacheProperties httpCacheProperties) {
     this.surfSpotService = surfSpotService;
+    this.surfSpotClusterService = surfSpotClusterService;
+    this.surfSpotTileService = surfSpotTileService;
+    this.surfSpotSearchService = surfSpotSearchService;
     this.authenticatedUserResolver = authenticatedUserResolver;
+    this.httpCacheProperties = httpCacheProperties;
   }
 
   /**
@@ -34,26 +60,56 @@ public class SurfSpotController {
    * when the same region slug exists in multiple countries (e.g. "south-west" in England and Italy).
    */
   @PostMapping("/region-id/{regionId}")
-  public ResponseEntity<List<SurfSpotDTO>> getSurfSpotsByRegionIdWithFilters(
+  public ResponseEntity<?> getSurfSpotsByRegionIdWithFilters(
           @PathVariable Long regionId,
-          @RequestBody SurfSpotFilterDTO filters) {
+          @RequestBody SurfSpotFilterDTO filters,
+          @RequestParam(required = false) String view) {
       try {
           filters.setUserId(authenticatedUserResolver.currentUserIdOrNull());
           List<SurfSpotDTO> surfSpots = surfSpotService.findSurfSpotsByRegionIdWithFilters(regionId, filters);
-          return ResponseEntity.ok(surfSpots);
+          return ResponseEntity.ok(present(surfSpots, view));
       } catch (EntityNotFoundException e) {
           return ResponseEntity.status(404).build();
       }
   }
 
   @PostMapping("/sub-region/{subRegionSlug}")
-  public ResponseEntity<List<SurfSpotDTO>> getSurfSpotsBySubRegionWithFilters(
+  public ResponseEntity<?> getSurfSpotsBySubRegionWithFilters(
           @PathVariable String subRegionSlug,
-          @RequestBody SurfSpotFilterDTO filters) {
+          @RequestBody SurfSpotFilterDTO filters,
+          @RequestParam(required = false) String view) {
       try {
           filters.setUserId(authenticatedUserResolver.currentUserIdOrNull());
           List<SurfSpotDTO> surfSpots = surfSpotService.findSurfSpotsBySubRegionSlugWithFilters(subRegionSlug, filters);
-          return ResponseEntity.ok(surfSpots);
+          return ResponseEntity.ok(present(surfSpots, view));
+      } catch (EntityNotFoundException e) {
+          return ResponseEntity.status(404).build();
+      }
+  }
+
+  /**
+   * The unfiltered list of a region as seen without signing in, sent as precomputed JSON with an ETag over
+   * its bytes and a public Cache-Control, so browsers and CDNs can keep it. Not user-specific: signed-in
+   * users and filters use the POST endpoint.
+   */
+  @GetMapping(value = "/region-id/{regionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getSurfSpotListingByRegionId(
+          @PathVariable Long regionId,
+          @RequestParam(required = false) String view) {
+      try {
+          return listing(surfSpotService.findRegionListing(regionId), view);
+      } catch (EntityNotFoundException e) {
+          return ResponseEntity.status(404).build();
+      }
+  }
+
+  /** As {@link #getSurfSpotListingByRegionId} for a sub-region. */
+  @GetMapping(value = "/sub-region/{subRegionSlug}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<byte[]> getSurfSpotListingBySubRegion(
+          @PathVariable String subRegionSlug,
+          @RequestParam(required = false) String view) {
+      try {
+          return listing(surfSpotService.findSubRegionListing(subRegionSlug), view);
       } catch (EntityNotFoundException e) {
           return ResponseEntity.status(404).build();
       }
@@ -78,13 +134,70 @@ public class SurfSpotController {
   }
 
   @PostMapping("/within-bounds")
-  public List<SurfSpotDTO> getSurfSpotsWithinBoundsWithFilters(
-          @RequestBody SurfSpotBoundsFilterDTO boundsFilter) {
+  public Object getSurfSpotsWithinBoundsWithFilters(
+          @RequestBody SurfSpotBoundsFilterDTO boundsFilter,
+          @RequestParam(required = false) String view) {
       boundsFilter.setUserId(authenticatedUserResolver.currentUserIdOrNull());
       BoundingBox boundingBox = new BoundingBox(
           boundsFilter.getMinLatitude(), boundsFilter.getMaxLatitude(),
           boundsFilter.getMinLongitude(), boundsFilter.getMaxLongitude()
       );
-      return surfSpotService.findSurfSpotsWithinBoundsWithFilters(boundingBox, boundsFilter);
+      return present(surfSpotService.findSurfSpotsWithinBoundsWithFilters(boundingBox, boundsFilter), view);
+  }
+
+  /**
+   * Map view at a given zoom: cluster cells (count, centroid, representative spot) up to the clustering
+   * threshold, individual spots above it. Takes the same bounds and filters as within-bounds.
+   */
+  @PostMapping("/clusters")
+  public SurfSpotClustersDTO getSurfSpotClustersWithinBounds(
+          @RequestBody SurfSpotBoundsFilterDTO boundsFilter,
+          @RequestParam int zoom) {
+      boundsFilter.setUserId(authenticatedUserResolver.currentUserIdOrNull());
+      return surfSpotClusterService.findClustersWithinBounds(boundsFilter, zoom);
+  }
+
+  /**
+   * Approved spots as a Mapbox Vector Tile. Filters are query parameters named like the JSON filter fields,
+   * with enum constant names ({@code ?type=REEF_BREAK&skillLevel=BEGINNER}). Not user-specific.
+   */
+  @GetMapping("/tiles/{zoom}/{x}/{y}.mvt")
+  public ResponseEntity<byte[]> getSurfSpotTile(
+          @PathVariable int zoom,
+          @PathVariable int x,
+          @PathVariable int y,
+          @ModelAttribute SurfSpotFilterDTO filters) {
+      return ResponseEntity.ok()
+              .contentType(VECTOR_TILE)
+              .body(surfSpotTileService.getTile(zoom, x, y, filters));
+  }
+
+  /**
+   * Search and autocomplete over approved spots by name, region, country and description. The last word
+   * matches as a prefix and longer words tolerate typos. Not user-specific.
+   */
+  @GetMapping("/search")
+  public List<SurfSpotSearchResultDTO> searchSurfSpots(
+          @RequestParam String q,
+          @RequestParam(defaultValue = "10") int limit) {
+      return surfSpotSearchService.search(q, limit);
+  }
+
+  /** A matching {@code If-None-Match} is answered with 304 by Spring from the ETag set here. */
+  private ResponseEntity<byte[]> listing(SurfSpotListingCache.Listing listing, String view) {
+      boolean normalized = NORMALIZED_VIEW.equals(view);
+      CacheControl cacheControl = httpCacheProperties.isEnabled()
+              ? CacheControl.maxAge(httpCacheProperties.getSpotMaxAge()).cachePublic()
+              : CacheControl.empty();
+      return ResponseEntity.ok()
+              .contentType(MediaType.APPLICATION_JSON)
+              .cacheControl(cacheControl)
+              .eTag(listing.etag(normalized))
+              .body(listing.json(normalized));
+  }
+
+  /** {@code ?view=normalized} sends each region, country and continent once instead of inside every spot. */
+  private static Object present(List<SurfSpotDTO> surfSpots, String view) {
+      return NORMALIZED_VIEW.equals(view) ? NormalizedSurfSpotsDTO.from(surfSpots) : surfSpots;
   }
 }
@@ -0,0 +1,59 @@
+package com.lovettj.surfspotsapi.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Spot list with geography sent once ({@code ?view=normalized} on the list endpoints). A map viewport of
+ * a few hundred spots usually spans a handful of regions, so repeating the full region, country and
+ * continent in every spot dominates the default payload. Here each spot carries {@code regionId},
+ * {@code countryId} and {@code continentId} instead, and the objects (same JSON as in the default view)
+ * are keyed by id in the side tables.
+ */
+@Data
+@AllArgsConstructor
+public class NormalizedSurfSpotsDTO {
+
+    private List<SurfSpotDTO> surfSpots;
+    @JsonIgnoreProperties({"surfSpots", "subRegions"})
+    private Map<Long, Region> regions;
+    @JsonIgnoreProperties({"regions"})
+    private Map<Long, Country> countries;
+    @JsonIgnoreProperties({"countries"})
+    private Map<Long, Continent> continents;
+
+    /** Moves geography out of the given spots (which are modified) into the side tables. */
+    public static NormalizedSurfSpotsDTO from(List<SurfSpotDTO> surfSpots) {
+        Map<Long, Region> regions = new LinkedHashMap<>();
+        Map<Long, Country> countries = new LinkedHashMap<>();
+        Map<Long, Continent> continents = new LinkedHashMap<>();
+
+        for (SurfSpotDTO surfSpot : surfSpots) {
+            if (surfSpot.getRegion() != null) {
+                surfSpot.setRegionId(surfSpot.getRegion().getId());
+                regions.putIfAbsent(surfSpot.getRegionId(), surfSpot.getRegion());
+                surfSpot.setRegion(null);
+            }
+            if (surfSpot.getCountry() != null) {
+                surfSpot.setCountryId(surfSpot.getCountry().getId());
+                countries.putIfAbsent(surfSpot.getCountryId(), surfSpot.getCountry());
+                surfSpot.setCountry(null);
+            }
+            if (surfSpot.getContinent() != null) {
+                surfSpot.setContinentId(surfSpot.getContinent().getId());
+                continents.putIfAbsent(surfSpot.getContinentId(), surfSpot.getContinent());
+                surfSpot.setContinent(null);
+            }
+        }
+        return new NormalizedSurfSpotsDTO(surfSpots, regions, countries, continents);
+    }
+}
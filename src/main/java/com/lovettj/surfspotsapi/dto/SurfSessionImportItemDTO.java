@@ -0,0 +1,20 @@
+package com.lovettj.surfspotsapi.dto;
+
+import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.SessionImportOutcome;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SurfSessionImportItemDTO {
+    /** Position of the item in the request's session list. */
+    private int index;
+    private ExternalSessionProvider externalSessionProvider;
+    private String externalSessionId;
+    private SessionImportOutcome outcome;
+    /** Set when {@link #outcome} is {@link SessionImportOutcome#CREATED}. */
+    private Long sessionId;
+    /** Set when {@link #outcome} is {@link SessionImportOutcome#INVALID}. */
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.lovettj.surfspotsapi.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SurfSessionImportResultDTO {
+    private int createdCount;
+    private int duplicateCount;
+    private int invalidCount;
+    /** One entry per request item, in request order. */
+    private List<SurfSessionImportItemDTO> items;
+}
@@ -0,0 +1,27 @@
+package com.lovettj.surfspotsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One map cluster: how many spots fall in the grid cell, where to draw it (the mean of their coordinates)
+ * and the spot nearest that point, so a tap can open or label something real.
+ */
+@Data
+@AllArgsConstructor
+public class SurfSpotClusterDTO {
+
+    private int count;
+    private double latitude;
+    private double longitude;
+    private RepresentativeSpot representative;
+
+    @Data
+    @AllArgsConstructor
+    public static class RepresentativeSpot {
+        private Long id;
+        private String name;
+        private Double latitude;
+        private Double longitude;
+    }
+}
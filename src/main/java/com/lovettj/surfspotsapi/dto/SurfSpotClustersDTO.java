@@ -0,0 +1,31 @@
+package com.lovettj.surfspotsapi.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Response of {@code POST /api/surf-spots/clusters}: {@code clusters} when the zoom is at or below the
+ * clustering threshold, otherwise the individual {@code surfSpots} exactly as within-bounds returns them.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SurfSpotClustersDTO {
+
+    private int zoom;
+    private boolean clustered;
+    private List<SurfSpotClusterDTO> clusters;
+    private List<SurfSpotDTO> surfSpots;
+
+    public static SurfSpotClustersDTO ofClusters(int zoom, List<SurfSpotClusterDTO> clusters) {
+        return new SurfSpotClustersDTO(zoom, true, clusters, null);
+    }
+
+    public static SurfSpotClustersDTO ofSurfSpots(int zoom, List<SurfSpotDTO> surfSpots) {
+        return new SurfSpotClustersDTO(zoom, false, null, surfSpots);
+    }
+}
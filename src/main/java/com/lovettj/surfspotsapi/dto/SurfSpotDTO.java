@@ -23,6 +23,8 @@ import com.lovettj.surfspotsapi.enums.WaveDirection;
 import com.lovettj.surfspotsapi.util.SurfSpotPathUtil;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.AllArgsConstructor;
@@ -30,7 +32,7 @@ import lombok.Builder;
 import lombok.Data;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class SurfSpotDTO {
 
@@ -48,9 +50,25 @@ public class SurfSpotDTO {
     private Boolean isSurfedSpot;
     private Boolean isWatched;
 
+    // Geography without its child collections: serializing continent.countries / region.surfSpots walks
+    // (and lazy-loads) the whole catalog branch for every spot in the response.
+    // Left out (null) in the normalized list view, which sends them once (see NormalizedSurfSpotsDTO).
+    @JsonIgnoreProperties({"countries"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Continent continent;
+    @JsonIgnoreProperties({"regions"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Country country;
+    @JsonIgnoreProperties({"surfSpots", "subRegions"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Region region;
+    // Set only in the normalized list view, as keys into its geography tables.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long continentId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long countryId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long regionId;
 
     private String swellDirection;
     private String windDirection;
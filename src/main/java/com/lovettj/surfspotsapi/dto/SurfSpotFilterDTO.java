@@ -43,4 +43,21 @@ public class SurfSpotFilterDTO {
     private List<String> forecasts;
     private List<String> webcams;
     private List<String> seasons;
+
+    /**
+     * Whether any filter the spot list queries apply is set (see {@code SurfSpotRepositoryImpl} and
+     * {@code SurfSpotService.filterBySeason}). The clustering endpoint serves requests without one from its
+     * precomputed grid, so a filter added there must be added here too.
+     */
+    public boolean hasSpotFilters() {
+        return isSet(type) || isSet(beachBottomType) || isSet(skillLevel) || isSet(tide)
+                || isSet(waveDirection) || isSet(crowdLevel) || isSet(parking) || status != null
+                || boatRequired != null || isWavepool != null || isRiverWave != null || isWslTourStop != null
+                || isSet(swellDirection) || isSet(windDirection) || isSet(hazards) || isSet(facilities)
+                || isSet(foodOptions) || isSet(accommodationOptions) || isSet(seasons);
+    }
+
+    private static boolean isSet(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
 }
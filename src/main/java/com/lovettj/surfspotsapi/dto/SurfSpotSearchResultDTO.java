@@ -0,0 +1,21 @@
+package com.lovettj.surfspotsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One search match: enough to label an autocomplete row ("Supertubos · Peniche, Portugal"), link to the
+ * spot detail page and fly the map to it.
+ */
+@Data
+@AllArgsConstructor
+public class SurfSpotSearchResultDTO {
+
+    private Long id;
+    private String name;
+    private String path;
+    private String region;
+    private String country;
+    private Double latitude;
+    private Double longitude;
+}
@@ -1,6 +1,7 @@
 package com.lovettj.surfspotsapi.dto;
 
 import com.lovettj.surfspotsapi.entity.SurfboardMedia;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +18,9 @@ public class SurfboardMediaDTO {
     private String surfboardId;
     private String originalUrl;
     private String thumbUrl;
+    /** Server-generated thumbnail key; signed into {@link #thumbUrl} and never serialized. */
+    @JsonIgnore
+    private String thumbObjectKey;
     private String mediaType;
     private LocalDateTime createdAt;
 
@@ -25,6 +29,7 @@ public class SurfboardMediaDTO {
         this.surfboardId = media.getSurfboard().getId();
         this.originalUrl = media.getOriginalUrl();
         this.thumbUrl = media.getThumbUrl();
+        this.thumbObjectKey = media.getThumbObjectKey();
         this.mediaType = media.getMediaType();
         this.createdAt = media.getCreatedAt();
     }
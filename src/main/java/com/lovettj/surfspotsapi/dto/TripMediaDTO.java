@@ -1,6 +1,7 @@
 package com.lovettj.surfspotsapi.dto;
 
 import com.lovettj.surfspotsapi.entity.TripMedia;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,10 @@ import java.time.LocalDateTime;
 public class TripMediaDTO {
     private String id;
     private String url;
+    private String thumbUrl;
+    /** Server-generated thumbnail key; signed into {@link #thumbUrl} and never serialized. */
+    @JsonIgnore
+    private String thumbObjectKey;
     private String mediaType;
     private String ownerId;
     private String ownerName;
@@ -23,6 +28,7 @@ public class TripMediaDTO {
     public TripMediaDTO(TripMedia tripMedia) {
         this.id = tripMedia.getId();
         this.url = tripMedia.getUrl();
+        this.thumbObjectKey = tripMedia.getThumbObjectKey();
         this.mediaType = tripMedia.getMediaType();
         this.ownerId = tripMedia.getOwner().getId();
         this.ownerName = tripMedia.getOwner().getName();
@@ -22,5 +22,6 @@ public class UserSurfSpotsDTO {
   private BeachBottomType mostSurfedBeachBottomType;
   private WaveDirection mostSurfedWaveDirection;
   private SkillLevel skillLevel;
+  private int watchListCount;
   private List<SurfedSpotDTO> surfedSpots;
 }
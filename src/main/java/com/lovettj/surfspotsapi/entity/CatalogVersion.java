@@ -0,0 +1,26 @@
+package com.lovettj.surfspotsapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single {@code catalog_version} row (see V48). Mapped so schemas generated from entities have the
+ * table; it is read and bumped through {@link com.lovettj.surfspotsapi.repository.CatalogVersionRepository}.
+ */
+@Entity
+@Table(name = "catalog_version")
+@Getter
+@NoArgsConstructor
+public class CatalogVersion {
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -2,12 +2,16 @@ package com.lovettj.surfspotsapi.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +28,7 @@ public class Continent extends SluggableEntity {
   @Column(length = 1000)
   private String description;
 
+  @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
   @OneToMany(mappedBy = "continent", cascade = CascadeType.ALL)
   @JsonManagedReference("continent-countries")
   private List<Country> countries;
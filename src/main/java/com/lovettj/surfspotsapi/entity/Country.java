@@ -9,9 +9,13 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,11 +39,13 @@ public class Country extends SluggableEntity {
     @JsonBackReference("continent-countries")
     private Continent continent;
     
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
     @OneToMany(mappedBy = "country", cascade = CascadeType.ALL)
     @JsonManagedReference("country-regions")
     private List<Region> regions;
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
     @OneToMany(mappedBy = "country", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonManagedReference("country-emergencyNumbers")
     private List<CountryEmergencyNumber> emergencyNumbers = new ArrayList<>();
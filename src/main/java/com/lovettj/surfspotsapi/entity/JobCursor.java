@@ -0,0 +1,32 @@
+package com.lovettj.surfspotsapi.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resume point of a batch job (see V49). Mapped so schemas generated from entities have the table; it is
+ * read and written through {@link com.lovettj.surfspotsapi.repository.JobCursorRepository}.
+ */
+@Entity
+@Table(name = "job_cursor")
+@Getter
+@NoArgsConstructor
+public class JobCursor {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
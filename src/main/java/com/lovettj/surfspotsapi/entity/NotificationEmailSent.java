@@ -18,6 +18,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * An email sent for a notification key, so jobs never send it twice. Flyway partitions the table by month of
+ * {@code sentAt} (V51), with the unique key enforced per month; schemas generated from entities get a plain
+ * table with the constraint below.
+ */
 @Entity
 @Table(
         name = "notification_email_sent",
@@ -8,9 +8,13 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,6 +40,7 @@ public class Region extends SluggableEntity {
   @JsonManagedReference("region-surfspots")
   private List<SurfSpot> surfSpots;
   
+  @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "geography")
   @OneToMany(mappedBy = "region", cascade = CascadeType.ALL)
   @JsonManagedReference("region-subregions")
   private List<SubRegion> subRegions;  
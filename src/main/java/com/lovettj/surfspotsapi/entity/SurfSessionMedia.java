@@ -37,6 +37,9 @@ public class SurfSessionMedia {
     @Column(name = "object_key", columnDefinition = "TEXT")
     private String objectKey;
 
+    @Column(name = "thumb_object_key", columnDefinition = "TEXT")
+    private String thumbObjectKey;
+
     @Column(name = "media_type", nullable = false, length = 50)
     private String mediaType;
 
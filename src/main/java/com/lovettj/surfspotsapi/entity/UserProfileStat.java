@@ -0,0 +1,55 @@
+package com.lovettj.surfspotsapi.entity;
+
+import java.io.Serializable;
+
+import com.lovettj.surfspotsapi.enums.ProfileStat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One profile counter of a user (see V50 and {@link ProfileStat}). Mapped so schemas generated from entities
+ * have the table; it is read and written through
+ * {@link com.lovettj.surfspotsapi.repository.UserProfileStatRepository}.
+ */
+@Entity
+@Table(name = "user_profile_stat")
+@IdClass(UserProfileStat.Key.class)
+@Getter
+@NoArgsConstructor
+public class UserProfileStat {
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private ProfileStat stat;
+
+    @Id
+    @Column(name = "stat_key", length = 64)
+    private String statKey;
+
+    @Column(nullable = false)
+    private Integer count;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String userId;
+        private ProfileStat stat;
+        private String statKey;
+    }
+}
@@ -0,0 +1,30 @@
+package com.lovettj.surfspotsapi.enums;
+
+/**
+ * Counters kept per user in {@code user_profile_stat}. Totals use an empty key; the other stats count per
+ * key (an id or enum name), so the number of keys is the distinct count and the largest count the most common.
+ */
+public enum ProfileStat {
+    /** Surfed spots (total). */
+    SURFED_SPOT,
+    /** Surfed spots per country id. */
+    SURFED_COUNTRY,
+    /** Surfed spots per continent id. */
+    SURFED_CONTINENT,
+    /** Surfed spots per {@link SurfSpotType}. */
+    SURFED_SPOT_TYPE,
+    /** Surfed spots per {@link BeachBottomType}. */
+    SURFED_BEACH_BOTTOM,
+    /** Surfed spots per {@link WaveDirection}. */
+    SURFED_WAVE_DIRECTION,
+    /** Surfed spots per {@link SkillLevel}. */
+    SURFED_SKILL_LEVEL,
+    /** Watch-list entries (total). */
+    WATCHED_SPOT,
+    /** Sessions, live ones included (total). */
+    SESSION,
+    /** Sessions per surf spot id. */
+    SESSION_SPOT,
+    /** Sessions per surfboard id. */
+    SESSION_BOARD
+}
@@ -0,0 +1,11 @@
+package com.lovettj.surfspotsapi.enums;
+
+/** Per-item result of a bulk session import. */
+public enum SessionImportOutcome {
+    /** Stored as a new session. */
+    CREATED,
+    /** Already imported for this user (earlier call, earlier in the same batch, or a concurrent import). */
+    DUPLICATE,
+    /** Rejected by validation; the item's message says why. */
+    INVALID
+}
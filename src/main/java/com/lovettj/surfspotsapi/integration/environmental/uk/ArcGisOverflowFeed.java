@@ -22,6 +22,10 @@ import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.enums.EnvironmentalAlertSeverity;
 import com.lovettj.surfspotsapi.enums.EnvironmentalAlertType;
 import com.lovettj.surfspotsapi.integration.environmental.GeoDistance;
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 
 /**
  * Shared ArcGIS overflow client for UK water-company layers. Not a Spring provider.
@@ -36,6 +40,8 @@ import com.lovettj.surfspotsapi.integration.environmental.GeoDistance;
  *       Operating = {@link EnvironmentalAlertSeverity#WARNING}; recent =
  *       {@link EnvironmentalAlertSeverity#CAUTION}.</li>
  * </ul>
+ *
+ * <p>Cache misses are timed as {@code environmental.feed.fetch} tagged with the company id.
  */
 final class ArcGisOverflowFeed {
 
@@ -52,19 +58,24 @@ final class ArcGisOverflowFeed {
     private final FieldNames fieldNames;
     private final double matchRadiusMetres;
     private final Duration feedCacheTtl;
+    private final MeterRegistry meterRegistry;
+    private final Tags feedTags;
     private final AtomicReference<CachedFeed> cache = new AtomicReference<>();
 
     ArcGisOverflowFeed(
             UkArcGisCompanyProperties config,
             RestClient restClient,
             double matchRadiusMetres,
-            Duration feedCacheTtl) {
+            Duration feedCacheTtl,
+            MeterRegistry meterRegistry) {
         this.config = config;
         this.restClient = restClient;
         this.welshWaterCompany = "welsh-water".equalsIgnoreCase(config.getFieldStyle());
         this.fieldNames = FieldNames.forStyle(config.getFieldStyle());
         this.matchRadiusMetres = matchRadiusMetres;
         this.feedCacheTtl = feedCacheTtl;
+        this.meterRegistry = meterRegistry;
+        this.feedTags = Tags.of("feed", String.valueOf(config.getId()));
     }
 
     String nationRegionSlug() {
@@ -112,11 +123,12 @@ final class ArcGisOverflowFeed {
         }
         String queryUrl = queryBuilder.encode().build().toUriString();
 
-        Map<String, Object> payload = restClient
-                .get()
-                .uri(queryUrl)
-                .retrieve()
-                .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+        Map<String, Object> payload = OutcomeTimer.record(meterRegistry, "environmental.feed.fetch", feedTags,
+                () -> restClient
+                        .get()
+                        .uri(queryUrl)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<Map<String, Object>>() {}));
 
         List<OutletStatus> outlets =
                 welshWaterCompany ? parseWelshWaterFeatures(payload) : parseNumericFeatures(payload);
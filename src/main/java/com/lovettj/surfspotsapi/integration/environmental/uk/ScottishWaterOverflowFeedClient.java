@@ -10,15 +10,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import com.lovettj.surfspotsapi.integration.environmental.uk.ScottishWaterFeedProperties;
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 
 /**
- * Cached client for Scottish Water near-real-time overflow feed.
+ * Cached client for Scottish Water near-real-time overflow feed. Cache misses are timed as
+ * {@code environmental.feed.fetch{feed=scottish-water}}.
  */
 @Component
+@Lazy
 @ConditionalOnProperty(name = "app.environmental-alerts.enabled", havingValue = "true")
 public class ScottishWaterOverflowFeedClient {
 
@@ -26,17 +33,20 @@ public class ScottishWaterOverflowFeedClient {
 
     static final int STATUS_OVERFLOWING = 13;
     static final int STATUS_RECENT_OVERFLOW = 14;
+    private static final Tags FEED_TAGS = Tags.of("feed", "scottish-water");
 
     private final RestClient restClient;
     private final UkOverflowProperties ukConfig;
     private final ScottishWaterFeedProperties config;
+    private final MeterRegistry meterRegistry;
     private final AtomicReference<CachedFeed> cache = new AtomicReference<>();
 
     public ScottishWaterOverflowFeedClient(
-            RestClient environmentalAlertRestClient, UkOverflowProperties properties) {
+            RestClient environmentalAlertRestClient, UkOverflowProperties properties, MeterRegistry meterRegistry) {
         this.restClient = environmentalAlertRestClient;
         this.ukConfig = properties;
         this.config = properties.getScottishWater();
+        this.meterRegistry = meterRegistry;
     }
 
     public List<OutletStatus> fetchActiveOrRecentOutlets() {
@@ -50,11 +60,12 @@ public class ScottishWaterOverflowFeedClient {
         }
 
         String apiUrl = config.getApiUrl();
-        Map<String, Object> payload = restClient
-                .get()
-                .uri(apiUrl)
-                .retrieve()
-                .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+        Map<String, Object> payload = OutcomeTimer.record(meterRegistry, "environmental.feed.fetch", FEED_TAGS,
+                () -> restClient
+                        .get()
+                        .uri(apiUrl)
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<Map<String, Object>>() {}));
 
         List<OutletStatus> outlets = parseOutlets(payload);
         cache.set(new CachedFeed(now, outlets));
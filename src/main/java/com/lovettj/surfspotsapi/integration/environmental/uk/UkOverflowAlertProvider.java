@@ -9,6 +9,7 @@ import java.util.Locale;
 import java.util.Set;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -25,12 +26,15 @@ import com.lovettj.surfspotsapi.integration.environmental.EnvironmentalAlertProv
 import com.lovettj.surfspotsapi.integration.environmental.GeoDistance;
 import com.lovettj.surfspotsapi.integration.environmental.uk.ScottishWaterOverflowFeedClient.OutletStatus;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Single UK environmental overflow provider. Company feed differences stay internal.
  * Country: united-kingdom. Feed routing: nation region slugs
  * (england / scotland / wales / northern-ireland).
  */
 @Component
+@Lazy
 @ConditionalOnProperty(name = "app.environmental-alerts.enabled", havingValue = "true")
 public class UkOverflowAlertProvider implements EnvironmentalAlertProvider {
 
@@ -45,7 +49,8 @@ public class UkOverflowAlertProvider implements EnvironmentalAlertProvider {
     public UkOverflowAlertProvider(
             UkOverflowProperties ukConfig,
             ScottishWaterOverflowFeedClient scottishFeed,
-            RestClient environmentalAlertRestClient) {
+            RestClient environmentalAlertRestClient,
+            MeterRegistry meterRegistry) {
         this.ukConfig = ukConfig;
         this.scottishFeed = scottishFeed;
         this.supportedCountrySlugs = toSlugSet(ukConfig.getCountrySlugs());
@@ -57,7 +62,8 @@ public class UkOverflowAlertProvider implements EnvironmentalAlertProvider {
                         company,
                         environmentalAlertRestClient,
                         ukConfig.getMatchRadiusMetres(),
-                        ukConfig.getFeedCacheTtl()));
+                        ukConfig.getFeedCacheTtl(),
+                        meterRegistry));
             }
         }
         this.arcGisFeeds = List.copyOf(feeds);
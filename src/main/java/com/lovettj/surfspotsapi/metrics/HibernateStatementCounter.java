@@ -0,0 +1,38 @@
+package com.lovettj.surfspotsapi.metrics;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registers itself as the session
+ * factory's statement inspector; {@link RequestSqlMetricsFilter} resets and reads it around each request.
+ * JdbcTemplate statements (seed loader, reference sync) bypass Hibernate and are not counted.
+ */
+@Component
+public class HibernateStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<int[]> statementCount = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        statementCount.get()[0]++;
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    public void reset() {
+        statementCount.get()[0] = 0;
+    }
+
+    public int count() {
+        return statementCount.get()[0];
+    }
+}
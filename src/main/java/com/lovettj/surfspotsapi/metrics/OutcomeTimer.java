@@ -0,0 +1,29 @@
+package com.lovettj.surfspotsapi.metrics;
+
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/** Times a unit of work and tags it {@code outcome=success|failure} (failure = it threw). */
+public final class OutcomeTimer {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private OutcomeTimer() {
+    }
+
+    public static <T> T record(MeterRegistry meterRegistry, String name, Tags tags, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = FAILURE;
+        try {
+            T result = work.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(Timer.builder(name).tags(tags).tag("outcome", outcome).register(meterRegistry));
+        }
+    }
+}
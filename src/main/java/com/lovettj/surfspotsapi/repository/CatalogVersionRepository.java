@@ -0,0 +1,36 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and bumps the single {@code catalog_version} row. The bump upserts, so a schema created without
+ * the V48 seed row still works.
+ */
+@Repository
+public class CatalogVersionRepository {
+
+    private static final String INCREMENT_SQL =
+            "INSERT INTO catalog_version (id, version) VALUES (1, 1) "
+                    + "ON CONFLICT (id) DO UPDATE SET version = catalog_version.version + 1 "
+                    + "RETURNING version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Current version, or 0 when the row has not been written yet. */
+    public long current() {
+        List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM catalog_version WHERE id = 1", Long.class);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    /** Increments in the caller's transaction (the row stays locked until it ends) and returns the new value. */
+    public long increment() {
+        return jdbcTemplate.queryForObject(INCREMENT_SQL, Long.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and moves {@code job_cursor} rows. Writing in the same transaction as a batch's changes makes a
+ * job resumable: after a crash it restarts from the last batch that committed.
+ */
+@Repository
+public class JobCursorRepository {
+
+    private static final String SAVE_SQL =
+            "INSERT INTO job_cursor (name, last_id, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP) "
+                    + "ON CONFLICT (name) DO UPDATE SET last_id = EXCLUDED.last_id, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobCursorRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Last id the job processed, or 0 when it has not run (or finished its last pass). */
+    public long lastId(String jobName) {
+        List<Long> lastIds = jdbcTemplate.queryForList(
+                "SELECT last_id FROM job_cursor WHERE name = ?", Long.class, jobName);
+        return lastIds.isEmpty() ? 0 : lastIds.get(0);
+    }
+
+    public void save(String jobName, long lastId) {
+        jdbcTemplate.update(SAVE_SQL, jobName, lastId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk dedupe probes and monthly partition upkeep for {@code notification_email_sent} (see V51). Claims are
+ * still written one at a time through {@link NotificationEmailSentRepository} once the email has gone out.
+ *
+ * <p>Partitions are named {@code notification_email_sent_YYYY_MM} and cover that UTC month of
+ * {@code sent_at}; each carries its own unique {@code (user_id, notification_key)} index, which serves the
+ * probes index-only.
+ */
+@Repository
+public class NotificationEmailSentJdbcRepository {
+
+    static final String TABLE = "notification_email_sent";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_(\\d{4})_(\\d{2})");
+
+    /** A notification key for a user: sent at most once. */
+    public record NotificationClaim(String userId, String notificationKey) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationEmailSentJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** The claims from {@code claims} that have not been sent yet, in one anti-join. */
+    public Set<NotificationClaim> findUnclaimed(Collection<NotificationClaim> claims) {
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        String[] userIds = claims.stream().map(NotificationClaim::userId).toArray(String[]::new);
+        String[] keys = claims.stream().map(NotificationClaim::notificationKey).toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.query(
+                """
+                SELECT claim.user_id, claim.notification_key
+                FROM unnest(?::varchar[], ?::varchar[]) AS claim(user_id, notification_key)
+                WHERE NOT EXISTS (
+                    SELECT 1 FROM notification_email_sent sent
+                    WHERE sent.user_id = claim.user_id AND sent.notification_key = claim.notification_key)
+                """,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", userIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", keys));
+                },
+                (rs, rowNum) -> new NotificationClaim(rs.getString(1), rs.getString(2))));
+    }
+
+    /** False for schemas generated from entities, where the table is a plain one. */
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, TABLE));
+    }
+
+    /** The months that have a partition; partitions not named by month are left out. */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(
+                        """
+                        SELECT child.relname FROM pg_inherits
+                        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                        WHERE pg_inherits.inhparent = to_regclass(?)
+                        """,
+                        String.class, TABLE)
+                .stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+                .sorted()
+                .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s-01 00:00:00+00') TO ('%s-01 00:00:00+00')",
+                partition, TABLE, month, month.plusMonths(1)));
+        jdbcTemplate.execute(String.format(
+                "CREATE UNIQUE INDEX IF NOT EXISTS %s_user_key ON %s (user_id, notification_key)", partition, partition));
+    }
+
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("%s_%04d_%02d", TABLE, month.getYear(), month.getMonthValue());
+    }
+}
@@ -4,8 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
 
+/** Claims written once an email has gone out; probes are in {@link NotificationEmailSentJdbcRepository}. */
 public interface NotificationEmailSentRepository
         extends JpaRepository<NotificationEmailSent, Long> {
-
-    boolean existsByUserIdAndNotificationKey(String userId, String notificationKey);
 }
@@ -0,0 +1,513 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.CountryEmergencyNumber;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SluggableEntity;
+import com.lovettj.surfspotsapi.entity.SubRegion;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+
+/**
+ * JDBC batch writer for reference-data seeding. Ids are reserved from each table's serial sequence
+ * up front so parents and children can be written as plain batches (IDENTITY ids stop Hibernate from
+ * batching). Rows passed in must already carry their reserved id and parent stubs with ids.
+ */
+@Repository
+public class SeedJdbcRepository {
+
+    /** {@code created_by} of the surf spots in the seed file. */
+    public static final String SEED_CREATED_BY = "SYSTEM";
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)";
+
+    /** Seed-owned surf_spot columns, in {@link #bindSurfSpotColumns} order. */
+    private static final String SURF_SPOT_COLUMNS =
+            "name, description, slug, beach_bottom_type, swell_direction, wind_direction, type, skill_level, "
+                    + "tide, wave_direction, crowd_level, min_surf_height, max_surf_height, latitude, longitude, "
+                    + "iana_zone_id, region_id, sub_region_id, status, food_nearby, accommodation_nearby, parking, "
+                    + "boat_required, is_wavepool, wavepool_url, is_river_wave, is_wsl_tour_stop, swell_season_id";
+    private static final int SURF_SPOT_COLUMN_COUNT = SURF_SPOT_COLUMNS.split(", ").length;
+
+    /** Element collection tables owned by surf_spot as (table, owner column). */
+    private static final String[][] SPOT_COLLECTION_TABLES = {
+        {"surfspot_food_options", "surfspot_id"},
+        {"surfspot_accommodation_options", "surfspot_id"},
+        {"surfspot_facilities", "surfspot_id"},
+        {"surfspot_hazards", "surfspot_id"},
+        {"surf_spot_forecasts", "surf_spot_id"},
+        {"surf_spot_webcams", "surf_spot_id"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeedJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Reserves {@code count} ids from the serial sequence backing {@code table.id}. */
+    public List<Long> reserveIds(String table, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, table, count);
+    }
+
+    public void insertSwellSeasons(List<SwellSeason> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO swell_season (id, name, start_month, end_month) VALUES (?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getStartMonth());
+                    ps.setString(4, row.getEndMonth());
+                });
+    }
+
+    public void insertContinents(List<Continent> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO continent (id, name, description, slug) VALUES (?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getDescription());
+                    ps.setString(4, SluggableEntity.slugFromName(row.getName()));
+                });
+    }
+
+    public void insertCountries(List<Country> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO country (id, name, description, slug, continent_id) VALUES (?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getDescription());
+                    ps.setString(4, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 5, row.getContinent() != null ? row.getContinent().getId() : null);
+                });
+    }
+
+    public void insertEmergencyNumbers(List<CountryEmergencyNumber> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO country_emergency_number (id, country_id, label, number) VALUES (?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setLong(2, row.getCountry().getId());
+                    ps.setString(3, row.getLabel());
+                    ps.setString(4, row.getNumber());
+                });
+    }
+
+    public void insertRegions(List<Region> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO region (id, name, description, slug, country_id, bounding_box) VALUES (?, ?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getDescription());
+                    ps.setString(4, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 5, row.getCountry() != null ? row.getCountry().getId() : null);
+                    if (row.getBoundingBox() != null) {
+                        ps.setArray(6, ps.getConnection().createArrayOf("float8", row.getBoundingBox()));
+                    } else {
+                        ps.setNull(6, Types.ARRAY);
+                    }
+                });
+    }
+
+    public void insertSubRegions(List<SubRegion> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO sub_region (id, name, description, slug, region_id) VALUES (?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getDescription());
+                    ps.setString(4, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 5, row.getRegion() != null ? row.getRegion().getId() : null);
+                });
+    }
+
+    /** Inserts surf spots plus their element collections (options, hazards, forecasts, webcams). */
+    public void insertSurfSpots(List<SurfSpot> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO surf_spot (id, " + SURF_SPOT_COLUMNS + ", created_by, created_at, modified_at) "
+                        + "VALUES (?, " + placeholders(SURF_SPOT_COLUMN_COUNT) + ", ?, ?, ?)",
+                rows, rows.size(), (ps, spot) -> {
+                    ps.setLong(1, spot.getId());
+                    int index = bindSurfSpotColumns(ps, 2, spot);
+                    ps.setString(index++, spot.getCreatedBy());
+                    ps.setTimestamp(index++, now);
+                    ps.setTimestamp(index, now);
+                });
+        insertSpotCollections(rows);
+    }
+
+    public void updateSwellSeasons(List<SwellSeason> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE swell_season SET name = ?, start_month = ?, end_month = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getName());
+                    ps.setString(2, row.getStartMonth());
+                    ps.setString(3, row.getEndMonth());
+                    ps.setLong(4, row.getId());
+                });
+    }
+
+    public void updateContinents(List<Continent> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE continent SET name = ?, description = ?, slug = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getName());
+                    ps.setString(2, row.getDescription());
+                    ps.setString(3, SluggableEntity.slugFromName(row.getName()));
+                    ps.setLong(4, row.getId());
+                });
+    }
+
+    public void updateCountries(List<Country> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE country SET name = ?, description = ?, slug = ?, continent_id = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getName());
+                    ps.setString(2, row.getDescription());
+                    ps.setString(3, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 4, row.getContinent() != null ? row.getContinent().getId() : null);
+                    ps.setLong(5, row.getId());
+                });
+    }
+
+    public void deleteEmergencyNumbersForCountries(Collection<Long> countryIds) {
+        batchById("DELETE FROM country_emergency_number WHERE country_id = ?", countryIds);
+    }
+
+    public void updateRegions(List<Region> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE region SET name = ?, description = ?, slug = ?, country_id = ?, bounding_box = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getName());
+                    ps.setString(2, row.getDescription());
+                    ps.setString(3, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 4, row.getCountry() != null ? row.getCountry().getId() : null);
+                    if (row.getBoundingBox() != null) {
+                        ps.setArray(5, ps.getConnection().createArrayOf("float8", row.getBoundingBox()));
+                    } else {
+                        ps.setNull(5, Types.ARRAY);
+                    }
+                    ps.setLong(6, row.getId());
+                });
+    }
+
+    public void updateSubRegions(List<SubRegion> rows) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE sub_region SET name = ?, description = ?, slug = ?, region_id = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, row.getName());
+                    ps.setString(2, row.getDescription());
+                    ps.setString(3, SluggableEntity.slugFromName(row.getName()));
+                    setLongOrNull(ps, 4, row.getRegion() != null ? row.getRegion().getId() : null);
+                    ps.setLong(5, row.getId());
+                });
+    }
+
+    /**
+     * Rewrites seed-owned surf spot columns and replaces their element collections. {@code created_by}
+     * and {@code created_at} are left as first written.
+     */
+    public void updateSurfSpots(List<SurfSpot> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String assignments = String.join(" = ?, ", SURF_SPOT_COLUMNS.split(", ")) + " = ?";
+        jdbcTemplate.batchUpdate(
+                "UPDATE surf_spot SET " + assignments + ", modified_at = ? WHERE id = ?",
+                rows, rows.size(), (ps, spot) -> {
+                    int index = bindSurfSpotColumns(ps, 1, spot);
+                    ps.setTimestamp(index++, now);
+                    ps.setLong(index, spot.getId());
+                });
+        List<Long> ids = rows.stream().map(SurfSpot::getId).toList();
+        for (String[] collection : SPOT_COLLECTION_TABLES) {
+            batchById("DELETE FROM " + collection[0] + " WHERE " + collection[1] + " = ?", ids);
+        }
+        insertSpotCollections(rows);
+    }
+
+    /** Deletes rows by id. Callers delete children before parents; FK cascades handle owned tables. */
+    public void deleteByIds(String table, Collection<Long> ids) {
+        if ("swell_season".equals(table)) {
+            batchById("UPDATE surf_spot SET swell_season_id = NULL WHERE swell_season_id = ?", ids);
+        }
+        batchById("DELETE FROM " + table + " WHERE id = ?", ids);
+    }
+
+    /**
+     * Returns the subset of {@code surfSpotIds} that users have logged, saved, watched, noted or added to
+     * a trip. Deleting those would cascade away user data, so reference sync leaves them in place.
+     */
+    public Set<Long> findSurfSpotIdsWithUserData(Collection<Long> surfSpotIds) {
+        if (surfSpotIds.isEmpty()) {
+            return Set.of();
+        }
+        Long[] ids = surfSpotIds.toArray(new Long[0]);
+        List<Long> referenced = jdbcTemplate.query(
+                """
+                SELECT surf_spot_id FROM surf_session WHERE surf_spot_id = ANY (?)
+                UNION SELECT surf_spot_id FROM user_surf_spot WHERE surf_spot_id = ANY (?)
+                UNION SELECT surf_spot_id FROM watch_list_surf_spot WHERE surf_spot_id = ANY (?)
+                UNION SELECT surf_spot_id FROM surf_spot_note WHERE surf_spot_id = ANY (?)
+                UNION SELECT surf_spot_id FROM trip_spot WHERE surf_spot_id = ANY (?)
+                """,
+                ps -> {
+                    Array array = ps.getConnection().createArrayOf("bigint", ids);
+                    for (int index = 1; index <= 5; index++) {
+                        ps.setArray(index, array);
+                    }
+                },
+                (rs, rowNum) -> rs.getLong(1));
+        return new HashSet<>(referenced);
+    }
+
+    /**
+     * Returns the subset of {@code ids} (rows of {@code table}) that a surf spot outside
+     * {@code excludedSurfSpotIds} still points at, directly or through a sub-region or region of the row.
+     * {@code surf_spot} has no ON DELETE on its region and sub-region keys, so deleting one of these would
+     * fail; swell seasons are unlinked on delete instead and are never reported.
+     */
+    public Set<Long> findIdsReferencedBySurfSpots(
+            String table, Collection<Long> ids, Collection<Long> excludedSurfSpotIds) {
+        String owner = switch (table) {
+            case "sub_region" -> "spot.sub_region_id";
+            case "region" -> "spot.region_id";
+            case "country" -> "region.country_id";
+            case "continent" -> "country.continent_id";
+            default -> null;
+        };
+        if (owner == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        Long[] idArray = ids.toArray(new Long[0]);
+        Long[] excluded = excludedSurfSpotIds.toArray(new Long[0]);
+        // A spot's region may also be reached through its sub-region, and the sub-region cascades with it.
+        List<Long> referenced = jdbcTemplate.query(
+                """
+                WITH spot AS (
+                    SELECT s.id, s.sub_region_id, s.region_id FROM surf_spot s WHERE s.id <> ALL (?)
+                    UNION ALL
+                    SELECT s.id, s.sub_region_id, sr.region_id FROM surf_spot s
+                    JOIN sub_region sr ON sr.id = s.sub_region_id WHERE s.id <> ALL (?)
+                )
+                SELECT DISTINCT %s FROM spot
+                LEFT JOIN region ON region.id = spot.region_id
+                LEFT JOIN country ON country.id = region.country_id
+                WHERE %s = ANY (?)
+                """.formatted(owner, owner),
+                ps -> {
+                    Array excludedArray = ps.getConnection().createArrayOf("bigint", excluded);
+                    ps.setArray(1, excludedArray);
+                    ps.setArray(2, excludedArray);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", idArray));
+                },
+                (rs, rowNum) -> rs.getLong(1));
+        return new HashSet<>(referenced);
+    }
+
+    /**
+     * Stored location of reference rows by id: {@code [latitude, longitude]} for surf spots and the bounding
+     * box for regions. Rows without one are left out.
+     */
+    public Map<Long, Double[]> findLocations(String table, Collection<Long> ids) {
+        String location = switch (table) {
+            case "surf_spot" -> "ARRAY[latitude, longitude]";
+            case "region" -> "bounding_box";
+            default -> throw new IllegalArgumentException("No location for " + table);
+        };
+        Map<Long, Double[]> locations = new HashMap<>();
+        if (ids.isEmpty()) {
+            return locations;
+        }
+        Long[] idArray = ids.toArray(new Long[0]);
+        jdbcTemplate.query(
+                "SELECT id, " + location + " AS location FROM " + table + " WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", idArray)),
+                rs -> {
+                    Array array = rs.getArray("location");
+                    if (array != null) {
+                        locations.put(rs.getLong("id"), (Double[]) array.getArray());
+                    }
+                });
+        return locations;
+    }
+
+    /**
+     * Existing rows of a reference table as (id, parent id, name), used to adopt rows written before
+     * content hashes were tracked. Surf spots users added through the API are flagged so they are never
+     * adopted; only surf spots have a creator, and seed spots are created by {@link #SEED_CREATED_BY}.
+     */
+    public List<ReferenceRow> findReferenceRows(String table, String parentColumn) {
+        String parentSelect = parentColumn != null ? parentColumn : "CAST(NULL AS BIGINT)";
+        String userCreatedSelect = "surf_spot".equals(table)
+                ? "(created_by IS NOT NULL AND created_by <> '" + SEED_CREATED_BY + "')"
+                : "FALSE";
+        return jdbcTemplate.query(
+                "SELECT id, " + parentSelect + " AS parent_id, name, " + userCreatedSelect + " AS user_created FROM "
+                        + table,
+                (rs, rowNum) -> new ReferenceRow(
+                        rs.getLong("id"),
+                        (Long) rs.getObject("parent_id", Long.class),
+                        rs.getString("name"),
+                        rs.getBoolean("user_created")));
+    }
+
+    public Map<String, StoredHash> findHashes(String entityType) {
+        Map<String, StoredHash> hashes = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT natural_key, entity_id, content_hash FROM reference_data_hash WHERE entity_type = ?",
+                rs -> {
+                    hashes.put(rs.getString("natural_key"),
+                            new StoredHash(rs.getLong("entity_id"), rs.getString("content_hash")));
+                },
+                entityType);
+        return hashes;
+    }
+
+    public void saveHashes(String entityType, List<HashRow> rows) {
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO reference_data_hash (entity_type, natural_key, entity_id, content_hash, synced_at)
+                VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+                ON CONFLICT (entity_type, natural_key) DO UPDATE
+                SET entity_id = EXCLUDED.entity_id, content_hash = EXCLUDED.content_hash, synced_at = EXCLUDED.synced_at
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setString(1, entityType);
+                    ps.setString(2, row.naturalKey());
+                    ps.setLong(3, row.entityId());
+                    ps.setString(4, row.contentHash());
+                });
+    }
+
+    public void deleteHashes(String entityType, Collection<String> naturalKeys) {
+        List<Object[]> args = naturalKeys.stream().map(key -> new Object[] {entityType, key}).toList();
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "DELETE FROM reference_data_hash WHERE entity_type = ? AND natural_key = ?", args);
+        }
+    }
+
+    public record ReferenceRow(long id, Long parentId, String name, boolean userCreated) {}
+
+    public record StoredHash(long entityId, String contentHash) {}
+
+    public record HashRow(String naturalKey, long entityId, String contentHash) {}
+
+    private int bindSurfSpotColumns(PreparedStatement ps, int startIndex, SurfSpot spot) throws SQLException {
+        int index = startIndex;
+        ps.setString(index++, spot.getName());
+        ps.setString(index++, spot.getDescription());
+        ps.setString(index++, SluggableEntity.slugFromName(spot.getName()));
+        ps.setString(index++, enumName(spot.getBeachBottomType()));
+        ps.setString(index++, spot.getSwellDirection());
+        ps.setString(index++, spot.getWindDirection());
+        ps.setString(index++, enumName(spot.getType()));
+        ps.setString(index++, enumName(spot.getSkillLevel()));
+        ps.setString(index++, enumName(spot.getTide()));
+        ps.setString(index++, enumName(spot.getWaveDirection()));
+        ps.setString(index++, enumName(spot.getCrowdLevel()));
+        ps.setObject(index++, spot.getMinSurfHeight(), Types.DOUBLE);
+        ps.setObject(index++, spot.getMaxSurfHeight(), Types.DOUBLE);
+        ps.setObject(index++, spot.getLatitude(), Types.DOUBLE);
+        ps.setObject(index++, spot.getLongitude(), Types.DOUBLE);
+        ps.setString(index++, spot.getIanaZoneId());
+        setLongOrNull(ps, index++, spot.getRegion() != null ? spot.getRegion().getId() : null);
+        setLongOrNull(ps, index++, spot.getSubRegion() != null ? spot.getSubRegion().getId() : null);
+        ps.setString(index++, enumName(spot.getStatus()));
+        ps.setObject(index++, spot.getFoodNearby(), Types.BOOLEAN);
+        ps.setObject(index++, spot.getAccommodationNearby(), Types.BOOLEAN);
+        ps.setString(index++, enumName(spot.getParking()));
+        ps.setObject(index++, spot.getBoatRequired(), Types.BOOLEAN);
+        ps.setObject(index++, spot.getIsWavepool(), Types.BOOLEAN);
+        ps.setString(index++, spot.getWavepoolUrl());
+        ps.setObject(index++, spot.getIsRiverWave(), Types.BOOLEAN);
+        ps.setBoolean(index++, Boolean.TRUE.equals(spot.getIsWslTourStop()));
+        setLongOrNull(ps, index++, spot.getSwellSeason() != null ? spot.getSwellSeason().getId() : null);
+        return index;
+    }
+
+    private void insertSpotCollections(List<SurfSpot> rows) {
+        insertSpotValues(rows, "surfspot_food_options", "surfspot_id", "food_option", SurfSpot::getFoodOptions);
+        insertSpotValues(rows, "surfspot_accommodation_options", "surfspot_id", "accommodation_option",
+                SurfSpot::getAccommodationOptions);
+        insertSpotValues(rows, "surfspot_facilities", "surfspot_id", "facility", SurfSpot::getFacilities);
+        insertSpotValues(rows, "surfspot_hazards", "surfspot_id", "hazard", SurfSpot::getHazards);
+        insertSpotValues(rows, "surf_spot_forecasts", "surf_spot_id", "forecasts", SurfSpot::getForecasts);
+        insertSpotValues(rows, "surf_spot_webcams", "surf_spot_id", "webcams", SurfSpot::getWebcams);
+    }
+
+    private void batchById(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, ids.stream().map(id -> new Object[] {id}).toList());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private void insertSpotValues(
+            List<SurfSpot> spots,
+            String table,
+            String ownerColumn,
+            String valueColumn,
+            Function<SurfSpot, List<?>> values) {
+        List<Object[]> pairs = new ArrayList<>();
+        for (SurfSpot spot : spots) {
+            List<?> spotValues = values.apply(spot);
+            if (spotValues == null) {
+                continue;
+            }
+            for (Object value : spotValues) {
+                if (value != null) {
+                    pairs.add(new Object[] {spot.getId(), value instanceof Enum<?> e ? e.name() : value.toString()});
+                }
+            }
+        }
+        if (pairs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (" + ownerColumn + ", " + valueColumn + ") VALUES (?, ?)", pairs);
+    }
+
+    private static String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static void setLongOrNull(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -2,13 +2,21 @@ package com.lovettj.surfspotsapi.repository;
 
 import com.lovettj.surfspotsapi.entity.SubRegion;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface SubRegionRepository extends JpaRepository<SubRegion, Long> {
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "geography-query")
+  })
   Optional<SubRegion> findBySlug(String slug);
 
   List<SubRegion> findByRegionIdOrderByNameAsc(Long regionId);
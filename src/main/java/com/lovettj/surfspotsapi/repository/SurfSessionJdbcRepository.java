@@ -0,0 +1,249 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+
+/**
+ * Set-based surf_session writes: bulk imports and the spot auto-assign job. For imports, ids are reserved
+ * from the surf_session sequence up front (IDENTITY ids stop Hibernate from batching), so rows passed in
+ * must already carry their id and user, spot and surfboard stubs with ids.
+ *
+ * <p>Inserts use an untargeted {@code ON CONFLICT DO NOTHING}: a row that loses a race with a concurrent
+ * import of the same external session ({@code uq_surf_session_user_provider_external}) is skipped instead
+ * of failing the batch. Batch update counts are not usable for telling which rows were skipped (with
+ * {@code reWriteBatchedInserts} the driver reports {@code SUCCESS_NO_INFO}), so the written ids are read back.
+ */
+@Repository
+public class SurfSessionJdbcRepository {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('surf_session', 'id')) FROM generate_series(1, ?)";
+
+    /** Provider-local identity of a synced session, unique per user. */
+    public record ExternalSessionKey(ExternalSessionProvider provider, String externalSessionId) {}
+
+    /** A completed GPS session with no spot, as read by the auto-assign job. */
+    public record UnassignedGpsSession(long id, double startLatitude, double startLongitude) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SurfSessionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> reserveSessionIds(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, count);
+    }
+
+    /** Which of {@code keys} the user already has a session for, in one query. */
+    public Set<ExternalSessionKey> findExistingExternalSessions(String userId, Collection<ExternalSessionKey> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        String[] providers = keys.stream().map(key -> key.provider().name()).toArray(String[]::new);
+        String[] externalIds = keys.stream().map(ExternalSessionKey::externalSessionId).toArray(String[]::new);
+        List<ExternalSessionKey> existing = jdbcTemplate.query(
+                """
+                SELECT external_session_provider, external_session_id FROM surf_session
+                WHERE user_id = ?
+                  AND (external_session_provider, external_session_id) IN (
+                      SELECT provider, external_id FROM unnest(?::varchar[], ?::varchar[]) AS key(provider, external_id))
+                """,
+                ps -> {
+                    ps.setString(1, userId);
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", providers));
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", externalIds));
+                },
+                (rs, rowNum) -> new ExternalSessionKey(
+                        ExternalSessionProvider.valueOf(rs.getString(1)), rs.getString(2)));
+        return new HashSet<>(existing);
+    }
+
+    /** Inserts the sessions, skipping conflicting rows, and returns the ids that were written. */
+    public Set<Long> insertSessionsIgnoringConflicts(List<SurfSession> rows) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO surf_session (id, user_id, surf_spot_id, surfboard_id, status, skill_level, session_date,
+                    duration_minutes, session_start_instant, session_end_instant, external_session_provider,
+                    external_session_id, wave_size, crowd_level, wave_face, session_rating, swell_direction,
+                    wind_direction, tide, session_notes, share_location_with_emergency_contact, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT DO NOTHING
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.getId());
+                    ps.setString(2, row.getUser().getId());
+                    ps.setLong(3, row.getSurfSpot().getId());
+                    ps.setString(4, row.getSurfboard() != null ? row.getSurfboard().getId() : null);
+                    ps.setString(5, row.getStatus().name());
+                    setEnumOrNull(ps, 6, row.getSkillLevel());
+                    ps.setObject(7, row.getSessionDate());
+                    setIntOrNull(ps, 8, row.getDurationMinutes());
+                    setInstantOrNull(ps, 9, row.getSessionStartInstant());
+                    setInstantOrNull(ps, 10, row.getSessionEndInstant());
+                    setEnumOrNull(ps, 11, row.getExternalSessionProvider());
+                    ps.setString(12, row.getExternalSessionId());
+                    setEnumOrNull(ps, 13, row.getWaveSize());
+                    setEnumOrNull(ps, 14, row.getCrowdLevel());
+                    setEnumOrNull(ps, 15, row.getWaveFace());
+                    setIntOrNull(ps, 16, row.getSessionRating());
+                    ps.setString(17, row.getSwellDirection());
+                    ps.setString(18, row.getWindDirection());
+                    setEnumOrNull(ps, 19, row.getTide());
+                    ps.setString(20, row.getSessionNotes());
+                    ps.setBoolean(21, row.isShareLocationWithEmergencyContact());
+                    ps.setTimestamp(22, now);
+                });
+        Long[] ids = rows.stream().map(SurfSession::getId).toArray(Long[]::new);
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT id FROM surf_session WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    /** Adds the spots to the user's surfed spots and returns the ones that were not there already. */
+    public Set<Long> insertUserSurfSpotsIgnoringConflicts(String userId, Collection<Long> surfSpotIds) {
+        if (surfSpotIds.isEmpty()) {
+            return Set.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long[] ids = surfSpotIds.toArray(Long[]::new);
+        return new HashSet<>(jdbcTemplate.query(
+                """
+                INSERT INTO user_surf_spot (user_id, surf_spot_id, is_favourite, created_at, modified_at)
+                SELECT ?, surf_spot_id, FALSE, ?, ? FROM unnest(?::bigint[]) AS spot(surf_spot_id)
+                ON CONFLICT (user_id, surf_spot_id) DO NOTHING
+                RETURNING surf_spot_id
+                """,
+                ps -> {
+                    ps.setString(1, userId);
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                    ps.setArray(4, ps.getConnection().createArrayOf("bigint", ids));
+                },
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
+    /**
+     * The next {@code limit} completed, spotless GPS sessions after {@code afterId}, in id order (walks
+     * {@code idx_surf_session_unassigned_gps}).
+     */
+    public List<UnassignedGpsSession> findUnassignedGpsSessionsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                """
+                SELECT id, start_latitude, start_longitude FROM surf_session
+                WHERE id > ?
+                  AND surf_spot_id IS NULL
+                  AND start_latitude IS NOT NULL
+                  AND start_longitude IS NOT NULL
+                  AND status <> 'IN_PROGRESS'
+                ORDER BY id
+                LIMIT ?
+                """,
+                (rs, rowNum) -> new UnassignedGpsSession(rs.getLong(1), rs.getDouble(2), rs.getDouble(3)),
+                afterId,
+                limit);
+    }
+
+    /**
+     * Sets each session's spot, adds the spot to its owner's surfed spots and moves their profile counters,
+     * in one statement. Sessions linked or started again since they were read are skipped; returns how many
+     * were assigned.
+     */
+    public int assignSurfSpots(List<Long> sessionIds, List<Long> surfSpotIds) {
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long[] sessions = sessionIds.toArray(Long[]::new);
+        Long[] spots = surfSpotIds.toArray(Long[]::new);
+        Integer assigned = jdbcTemplate.query(
+                """
+                WITH assigned AS (
+                    UPDATE surf_session session
+                    SET surf_spot_id = assignment.surf_spot_id
+                    FROM unnest(?::bigint[], ?::bigint[]) AS assignment(session_id, surf_spot_id)
+                    WHERE session.id = assignment.session_id
+                      AND session.surf_spot_id IS NULL
+                      AND session.status <> 'IN_PROGRESS'
+                    RETURNING session.user_id, session.surf_spot_id
+                ), surfed AS (
+                    INSERT INTO user_surf_spot (user_id, surf_spot_id, is_favourite, created_at, modified_at)
+                    SELECT DISTINCT user_id, surf_spot_id, FALSE, ?::timestamp, ?::timestamp FROM assigned
+                    ON CONFLICT (user_id, surf_spot_id) DO NOTHING
+                    RETURNING user_id, surf_spot_id
+                ), counted AS (
+                """
+                        + UserProfileStatRepository.UPSERT_PREFIX
+                        + """
+                        SELECT user_id, 'SESSION_SPOT', CAST(surf_spot_id AS VARCHAR), COUNT(*)
+                        FROM assigned
+                        GROUP BY user_id, surf_spot_id
+                        UNION ALL
+                        SELECT surfed.user_id, spot_stat.stat, spot_stat.stat_key, COUNT(*)
+                        FROM surfed
+                        JOIN surf_spot spot ON spot.id = surfed.surf_spot_id
+                        """
+                        + UserProfileStatRepository.SURFED_SPOT_STAT_KEYS
+                        + """
+                        WHERE spot_stat.stat_key IS NOT NULL
+                        GROUP BY surfed.user_id, spot_stat.stat, spot_stat.stat_key
+                        """
+                        + UserProfileStatRepository.UPSERT_SUFFIX
+                        + """
+
+                )
+                SELECT COUNT(*) FROM assigned
+                """,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", sessions));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", spots));
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                },
+                rs -> rs.next() ? rs.getInt(1) : 0);
+        return assigned != null ? assigned : 0;
+    }
+
+    private static void setEnumOrNull(PreparedStatement ps, int index, Enum<?> value) throws SQLException {
+        ps.setString(index, value != null ? value.name() : null);
+    }
+
+    private static void setIntOrNull(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static void setInstantOrNull(PreparedStatement ps, int index, Instant value) throws SQLException {
+        if (value != null) {
+            ps.setObject(index, value.atOffset(ZoneOffset.UTC));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP_WITH_TIMEZONE);
+        }
+    }
+}
@@ -2,9 +2,18 @@ package com.lovettj.surfspotsapi.repository;
 
 import com.lovettj.surfspotsapi.entity.SurfSessionMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface SurfSessionMediaRepository extends JpaRepository<SurfSessionMedia, String> {
     List<SurfSessionMedia> findBySurfSessionId(Long surfSessionId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SurfSessionMedia m SET m.thumbObjectKey = :thumbObjectKey WHERE m.id = :id")
+    int updateThumbObjectKey(@Param("id") String id, @Param("thumbObjectKey") String thumbObjectKey);
 }
@@ -8,6 +8,7 @@ import com.lovettj.surfspotsapi.enums.SessionStatus;
 import com.lovettj.surfspotsapi.enums.SkillLevel;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -32,17 +33,40 @@ public interface SurfSessionRepository extends JpaRepository<SurfSession, Long>
     List<SurfSession> findBySurfSpotId(Long surfSpotId);
     List<SurfSession> findBySurfSpotIdAndSkillLevel(Long surfSpotId, SkillLevel skillLevel);
 
+    @Query("SELECT session.user.id FROM SurfSession session WHERE session.id = :sessionId")
+    Optional<String> findUserIdById(@Param("sessionId") Long sessionId);
+
+    /**
+     * Links the user's completed, spotless GPS sessions that started within {@code radiusKm} of the anchor
+     * (Haversine, as in {@link com.lovettj.surfspotsapi.util.CoordinateDistanceUtil#distanceKm}), plus
+     * {@code sessionId} when it is one of those sessions wherever it started. One statement however many
+     * sessions match; returns how many were linked.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(
-            """
-            SELECT session FROM SurfSession session
-            WHERE session.user.id = :userId
-              AND session.surfSpot IS NULL
-              AND session.status <> :inProgressStatus
-              AND session.startLatitude IS NOT NULL
-              AND session.startLongitude IS NOT NULL
-            """)
-    List<SurfSession> findUnassignedWithStartLocationByUserIdExcludingInProgress(
-            @Param("userId") String userId, @Param("inProgressStatus") SessionStatus inProgressStatus);
+            value = """
+            UPDATE surf_session
+            SET surf_spot_id = :surfSpotId
+            WHERE user_id = :userId
+              AND surf_spot_id IS NULL
+              AND status <> 'IN_PROGRESS'
+              AND start_latitude IS NOT NULL
+              AND start_longitude IS NOT NULL
+              AND (id = CAST(:sessionId AS BIGINT)
+                   OR 2 * 6371 * ASIN(SQRT(
+                          POWER(SIN(RADIANS(start_latitude - :anchorLatitude) / 2), 2)
+                          + COS(RADIANS(:anchorLatitude)) * COS(RADIANS(start_latitude))
+                            * POWER(SIN(RADIANS(start_longitude - :anchorLongitude) / 2), 2)))
+                      <= :radiusKm)
+            """,
+            nativeQuery = true)
+    int linkUnassignedSessionsNear(
+            @Param("userId") String userId,
+            @Param("surfSpotId") Long surfSpotId,
+            @Param("anchorLatitude") double anchorLatitude,
+            @Param("anchorLongitude") double anchorLongitude,
+            @Param("radiusKm") double radiusKm,
+            @Param("sessionId") Long sessionId);
 
     @Query(
             """
@@ -64,21 +88,6 @@ public interface SurfSessionRepository extends JpaRepository<SurfSession, Long>
     Optional<SurfSession> findFirstByUserIdAndStatusOrderBySessionStartInstantDescCreatedAtDesc(
             @Param("userId") String userId, @Param("status") SessionStatus status);
 
-    @Query("SELECT COUNT(s) FROM SurfSession s WHERE s.user.id = :userId")
-    long countAllByUserId(@Param("userId") String userId);
-
-    @Query("SELECT COUNT(DISTINCT s.surfSpot.id) FROM SurfSession s WHERE s.user.id = :userId")
-    long countDistinctSurfSpotsByUserId(@Param("userId") String userId);
-
-    @Query(
-            """
-            SELECT COUNT(DISTINCT s.surfboard.id)
-            FROM SurfSession s
-            WHERE s.user.id = :userId
-              AND s.surfboard IS NOT NULL
-            """)
-    long countDistinctBoardsByUserId(@Param("userId") String userId);
-
     @Query(
             """
             SELECT DISTINCT s FROM SurfSession s
@@ -114,4 +123,14 @@ public interface SurfSessionRepository extends JpaRepository<SurfSession, Long>
             WHERE session.id = :sessionId
             """)
     Optional<SurfSession> findByIdWithUserForUpdate(@Param("sessionId") Long sessionId);
+
+    /** How many sessions were logged at each spot (spots without sessions are left out), for search ranking. */
+    @Query(
+            """
+            SELECT session.surfSpot.id AS surfSpotId, COUNT(session) AS count
+            FROM SurfSession session
+            WHERE session.surfSpot IS NOT NULL
+            GROUP BY session.surfSpot.id
+            """)
+    List<SurfSpotCount> countBySurfSpot();
 }
@@ -0,0 +1,7 @@
+package com.lovettj.surfspotsapi.repository;
+
+/** A per-spot row count (watch-list entries, sessions) from a grouped projection query. */
+public interface SurfSpotCount {
+  Long getSurfSpotId();
+  Long getCount();
+}
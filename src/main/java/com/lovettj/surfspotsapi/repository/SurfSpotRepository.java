@@ -1,8 +1,12 @@
 package com.lovettj.surfspotsapi.repository;
 
 import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,4 +18,81 @@ public interface SurfSpotRepository extends JpaRepository<SurfSpot, Long>, SurfS
   List<SurfSpot> findByRegionId(Long regionId);
   boolean existsByRegionIdAndSlug(Long regionId, String slug);
   boolean existsByRegionIdAndSlugAndIdNot(Long regionId, String slug, Long id);
-}
\ No newline at end of file
+
+  /** Spots with region, sub-region and their countries fetched in the same query (country-based provider routing). */
+  @Query("""
+      SELECT s FROM SurfSpot s
+      LEFT JOIN FETCH s.region r
+      LEFT JOIN FETCH r.country
+      LEFT JOIN FETCH s.subRegion sr
+      LEFT JOIN FETCH sr.region srr
+      LEFT JOIN FETCH srr.country
+      WHERE s.id IN :ids
+      """)
+  List<SurfSpot> findAllWithCountryByIdIn(@Param("ids") Collection<Long> ids);
+
+  /** Id, name and coordinates only (no entity hydration), for the in-memory nearest-spot index. */
+  @Query("""
+      SELECT s.id AS id, s.name AS name, s.latitude AS latitude, s.longitude AS longitude
+      FROM SurfSpot s
+      WHERE s.status = :status
+        AND s.latitude IS NOT NULL
+        AND s.longitude IS NOT NULL
+      """)
+  List<SpotCoordinates> findCoordinatesByStatus(@Param("status") SurfSpotStatus status);
+
+  /** A user's own spots in the given statuses (private, pending), as coordinates for map clustering. */
+  @Query("""
+      SELECT s.id AS id, s.name AS name, s.latitude AS latitude, s.longitude AS longitude
+      FROM SurfSpot s
+      WHERE s.createdBy = :userId
+        AND s.status IN :statuses
+        AND s.latitude IS NOT NULL
+        AND s.longitude IS NOT NULL
+      """)
+  List<SpotCoordinates> findCoordinatesByCreatedByAndStatusIn(
+      @Param("userId") String userId, @Param("statuses") Collection<SurfSpotStatus> statuses);
+
+  /**
+   * Name, description, geography names and slugs (for the detail path) of spots in a status, without
+   * entity hydration, for the in-memory search index.
+   */
+  @Query("""
+      SELECT s.id AS id, s.name AS name, s.slug AS slug, s.description AS description,
+             s.latitude AS latitude, s.longitude AS longitude,
+             r.name AS regionName, r.slug AS regionSlug,
+             sr.name AS subRegionName, sr.slug AS subRegionSlug,
+             c.name AS countryName, c.slug AS countrySlug,
+             ct.slug AS continentSlug
+      FROM SurfSpot s
+      LEFT JOIN s.region r
+      LEFT JOIN s.subRegion sr
+      LEFT JOIN r.country c
+      LEFT JOIN c.continent ct
+      WHERE s.status = :status
+      """)
+  List<SpotSearchRow> findSearchRowsByStatus(@Param("status") SurfSpotStatus status);
+
+  interface SpotCoordinates {
+    Long getId();
+    String getName();
+    Double getLatitude();
+    Double getLongitude();
+  }
+
+  interface SpotSearchRow {
+    Long getId();
+    String getName();
+    String getSlug();
+    String getDescription();
+    Double getLatitude();
+    Double getLongitude();
+    String getRegionName();
+    String getRegionSlug();
+    String getSubRegionName();
+    String getSubRegionSlug();
+    String getCountryName();
+    String getCountrySlug();
+    String getContinentSlug();
+  }
+}
@@ -7,6 +7,7 @@ import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
 import com.lovettj.surfspotsapi.entity.Region;
 import com.lovettj.surfspotsapi.entity.SubRegion;
 import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.requests.BoundingBox;
 
 public interface SurfSpotRepositoryCustom {
     /**
@@ -16,4 +17,5 @@ public interface SurfSpotRepositoryCustom {
     List<SurfSpot> findByRegionWithFilters(Region region, SurfSpotFilterDTO filters);
     List<SurfSpot> findBySubRegionWithFilters(SubRegion subRegion, SurfSpotFilterDTO filters);
     List<SurfSpot> findWithinBoundsWithFilters(SurfSpotBoundsFilterDTO filters);
+    List<SurfSpot> findWithinBoundsWithFilters(BoundingBox boundingBox, SurfSpotFilterDTO filters);
 }
@@ -11,7 +11,6 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
@@ -25,6 +24,8 @@ import com.lovettj.surfspotsapi.enums.SkillLevel;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
 import com.lovettj.surfspotsapi.enums.Tide;
 import com.lovettj.surfspotsapi.enums.WaveDirection;
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+import com.lovettj.surfspotsapi.util.EnumFilterUtils;
 
 @Repository
 public class SurfSpotRepositoryImpl implements SurfSpotRepositoryCustom {
@@ -65,11 +66,22 @@ public class SurfSpotRepositoryImpl implements SurfSpotRepositoryCustom {
 
     @Override
     public List<SurfSpot> findWithinBoundsWithFilters(SurfSpotBoundsFilterDTO filters) {
-        Double minLat = filters.getMinLatitude();
-        Double maxLat = filters.getMaxLatitude();
-        Double minLong = filters.getMinLongitude();
-        Double maxLong = filters.getMaxLongitude();
+        return findWithinBounds(
+                filters.getMinLatitude(), filters.getMaxLatitude(),
+                filters.getMinLongitude(), filters.getMaxLongitude(),
+                filters);
+    }
+
+    @Override
+    public List<SurfSpot> findWithinBoundsWithFilters(BoundingBox boundingBox, SurfSpotFilterDTO filters) {
+        return findWithinBounds(
+                boundingBox.getMinLatitude(), boundingBox.getMaxLatitude(),
+                boundingBox.getMinLongitude(), boundingBox.getMaxLongitude(),
+                filters);
+    }
 
+    private List<SurfSpot> findWithinBounds(
+            Double minLat, Double maxLat, Double minLong, Double maxLong, SurfSpotFilterDTO filters) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<SurfSpot> cq = cb.createQuery(SurfSpot.class);
         Root<SurfSpot> root = cq.from(SurfSpot.class);
@@ -294,38 +306,8 @@ public class SurfSpotRepositoryImpl implements SurfSpotRepositoryCustom {
         }
     }
 
-    /**
-     * Expands enum filter to include all enum values that contain the filter value as a substring.
-     * For example, if filtering by "Intermediate", it will also include "Beginner - Intermediate" and "Intermediate - Advanced".
-     * 
-     * @param filterValues The selected filter values
-     * @param allEnumValues All possible enum values
-     * @return List of expanded enum values that match any of the filter values
-     */
-    private <T extends Enum<T>> List<T> expandEnumFilter(List<T> filterValues, T[] allEnumValues) {
-        return filterValues.stream()
-            .flatMap(filterValue -> {
-                String filterDisplayName = getEnumDisplayName(filterValue);
-                return java.util.Arrays.stream(allEnumValues)
-                    .filter(enumValue -> {
-                        String enumDisplayName = getEnumDisplayName(enumValue);
-                        return enumDisplayName.toLowerCase().contains(filterDisplayName.toLowerCase());
-                    });
-            })
-            .distinct()
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * Gets the display name from an enum value.
-     * Uses reflection to call getDisplayName() if available, otherwise uses name().
-     */
-    private <T extends Enum<T>> String getEnumDisplayName(T enumValue) {
-        try {
-            java.lang.reflect.Method getDisplayName = enumValue.getClass().getMethod("getDisplayName");
-            return (String) getDisplayName.invoke(enumValue);
-        } catch (Exception e) {
-            return enumValue.name();
-        }
+    /** See {@link EnumFilterUtils#expand}. */
+    <T extends Enum<T>> List<T> expandEnumFilter(List<T> filterValues, T[] allEnumValues) {
+        return EnumFilterUtils.expand(filterValues, allEnumValues);
     }
 }
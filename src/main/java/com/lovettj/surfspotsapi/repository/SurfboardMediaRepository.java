@@ -2,13 +2,20 @@ package com.lovettj.surfspotsapi.repository;
 
 import com.lovettj.surfspotsapi.entity.SurfboardMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface SurfboardMediaRepository extends JpaRepository<SurfboardMedia, String> {
     @Query("SELECT sm FROM SurfboardMedia sm WHERE sm.surfboard.id = :surfboardId ORDER BY sm.createdAt ASC")
     List<SurfboardMedia> findBySurfboardId(@Param("surfboardId") String surfboardId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SurfboardMedia sm SET sm.thumbObjectKey = :thumbObjectKey WHERE sm.id = :id")
+    int updateThumbObjectKey(@Param("id") String id, @Param("thumbObjectKey") String thumbObjectKey);
 }
 
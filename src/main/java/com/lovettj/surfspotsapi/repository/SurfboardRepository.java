@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,7 @@ public interface SurfboardRepository extends JpaRepository<Surfboard, String> {
 
     @Query("SELECT s FROM Surfboard s WHERE s.id = :id AND s.user.id = :userId")
     Optional<Surfboard> findByIdAndUserId(@Param("id") String id, @Param("userId") String userId);
+
+    @Query("SELECT s FROM Surfboard s WHERE s.user.id = :userId AND s.id IN :ids")
+    List<Surfboard> findByUserIdAndIdIn(@Param("userId") String userId, @Param("ids") Collection<String> ids);
 }
@@ -5,6 +5,7 @@ import com.lovettj.surfspotsapi.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,7 @@ import java.util.Optional;
 public interface TripInvitationRepository extends JpaRepository<TripInvitation, String> {
     List<TripInvitation> findByEmail(String email);
     List<TripInvitation> findByTripId(String tripId);
+    List<TripInvitation> findByTripIdInAndStatus(Collection<String> tripIds, String status);
     Optional<TripInvitation> findByToken(String token);
     Optional<TripInvitation> findByTripIdAndEmail(String tripId, String email);
     List<TripInvitation> findByInvitedBy(User invitedBy);
@@ -2,8 +2,10 @@ package com.lovettj.surfspotsapi.repository;
 
 import com.lovettj.surfspotsapi.entity.TripMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,4 +15,9 @@ public interface TripMediaRepository extends JpaRepository<TripMedia, String> {
 
     @Query("SELECT COUNT(tm) FROM TripMedia tm WHERE tm.trip.id = :tripId AND tm.owner.id = :userId")
     long countByTripIdAndOwnerId(@Param("tripId") String tripId, @Param("userId") String userId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TripMedia tm SET tm.thumbObjectKey = :thumbObjectKey WHERE tm.id = :id")
+    int updateThumbObjectKey(@Param("id") String id, @Param("thumbObjectKey") String thumbObjectKey);
 }
\ No newline at end of file
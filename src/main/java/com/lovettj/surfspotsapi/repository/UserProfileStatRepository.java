@@ -0,0 +1,236 @@
+package com.lovettj.surfspotsapi.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.lovettj.surfspotsapi.enums.ProfileStat;
+
+/**
+ * Reads and moves {@code user_profile_stat} counters. Writers call this in the transaction that changes the
+ * underlying rows, so the counters commit (or roll back) with them.
+ *
+ * <p>Surfed-spot keys come from the spot's row ({@link #SURFED_SPOT_STAT_KEYS}), so the same SQL serves
+ * deltas, rebuilds and the session auto-assign job. Counters that reach zero are deleted.
+ */
+@Repository
+public class UserProfileStatRepository {
+
+    /** A change to one counter. */
+    public record StatDelta(ProfileStat stat, String statKey, int change) {}
+
+    /** A counter as read back. */
+    public record StatCount(ProfileStat stat, String statKey, int count) {}
+
+    /**
+     * Joins, onto {@code spot} (a {@code surf_spot} row), one {@code spot_stat(stat, stat_key)} row per
+     * surfed-spot counter it feeds. Callers filter {@code spot_stat.stat_key IS NOT NULL}: spots without a
+     * type, country and so on feed only the counters they have.
+     */
+    static final String SURFED_SPOT_STAT_KEYS = """
+            LEFT JOIN region spot_region ON spot_region.id = spot.region_id
+            LEFT JOIN country spot_country ON spot_country.id = spot_region.country_id
+            CROSS JOIN LATERAL (VALUES
+                ('SURFED_SPOT', ''),
+                ('SURFED_COUNTRY', CAST(spot_country.id AS VARCHAR)),
+                ('SURFED_CONTINENT', CAST(spot_country.continent_id AS VARCHAR)),
+                ('SURFED_SPOT_TYPE', spot.type),
+                ('SURFED_BEACH_BOTTOM', spot.beach_bottom_type),
+                ('SURFED_WAVE_DIRECTION', spot.wave_direction),
+                ('SURFED_SKILL_LEVEL', spot.skill_level)
+            ) AS spot_stat(stat, stat_key)
+            """;
+
+    static final String UPSERT_PREFIX = "INSERT INTO user_profile_stat (user_id, stat, stat_key, count)\n";
+
+    static final String UPSERT_SUFFIX =
+            "\nON CONFLICT (user_id, stat, stat_key) DO UPDATE SET count = user_profile_stat.count + EXCLUDED.count";
+
+    private static final String SESSION_STAT_KEYS = """
+            CROSS JOIN LATERAL (VALUES
+                ('SESSION', ''),
+                ('SESSION_SPOT', CAST(session.surf_spot_id AS VARCHAR)),
+                ('SESSION_BOARD', session.surfboard_id)
+            ) AS session_stat(stat, stat_key)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserProfileStatRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<StatCount> findByUserId(String userId) {
+        return jdbcTemplate.query(
+                "SELECT stat, stat_key, count FROM user_profile_stat WHERE user_id = ?",
+                (rs, rowNum) -> new StatCount(ProfileStat.valueOf(rs.getString(1)), rs.getString(2), rs.getInt(3)),
+                userId);
+    }
+
+    /** Applies the deltas in one statement; each (stat, key) may appear only once. */
+    public void applyDeltas(String userId, List<StatDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String[] stats = deltas.stream().map(delta -> delta.stat().name()).toArray(String[]::new);
+        String[] keys = deltas.stream().map(StatDelta::statKey).toArray(String[]::new);
+        Integer[] changes = deltas.stream().map(StatDelta::change).toArray(Integer[]::new);
+        jdbcTemplate.update(
+                UPSERT_PREFIX
+                        + "SELECT ?, delta.stat, delta.stat_key, delta.change "
+                        + "FROM unnest(?::varchar[], ?::varchar[], ?::int[]) AS delta(stat, stat_key, change)"
+                        + UPSERT_SUFFIX,
+                ps -> {
+                    ps.setString(1, userId);
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", stats));
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", keys));
+                    ps.setArray(4, ps.getConnection().createArrayOf("integer", changes));
+                });
+        if (deltas.stream().anyMatch(delta -> delta.change() < 0)) {
+            deleteEmptyCounters(userId);
+        }
+    }
+
+    /** Adds ({@code sign} 1) or takes away ({@code sign} -1) the surfed-spot counters of the spots. */
+    public void applySurfedSpots(String userId, Collection<Long> surfSpotIds, int sign) {
+        if (surfSpotIds.isEmpty()) {
+            return;
+        }
+        Long[] ids = surfSpotIds.toArray(Long[]::new);
+        jdbcTemplate.update(
+                UPSERT_PREFIX
+                        + "SELECT ?, spot_stat.stat, spot_stat.stat_key, ? * COUNT(*) FROM surf_spot spot\n"
+                        + SURFED_SPOT_STAT_KEYS
+                        + "WHERE spot.id = ANY (?) AND spot_stat.stat_key IS NOT NULL\n"
+                        + "GROUP BY spot_stat.stat, spot_stat.stat_key"
+                        + UPSERT_SUFFIX,
+                ps -> {
+                    ps.setString(1, userId);
+                    ps.setInt(2, sign);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", ids));
+                });
+        if (sign < 0) {
+            deleteEmptyCounters(userId);
+        }
+    }
+
+    /** Applies the deltas to everyone who surfed the spot, in one statement; each (stat, key) only once. */
+    public void applyDeltasToSurfers(long surfSpotId, List<StatDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        String[] stats = deltas.stream().map(delta -> delta.stat().name()).toArray(String[]::new);
+        String[] keys = deltas.stream().map(StatDelta::statKey).toArray(String[]::new);
+        Integer[] changes = deltas.stream().map(StatDelta::change).toArray(Integer[]::new);
+        jdbcTemplate.update(
+                UPSERT_PREFIX
+                        + "SELECT surfed.user_id, delta.stat, delta.stat_key, delta.change FROM user_surf_spot surfed "
+                        + "CROSS JOIN unnest(?::varchar[], ?::varchar[], ?::int[]) AS delta(stat, stat_key, change) "
+                        + "WHERE surfed.surf_spot_id = ?"
+                        + UPSERT_SUFFIX,
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("varchar", stats));
+                    ps.setArray(2, ps.getConnection().createArrayOf("varchar", keys));
+                    ps.setArray(3, ps.getConnection().createArrayOf("integer", changes));
+                    ps.setLong(4, surfSpotId);
+                });
+        if (deltas.stream().anyMatch(delta -> delta.change() < 0)) {
+            jdbcTemplate.update(
+                    """
+                    DELETE FROM user_profile_stat
+                    WHERE count <= 0 AND user_id IN (SELECT user_id FROM user_surf_spot WHERE surf_spot_id = ?)
+                    """,
+                    surfSpotId);
+        }
+    }
+
+    public void deleteCounter(String userId, ProfileStat stat, String statKey) {
+        jdbcTemplate.update(
+                "DELETE FROM user_profile_stat WHERE user_id = ? AND stat = ? AND stat_key = ?",
+                userId, stat.name(), statKey);
+    }
+
+    /** Users with a counter fed by the spot: they surfed it or logged a session there. */
+    public List<String> findUserIdsCountingSurfSpot(long surfSpotId) {
+        return jdbcTemplate.queryForList(
+                """
+                SELECT user_id FROM user_surf_spot WHERE surf_spot_id = ?
+                UNION
+                SELECT user_id FROM surf_session WHERE surf_spot_id = ?
+                """,
+                String.class, surfSpotId, surfSpotId);
+    }
+
+    /** Up to {@code limit} user ids after {@code afterUserId}, in id order, for rebuilding in batches. */
+    public List<String> findUserIdsAfter(String afterUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?", String.class, afterUserId, limit);
+    }
+
+    /** Recomputes every counter of the users from surfed spots, the watch list and sessions. */
+    public void rebuild(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String[] ids = userIds.toArray(String[]::new);
+        jdbcTemplate.update(
+                "DELETE FROM user_profile_stat WHERE user_id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", ids)));
+        jdbcTemplate.update(
+                UPSERT_PREFIX
+                        + """
+                        SELECT surfed.user_id, spot_stat.stat, spot_stat.stat_key, COUNT(*)
+                        FROM user_surf_spot surfed
+                        JOIN surf_spot spot ON spot.id = surfed.surf_spot_id
+                        """
+                        + SURFED_SPOT_STAT_KEYS
+                        + """
+                        WHERE surfed.user_id = ANY (?) AND spot_stat.stat_key IS NOT NULL
+                        GROUP BY surfed.user_id, spot_stat.stat, spot_stat.stat_key
+                        UNION ALL
+                        SELECT user_id, 'WATCHED_SPOT', '', COUNT(*)
+                        FROM watch_list_surf_spot
+                        WHERE user_id = ANY (?)
+                        GROUP BY user_id
+                        UNION ALL
+                        SELECT session.user_id, session_stat.stat, session_stat.stat_key, COUNT(*)
+                        FROM surf_session session
+                        """
+                        + SESSION_STAT_KEYS
+                        + """
+                        WHERE session.user_id = ANY (?) AND session_stat.stat_key IS NOT NULL
+                        GROUP BY session.user_id, session_stat.stat, session_stat.stat_key
+                        """,
+                ps -> {
+                    for (int index = 1; index <= 3; index++) {
+                        ps.setArray(index, ps.getConnection().createArrayOf("varchar", ids));
+                    }
+                });
+    }
+
+    /**
+     * Recomputes the surfed-spot counters of every user in one pass, for catalogue changes that can move
+     * many spots between countries or attribute values at once.
+     */
+    public void rebuildSurfedSpotCounters() {
+        jdbcTemplate.update("DELETE FROM user_profile_stat WHERE stat LIKE 'SURFED\\_%'");
+        jdbcTemplate.update(
+                UPSERT_PREFIX
+                        + """
+                        SELECT surfed.user_id, spot_stat.stat, spot_stat.stat_key, COUNT(*)
+                        FROM user_surf_spot surfed
+                        JOIN surf_spot spot ON spot.id = surfed.surf_spot_id
+                        """
+                        + SURFED_SPOT_STAT_KEYS
+                        + """
+                        WHERE spot_stat.stat_key IS NOT NULL
+                        GROUP BY surfed.user_id, spot_stat.stat, spot_stat.stat_key
+                        """);
+    }
+
+    private void deleteEmptyCounters(String userId) {
+        jdbcTemplate.update("DELETE FROM user_profile_stat WHERE user_id = ? AND count <= 0", userId);
+    }
+}
@@ -1,9 +1,7 @@
 package com.lovettj.surfspotsapi.repository;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,15 +14,17 @@ public interface WatchListRepository extends JpaRepository<WatchListSurfSpot, St
 
   Optional<WatchListSurfSpot> findByUserIdAndSurfSpotId(String userId, Long surfSpotId);
 
-  @Query("""
-          SELECT watchList.surfSpot.id
-          FROM WatchListSurfSpot watchList
-          WHERE watchList.user.id = :userId
-            AND watchList.surfSpot.id IN :spotIds
-          """)
-  Set<Long> findSurfSpotIdsByUserIdAndSurfSpotIdIn(
-          @Param("userId") String userId, @Param("spotIds") Collection<Long> spotIds);
+  @Query("SELECT watchList.surfSpot.id FROM WatchListSurfSpot watchList WHERE watchList.user.id = :userId")
+  List<Long> findSurfSpotIdsByUserId(@Param("userId") String userId);
 
   @Query("SELECT DISTINCT watchList.surfSpot.id FROM WatchListSurfSpot watchList")
   List<Long> findDistinctWatchedSurfSpotIds();
-}
\ No newline at end of file
+
+  /** How many users watch each spot (spots nobody watches are left out), for search ranking. */
+  @Query("""
+          SELECT watchList.surfSpot.id AS surfSpotId, COUNT(watchList) AS count
+          FROM WatchListSurfSpot watchList
+          GROUP BY watchList.surfSpot.id
+          """)
+  List<SurfSpotCount> countBySurfSpot();
+}
@@ -0,0 +1,15 @@
+package com.lovettj.surfspotsapi.requests;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Batch of synced sessions from one wearable or partner backfill. Items are validated one by one so a bad
+ * item is reported in the result instead of rejecting the whole batch; each must carry
+ * {@link SurfSessionRequest#getExternalSessionProvider()} and {@link SurfSessionRequest#getExternalSessionId()}.
+ */
+@Data
+public class SurfSessionImportRequest {
+    private List<SurfSessionRequest> sessions;
+}
@@ -72,6 +72,14 @@ public final class ApiErrors {
     public static final String SURF_SESSION_ALREADY_SYNCED =
             "This session was already imported from that integration for this external id.";
 
+    /** Bulk session import: the batch is empty or larger than one call accepts. */
+    public static final String SURF_SESSION_IMPORT_BATCH_SIZE_INVALID =
+            "Send between 1 and 500 sessions per import.";
+
+    /** Bulk session import: every item is a synced session, so it needs the provider and its session id. */
+    public static final String SURF_SESSION_IMPORT_EXTERNAL_ID_REQUIRED =
+            "Imported sessions need both externalSessionProvider and externalSessionId.";
+
     /** Session summary endpoint requires a userId query parameter. */
     public static final String SESSION_SUMMARY_USER_ID_REQUIRED =
             "The userId query parameter is required.";
@@ -103,6 +111,21 @@ public final class ApiErrors {
     public static final String COORDINATE_LONGITUDE_OUT_OF_RANGE =
             "Longitude must be between -180 and 180";
 
+    /** Map clustering: bounds are missing or inverted. */
+    public static final String MAP_BOUNDS_INVALID = "Map bounds are missing or invalid";
+
+    /** Map clustering: zoom outside the range map clients use. */
+    public static final String MAP_ZOOM_OUT_OF_RANGE = "Zoom must be between 0 and 22";
+
+    /** Map tiles: zoom outside 0–22, or x/y outside the tile grid at that zoom. */
+    public static final String MAP_TILE_OUT_OF_RANGE = "Tile coordinates are out of range";
+
+    /** Spot search: query longer than the search box allows. */
+    public static final String SEARCH_QUERY_TOO_LONG = "Search query must be at most 100 characters";
+
+    /** Spot search: result limit outside 1–25. */
+    public static final String SEARCH_LIMIT_OUT_OF_RANGE = "Search limit must be between 1 and 25";
+
     /** Link-to-spot: surf spot id is required. */
     public static final String LINK_SESSIONS_SURF_SPOT_ID_REQUIRED = "Surf spot is required.";
 
@@ -0,0 +1,80 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lovettj.surfspotsapi.repository.CatalogVersionRepository;
+
+/**
+ * In-memory copy of {@code catalog_version}, the counter behind the HTTP ETags on reference and spot
+ * endpoints (see {@link com.lovettj.surfspotsapi.config.HttpCacheFilter}). Reading it never touches the
+ * database after the first load, so a conditional request is answered without a query.
+ *
+ * <p>Writers call {@link #bump()} inside their transaction; this instance sees the new value once it
+ * commits. Bumps made by other instances or the event CLI are picked up by the periodic refresh.
+ * The value only moves forward.
+ */
+@Service
+public class CatalogVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersionService.class);
+    public static final long UNKNOWN = -1;
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final AtomicLong version = new AtomicLong(UNKNOWN);
+
+    public CatalogVersionService(CatalogVersionRepository catalogVersionRepository) {
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    /** Current catalog version, or {@link #UNKNOWN} while it cannot be read. */
+    public long current() {
+        long known = version.get();
+        if (known != UNKNOWN) {
+            return known;
+        }
+        refresh();
+        return version.get();
+    }
+
+    /**
+     * Increments the stored version in the caller's transaction and publishes it here after commit
+     * (immediately when no transaction is active). A rollback undoes the increment.
+     */
+    public void bump() {
+        long bumped = catalogVersionRepository.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            advanceTo(bumped);
+                        }
+                    });
+        } else {
+            advanceTo(bumped);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.http-cache.version-refresh-ms:30000}",
+            fixedDelayString = "${app.http-cache.version-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            advanceTo(catalogVersionRepository.current());
+        } catch (DataAccessException exception) {
+            logger.warn("Could not read catalog version; responses are sent without ETags until it can be.", exception);
+        }
+    }
+
+    private void advanceTo(long candidate) {
+        version.accumulateAndGet(candidate, Math::max);
+    }
+}
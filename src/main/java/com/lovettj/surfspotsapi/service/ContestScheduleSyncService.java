@@ -32,10 +32,18 @@ public class ContestScheduleSyncService {
 
     private final SurfEventRepository surfEventRepository;
     private final SurfSpotRepository surfSpotRepository;
-
-    public ContestScheduleSyncService(SurfEventRepository surfEventRepository, SurfSpotRepository surfSpotRepository) {
+    private final CatalogVersionService catalogVersionService;
+    private final SurfSpotListingCache surfSpotListingCache;
+
+    public ContestScheduleSyncService(
+            SurfEventRepository surfEventRepository,
+            SurfSpotRepository surfSpotRepository,
+            CatalogVersionService catalogVersionService,
+            SurfSpotListingCache surfSpotListingCache) {
         this.surfEventRepository = surfEventRepository;
         this.surfSpotRepository = surfSpotRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.surfSpotListingCache = surfSpotListingCache;
     }
 
     /**
@@ -102,6 +110,10 @@ public class ContestScheduleSyncService {
             }
         }
 
+        // Spot responses carry the "on tour this season" flag derived from these events.
+        surfSpotListingCache.evictAllAfterCommit();
+        catalogVersionService.bump();
+
         ContestSyncResult result = new ContestSyncResult(schedule.getYear(), createdCount, updatedCount, autoLinkedCount);
         logger.info(
                 "Contest schedule sync complete for year {}: {} created, {} updated, {} auto-linked",
@@ -21,10 +21,18 @@ public class ContestVenueLinkService {
 
     private final SurfEventRepository surfEventRepository;
     private final SurfSpotRepository surfSpotRepository;
-
-    public ContestVenueLinkService(SurfEventRepository surfEventRepository, SurfSpotRepository surfSpotRepository) {
+    private final CatalogVersionService catalogVersionService;
+    private final SurfSpotListingCache surfSpotListingCache;
+
+    public ContestVenueLinkService(
+            SurfEventRepository surfEventRepository,
+            SurfSpotRepository surfSpotRepository,
+            CatalogVersionService catalogVersionService,
+            SurfSpotListingCache surfSpotListingCache) {
         this.surfEventRepository = surfEventRepository;
         this.surfSpotRepository = surfSpotRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.surfSpotListingCache = surfSpotListingCache;
     }
 
     @Transactional
@@ -59,6 +67,9 @@ public class ContestVenueLinkService {
 
         surfSpot.setIsWslTourStop(true);
         surfSpotRepository.save(surfSpot);
+        // Relinked events move the "on tour this season" flag between spots, possibly in other regions.
+        surfSpotListingCache.evictAllAfterCommit();
+        catalogVersionService.bump();
 
         logger.info(
                 "Linked venue {} to surf spot {} ({} events updated)",
@@ -4,11 +4,15 @@ import com.lovettj.surfspotsapi.email.EmailLayoutVariables;
 import com.lovettj.surfspotsapi.email.TransactionalEmailTemplate;
 
 import com.lovettj.surfspotsapi.config.AppProperties;
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.stereotype.Service;
@@ -32,15 +36,17 @@ public class EmailService {
     private final String appBaseUrl;
     private final String mailFrom;
     private final String resolvedEmailLogoUrl;
+    private final MeterRegistry meterRegistry;
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
     public EmailService(
-            JavaMailSender mailSender,
+            @Lazy JavaMailSender mailSender,
             TemplateEngine templateEngine,
             @Value("${app.mail.enabled:true}") boolean emailEnabled,
             AppProperties appProperties,
             @Value("${app.mail.from:}") String mailFrom,
-            @Value("${app.email.logo-url:}") String emailLogoUrlOverride) {
+            @Value("${app.email.logo-url:}") String emailLogoUrlOverride,
+            MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.templateEngine = templateEngine;
         this.emailEnabled = emailEnabled;
@@ -48,9 +54,12 @@ public class EmailService {
         this.mailFrom = mailFrom == null ? "" : mailFrom.trim();
         this.resolvedEmailLogoUrl =
                 EmailLayoutVariables.resolveLogoImageUrl(emailLogoUrlOverride, this.appBaseUrl);
+        this.meterRegistry = meterRegistry;
     }
 
     /**
+     * Sends are timed as {@code email.send} tagged by template and outcome (disabled mail is not recorded).
+     *
      * @return true if the message was sent, or mail is disabled (dry-run logged);
      *         false if building/sending failed
      */
@@ -62,6 +71,8 @@ public class EmailService {
             return true;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OutcomeTimer.FAILURE;
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -75,6 +86,7 @@ public class EmailService {
             helper.setText(generateHtmlContent(templateName, mergedVariables), true);
 
             mailSender.send(message);
+            outcome = OutcomeTimer.SUCCESS;
             logger.info("Email sent to {}", to);
             return true;
         } catch (MessagingException e) {
@@ -83,6 +95,12 @@ public class EmailService {
         } catch (MailException e) {
             logger.warn("Failed to send email to {}: {}. This is non-critical and the operation will continue.", to, e.getMessage());
             return false;
+        } finally {
+            sample.stop(Timer.builder("email.send")
+                    .description("SMTP send latency, including template rendering")
+                    .tag("template", templateName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
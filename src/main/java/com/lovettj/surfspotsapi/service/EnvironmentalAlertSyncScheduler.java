@@ -6,6 +6,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
 @Component
 @ConditionalOnProperty(
         name = "app.environmental-alerts.enabled",
@@ -15,17 +20,22 @@ public class EnvironmentalAlertSyncScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(EnvironmentalAlertSyncScheduler.class);
 
+    private static final Tags JOB_TAGS = Tags.of("job", "environmental-alert-sync");
+
     private final EnvironmentalAlertSyncService environmentalAlertSyncService;
+    private final MeterRegistry meterRegistry;
 
-    public EnvironmentalAlertSyncScheduler(EnvironmentalAlertSyncService environmentalAlertSyncService) {
+    public EnvironmentalAlertSyncScheduler(
+            EnvironmentalAlertSyncService environmentalAlertSyncService, MeterRegistry meterRegistry) {
         this.environmentalAlertSyncService = environmentalAlertSyncService;
+        this.meterRegistry = meterRegistry;
     }
 
     @Scheduled(cron = "${app.environmental-alerts.sync-cron:0 */30 * * * *}")
     public void syncEnvironmentalAlerts() {
         try {
-            EnvironmentalAlertSyncService.SyncResult result =
-                    environmentalAlertSyncService.syncWatchedSpots();
+            EnvironmentalAlertSyncService.SyncResult result = OutcomeTimer.record(
+                    meterRegistry, "scheduled.job", JOB_TAGS, environmentalAlertSyncService::syncWatchedSpots);
             if (result.alertsCreated() > 0 || result.alertsUpdated() > 0 || result.expiredCount() > 0) {
                 logger.info(
                         "Environmental alert sync created={} updated={} expired={}",
@@ -3,9 +3,12 @@ package com.lovettj.surfspotsapi.service;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -28,15 +31,36 @@ public class EnvironmentalAlertSyncService {
     private final WatchListRepository watchListRepository;
     private final SurfSpotRepository surfSpotRepository;
     private final EnvironmentalAlertRepository environmentalAlertRepository;
-    private final List<EnvironmentalAlertProvider> providers;
+    // Resolved per sync so the (lazy) providers and their HTTP clients are not built at startup.
+    private final Supplier<List<EnvironmentalAlertProvider>> providers;
     private final TransactionTemplate transactionTemplate;
 
+    @Autowired
     public EnvironmentalAlertSyncService(
+            WatchListRepository watchListRepository,
+            SurfSpotRepository surfSpotRepository,
+            EnvironmentalAlertRepository environmentalAlertRepository,
+            ObjectProvider<EnvironmentalAlertProvider> providers,
+            PlatformTransactionManager transactionManager) {
+        this(watchListRepository, surfSpotRepository, environmentalAlertRepository,
+                () -> providers.orderedStream().toList(), transactionManager);
+    }
+
+    EnvironmentalAlertSyncService(
             WatchListRepository watchListRepository,
             SurfSpotRepository surfSpotRepository,
             EnvironmentalAlertRepository environmentalAlertRepository,
             List<EnvironmentalAlertProvider> providers,
             PlatformTransactionManager transactionManager) {
+        this(watchListRepository, surfSpotRepository, environmentalAlertRepository, () -> providers, transactionManager);
+    }
+
+    private EnvironmentalAlertSyncService(
+            WatchListRepository watchListRepository,
+            SurfSpotRepository surfSpotRepository,
+            EnvironmentalAlertRepository environmentalAlertRepository,
+            Supplier<List<EnvironmentalAlertProvider>> providers,
+            PlatformTransactionManager transactionManager) {
         this.watchListRepository = watchListRepository;
         this.surfSpotRepository = surfSpotRepository;
         this.environmentalAlertRepository = environmentalAlertRepository;
@@ -46,27 +70,29 @@ public class EnvironmentalAlertSyncService {
 
     /**
      * Provider HTTP stays outside DB transactions; each upsert/expire runs in its own short TX.
+     * Watched spots and their geography are loaded up front in one query.
      */
     public SyncResult syncWatchedSpots() {
         Instant startedAt = Instant.now();
+        List<EnvironmentalAlertProvider> alertProviders = providers.get();
         List<Long> watchedSpotIds = watchListRepository.findDistinctWatchedSurfSpotIds();
+        List<SurfSpot> watchedSpots = watchedSpotIds.isEmpty()
+                ? List.of()
+                : surfSpotRepository.findAllWithCountryByIdIn(watchedSpotIds);
         int spotsProcessed = 0;
         int alertsCreated = 0;
         int alertsUpdated = 0;
         int providerFailures = 0;
 
-        for (Long spotId : watchedSpotIds) {
-            SurfSpot surfSpot = surfSpotRepository.findById(spotId).orElse(null);
-            if (surfSpot == null) {
-                continue;
-            }
+        for (SurfSpot surfSpot : watchedSpots) {
+            Long spotId = surfSpot.getId();
             Country country = resolveCountry(surfSpot);
             if (country == null) {
                 continue;
             }
             spotsProcessed++;
 
-            for (EnvironmentalAlertProvider provider : providers) {
+            for (EnvironmentalAlertProvider provider : alertProviders) {
                 if (!provider.supports(country)) {
                     continue;
                 }
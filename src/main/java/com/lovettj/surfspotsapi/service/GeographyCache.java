@@ -0,0 +1,50 @@
+package com.lovettj.surfspotsapi.service;
+
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Eviction hooks for the Hibernate second-level cache over geography: continents, countries,
+ * emergency numbers, regions, sub-regions and swell seasons (with their collections) share
+ * {@link #REGION}, and the slug lookups in the country/region/sub-region repositories cache their results
+ * in {@link #QUERY_REGION}. Seeding and reference sync write these tables through JDBC, which Hibernate
+ * does not see, so they must call {@link #evictAfterCommit()}.
+ */
+@Service
+public class GeographyCache {
+
+    public static final String REGION = "geography";
+    public static final String QUERY_REGION = "geography-query";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public GeographyCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /** Evicts once the surrounding transaction commits (immediately when none is active). */
+    public void evictAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evict();
+                        }
+                    });
+        } else {
+            evict();
+        }
+    }
+
+    public void evict() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictRegion(REGION);
+        // evictRegion fails for a query region that has not been used yet; this creates it if needed.
+        cache.evictQueryRegion(QUERY_REGION);
+    }
+}
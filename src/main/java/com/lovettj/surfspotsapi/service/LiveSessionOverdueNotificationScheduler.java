@@ -6,6 +6,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
 @Component
 @ConditionalOnProperty(
         name = "app.live-session.overdue-notification-enabled",
@@ -16,17 +21,23 @@ public class LiveSessionOverdueNotificationScheduler {
     private static final Logger logger =
             LoggerFactory.getLogger(LiveSessionOverdueNotificationScheduler.class);
 
+    private static final Tags JOB_TAGS = Tags.of("job", "live-session-overdue");
+
     private final LiveSessionOverdueNotificationService liveSessionOverdueNotificationService;
+    private final MeterRegistry meterRegistry;
 
     public LiveSessionOverdueNotificationScheduler(
-            LiveSessionOverdueNotificationService liveSessionOverdueNotificationService) {
+            LiveSessionOverdueNotificationService liveSessionOverdueNotificationService,
+            MeterRegistry meterRegistry) {
         this.liveSessionOverdueNotificationService = liveSessionOverdueNotificationService;
+        this.meterRegistry = meterRegistry;
     }
 
     @Scheduled(fixedDelayString = "${app.live-session.overdue-notification-check-ms:300000}")
     public void checkForOverdueLiveSessions() {
         try {
-            int sentCount = liveSessionOverdueNotificationService.processOverdueSessions();
+            int sentCount = OutcomeTimer.record(
+                    meterRegistry, "scheduled.job", JOB_TAGS, liveSessionOverdueNotificationService::processOverdueSessions);
             if (sentCount > 0) {
                 logger.info("Sent {} live session overdue notification email(s)", sentCount);
             }
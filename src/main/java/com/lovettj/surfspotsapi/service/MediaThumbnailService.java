@@ -0,0 +1,220 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lovettj.surfspotsapi.config.MediaThumbnailProperties;
+import com.lovettj.surfspotsapi.repository.SurfSessionMediaRepository;
+import com.lovettj.surfspotsapi.repository.SurfboardMediaRepository;
+import com.lovettj.surfspotsapi.repository.TripMediaRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Generates small JPEG thumbnails for uploaded images so list views do not download full-size originals.
+ * Runs after the media row commits, on a bounded pool owned by this service (kept separate from the
+ * default {@code @Async} executor so image work cannot delay email). Videos are left without a derivative.
+ */
+@Service
+public class MediaThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaThumbnailService.class);
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    public enum MediaOwner {
+        SURF_SESSION,
+        SURFBOARD,
+        TRIP
+    }
+
+    private final StorageService storageService;
+    private final SurfSessionMediaRepository surfSessionMediaRepository;
+    private final SurfboardMediaRepository surfboardMediaRepository;
+    private final TripMediaRepository tripMediaRepository;
+    private final MediaThumbnailProperties properties;
+    private final Executor executor;
+
+    @Autowired
+    public MediaThumbnailService(
+            StorageService storageService,
+            SurfSessionMediaRepository surfSessionMediaRepository,
+            SurfboardMediaRepository surfboardMediaRepository,
+            TripMediaRepository tripMediaRepository,
+            MediaThumbnailProperties properties) {
+        this(storageService, surfSessionMediaRepository, surfboardMediaRepository, tripMediaRepository,
+                properties, createExecutor(properties));
+    }
+
+    MediaThumbnailService(
+            StorageService storageService,
+            SurfSessionMediaRepository surfSessionMediaRepository,
+            SurfboardMediaRepository surfboardMediaRepository,
+            TripMediaRepository tripMediaRepository,
+            MediaThumbnailProperties properties,
+            Executor executor) {
+        this.storageService = storageService;
+        this.surfSessionMediaRepository = surfSessionMediaRepository;
+        this.surfboardMediaRepository = surfboardMediaRepository;
+        this.tripMediaRepository = tripMediaRepository;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(MediaThumbnailProperties properties) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(properties.getWorkerThreads());
+        pool.setMaxPoolSize(properties.getWorkerThreads());
+        pool.setQueueCapacity(properties.getQueueCapacity());
+        pool.setThreadNamePrefix("media-thumb-");
+        pool.initialize();
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Queues thumbnail generation for an image once the surrounding transaction commits (a rolled-back
+     * {@code addMedia} never produces an orphaned derivative). No-op for videos or when storage is off.
+     */
+    public void generateAfterCommit(MediaOwner owner, String mediaId, String objectKey, String mediaType) {
+        if (!properties.isEnabled()
+                || !"image".equals(mediaType)
+                || objectKey == null
+                || !storageService.isStorageConfigured()) {
+            return;
+        }
+
+        Runnable enqueueTask = () -> enqueue(owner, mediaId, objectKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            enqueueTask.run();
+                        }
+                    });
+        } else {
+            enqueueTask.run();
+        }
+    }
+
+    private void enqueue(MediaOwner owner, String mediaId, String objectKey) {
+        try {
+            executor.execute(() -> generateThumbnail(owner, mediaId, objectKey));
+        } catch (RejectedExecutionException rejected) {
+            logger.warn("Thumbnail queue full; skipping derivative. owner={}, mediaId={}", owner, mediaId);
+        }
+    }
+
+    /**
+     * Fetches the original, writes the derivative next to it and records its key on the media row.
+     * If the row was deleted while the job ran, the uploaded derivative is removed again.
+     */
+    void generateThumbnail(MediaOwner owner, String mediaId, String objectKey) {
+        try {
+            byte[] original = storageService.getObjectBytes(objectKey, properties.getMaxSourceBytes());
+            if (original == null) {
+                return;
+            }
+            byte[] thumbnail = createThumbnail(original, properties.getMaxEdgePx(), properties.getJpegQuality());
+            if (thumbnail == null) {
+                return;
+            }
+
+            String thumbKey = storageService.generateThumbnailKey(objectKey);
+            if (!storageService.putObject(thumbKey, thumbnail, THUMBNAIL_CONTENT_TYPE)) {
+                return;
+            }
+            if (recordThumbnailKey(owner, mediaId, thumbKey) == 0) {
+                storageService.deleteObject(thumbKey);
+            }
+        } catch (Exception exception) {
+            logger.warn("Thumbnail generation failed. owner={}, mediaId={}", owner, mediaId, exception);
+        }
+    }
+
+    private int recordThumbnailKey(MediaOwner owner, String mediaId, String thumbKey) {
+        return switch (owner) {
+            case SURF_SESSION -> surfSessionMediaRepository.updateThumbObjectKey(mediaId, thumbKey);
+            case SURFBOARD -> surfboardMediaRepository.updateThumbObjectKey(mediaId, thumbKey);
+            case TRIP -> tripMediaRepository.updateThumbObjectKey(mediaId, thumbKey);
+        };
+    }
+
+    /**
+     * Decodes and downsizes an image to fit {@code maxEdgePx}, re-encoded as JPEG.
+     * Returns null when the bytes are not a decodable image or the original is already thumbnail-sized.
+     */
+    static byte[] createThumbnail(byte[] original, int maxEdgePx, float jpegQuality) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+        if (source == null) {
+            return null;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (width <= maxEdgePx && height <= maxEdgePx) {
+            return null;
+        }
+
+        double scale = (double) maxEdgePx / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return encodeJpeg(resized, jpegQuality);
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float jpegQuality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            return null;
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam params = writer.getDefaultWriteParam();
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            params.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), params);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
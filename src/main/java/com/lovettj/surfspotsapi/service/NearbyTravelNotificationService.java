@@ -3,7 +3,6 @@ package com.lovettj.surfspotsapi.service;
 import java.time.Instant;
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,21 +16,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.lovettj.surfspotsapi.config.AppProperties;
-import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
 import com.lovettj.surfspotsapi.email.EmailLayoutVariables;
 import com.lovettj.surfspotsapi.email.MapboxStaticImageUrls;
 import com.lovettj.surfspotsapi.email.MapboxStaticImageUrls.MapPin;
 import com.lovettj.surfspotsapi.email.TransactionalEmailTemplate;
 import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
 import com.lovettj.surfspotsapi.entity.Settings;
-import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
-import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
-import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.service.SurfSpotLocationIndex.NearbySpot;
 import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
-import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil.CoordinateBoundingBox;
 import com.lovettj.surfspotsapi.util.DistanceFormatUtil;
 
 /**
@@ -52,21 +49,24 @@ public class NearbyTravelNotificationService {
     static final int NEARBY_SPOTS_LIMIT = 5;
 
     private final UserRepository userRepository;
-    private final SurfSpotRepository surfSpotRepository;
+    private final SurfSpotLocationIndex surfSpotLocationIndex;
     private final NotificationEmailSentRepository notificationEmailSentRepository;
+    private final NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
     private final EmailService emailService;
     private final String appBaseUrl;
     private final String mapboxAccessToken;
 
     public NearbyTravelNotificationService(
             UserRepository userRepository,
-            SurfSpotRepository surfSpotRepository,
+            SurfSpotLocationIndex surfSpotLocationIndex,
             NotificationEmailSentRepository notificationEmailSentRepository,
+            NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository,
             EmailService emailService,
             AppProperties appProperties) {
         this.userRepository = userRepository;
-        this.surfSpotRepository = surfSpotRepository;
+        this.surfSpotLocationIndex = surfSpotLocationIndex;
         this.notificationEmailSentRepository = notificationEmailSentRepository;
+        this.notificationEmailSentJdbcRepository = notificationEmailSentJdbcRepository;
         this.emailService = emailService;
         this.appBaseUrl = EmailLayoutVariables.normalizeAppBaseUrl(appProperties.getUrl());
         String token = appProperties.getMapbox() != null ? appProperties.getMapbox().getAccessToken() : null;
@@ -125,8 +125,9 @@ public class NearbyTravelNotificationService {
                         + "-"
                         + Math.round(longitude * 10);
 
-        if (notificationEmailSentRepository.existsByUserIdAndNotificationKey(
-                userId, notificationKey)) {
+        if (notificationEmailSentJdbcRepository
+                .findUnclaimed(List.of(new NotificationClaim(userId, notificationKey)))
+                .isEmpty()) {
             return;
         }
 
@@ -179,44 +180,16 @@ public class NearbyTravelNotificationService {
 
     private List<NearbySpotEmailItem> findNearbySpots(
             double latitude, double longitude, String preferredUnits) {
-        CoordinateBoundingBox boundingBox =
-                CoordinateDistanceUtil.boundingBoxAroundCoordinates(
-                        latitude, longitude, NEARBY_SPOTS_RADIUS_KM);
-
-        SurfSpotBoundsFilterDTO filters = new SurfSpotBoundsFilterDTO();
-        filters.setMinLatitude(boundingBox.minLatitude());
-        filters.setMaxLatitude(boundingBox.maxLatitude());
-        filters.setMinLongitude(boundingBox.minLongitude());
-        filters.setMaxLongitude(boundingBox.maxLongitude());
-        filters.setStatus(SurfSpotStatus.APPROVED);
-
-        List<SurfSpot> candidates = surfSpotRepository.findWithinBoundsWithFilters(filters);
         List<NearbySpotEmailItem> nearbySpots = new ArrayList<>();
-
-        for (SurfSpot spot : candidates) {
-            if (spot.getLatitude() == null || spot.getLongitude() == null || spot.getName() == null) {
-                continue;
-            }
-            
-            double distanceKm = CoordinateDistanceUtil.distanceKm(
-                    latitude, longitude, spot.getLatitude(), spot.getLongitude());
-            
-            if (distanceKm > NEARBY_SPOTS_RADIUS_KM) {
-                continue;
-            }
-            
+        for (NearbySpot spot : surfSpotLocationIndex.nearest(
+                latitude, longitude, NEARBY_SPOTS_LIMIT, NEARBY_SPOTS_RADIUS_KM)) {
             nearbySpots.add(
                     new NearbySpotEmailItem(
-                            spot.getName(),
-                            DistanceFormatUtil.formatDistanceKm(distanceKm, preferredUnits),
-                            distanceKm,
-                            spot.getLatitude(),
-                            spot.getLongitude()));
-        }
-
-        nearbySpots.sort(Comparator.comparingDouble(NearbySpotEmailItem::sortDistanceKm));
-        if (nearbySpots.size() > NEARBY_SPOTS_LIMIT) {
-            return nearbySpots.subList(0, NEARBY_SPOTS_LIMIT);
+                            spot.name(),
+                            DistanceFormatUtil.formatDistanceKm(spot.distanceKm(), preferredUnits),
+                            spot.distanceKm(),
+                            spot.latitude(),
+                            spot.longitude()));
         }
         return nearbySpots;
     }
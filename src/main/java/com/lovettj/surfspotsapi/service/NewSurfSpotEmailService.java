@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +20,8 @@ import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
 import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.util.SurfSpotPathUtil;
@@ -33,6 +36,7 @@ public class NewSurfSpotEmailService {
 
     private final UserRepository userRepository;
     private final NotificationEmailSentRepository notificationEmailSentRepository;
+    private final NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
     private final EmailService emailService;
     private final String appBaseUrl;
     private final String mapboxAccessToken;
@@ -40,10 +44,12 @@ public class NewSurfSpotEmailService {
     public NewSurfSpotEmailService(
             UserRepository userRepository,
             NotificationEmailSentRepository notificationEmailSentRepository,
+            NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository,
             EmailService emailService,
             AppProperties appProperties) {
         this.userRepository = userRepository;
         this.notificationEmailSentRepository = notificationEmailSentRepository;
+        this.notificationEmailSentJdbcRepository = notificationEmailSentJdbcRepository;
         this.emailService = emailService;
         this.appBaseUrl = EmailLayoutVariables.normalizeAppBaseUrl(appProperties.getUrl());
         String token = appProperties.getMapbox() != null ? appProperties.getMapbox().getAccessToken() : null;
@@ -88,14 +94,19 @@ public class NewSurfSpotEmailService {
                             250);
         }
 
+        List<User> reachableRecipients = recipients.stream()
+                .filter(user -> user.getEmail() != null && !user.getEmail().isBlank())
+                .toList();
+        // One anti-join for every subscriber instead of a probe per send.
+        Set<NotificationClaim> unclaimed = notificationEmailSentJdbcRepository.findUnclaimed(
+                reachableRecipients.stream()
+                        .map(user -> new NotificationClaim(user.getId(), notificationKey + "-" + user.getId()))
+                        .toList());
+
         int sentCount = 0;
-        for (User user : recipients) {
-            if (user.getEmail() == null || user.getEmail().isBlank()) {
-                continue;
-            }
+        for (User user : reachableRecipients) {
             String perUserKey = notificationKey + "-" + user.getId();
-            if (notificationEmailSentRepository.existsByUserIdAndNotificationKey(
-                    user.getId(), perUserKey)) {
+            if (!unclaimed.contains(new NotificationClaim(user.getId(), perUserKey))) {
                 continue;
             }
 
@@ -0,0 +1,54 @@
+package com.lovettj.surfspotsapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+@Component
+@ConditionalOnProperty(
+        name = "app.notification-email.partition-maintenance-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class NotificationEmailSentPartitionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEmailSentPartitionScheduler.class);
+
+    private static final Tags JOB_TAGS = Tags.of("job", "notification-email-sent-partitions");
+
+    private final NotificationEmailSentPartitionService notificationEmailSentPartitionService;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationEmailSentPartitionScheduler(
+            NotificationEmailSentPartitionService notificationEmailSentPartitionService,
+            MeterRegistry meterRegistry) {
+        this.notificationEmailSentPartitionService = notificationEmailSentPartitionService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /** Daily; partitions exist months ahead, so a missed run or two does not block sends. */
+    @Scheduled(cron = "${app.notification-email.partition-maintenance-cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        try {
+            NotificationEmailSentPartitionService.MaintenanceResult result = OutcomeTimer.record(
+                    meterRegistry, "scheduled.job", JOB_TAGS, notificationEmailSentPartitionService::maintainPartitions);
+            if (!result.createdMonths().isEmpty() || !result.droppedMonths().isEmpty()) {
+                logger.info(
+                        "notification_email_sent partitions created {} and dropped {}",
+                        result.createdMonths(),
+                        result.droppedMonths());
+            }
+        } catch (RuntimeException maintenanceException) {
+            logger.warn(
+                    "notification_email_sent partition maintenance failed: {}",
+                    maintenanceException.getMessage(),
+                    maintenanceException);
+        }
+    }
+}
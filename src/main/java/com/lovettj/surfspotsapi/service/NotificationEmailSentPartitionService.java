@@ -0,0 +1,68 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.lovettj.surfspotsapi.config.NotificationEmailSentProperties;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+
+/**
+ * Keeps {@code notification_email_sent} partitioned by month: creates partitions
+ * {@code app.notification-email.months-ahead} months ahead and drops those older than
+ * {@code app.notification-email.retention-months}, so the dedupe table holds about a year of sends however
+ * many spots and subscribers there are. Dropping a partition is a catalog change, not a bulk delete.
+ */
+@Service
+public class NotificationEmailSentPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEmailSentPartitionService.class);
+
+    public record MaintenanceResult(List<YearMonth> createdMonths, List<YearMonth> droppedMonths) {}
+
+    private final NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+    private final NotificationEmailSentProperties properties;
+
+    public NotificationEmailSentPartitionService(
+            NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository,
+            NotificationEmailSentProperties properties) {
+        this.notificationEmailSentJdbcRepository = notificationEmailSentJdbcRepository;
+        this.properties = properties;
+    }
+
+    public MaintenanceResult maintainPartitions() {
+        return maintainPartitions(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    MaintenanceResult maintainPartitions(YearMonth currentMonth) {
+        if (!notificationEmailSentJdbcRepository.isPartitioned()) {
+            logger.debug("notification_email_sent is not partitioned; skipping partition maintenance");
+            return new MaintenanceResult(List.of(), List.of());
+        }
+        List<YearMonth> existingMonths = notificationEmailSentJdbcRepository.findPartitionMonths();
+
+        List<YearMonth> createdMonths = new ArrayList<>();
+        for (int ahead = 0; ahead <= properties.getMonthsAhead(); ahead++) {
+            YearMonth month = currentMonth.plusMonths(ahead);
+            if (!existingMonths.contains(month)) {
+                notificationEmailSentJdbcRepository.createPartition(month);
+                createdMonths.add(month);
+            }
+        }
+
+        YearMonth oldestKeptMonth = currentMonth.minusMonths(Math.max(properties.getRetentionMonths(), 1) - 1L);
+        List<YearMonth> droppedMonths = new ArrayList<>();
+        for (YearMonth month : existingMonths) {
+            if (month.isBefore(oldestKeptMonth)) {
+                notificationEmailSentJdbcRepository.dropPartition(month);
+                droppedMonths.add(month);
+            }
+        }
+        return new MaintenanceResult(createdMonths, droppedMonths);
+    }
+}
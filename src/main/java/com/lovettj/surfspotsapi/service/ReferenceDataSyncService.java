@@ -0,0 +1,685 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.CountryEmergencyNumber;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SluggableEntity;
+import com.lovettj.surfspotsapi.entity.SubRegion;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository.HashRow;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository.ReferenceRow;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository.StoredHash;
+import com.lovettj.surfspotsapi.util.JsonArrayStreamReader;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Brings reference data in line with {@code static/seedData} after the initial seed. Each seed record is
+ * hashed and compared with the hash stored in {@code reference_data_hash} under its natural key, so only
+ * inserted, changed and removed records are written (in JDBC batches). Rows seeded before hashes were
+ * tracked are adopted by natural key on the first run, except surf spots users added through the API: a
+ * seed record whose key matches one of those is skipped and reported as a conflict, so user data is never
+ * overwritten. Deletes only touch rows this sync tracks, and surf
+ * spots that carry user data are reported as blocked instead of being cascaded away, as are regions and
+ * their parents that spots still point at.
+ *
+ * <p>Natural keys change with a rename, and a spot's key also changes when its region is renamed. Surf spots
+ * and regions that lose their key but keep their location (coordinates, bounding box) are updated in place
+ * rather than inserted next to the old row, so ids and the user data attached to them carry over.
+ */
+@Service
+public class ReferenceDataSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataSyncService.class);
+    private static final int MAX_LOGGED_KEYS = 50;
+
+    private static final String SWELL_SEASON = "swell_season";
+    private static final String CONTINENT = "continent";
+    private static final String COUNTRY = "country";
+    private static final String REGION = "region";
+    private static final String SUB_REGION = "sub_region";
+    private static final String SURF_SPOT = "surf_spot";
+
+    public record EntityDiff(
+            String entityType,
+            List<String> inserted,
+            List<String> updated,
+            List<String> adopted,
+            List<String> deleted,
+            List<String> blocked,
+            List<String> conflicts,
+            int unchanged) {
+
+        public boolean hasChanges() {
+            return !inserted.isEmpty() || !updated.isEmpty() || !adopted.isEmpty() || !deleted.isEmpty();
+        }
+    }
+
+    public record SyncReport(boolean dryRun, List<EntityDiff> entities) {
+
+        public boolean hasChanges() {
+            return entities.stream().anyMatch(EntityDiff::hasChanges);
+        }
+
+        /** The diff for a table, e.g. {@code "surf_spot"}. */
+        public EntityDiff diff(String entityType) {
+            return entities.stream()
+                    .filter(diff -> diff.entityType().equals(entityType))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("No diff for " + entityType));
+        }
+
+        /** Whether any of the named tables changed. */
+        public boolean hasChanges(String... entityTypes) {
+            return Arrays.stream(entityTypes).map(this::diff).anyMatch(EntityDiff::hasChanges);
+        }
+    }
+
+    private final ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final SeedJdbcRepository seedJdbcRepository;
+    private final SwellSeasonDeterminationService swellSeasonDeterminationService;
+    private final SurfSpotLocationIndex surfSpotLocationIndex;
+    private final GeographyCache geographyCache;
+    private final CatalogVersionService catalogVersionService;
+    private final SurfSpotTileCache surfSpotTileCache;
+    private final SurfSpotSearchService surfSpotSearchService;
+    private final UserProfileStatsService userProfileStatsService;
+    private final SurfSpotListingCache surfSpotListingCache;
+
+    public ReferenceDataSyncService(
+            SeedJdbcRepository seedJdbcRepository,
+            SwellSeasonDeterminationService swellSeasonDeterminationService,
+            SurfSpotLocationIndex surfSpotLocationIndex,
+            GeographyCache geographyCache,
+            CatalogVersionService catalogVersionService,
+            SurfSpotTileCache surfSpotTileCache,
+            SurfSpotSearchService surfSpotSearchService,
+            UserProfileStatsService userProfileStatsService,
+            SurfSpotListingCache surfSpotListingCache) {
+        this.seedJdbcRepository = seedJdbcRepository;
+        this.swellSeasonDeterminationService = swellSeasonDeterminationService;
+        this.surfSpotLocationIndex = surfSpotLocationIndex;
+        this.geographyCache = geographyCache;
+        this.catalogVersionService = catalogVersionService;
+        this.surfSpotTileCache = surfSpotTileCache;
+        this.surfSpotSearchService = surfSpotSearchService;
+        this.userProfileStatsService = userProfileStatsService;
+        this.surfSpotListingCache = surfSpotListingCache;
+    }
+
+    /**
+     * Diffs every seed file against the stored hashes. With {@code dryRun} nothing is written (ids for new
+     * rows are placeholders), so the report shows exactly what a real run would change.
+     */
+    @Transactional
+    public SyncReport sync(boolean dryRun) {
+        PlaceholderIds placeholders = new PlaceholderIds();
+
+        LevelSync<SwellSeason> swellSeasons = new LevelSync<>(
+                SWELL_SEASON, "swell-seasons.json", SwellSeason.class, null,
+                SwellSeason::getName,
+                ReferenceRow::name,
+                SwellSeason::setId,
+                seedJdbcRepository::insertSwellSeasons,
+                seedJdbcRepository::updateSwellSeasons);
+        swellSeasons.run(dryRun, placeholders);
+
+        LevelSync<Continent> continents = new LevelSync<>(
+                CONTINENT, "continents.json", Continent.class, null,
+                continent -> blankToNull(SeedService.normalizeName(continent.getName())),
+                row -> SeedService.normalizeName(row.name()),
+                Continent::setId,
+                seedJdbcRepository::insertContinents,
+                seedJdbcRepository::updateContinents);
+        continents.run(dryRun, placeholders);
+
+        LevelSync<Country> countries = new LevelSync<>(
+                COUNTRY, "countries.json", Country.class, null,
+                country -> resolveCountry(country, continents.idsByKey),
+                row -> SeedService.normalizeName(row.name()),
+                Country::setId,
+                rows -> writeCountries(rows, false),
+                rows -> writeCountries(rows, true));
+        countries.run(dryRun, placeholders);
+
+        LevelSync<Region> regions = new LevelSync<>(
+                REGION, "regions.json", Region.class, "country_id",
+                region -> resolveRegion(region, countries.idsByKey),
+                row -> SeedService.parentIdKey(row.parentId(), row.name()),
+                Region::setId,
+                seedJdbcRepository::insertRegions,
+                seedJdbcRepository::updateRegions);
+        regions.relinkBy(region -> locationKey(region.getBoundingBox()));
+        regions.run(dryRun, placeholders);
+        List<Long> regionIdsByExportId = regions.idsByExportIndex();
+
+        LevelSync<SubRegion> subRegions = new LevelSync<>(
+                SUB_REGION, "sub-regions.json", SubRegion.class, "region_id",
+                subRegion -> resolveSubRegion(subRegion, regionIdsByExportId),
+                row -> SeedService.parentIdKey(row.parentId(), row.name()),
+                SubRegion::setId,
+                seedJdbcRepository::insertSubRegions,
+                seedJdbcRepository::updateSubRegions);
+        subRegions.run(dryRun, placeholders);
+        List<Long> subRegionIdsByExportId = subRegions.idsByExportIndex();
+
+        LevelSync<SurfSpot> surfSpots = new LevelSync<>(
+                SURF_SPOT, "surf-spots.json", SurfSpot.class, "region_id",
+                spot -> resolveSurfSpot(spot, regionIdsByExportId, subRegionIdsByExportId, swellSeasons.idsByKey),
+                row -> SeedService.parentIdKey(row.parentId(), SluggableEntity.slugFromName(row.name())),
+                SurfSpot::setId,
+                seedJdbcRepository::insertSurfSpots,
+                seedJdbcRepository::updateSurfSpots);
+        surfSpots.relinkBy(spot -> locationKey(spot.getLatitude(), spot.getLongitude()));
+        surfSpots.run(dryRun, placeholders);
+
+        // Children before parents so FK checks see removed rows already gone.
+        List<LevelSync<?>> levels = List.of(swellSeasons, continents, countries, regions, subRegions, surfSpots);
+        List<LevelSync<?>> deleteOrder = new ArrayList<>(levels);
+        Collections.reverse(deleteOrder);
+        Set<Long> deletedSurfSpotIds = new HashSet<>();
+        for (LevelSync<?> level : deleteOrder) {
+            level.applyDeletes(dryRun, deletedSurfSpotIds);
+        }
+
+        SyncReport report = new SyncReport(dryRun, levels.stream().map(LevelSync::diff).toList());
+        if (!dryRun && report.hasChanges(SWELL_SEASON)) {
+            swellSeasonDeterminationService.evictSeasonCache();
+        }
+        if (!dryRun && report.hasChanges(SWELL_SEASON, CONTINENT, COUNTRY, REGION, SUB_REGION)) {
+            geographyCache.evictAfterCommit();
+        }
+        if (!dryRun && report.hasChanges(SURF_SPOT)) {
+            surfSpotLocationIndex.invalidateAfterCommit();
+            surfSpotTileCache.evictAllAfterCommit();
+        }
+        // Search results carry region and country names and the slug path, so geography changes count too.
+        if (!dryRun && report.hasChanges(CONTINENT, COUNTRY, REGION, SUB_REGION, SURF_SPOT)) {
+            surfSpotSearchService.invalidateAfterCommit();
+        }
+        // Surfed-spot counters key on country and continent ids and spot attributes; names do not matter.
+        if (!dryRun && report.hasChanges(COUNTRY, REGION, SUB_REGION, SURF_SPOT)) {
+            userProfileStatsService.rebuildSurfedSpotCounters();
+        }
+        if (!dryRun && report.hasChanges()) {
+            // Spot listings embed the swell season and geography of every spot, so any level counts.
+            surfSpotListingCache.evictAllAfterCommit();
+            catalogVersionService.bump();
+        }
+        logReport(report);
+        return report;
+    }
+
+    public void logReport(SyncReport report) {
+        logger.info("Reference data sync{}:", report.dryRun() ? " (dry run, no database changes)" : "");
+        for (EntityDiff diff : report.entities()) {
+            logger.info(
+                    "  {}: inserted={}, updated={}, adopted={}, deleted={}, blocked={}, conflicts={}, unchanged={}",
+                    diff.entityType(),
+                    diff.inserted().size(),
+                    diff.updated().size(),
+                    diff.adopted().size(),
+                    diff.deleted().size(),
+                    diff.blocked().size(),
+                    diff.conflicts().size(),
+                    diff.unchanged());
+            logKeys(diff.entityType(), "insert", diff.inserted());
+            logKeys(diff.entityType(), "update", diff.updated());
+            logKeys(diff.entityType(), "delete", diff.deleted());
+            if (!diff.blocked().isEmpty()) {
+                logger.warn("    {} delete blocked (user data or user-added spots reference these rows): {}",
+                        diff.entityType(), limit(diff.blocked()));
+            }
+            if (!diff.conflicts().isEmpty()) {
+                logger.warn("    {} skipped (a user-added row already has this key; resolve by hand): {}",
+                        diff.entityType(), limit(diff.conflicts()));
+            }
+        }
+    }
+
+    private void logKeys(String entityType, String action, List<String> keys) {
+        if (!keys.isEmpty()) {
+            logger.info("    {} {}: {}", entityType, action, limit(keys));
+        }
+    }
+
+    private static List<String> limit(List<String> keys) {
+        return keys.size() <= MAX_LOGGED_KEYS ? keys : keys.subList(0, MAX_LOGGED_KEYS);
+    }
+
+    private String resolveCountry(Country country, Map<String, Long> continentIds) {
+        if (country.getContinent() != null) {
+            String continentName = country.getContinent().getName();
+            Long continentId = continentIds.get(SeedService.normalizeName(continentName));
+            if (continentId == null) {
+                throw new IllegalStateException(
+                        "Continent not found for country '%s' (name=%s)".formatted(country.getName(), continentName));
+            }
+            country.setContinent(Continent.builder().id(continentId).build());
+        }
+        return blankToNull(SeedService.normalizeName(country.getName()));
+    }
+
+    private String resolveRegion(Region region, Map<String, Long> countryIds) {
+        Long countryId = null;
+        if (region.getCountry() != null) {
+            String countryName = region.getCountry().getName();
+            countryId = countryIds.get(SeedService.normalizeName(countryName));
+            if (countryId == null) {
+                throw new IllegalStateException(
+                        "Country not found for region '%s' (name=%s)".formatted(region.getName(), countryName));
+            }
+            region.setCountry(Country.builder().id(countryId).build());
+        }
+        return SeedService.parentIdKey(countryId, region.getName());
+    }
+
+    private String resolveSubRegion(SubRegion subRegion, List<Long> regionIdsByExportId) {
+        Long regionId = null;
+        if (subRegion.getRegion() != null) {
+            Long exportId = subRegion.getRegion().getId();
+            regionId = SeedService.byExportId(regionIdsByExportId, exportId);
+            if (regionId == null) {
+                logger.warn("Region export id {} not found for sub-region '{}'", exportId, subRegion.getName());
+            }
+        }
+        subRegion.setRegion(regionId != null ? Region.builder().id(regionId).build() : null);
+        return SeedService.parentIdKey(regionId, subRegion.getName());
+    }
+
+    private String resolveSurfSpot(
+            SurfSpot spot,
+            List<Long> regionIdsByExportId,
+            List<Long> subRegionIdsByExportId,
+            Map<String, Long> swellSeasonIds) {
+        Long regionId = spot.getRegion() != null
+                ? SeedService.byExportId(regionIdsByExportId, spot.getRegion().getId())
+                : null;
+        if (spot.getRegion() != null && regionId == null) {
+            logger.warn("Region export id {} not found for surf spot '{}'", spot.getRegion().getId(), spot.getName());
+        }
+        spot.setRegion(regionId != null ? Region.builder().id(regionId).build() : null);
+
+        Long subRegionId = spot.getSubRegion() != null
+                ? SeedService.byExportId(subRegionIdsByExportId, spot.getSubRegion().getId())
+                : null;
+        spot.setSubRegion(subRegionId != null ? SubRegion.builder().id(subRegionId).build() : null);
+
+        if (spot.getIsWslTourStop() == null) {
+            spot.setIsWslTourStop(false);
+        }
+        spot.setSwellSeason(null);
+        boolean skipSwell = Boolean.TRUE.equals(spot.getIsWavepool()) || Boolean.TRUE.equals(spot.getIsRiverWave());
+        if (!skipSwell) {
+            swellSeasonDeterminationService
+                    .determineSwellSeasonName(spot.getLatitude(), spot.getLongitude())
+                    .map(swellSeasonIds::get)
+                    .ifPresent(seasonId -> spot.setSwellSeason(SwellSeason.builder().id(seasonId).build()));
+        }
+        return SeedService.parentIdKey(regionId, SluggableEntity.slugFromName(spot.getName()));
+    }
+
+    /** Writes countries and replaces their emergency numbers (numbers have no natural key of their own). */
+    private void writeCountries(List<Country> rows, boolean existingRows) {
+        if (existingRows) {
+            seedJdbcRepository.updateCountries(rows);
+            seedJdbcRepository.deleteEmergencyNumbersForCountries(rows.stream().map(Country::getId).toList());
+        } else {
+            seedJdbcRepository.insertCountries(rows);
+        }
+        List<CountryEmergencyNumber> numbers = new ArrayList<>();
+        for (Country country : rows) {
+            if (country.getEmergencyNumbers() != null) {
+                for (CountryEmergencyNumber number : country.getEmergencyNumbers()) {
+                    number.setCountry(country);
+                    numbers.add(number);
+                }
+            }
+        }
+        if (numbers.isEmpty()) {
+            return;
+        }
+        List<Long> ids = seedJdbcRepository.reserveIds("country_emergency_number", numbers.size());
+        for (int index = 0; index < numbers.size(); index++) {
+            numbers.get(index).setId(ids.get(index));
+        }
+        seedJdbcRepository.insertEmergencyNumbers(numbers);
+    }
+
+    /**
+     * SHA-256 over a canonical rendering of the JSON record (object keys sorted), so reformatting or
+     * reordering fields in a seed file does not count as a change.
+     */
+    static String contentHash(JsonNode node) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            updateCanonical(digest, node);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void updateCanonical(MessageDigest digest, JsonNode node) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            digest.update((byte) '{');
+            for (String name : names) {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) ':');
+                updateCanonical(digest, node.get(name));
+                digest.update((byte) ',');
+            }
+            digest.update((byte) '}');
+        } else if (node.isArray()) {
+            digest.update((byte) '[');
+            Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext()) {
+                updateCanonical(digest, elements.next());
+                digest.update((byte) ',');
+            }
+            digest.update((byte) ']');
+        } else {
+            digest.update(node.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /** Matches a renamed row to its old one; null when any part of the location is missing. */
+    private static String locationKey(Double... location) {
+        if (location == null || location.length == 0 || Arrays.asList(location).contains(null)) {
+            return null;
+        }
+        return Arrays.toString(location);
+    }
+
+    private static String blankToNull(String key) {
+        return key == null || key.isEmpty() ? null : key;
+    }
+
+    /** Negative ids handed to new rows during a dry run so child keys still resolve. */
+    private static final class PlaceholderIds {
+        private long next = -1;
+
+        long next() {
+            return next--;
+        }
+    }
+
+    /**
+     * Diff state for one seed file / table. Natural keys embed parent ids, so a level can only run once
+     * its parent level has assigned ids.
+     */
+    private final class LevelSync<T> {
+        private final String table;
+        private final String fileName;
+        private final Class<T> type;
+        private final String parentColumn;
+        private final Function<T, String> resolveKey;
+        private final Function<ReferenceRow, String> existingKey;
+        private final BiConsumer<T, Long> setId;
+        private final Consumer<List<T>> insertWriter;
+        private final Consumer<List<T>> updateWriter;
+
+        private final Map<String, Long> idsByKey = new HashMap<>();
+        private final List<String> exportKeys = new ArrayList<>();
+        private final List<T> inserts = new ArrayList<>();
+        private final List<String> insertHashes = new ArrayList<>();
+        private final List<T> updates = new ArrayList<>();
+        private final List<HashRow> hashRows = new ArrayList<>();
+        private final List<String> inserted = new ArrayList<>();
+        private final List<String> updated = new ArrayList<>();
+        private final List<String> adopted = new ArrayList<>();
+        private final List<String> deleted = new ArrayList<>();
+        private final List<String> blocked = new ArrayList<>();
+        private final List<String> conflicts = new ArrayList<>();
+        private final Map<String, Long> pendingDeletes = new LinkedHashMap<>();
+        private final List<String> relinkedKeys = new ArrayList<>();
+        private Function<T, String> relinkKey;
+        private int unchanged;
+
+        LevelSync(
+                String table,
+                String fileName,
+                Class<T> type,
+                String parentColumn,
+                Function<T, String> resolveKey,
+                Function<ReferenceRow, String> existingKey,
+                BiConsumer<T, Long> setId,
+                Consumer<List<T>> insertWriter,
+                Consumer<List<T>> updateWriter) {
+            this.table = table;
+            this.fileName = fileName;
+            this.type = type;
+            this.parentColumn = parentColumn;
+            this.resolveKey = resolveKey;
+            this.existingKey = existingKey;
+            this.setId = setId;
+            this.insertWriter = insertWriter;
+            this.updateWriter = updateWriter;
+        }
+
+        /** Lets a new record take over a row about to be deleted that has the same location. */
+        void relinkBy(Function<T, String> relinkKey) {
+            this.relinkKey = relinkKey;
+        }
+
+        void run(boolean dryRun, PlaceholderIds placeholders) {
+            Map<String, StoredHash> stored = seedJdbcRepository.findHashes(table);
+            Set<Long> trackedIds = new HashSet<>();
+            stored.values().forEach(hash -> trackedIds.add(hash.entityId()));
+            Map<String, Long> adoptable = new HashMap<>();
+            Set<String> userCreatedKeys = new HashSet<>();
+            for (ReferenceRow row : seedJdbcRepository.findReferenceRows(table, parentColumn)) {
+                if (trackedIds.contains(row.id())) {
+                    continue;
+                }
+                if (row.userCreated()) {
+                    userCreatedKeys.add(existingKey.apply(row));
+                } else {
+                    adoptable.putIfAbsent(existingKey.apply(row), row.id());
+                }
+            }
+
+            Set<String> seen = new HashSet<>();
+            try (InputStream input = SeedService.getMainResource(SeedService.SEED_DATA_PATH + fileName).getInputStream()) {
+                JsonArrayStreamReader.forEachElement(mapper, input, JsonNode.class,
+                        node -> accept(node, stored, adoptable, userCreatedKeys, seen));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read seed data from " + fileName, e);
+            }
+
+            stored.forEach((key, hash) -> {
+                if (!seen.contains(key)) {
+                    pendingDeletes.put(key, hash.entityId());
+                }
+            });
+            relinkMovedRows();
+
+            List<Long> newIds = dryRun ? null : seedJdbcRepository.reserveIds(table, inserts.size());
+            for (int index = 0; index < inserts.size(); index++) {
+                long id = dryRun ? placeholders.next() : newIds.get(index);
+                setId.accept(inserts.get(index), id);
+                idsByKey.put(inserted.get(index), id);
+                hashRows.add(new HashRow(inserted.get(index), id, insertHashes.get(index)));
+            }
+
+            if (!dryRun) {
+                inBatches(inserts, insertWriter);
+                inBatches(updates, updateWriter);
+                inBatches(hashRows, rows -> seedJdbcRepository.saveHashes(table, rows));
+                seedJdbcRepository.deleteHashes(table, relinkedKeys);
+            }
+        }
+
+        /**
+         * Turns an insert into an update of a row about to be deleted when exactly one such row has the
+         * record's location. The row's old key is dropped from the hash table and from the deletes.
+         */
+        private void relinkMovedRows() {
+            if (relinkKey == null || inserts.isEmpty() || pendingDeletes.isEmpty()) {
+                return;
+            }
+            Map<Long, String> keysById = new HashMap<>();
+            pendingDeletes.forEach((key, id) -> keysById.put(id, key));
+            Map<String, Long> idsByLocation = new HashMap<>();
+            Set<String> ambiguous = new HashSet<>();
+            seedJdbcRepository.findLocations(table, keysById.keySet()).forEach((id, location) -> {
+                String key = locationKey(location);
+                if (key != null && idsByLocation.putIfAbsent(key, id) != null) {
+                    ambiguous.add(key);
+                }
+            });
+            ambiguous.forEach(idsByLocation::remove);
+
+            List<T> remainingInserts = new ArrayList<>();
+            List<String> remainingHashes = new ArrayList<>();
+            List<String> remainingKeys = new ArrayList<>();
+            for (int index = 0; index < inserts.size(); index++) {
+                T entity = inserts.get(index);
+                String location = relinkKey.apply(entity);
+                Long id = location != null ? idsByLocation.remove(location) : null;
+                if (id == null) {
+                    remainingInserts.add(entity);
+                    remainingHashes.add(insertHashes.get(index));
+                    remainingKeys.add(inserted.get(index));
+                    continue;
+                }
+                String key = inserted.get(index);
+                setId.accept(entity, id);
+                idsByKey.put(key, id);
+                updates.add(entity);
+                hashRows.add(new HashRow(key, id, insertHashes.get(index)));
+                updated.add(key);
+                String oldKey = keysById.get(id);
+                relinkedKeys.add(oldKey);
+                pendingDeletes.remove(oldKey);
+            }
+            inserts.clear();
+            inserts.addAll(remainingInserts);
+            insertHashes.clear();
+            insertHashes.addAll(remainingHashes);
+            inserted.clear();
+            inserted.addAll(remainingKeys);
+        }
+
+        private void accept(
+                JsonNode node,
+                Map<String, StoredHash> stored,
+                Map<String, Long> adoptable,
+                Set<String> userCreatedKeys,
+                Set<String> seen) {
+            T entity;
+            try {
+                entity = mapper.treeToValue(node, type);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Invalid record in " + fileName + ": " + e.getOriginalMessage(), e);
+            }
+            String key = resolveKey.apply(entity);
+            exportKeys.add(key);
+            if (key == null || !seen.add(key)) {
+                return;
+            }
+            String hash = contentHash(node);
+            StoredHash storedHash = stored.get(key);
+            Long adoptedId = storedHash == null ? adoptable.get(key) : null;
+            if (storedHash == null && adoptedId == null && userCreatedKeys.contains(key)) {
+                // Neither overwrite the user's row nor insert a second one under its key.
+                conflicts.add(key);
+            } else if (storedHash != null && storedHash.contentHash().equals(hash)) {
+                idsByKey.put(key, storedHash.entityId());
+                unchanged++;
+            } else if (storedHash != null || adoptedId != null) {
+                long id = storedHash != null ? storedHash.entityId() : adoptedId;
+                setId.accept(entity, id);
+                idsByKey.put(key, id);
+                updates.add(entity);
+                hashRows.add(new HashRow(key, id, hash));
+                (storedHash != null ? updated : adopted).add(key);
+            } else {
+                inserts.add(entity);
+                insertHashes.add(hash);
+                inserted.add(key);
+            }
+        }
+
+        /**
+         * Deletes rows whose records left the seed, except those still in use. Runs children first;
+         * {@code deletedSurfSpotIds} collects the spot deletes so parents are checked against the spots
+         * that remain (during a dry run those spots are still in the table).
+         */
+        void applyDeletes(boolean dryRun, Set<Long> deletedSurfSpotIds) {
+            if (pendingDeletes.isEmpty()) {
+                return;
+            }
+            Set<Long> protectedIds = SURF_SPOT.equals(table)
+                    ? seedJdbcRepository.findSurfSpotIdsWithUserData(pendingDeletes.values())
+                    : seedJdbcRepository.findIdsReferencedBySurfSpots(table, pendingDeletes.values(), deletedSurfSpotIds);
+            List<Long> ids = new ArrayList<>();
+            pendingDeletes.forEach((key, id) -> {
+                if (protectedIds.contains(id)) {
+                    blocked.add(key);
+                } else {
+                    deleted.add(key);
+                    ids.add(id);
+                }
+            });
+            if (SURF_SPOT.equals(table)) {
+                deletedSurfSpotIds.addAll(ids);
+            }
+            if (!dryRun && !ids.isEmpty()) {
+                seedJdbcRepository.deleteByIds(table, ids);
+                seedJdbcRepository.deleteHashes(table, deleted);
+            }
+        }
+
+        /** Export ids are 1-based positions in the seed file; duplicates resolve to the first row. */
+        List<Long> idsByExportIndex() {
+            return exportKeys.stream().map(key -> key != null ? idsByKey.get(key) : null).toList();
+        }
+
+        EntityDiff diff() {
+            return new EntityDiff(table, inserted, updated, adopted, deleted, blocked, conflicts, unchanged);
+        }
+    }
+
+    private static <R> void inBatches(List<R> rows, Consumer<List<R>> writer) {
+        for (int start = 0; start < rows.size(); start += SeedService.BATCH_SIZE) {
+            writer.accept(rows.subList(start, Math.min(rows.size(), start + SeedService.BATCH_SIZE)));
+        }
+    }
+}
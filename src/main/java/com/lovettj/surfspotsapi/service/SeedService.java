@@ -4,75 +4,87 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lovettj.surfspotsapi.entity.Continent;
 import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.CountryEmergencyNumber;
 import com.lovettj.surfspotsapi.entity.Region;
 import com.lovettj.surfspotsapi.entity.SubRegion;
 import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.SwellSeason;
 import com.lovettj.surfspotsapi.repository.ContinentRepository;
-import com.lovettj.surfspotsapi.repository.CountryRepository;
-import com.lovettj.surfspotsapi.repository.RegionRepository;
-import com.lovettj.surfspotsapi.repository.SubRegionRepository;
-import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
-import com.lovettj.surfspotsapi.repository.SwellSeasonRepository;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository;
+import com.lovettj.surfspotsapi.util.JsonArrayStreamReader;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
 @Service
 public class SeedService {
 
   private static final Logger logger = LoggerFactory.getLogger(SeedService.class);
+  static final String SEED_DATA_PATH = "static/seedData/";
+  /** Rows per JDBC batch and ids reserved per sequence round-trip. */
+  static final int BATCH_SIZE = 500;
+
   private final ObjectMapper mapper =
       new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
   private final ContinentRepository continentRepository;
-  private final CountryRepository countryRepository;
-  private final RegionRepository regionRepository;
-  private final SubRegionRepository subRegionRepository;
-  private final SurfSpotRepository surfSpotRepository;
-  private final SwellSeasonRepository swellSeasonRepository;
+  private final SeedJdbcRepository seedJdbcRepository;
   private final SwellSeasonDeterminationService swellSeasonDeterminationService;
+  private final SurfSpotLocationIndex surfSpotLocationIndex;
+  private final GeographyCache geographyCache;
+  private final CatalogVersionService catalogVersionService;
+  private final SurfSpotTileCache surfSpotTileCache;
+  private final SurfSpotSearchService surfSpotSearchService;
+  private final SurfSpotListingCache surfSpotListingCache;
 
   @Value("${app.seed.enabled:true}")
   private boolean seedEnabled;
 
   public SeedService(
       ContinentRepository continentRepository,
-      CountryRepository countryRepository,
-      RegionRepository regionRepository,
-      SubRegionRepository subRegionRepository,
-      SurfSpotRepository surfSpotRepository,
-      SwellSeasonRepository swellSeasonRepository,
-      SwellSeasonDeterminationService swellSeasonDeterminationService) {
+      SeedJdbcRepository seedJdbcRepository,
+      SwellSeasonDeterminationService swellSeasonDeterminationService,
+      SurfSpotLocationIndex surfSpotLocationIndex,
+      GeographyCache geographyCache,
+      CatalogVersionService catalogVersionService,
+      SurfSpotTileCache surfSpotTileCache,
+      SurfSpotSearchService surfSpotSearchService,
+      SurfSpotListingCache surfSpotListingCache) {
     this.continentRepository = continentRepository;
-    this.countryRepository = countryRepository;
-    this.regionRepository = regionRepository;
-    this.subRegionRepository = subRegionRepository;
-    this.surfSpotRepository = surfSpotRepository;
-    this.swellSeasonRepository = swellSeasonRepository;
+    this.seedJdbcRepository = seedJdbcRepository;
     this.swellSeasonDeterminationService = swellSeasonDeterminationService;
+    this.surfSpotLocationIndex = surfSpotLocationIndex;
+    this.geographyCache = geographyCache;
+    this.catalogVersionService = catalogVersionService;
+    this.surfSpotTileCache = surfSpotTileCache;
+    this.surfSpotSearchService = surfSpotSearchService;
+    this.surfSpotListingCache = surfSpotListingCache;
   }
 
   /**
    * Loads reference data from JSON once into an empty database. If continents already exist, does nothing
    * (re-seeding / syncing from JSON is not supported here; use migrations for production data changes).
+   *
+   * <p>Each file is streamed element by element and written in JDBC batches with ids reserved from the
+   * table sequences, so parent lookups are in-memory name/export-id → id maps built as each level is
+   * written rather than one query per row.
    */
   @Transactional
   public void seedData() {
@@ -84,334 +96,353 @@ public class SeedService {
       logger.info("Database already seeded (continents present); skipping.");
       return;
     }
-    insertSwellSeasons();
-    insertContinents();
-    insertCountries();
-    insertRegions();
-    insertSubRegions();
-    insertSurfSpots();
+    Map<String, Long> swellSeasonIds = insertSwellSeasons();
+    Map<String, Long> continentIds = insertContinents();
+    Map<String, Long> countryIds = insertCountries(continentIds);
+    List<Long> regionIdsByExportId = insertRegions(countryIds);
+    List<Long> subRegionIdsByExportId = insertSubRegions(regionIdsByExportId);
+    insertSurfSpots(regionIdsByExportId, subRegionIdsByExportId, swellSeasonIds);
+    swellSeasonDeterminationService.evictSeasonCache();
+    surfSpotLocationIndex.invalidateAfterCommit();
+    surfSpotTileCache.evictAllAfterCommit();
+    surfSpotListingCache.evictAllAfterCommit();
+    surfSpotSearchService.invalidateAfterCommit();
+    geographyCache.evictAfterCommit();
+    catalogVersionService.bump();
   }
 
-  private void insertSwellSeasons() {
-    insertFromJson("swell-seasons.json", SwellSeason[].class, swellSeasonRepository, "swell seasons");
+  /** Returns swell season ids keyed by exact name (the key the determination service produces). */
+  private Map<String, Long> insertSwellSeasons() {
+    Map<String, Long> idsByName = new HashMap<>();
+    SequenceIds ids = new SequenceIds("swell_season");
+    SeedBatch<SwellSeason> batch = new SeedBatch<>(seedJdbcRepository::insertSwellSeasons);
+    int read =
+        streamSeedFile(
+            "swell-seasons.json",
+            SwellSeason.class,
+            season -> {
+              season.setId(ids.next());
+              idsByName.putIfAbsent(season.getName(), season.getId());
+              batch.add(season);
+            });
+    requireRows(read, "swell-seasons.json");
+    batch.flush();
+    logger.info("Inserted {} swell seasons from swell-seasons.json", read);
+    return idsByName;
   }
 
-  private void insertContinents() {
-    insertFromJson("continents.json", Continent[].class, continentRepository, "continents");
+  /** Returns continent ids keyed by normalized name. */
+  private Map<String, Long> insertContinents() {
+    Map<String, Long> idsByName = new HashMap<>();
+    SequenceIds ids = new SequenceIds("continent");
+    SeedBatch<Continent> batch = new SeedBatch<>(seedJdbcRepository::insertContinents);
+    int read =
+        streamSeedFile(
+            "continents.json",
+            Continent.class,
+            continent -> {
+              continent.setId(ids.next());
+              idsByName.putIfAbsent(normalizeName(continent.getName()), continent.getId());
+              batch.add(continent);
+            });
+    requireRows(read, "continents.json");
+    batch.flush();
+    logger.info("Inserted {} continents from continents.json", read);
+    return idsByName;
   }
 
-  private void insertCountries() {
-    try {
-      Resource resource = getMainResource("static/seedData/countries.json");
-      Country[] entities = mapper.readValue(resource.getInputStream(), Country[].class);
-      if (entities == null || entities.length == 0) {
-        throw new IllegalStateException("No seed data found in countries.json");
-      }
-      logger.info("Read {} total entities from countries.json", entities.length);
-      List<Country> list = new ArrayList<>(Arrays.asList(entities));
-      for (Country country : list) {
-        if (country.getContinent() != null) {
-          String continentName = country.getContinent().getName();
-          Continent continent =
-              continentName != null && !continentName.isBlank()
-                  ? continentRepository.findByNameIgnoreCase(continentName).orElse(null)
-                  : null;
-          if (continent == null) {
-            throw new IllegalStateException(
-                "Continent not found for country '%s' (name=%s). Refusing index fallback."
-                    .formatted(country.getName(), continentName));
-          }
-          country.setContinent(continent);
-        }
-        if (country.getEmergencyNumbers() != null) {
-          country.getEmergencyNumbers().forEach(en -> en.setCountry(country));
-        }
-      }
-      countryRepository.saveAll(list);
-      countryRepository.flush();
-      logger.info("Inserted {} countries from countries.json", list.size());
-    } catch (IOException e) {
-      logger.error("Failed to read or parse seed data from countries.json: {}", e.getMessage(), e);
-      throw new IllegalStateException(e);
-    } catch (DataAccessException e) {
-      logger.error("Database access error while seeding from countries.json: {}", e.getMessage(), e);
-      throw e;
-    }
+  /** Returns country ids keyed by normalized name. Emergency numbers are written after their countries. */
+  private Map<String, Long> insertCountries(Map<String, Long> continentIds) {
+    Map<String, Long> idsByName = new HashMap<>();
+    SequenceIds ids = new SequenceIds("country");
+    SequenceIds emergencyNumberIds = new SequenceIds("country_emergency_number");
+    List<CountryEmergencyNumber> pendingNumbers = new ArrayList<>();
+    SeedBatch<Country> batch =
+        new SeedBatch<>(
+            countries -> {
+              seedJdbcRepository.insertCountries(countries);
+              if (!pendingNumbers.isEmpty()) {
+                seedJdbcRepository.insertEmergencyNumbers(pendingNumbers);
+                pendingNumbers.clear();
+              }
+            });
+    int read =
+        streamSeedFile(
+            "countries.json",
+            Country.class,
+            country -> {
+              if (country.getContinent() != null) {
+                String continentName = country.getContinent().getName();
+                Long continentId =
+                    continentName != null && !continentName.isBlank()
+                        ? continentIds.get(normalizeName(continentName))
+                        : null;
+                if (continentId == null) {
+                  throw new IllegalStateException(
+                      "Continent not found for country '%s' (name=%s). Refusing index fallback."
+                          .formatted(country.getName(), continentName));
+                }
+                country.setContinent(Continent.builder().id(continentId).build());
+              }
+              country.setId(ids.next());
+              idsByName.putIfAbsent(normalizeName(country.getName()), country.getId());
+              if (country.getEmergencyNumbers() != null) {
+                for (CountryEmergencyNumber number : country.getEmergencyNumbers()) {
+                  number.setId(emergencyNumberIds.next());
+                  number.setCountry(country);
+                  pendingNumbers.add(number);
+                }
+              }
+              batch.add(country);
+            });
+    requireRows(read, "countries.json");
+    batch.flush();
+    logger.info("Inserted {} countries from countries.json", read);
+    return idsByName;
   }
 
-  private void insertRegions() {
-    try {
-      Resource resource = getMainResource("static/seedData/regions.json");
-      Region[] entities = mapper.readValue(resource.getInputStream(), Region[].class);
-      if (entities == null || entities.length == 0) {
-        throw new IllegalStateException("No seed data found in regions.json");
-      }
-      logger.info("Read {} total entities from regions.json", entities.length);
-      List<Region> list = new ArrayList<>();
-      for (Region jsonEntity : entities) {
-        Region row = new Region();
-        row.setName(jsonEntity.getName());
-        row.setDescription(jsonEntity.getDescription());
-        row.setBoundingBox(jsonEntity.getBoundingBox());
-        if (jsonEntity.getCountry() != null) {
-          String countryName = jsonEntity.getCountry().getName();
-          Country country =
-              countryName != null && !countryName.isBlank()
-                  ? countryRepository.findByNameIgnoreCase(countryName).orElse(null)
-                  : null;
-          if (country == null) {
-            throw new IllegalStateException(
-                "Country not found for region '%s' (name=%s). Refusing index fallback."
-                    .formatted(jsonEntity.getName(), countryName));
-          }
-          row.setCountry(country);
-        }
-        list.add(row);
-      }
-      // LinkedHashMap keeps regions.json order so DB ids follow continent → country → region.
-      List<Region> deduplicated =
-          new ArrayList<>(
-              list.stream()
-                  .collect(
-                      Collectors.toMap(
-                          r -> regionKey(r.getCountry() != null ? r.getCountry().getId() : null, r.getName()),
-                          r -> r,
-                          (first, second) -> first,
-                          LinkedHashMap::new))
-                  .values());
-      regionRepository.saveAll(deduplicated);
-      regionRepository.flush();
-      logger.info("Inserted {} regions from regions.json", deduplicated.size());
-    } catch (IOException e) {
-      logger.error("Failed to read or parse seed data from regions.json: {}", e.getMessage(), e);
-      throw new IllegalStateException(e);
-    } catch (DataAccessException e) {
-      logger.error("Database access error while seeding from regions.json: {}", e.getMessage(), e);
-      throw e;
+  /**
+   * Returns DB region ids indexed by export id - 1 (export ids are the 1-based index in regions.json and
+   * follow continent-grouped country order, not any DB sort order). Duplicate country + name rows are
+   * inserted once; their export ids resolve to the first row.
+   */
+  private List<Long> insertRegions(Map<String, Long> countryIds) {
+    List<Long> idsByExportIndex = new ArrayList<>();
+    Map<String, Long> idsByRegionKey = new HashMap<>();
+    Map<String, Long> idsByNormalizedKey = new HashMap<>();
+    SequenceIds ids = new SequenceIds("region");
+    SeedBatch<Region> batch = new SeedBatch<>(seedJdbcRepository::insertRegions);
+    int read =
+        streamSeedFile(
+            "regions.json",
+            Region.class,
+            jsonEntity -> {
+              Long countryId = null;
+              if (jsonEntity.getCountry() != null) {
+                String countryName = jsonEntity.getCountry().getName();
+                countryId =
+                    countryName != null && !countryName.isBlank()
+                        ? countryIds.get(normalizeName(countryName))
+                        : null;
+                if (countryId == null) {
+                  throw new IllegalStateException(
+                      "Country not found for region '%s' (name=%s). Refusing index fallback."
+                          .formatted(jsonEntity.getName(), countryName));
+                }
+              }
+              String regionKey = regionKey(countryId, jsonEntity.getName());
+              if (!idsByRegionKey.containsKey(regionKey)) {
+                Region row = new Region();
+                row.setId(ids.next());
+                row.setName(jsonEntity.getName());
+                row.setDescription(jsonEntity.getDescription());
+                row.setBoundingBox(jsonEntity.getBoundingBox());
+                if (countryId != null) {
+                  row.setCountry(Country.builder().id(countryId).build());
+                }
+                idsByRegionKey.put(regionKey, row.getId());
+                idsByNormalizedKey.putIfAbsent(parentIdKey(countryId, row.getName()), row.getId());
+                batch.add(row);
+              }
+              idsByExportIndex.add(idsByNormalizedKey.get(parentIdKey(countryId, jsonEntity.getName())));
+            });
+    requireRows(read, "regions.json");
+    batch.flush();
+    logger.info("Inserted {} regions from regions.json", idsByRegionKey.size());
+    return idsByExportIndex;
+  }
+
+  /**
+   * Returns DB sub-region ids indexed by export id - 1 (1-based index in sub-regions.json), resolved by
+   * parent region + name.
+   */
+  private List<Long> insertSubRegions(List<Long> regionIdsByExportId) {
+    List<Long> idsByExportIndex = new ArrayList<>();
+    Map<String, Long> idsByRegionAndName = new HashMap<>();
+    SequenceIds ids = new SequenceIds("sub_region");
+    SeedBatch<SubRegion> batch = new SeedBatch<>(seedJdbcRepository::insertSubRegions);
+    int read =
+        streamSeedFile(
+            "sub-regions.json",
+            SubRegion.class,
+            jsonEntity -> {
+              SubRegion row = new SubRegion();
+              row.setId(ids.next());
+              row.setName(jsonEntity.getName());
+              row.setDescription(jsonEntity.getDescription());
+              Long regionId = null;
+              if (jsonEntity.getRegion() != null && jsonEntity.getRegion().getId() != null) {
+                regionId = byExportId(regionIdsByExportId, jsonEntity.getRegion().getId());
+                if (regionId != null) {
+                  row.setRegion(Region.builder().id(regionId).build());
+                } else {
+                  logger.warn(
+                      "Region export id {} not found for sub-region '{}'",
+                      jsonEntity.getRegion().getId(),
+                      jsonEntity.getName());
+                }
+              }
+              idsByRegionAndName.putIfAbsent(parentIdKey(regionId, row.getName()), row.getId());
+              idsByExportIndex.add(idsByRegionAndName.get(parentIdKey(regionId, row.getName())));
+              batch.add(row);
+            });
+    if (read == 0) {
+      logger.info("No seed data found in sub-regions.json - skipping sub-region seeding");
+      return idsByExportIndex;
     }
+    batch.flush();
+    logger.info("Inserted {} sub-regions from sub-regions.json", read);
+    return idsByExportIndex;
   }
 
-  private void insertSubRegions() {
-    try {
-      Resource resource = getMainResource("static/seedData/sub-regions.json");
-      SubRegion[] entities = mapper.readValue(resource.getInputStream(), SubRegion[].class);
-      if (entities == null || entities.length == 0) {
-        logger.info("No seed data found in sub-regions.json - skipping sub-region seeding");
-        return;
-      }
-      logger.info("Read {} total entities from sub-regions.json", entities.length);
-      // Export JSON ids follow regions.json order, not DB ORDER BY country.name.
-      Map<Long, Region> regionsByExportId = buildRegionsByExportId();
-      List<SubRegion> list = new ArrayList<>();
-      for (SubRegion jsonEntity : entities) {
-        SubRegion row = new SubRegion();
-        row.setName(jsonEntity.getName());
-        row.setDescription(jsonEntity.getDescription());
-        if (jsonEntity.getRegion() != null && jsonEntity.getRegion().getId() != null) {
-          Region region = regionsByExportId.get(jsonEntity.getRegion().getId());
-          if (region != null) {
-            row.setRegion(region);
-          } else {
-            logger.warn(
-                "Region export id {} not found for sub-region '{}'",
-                jsonEntity.getRegion().getId(),
-                jsonEntity.getName());
-          }
-        }
-        list.add(row);
-      }
-      subRegionRepository.saveAll(list);
-      subRegionRepository.flush();
-      logger.info("Inserted {} sub-regions from sub-regions.json", list.size());
-    } catch (IOException e) {
-      logger.error("Failed to read or parse seed data from sub-regions.json: {}", e.getMessage(), e);
-      throw new IllegalStateException(e);
-    } catch (DataAccessException e) {
-      logger.error("Database access error while seeding from sub-regions.json: {}", e.getMessage(), e);
-      throw e;
+  private void insertSurfSpots(
+      List<Long> regionIdsByExportId,
+      List<Long> subRegionIdsByExportId,
+      Map<String, Long> swellSeasonIds) {
+    SequenceIds ids = new SequenceIds("surf_spot");
+    SeedBatch<SurfSpot> batch = new SeedBatch<>(seedJdbcRepository::insertSurfSpots);
+    int read =
+        streamSeedFile(
+            "surf-spots.json",
+            SurfSpot.class,
+            spot -> {
+              if (spot.getRegion() != null && spot.getRegion().getId() != null) {
+                Long jsonRegionId = spot.getRegion().getId();
+                Long regionId = byExportId(regionIdsByExportId, jsonRegionId);
+                if (regionId != null) {
+                  spot.setRegion(Region.builder().id(regionId).build());
+                } else {
+                  logger.warn(
+                      "Region export id {} not found for surf spot '{}', skipping region reference",
+                      jsonRegionId,
+                      spot.getName());
+                  spot.setRegion(null);
+                }
+              }
+              if (spot.getSubRegion() != null && spot.getSubRegion().getId() != null) {
+                Long jsonSubRegionId = spot.getSubRegion().getId();
+                Long subRegionId = byExportId(subRegionIdsByExportId, jsonSubRegionId);
+                if (subRegionId != null) {
+                  spot.setSubRegion(SubRegion.builder().id(subRegionId).build());
+                } else {
+                  logger.warn(
+                      "SubRegion export id {} not found for surf spot '{}', skipping sub-region reference",
+                      jsonSubRegionId,
+                      spot.getName());
+                  spot.setSubRegion(null);
+                }
+              }
+              // JSON seed omits this flag; column is NOT NULL so null must not reach Postgres.
+              if (spot.getIsWslTourStop() == null) {
+                spot.setIsWslTourStop(false);
+              }
+              spot.setSwellSeason(null);
+              boolean skipSwell =
+                  Boolean.TRUE.equals(spot.getIsWavepool()) || Boolean.TRUE.equals(spot.getIsRiverWave());
+              if (!skipSwell) {
+                swellSeasonDeterminationService
+                    .determineSwellSeasonName(spot.getLatitude(), spot.getLongitude())
+                    .map(swellSeasonIds::get)
+                    .ifPresent(seasonId -> spot.setSwellSeason(SwellSeason.builder().id(seasonId).build()));
+              }
+              spot.setId(ids.next());
+              batch.add(spot);
+            });
+    if (read == 0) {
+      logger.info("No seed data found in surf-spots.json - skipping surf spot seeding");
+      return;
     }
+    batch.flush();
+    logger.info("Inserted {} surf spots from surf-spots.json", read);
   }
 
-  private void insertSurfSpots() {
-    try {
-      Resource resource = getMainResource("static/seedData/surf-spots.json");
-      SurfSpot[] entities = mapper.readValue(resource.getInputStream(), SurfSpot[].class);
-      if (entities == null || entities.length == 0) {
-        logger.info("No seed data found in surf-spots.json - skipping surf spot seeding");
-        return;
-      }
-      logger.info("Read {} total entities from surf-spots.json", entities.length);
-      Map<Long, Region> regionsByExportId = buildRegionsByExportId();
-      Map<Long, SubRegion> subRegionsByExportId = buildSubRegionsByExportId(regionsByExportId);
-      List<SurfSpot> list = new ArrayList<>();
-      for (SurfSpot spot : entities) {
-        if (spot.getRegion() != null && spot.getRegion().getId() != null) {
-          Long jsonRegionId = spot.getRegion().getId();
-          Region region = regionsByExportId.get(jsonRegionId);
-          if (region != null) {
-            spot.setRegion(region);
-          } else {
-            logger.warn(
-                "Region export id {} not found for surf spot '{}', skipping region reference",
-                jsonRegionId,
-                spot.getName());
-            spot.setRegion(null);
-          }
-        }
-        if (spot.getSubRegion() != null && spot.getSubRegion().getId() != null) {
-          Long jsonSubRegionId = spot.getSubRegion().getId();
-          SubRegion subRegion = subRegionsByExportId.get(jsonSubRegionId);
-          if (subRegion != null) {
-            spot.setSubRegion(subRegion);
-          } else {
-            logger.warn(
-                "SubRegion export id {} not found for surf spot '{}', skipping sub-region reference",
-                jsonSubRegionId,
-                spot.getName());
-            spot.setSubRegion(null);
-          }
-        }
-        // JSON seed omits this flag; column is NOT NULL so null must not reach Postgres.
-        if (spot.getIsWslTourStop() == null) {
-          spot.setIsWslTourStop(false);
-        }
-        boolean skipSwell =
-            Boolean.TRUE.equals(spot.getIsWavepool()) || Boolean.TRUE.equals(spot.getIsRiverWave());
-        if (!skipSwell && spot.getLatitude() != null && spot.getLongitude() != null) {
-          swellSeasonDeterminationService
-              .determineSwellSeason(spot.getLatitude(), spot.getLongitude())
-              .ifPresent(spot::setSwellSeason);
-        }
-        list.add(spot);
-      }
-      surfSpotRepository.saveAll(list);
-      surfSpotRepository.flush();
-      logger.info("Inserted {} surf spots from surf-spots.json", list.size());
+  /** Streams one seed file, mapping parse and database failures the same way for every level. */
+  private <T> int streamSeedFile(String fileName, Class<T> type, Consumer<T> consumer) {
+    try (InputStream input = getMainResource(SEED_DATA_PATH + fileName).getInputStream()) {
+      int read = JsonArrayStreamReader.forEachElement(mapper, input, type, consumer);
+      logger.info("Read {} total entities from {}", read, fileName);
+      return read;
     } catch (IOException e) {
-      logger.error("Failed to read or parse seed data from surf-spots.json: {}", e.getMessage(), e);
+      logger.error("Failed to read or parse seed data from {}: {}", fileName, e.getMessage(), e);
       throw new IllegalStateException(e);
     } catch (DataAccessException e) {
-      logger.error("Database access error while seeding from surf-spots.json: {}", e.getMessage(), e);
+      logger.error("Database access error while seeding from {}: {}", fileName, e.getMessage(), e);
       throw e;
     }
   }
 
-  /**
-   * Maps export region ids (1-based index in regions.json) to DB regions by country name + region
-   * name. Do not use DB sort order: export ids follow continent-grouped country order, while {@code
-   * findAllByOrderByCountryNameAscNameAsc} is global A-Z by country name and shifts Africa ids when
-   * e.g. American Samoa sorts between Algeria and Angola.
-   */
-  private Map<Long, Region> buildRegionsByExportId() throws IOException {
-    Region[] jsonRegions =
-        mapper.readValue(
-            getMainResource("static/seedData/regions.json").getInputStream(), Region[].class);
-    Map<String, Region> dbByCountryAndName = new HashMap<>();
-    for (Region region : regionRepository.findAll()) {
-      String countryName = region.getCountry() != null ? region.getCountry().getName() : null;
-      dbByCountryAndName.putIfAbsent(namesKey(countryName, region.getName()), region);
-    }
-    Map<Long, Region> byExportId = new HashMap<>();
-    if (jsonRegions == null) {
-      return byExportId;
+  private static void requireRows(int read, String fileName) {
+    if (read == 0) {
+      throw new IllegalStateException("No seed data found in " + fileName);
     }
-    for (int index = 0; index < jsonRegions.length; index++) {
-      Region jsonRegion = jsonRegions[index];
-      String countryName =
-          jsonRegion.getCountry() != null ? jsonRegion.getCountry().getName() : null;
-      Region dbRegion = dbByCountryAndName.get(namesKey(countryName, jsonRegion.getName()));
-      if (dbRegion != null) {
-        byExportId.put((long) index + 1, dbRegion);
-      } else {
-        logger.warn(
-            "No DB region for export id {} (country='{}', region='{}')",
-            index + 1,
-            countryName,
-            jsonRegion.getName());
-      }
+  }
+
+  static Long byExportId(List<Long> idsByExportIndex, Long exportId) {
+    if (exportId == null || exportId < 1 || exportId > idsByExportIndex.size()) {
+      return null;
     }
-    return byExportId;
+    return idsByExportIndex.get((int) (exportId - 1));
+  }
+
+  static String parentIdKey(Long parentId, String name) {
+    return (parentId != null ? parentId : 0L) + "|" + normalizeName(name);
+  }
+
+  static String normalizeName(String name) {
+    return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
   }
 
   /**
-   * Maps export sub-region ids (1-based index in sub-regions.json) to DB sub-regions by parent region
-   * + name.
+   * Hands out ids reserved from a table's serial sequence in blocks of {@link #BATCH_SIZE}, so a row's
+   * id is known as soon as it is parsed (children can reference it before the parent batch is flushed).
+   * Unused ids from the last block are simply skipped, like any other sequence gap.
    */
-  private Map<Long, SubRegion> buildSubRegionsByExportId(Map<Long, Region> regionsByExportId)
-      throws IOException {
-    SubRegion[] jsonSubRegions =
-        mapper.readValue(
-            getMainResource("static/seedData/sub-regions.json").getInputStream(), SubRegion[].class);
-    Map<String, SubRegion> dbByRegionAndName = new HashMap<>();
-    for (SubRegion subRegion : subRegionRepository.findAll()) {
-      Long regionId = subRegion.getRegion() != null ? subRegion.getRegion().getId() : null;
-      dbByRegionAndName.putIfAbsent(regionIdKey(regionId, subRegion.getName()), subRegion);
-    }
-    Map<Long, SubRegion> byExportId = new HashMap<>();
-    if (jsonSubRegions == null) {
-      return byExportId;
+  private final class SequenceIds {
+    private final String table;
+    private final Deque<Long> reserved = new ArrayDeque<>();
+
+    SequenceIds(String table) {
+      this.table = table;
     }
-    for (int index = 0; index < jsonSubRegions.length; index++) {
-      SubRegion jsonSubRegion = jsonSubRegions[index];
-      Region parentRegion = null;
-      if (jsonSubRegion.getRegion() != null && jsonSubRegion.getRegion().getId() != null) {
-        parentRegion = regionsByExportId.get(jsonSubRegion.getRegion().getId());
-      }
-      Long parentId = parentRegion != null ? parentRegion.getId() : null;
-      SubRegion dbSubRegion =
-          dbByRegionAndName.get(regionIdKey(parentId, jsonSubRegion.getName()));
-      if (dbSubRegion != null) {
-        byExportId.put((long) index + 1, dbSubRegion);
-      } else {
-        logger.warn(
-            "No DB sub-region for export id {} (regionExportId={}, name='{}')",
-            index + 1,
-            jsonSubRegion.getRegion() != null ? jsonSubRegion.getRegion().getId() : null,
-            jsonSubRegion.getName());
+
+    long next() {
+      if (reserved.isEmpty()) {
+        reserved.addAll(seedJdbcRepository.reserveIds(table, BATCH_SIZE));
       }
+      return reserved.removeFirst();
     }
-    return byExportId;
   }
 
-  private static String namesKey(String countryName, String regionName) {
-    return normalizeName(countryName) + "|" + normalizeName(regionName);
-  }
+  /** Buffers streamed rows and writes them through {@code writer} every {@link #BATCH_SIZE} rows. */
+  private static final class SeedBatch<T> {
+    private final List<T> rows = new ArrayList<>(BATCH_SIZE);
+    private final Consumer<List<T>> writer;
 
-  private static String regionIdKey(Long regionId, String name) {
-    return (regionId != null ? regionId : 0L) + "|" + normalizeName(name);
-  }
+    SeedBatch(Consumer<List<T>> writer) {
+      this.writer = writer;
+    }
 
-  private static String normalizeName(String name) {
-    return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
-  }
+    void add(T row) {
+      rows.add(row);
+      if (rows.size() >= BATCH_SIZE) {
+        flush();
+      }
+    }
 
-  private <T> void insertFromJson(
-      String fileName, Class<T[]> entityType, JpaRepository<T, ?> repository, String label) {
-    try {
-      Resource resource = getMainResource("static/seedData/" + fileName);
-      T[] entities = mapper.readValue(resource.getInputStream(), entityType);
-      if (entities == null || entities.length == 0) {
-        throw new IllegalStateException("No seed data found in " + fileName);
+    void flush() {
+      if (!rows.isEmpty()) {
+        writer.accept(rows);
+        rows.clear();
       }
-      logger.info("Read {} total entities from {}", entities.length, fileName);
-      List<T> list = Arrays.asList(entities);
-      repository.saveAll(list);
-      repository.flush();
-      logger.info("Inserted {} {} from {}", list.size(), label, fileName);
-    } catch (IOException e) {
-      logger.error("Failed to read or parse seed data from {}: {}", fileName, e.getMessage(), e);
-      throw new IllegalStateException(e);
-    } catch (DataAccessException e) {
-      logger.error("Database access error while seeding from {}: {}", fileName, e.getMessage(), e);
-      throw e;
     }
   }
 
   /**
    * Loads a resource from the classpath, preferring main resources over test resources. When both exist
-   * (e.g. in tests), uses the one from main so production/dev behaviour is unchanged.
+   * (e.g. in tests), uses the one from main so production/dev behaviour is unchanged. Shared with
+   * {@link ReferenceDataSyncService}.
    */
-  private Resource getMainResource(String path) throws IOException {
+  static Resource getMainResource(String path) throws IOException {
     ClassLoader loader = SeedService.class.getClassLoader();
     if (loader == null) {
       loader = ClassLoader.getSystemClassLoader();
@@ -0,0 +1,54 @@
+package com.lovettj.surfspotsapi.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+@Component
+@ConditionalOnProperty(
+        name = "app.session-auto-assign.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class SessionSpotAutoAssignScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionSpotAutoAssignScheduler.class);
+
+    private static final Tags JOB_TAGS = Tags.of("job", "session-spot-auto-assign");
+
+    private final SessionSpotAutoAssignService sessionSpotAutoAssignService;
+    private final MeterRegistry meterRegistry;
+
+    public SessionSpotAutoAssignScheduler(
+            SessionSpotAutoAssignService sessionSpotAutoAssignService, MeterRegistry meterRegistry) {
+        this.sessionSpotAutoAssignService = sessionSpotAutoAssignService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.session-auto-assign.check-ms:900000}",
+            initialDelayString = "${app.session-auto-assign.initial-delay-ms:60000}")
+    public void assignUnassignedSessions() {
+        try {
+            SessionSpotAutoAssignService.RunResult result = OutcomeTimer.record(
+                    meterRegistry, "scheduled.job", JOB_TAGS, sessionSpotAutoAssignService::assignUnassignedSessions);
+            if (result.assignedCount() > 0) {
+                logger.info(
+                        "Session spot auto-assign linked {} of {} scanned session(s)",
+                        result.assignedCount(),
+                        result.scannedCount());
+            }
+        } catch (RuntimeException assignException) {
+            logger.warn(
+                    "Session spot auto-assign failed: {}",
+                    assignException.getMessage(),
+                    assignException);
+        }
+    }
+}
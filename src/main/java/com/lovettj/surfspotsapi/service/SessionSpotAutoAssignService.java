@@ -0,0 +1,99 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lovettj.surfspotsapi.config.SessionSpotAutoAssignProperties;
+import com.lovettj.surfspotsapi.repository.JobCursorRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository.UnassignedGpsSession;
+import com.lovettj.surfspotsapi.service.SurfSpotLocationIndex.NearbySpot;
+
+/**
+ * Links completed GPS sessions that have no spot (across all users) to the approved spot they started at:
+ * the nearest one within {@link com.lovettj.surfspotsapi.util.CoordinateDistanceUtil#AT_SPOT_RADIUS_KM},
+ * found in the in-memory {@link SurfSpotLocationIndex}. Lineups where the nearest spot is ambiguous are left
+ * for the user to link, the same rule {@link NearbySurfSpotResolver} applies to naming a session.
+ *
+ * <p>Sessions are walked in id order, one batch per transaction; each batch saves its last id to
+ * {@code job_cursor} with its updates, so a run that stops (crash, deploy, {@code max-batches-per-run})
+ * continues from there. A pass that reaches the end resets the cursor, and the next run starts over so
+ * sessions near spots approved since can match.
+ */
+@Service
+public class SessionSpotAutoAssignService {
+
+    static final String JOB_NAME = "session-spot-auto-assign";
+
+    public record RunResult(int scannedCount, int assignedCount, boolean passCompleted) {}
+
+    private record BatchResult(int scannedCount, int assignedCount, long nextCursor) {}
+
+    private final SurfSessionJdbcRepository surfSessionJdbcRepository;
+    private final JobCursorRepository jobCursorRepository;
+    private final NearbySurfSpotResolver nearbySurfSpotResolver;
+    private final SessionSpotAutoAssignProperties properties;
+    private final UserSpotMembershipCache userSpotMembershipCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public SessionSpotAutoAssignService(
+            SurfSessionJdbcRepository surfSessionJdbcRepository,
+            JobCursorRepository jobCursorRepository,
+            NearbySurfSpotResolver nearbySurfSpotResolver,
+            SessionSpotAutoAssignProperties properties,
+            UserSpotMembershipCache userSpotMembershipCache,
+            PlatformTransactionManager transactionManager) {
+        this.surfSessionJdbcRepository = surfSessionJdbcRepository;
+        this.jobCursorRepository = jobCursorRepository;
+        this.nearbySurfSpotResolver = nearbySurfSpotResolver;
+        this.properties = properties;
+        this.userSpotMembershipCache = userSpotMembershipCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public RunResult assignUnassignedSessions() {
+        long cursor = jobCursorRepository.lastId(JOB_NAME);
+        int scannedCount = 0;
+        int assignedCount = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            long afterId = cursor;
+            BatchResult result = transactionTemplate.execute(status -> assignBatch(afterId));
+            scannedCount += result.scannedCount();
+            assignedCount += result.assignedCount();
+            cursor = result.nextCursor();
+            if (cursor == 0) {
+                return new RunResult(scannedCount, assignedCount, true);
+            }
+        }
+        return new RunResult(scannedCount, assignedCount, false);
+    }
+
+    private BatchResult assignBatch(long afterId) {
+        int batchSize = properties.getBatchSize();
+        List<UnassignedGpsSession> sessions = surfSessionJdbcRepository.findUnassignedGpsSessionsAfter(afterId, batchSize);
+        List<Long> sessionIds = new ArrayList<>();
+        List<Long> surfSpotIds = new ArrayList<>();
+        for (UnassignedGpsSession session : sessions) {
+            Optional<NearbySpot> spot = nearbySurfSpotResolver.findApprovedSpotNearCoordinates(
+                    session.startLatitude(), session.startLongitude());
+            if (spot.isPresent()) {
+                sessionIds.add(session.id());
+                surfSpotIds.add(spot.get().id());
+            }
+        }
+        int assignedCount = surfSessionJdbcRepository.assignSurfSpots(sessionIds, surfSpotIds);
+        if (assignedCount > 0) {
+            // Spots marked surfed here can belong to any user in the batch.
+            userSpotMembershipCache.evictAll();
+        }
+        // A short batch is the end of the pass: start over next run.
+        long nextCursor = sessions.size() < batchSize ? 0 : sessions.get(sessions.size() - 1).id();
+        jobCursorRepository.save(JOB_NAME, nextCursor);
+        return new BatchResult(sessions.size(), assignedCount, nextCursor);
+    }
+}
@@ -2,6 +2,7 @@ package com.lovettj.surfspotsapi.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -9,9 +10,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.lovettj.surfspotsapi.response.ApiErrors;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
@@ -21,6 +25,7 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.function.Supplier;
 
 @Service
 public class StorageService {
@@ -28,30 +33,40 @@ public class StorageService {
     private static final Logger logger = LoggerFactory.getLogger(StorageService.class);
     private static final Duration UPLOAD_URL_DURATION = Duration.ofMinutes(15);
     private static final Duration DOWNLOAD_URL_DURATION = Duration.ofHours(2);
+    private static final String THUMBNAIL_KEY_SUFFIX = "-thumb.jpg";
 
     private final String bucketName;
-    private final S3Presigner presigner;
-    private final S3Client s3Client;
+    // Resolved on first use so the S3 SDK is not initialised during startup (see S3Config).
+    private final Supplier<S3Presigner> presignerSupplier;
+    private final Supplier<S3Client> s3ClientSupplier;
 
     @Autowired
     public StorageService(
             @Value("${app.storage.s3.bucket}") String bucketName,
-            @Autowired(required = false) S3Presigner presigner,
-            @Autowired(required = false) S3Client s3Client) {
-        this.bucketName = bucketName;
-        this.presigner = presigner;
-        this.s3Client = s3Client;
+            ObjectProvider<S3Presigner> presignerProvider,
+            ObjectProvider<S3Client> s3ClientProvider) {
+        this(bucketName, presignerProvider::getIfAvailable, s3ClientProvider::getIfAvailable);
     }
 
     StorageService(String bucketName, S3Presigner presigner) {
         this(bucketName, presigner, null);
     }
 
+    StorageService(String bucketName, S3Presigner presigner, S3Client s3Client) {
+        this(bucketName, () -> presigner, () -> s3Client);
+    }
+
+    private StorageService(String bucketName, Supplier<S3Presigner> presignerSupplier, Supplier<S3Client> s3ClientSupplier) {
+        this.bucketName = bucketName;
+        this.presignerSupplier = presignerSupplier;
+        this.s3ClientSupplier = s3ClientSupplier;
+    }
+
     /**
      * Returns true if storage is configured (presigner bean available). When false, media upload will fail.
      */
     public boolean isStorageConfigured() {
-        return presigner != null;
+        return presignerSupplier.get() != null;
     }
 
     /**
@@ -79,7 +94,7 @@ public class StorageService {
                     .putObjectRequest(putObjectRequest)
                     .build();
 
-            return presigner.presignPutObject(presignRequest).url().toString();
+            return presignerSupplier.get().presignPutObject(presignRequest).url().toString();
         } catch (Exception exception) {
             throw new ResponseStatusException(
                     HttpStatus.SERVICE_UNAVAILABLE, ApiErrors.MEDIA_UPLOAD_UNAVAILABLE, exception);
@@ -101,6 +116,13 @@ public class StorageService {
         return String.format("%s/%s", basePath, mediaId);
     }
 
+    /**
+     * Object key for the server-generated thumbnail of a media object (stored next to the original).
+     */
+    public String generateThumbnailKey(String objectKey) {
+        return objectKey + THUMBNAIL_KEY_SUFFIX;
+    }
+
     /**
      * Generates a presigned URL for downloading a file from object storage.
      */
@@ -117,13 +139,67 @@ public class StorageService {
                     .signatureDuration(DOWNLOAD_URL_DURATION)
                     .getObjectRequest(getObjectRequest)
                     .build();
-            return presigner.presignGetObject(presignRequest).url().toString();
+            return presignerSupplier.get().presignGetObject(presignRequest).url().toString();
         } catch (Exception exception) {
             throw new ResponseStatusException(
                     HttpStatus.SERVICE_UNAVAILABLE, ApiErrors.MEDIA_UPLOAD_UNAVAILABLE, exception);
         }
     }
 
+    /**
+     * Reads a storage object into memory. Returns null when the S3 client is not configured, the object is
+     * missing, or it is larger than {@code maxBytes} (so a huge upload cannot exhaust the heap).
+     */
+    public byte[] getObjectBytes(String key, long maxBytes) {
+        S3Client s3Client = s3ClientSupplier.get();
+        if (key == null || key.isBlank() || s3Client == null) {
+            return null;
+        }
+
+        try (ResponseInputStream<GetObjectResponse> objectStream = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build())) {
+            Long contentLength = objectStream.response().contentLength();
+            if (contentLength != null && contentLength > maxBytes) {
+                logger.info("Skipping storage read; object too large. key={}, bytes={}", key, contentLength);
+                return null;
+            }
+            byte[] bytes = objectStream.readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE));
+            return bytes.length > maxBytes ? null : bytes;
+        } catch (Exception exception) {
+            logger.warn("Failed to read object from storage. key={}", key, exception);
+            return null;
+        }
+    }
+
+    /**
+     * Writes bytes to a storage object. Returns false when the S3 client is not configured or the write fails.
+     */
+    public boolean putObject(String key, byte[] bytes, String contentType) {
+        if (key == null || key.isBlank() || bytes == null) {
+            return false;
+        }
+
+        S3Client s3Client = s3ClientSupplier.get();
+        if (s3Client == null) {
+            logger.warn("Media write requested but S3 client is not configured.");
+            return false;
+        }
+
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromBytes(bytes));
+            return true;
+        } catch (Exception exception) {
+            logger.warn("Failed to write object to storage. key={}", key, exception);
+            return false;
+        }
+    }
+
     /**
      * Deletes a storage object when a key is provided.
      * Returns false when key is missing or storage is not configured for delete.
@@ -133,6 +209,7 @@ public class StorageService {
             return false;
         }
 
+        S3Client s3Client = s3ClientSupplier.get();
         if (s3Client == null) {
             logger.warn("Media delete requested but S3 client is not configured.");
             return false;
@@ -0,0 +1,298 @@
+package com.lovettj.surfspotsapi.service;
+
+import com.lovettj.surfspotsapi.dto.SurfSessionImportItemDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportResultDTO;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.Surfboard;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.SessionImportOutcome;
+import com.lovettj.surfspotsapi.enums.SessionStatus;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository.ExternalSessionKey;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfboardRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.requests.SurfSessionImportRequest;
+import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
+import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.SurfSessionService.ResolvedTiming;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService.SessionKeys;
+import com.lovettj.surfspotsapi.util.StringUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of synced sessions (wearable and partner backfills) in one call. Same rules as
+ * {@link SurfSessionService#createSession} per item, but set-based: one query each for the spots, the
+ * surfboards and the already-imported external ids, then a single JDBC batch insert.
+ *
+ * <p>Items fail individually: a bad item is reported as {@link SessionImportOutcome#INVALID} and an external
+ * id the user already has (from an earlier call, earlier in the batch, or a concurrent import that won the
+ * insert) as {@link SessionImportOutcome#DUPLICATE}, so a replayed backfill is safe and does not 409.
+ */
+@Service
+public class SurfSessionImportService {
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    private final SurfSessionJdbcRepository surfSessionJdbcRepository;
+    private final SurfSpotRepository surfSpotRepository;
+    private final SurfboardRepository surfboardRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final UserProfileStatsService userProfileStatsService;
+    private final UserSpotMembershipCache userSpotMembershipCache;
+
+    public SurfSessionImportService(
+            SurfSessionJdbcRepository surfSessionJdbcRepository,
+            SurfSpotRepository surfSpotRepository,
+            SurfboardRepository surfboardRepository,
+            UserRepository userRepository,
+            Validator validator,
+            UserProfileStatsService userProfileStatsService,
+            UserSpotMembershipCache userSpotMembershipCache) {
+        this.surfSessionJdbcRepository = surfSessionJdbcRepository;
+        this.surfSpotRepository = surfSpotRepository;
+        this.surfboardRepository = surfboardRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.userProfileStatsService = userProfileStatsService;
+        this.userSpotMembershipCache = userSpotMembershipCache;
+    }
+
+    /** An item that passed the per-item checks, waiting on the bulk lookups. */
+    private record Candidate(int index, SurfSessionRequest request, ExternalSessionKey key) {}
+
+    @Transactional
+    public SurfSessionImportResultDTO importSessions(String userId, SurfSessionImportRequest request) {
+        List<SurfSessionRequest> items = request.getSessions();
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.SURF_SESSION_IMPORT_BATCH_SIZE_INVALID);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, ApiErrors.USER_NOT_FOUND));
+
+        SurfSessionImportItemDTO[] results = new SurfSessionImportItemDTO[items.size()];
+        List<Candidate> candidates = new ArrayList<>();
+        Set<ExternalSessionKey> keysInBatch = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            SurfSessionRequest item = items.get(index);
+            if (item == null) {
+                results[index] = invalid(index, null, ApiErrors.SURF_SESSION_IMPORT_EXTERNAL_ID_REQUIRED);
+                continue;
+            }
+            String externalId = StringUtils.blankToNull(item.getExternalSessionId());
+            ExternalSessionKey key = externalId != null && item.getExternalSessionProvider() != null
+                    ? new ExternalSessionKey(item.getExternalSessionProvider(), externalId)
+                    : null;
+            String problem = firstProblem(item, key);
+            if (problem != null) {
+                results[index] = invalid(index, item, problem);
+            } else if (!keysInBatch.add(key)) {
+                results[index] = outcome(index, key, SessionImportOutcome.DUPLICATE).build();
+            } else {
+                candidates.add(new Candidate(index, item, key));
+            }
+        }
+
+        Set<ExternalSessionKey> alreadyImported = surfSessionJdbcRepository.findExistingExternalSessions(
+                userId, candidates.stream().map(Candidate::key).toList());
+        Map<Long, SurfSpot> spots = surfSpotRepository
+                .findAllById(candidates.stream().map(candidate -> candidate.request().getSurfSpotId()).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(SurfSpot::getId, Function.identity()));
+        Set<String> surfboardIds = candidates.stream()
+                .map(candidate -> StringUtils.blankToNull(candidate.request().getSurfboardId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Surfboard> surfboards = surfboardIds.isEmpty()
+                ? Map.of()
+                : surfboardRepository.findByUserIdAndIdIn(userId, surfboardIds).stream()
+                        .collect(Collectors.toMap(Surfboard::getId, Function.identity()));
+
+        List<Candidate> accepted = new ArrayList<>();
+        List<SurfSession> rows = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            SurfSessionRequest item = candidate.request();
+            if (alreadyImported.contains(candidate.key())) {
+                results[candidate.index()] =
+                        outcome(candidate.index(), candidate.key(), SessionImportOutcome.DUPLICATE).build();
+                continue;
+            }
+            SurfSpot surfSpot = spots.get(item.getSurfSpotId());
+            if (surfSpot == null) {
+                results[candidate.index()] = invalid(candidate.index(), item, ApiErrors.SURF_SPOT_NOT_FOUND);
+                continue;
+            }
+            String surfboardId = StringUtils.blankToNull(item.getSurfboardId());
+            Surfboard surfboard = surfboardId != null ? surfboards.get(surfboardId) : null;
+            if (surfboardId != null && surfboard == null) {
+                results[candidate.index()] =
+                        invalid(candidate.index(), item, ApiErrors.SURFBOARD_NOT_FOUND_FOR_USER);
+                continue;
+            }
+            ResolvedTiming timing;
+            try {
+                timing = SurfSessionService.resolveTiming(item, surfSpot);
+            } catch (ResponseStatusException exception) {
+                results[candidate.index()] = invalid(candidate.index(), item, exception.getReason());
+                continue;
+            }
+            accepted.add(candidate);
+            rows.add(toRow(user, surfSpot, surfboard, candidate, timing));
+        }
+
+        adoptSkillLevelIfUnset(user, accepted);
+        applySessionSkillLevels(user, rows, accepted);
+
+        List<Long> ids = surfSessionJdbcRepository.reserveSessionIds(rows.size());
+        for (int position = 0; position < rows.size(); position++) {
+            rows.get(position).setId(ids.get(position));
+        }
+        Set<Long> inserted = surfSessionJdbcRepository.insertSessionsIgnoringConflicts(rows);
+        Set<Long> surfedSpotIds = new LinkedHashSet<>();
+        List<SessionKeys> createdSessions = new ArrayList<>();
+        for (int position = 0; position < rows.size(); position++) {
+            SurfSession row = rows.get(position);
+            Candidate candidate = accepted.get(position);
+            if (inserted.contains(row.getId())) {
+                surfedSpotIds.add(row.getSurfSpot().getId());
+                createdSessions.add(SessionKeys.of(row));
+                results[candidate.index()] = outcome(candidate.index(), candidate.key(), SessionImportOutcome.CREATED)
+                        .sessionId(row.getId())
+                        .build();
+            } else {
+                // Lost the insert to a concurrent import of the same external session.
+                results[candidate.index()] =
+                        outcome(candidate.index(), candidate.key(), SessionImportOutcome.DUPLICATE).build();
+            }
+        }
+        userProfileStatsService.sessionsAdded(userId, createdSessions);
+        // Same as createSession: logging a session puts the spot in the user's surfed spots.
+        Set<Long> newlySurfedSpotIds =
+                surfSessionJdbcRepository.insertUserSurfSpotsIgnoringConflicts(userId, surfedSpotIds);
+        userProfileStatsService.surfedSpotsAdded(userId, newlySurfedSpotIds);
+        if (!newlySurfedSpotIds.isEmpty()) {
+            userSpotMembershipCache.evict(userId);
+        }
+
+        return toResult(List.of(results));
+    }
+
+    /**
+     * Bean validation on the item (the constraints {@code @Valid} applies to a single create), then the
+     * import-only requirements: a spot and an external sync key.
+     */
+    private String firstProblem(SurfSessionRequest item, ExternalSessionKey key) {
+        String violation = validator.validate(item).stream()
+                .sorted(Comparator.comparing(entry -> entry.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .findFirst()
+                .orElse(null);
+        if (violation != null) {
+            return violation;
+        }
+        if (key == null) {
+            return ApiErrors.SURF_SESSION_IMPORT_EXTERNAL_ID_REQUIRED;
+        }
+        if (item.getSurfSpotId() == null) {
+            return ApiErrors.SURF_SPOT_NOT_FOUND;
+        }
+        return null;
+    }
+
+    /** Like a single create, the first session that carries a skill fills an empty profile skill. */
+    private void adoptSkillLevelIfUnset(User user, List<Candidate> accepted) {
+        if (user.getSkillLevel() != null) {
+            return;
+        }
+        accepted.stream()
+                .map(candidate -> candidate.request().getSkillLevel())
+                .filter(Objects::nonNull)
+                .findFirst()
+                .ifPresent(skillLevel -> {
+                    user.setSkillLevel(skillLevel);
+                    userRepository.save(user);
+                });
+    }
+
+    private static void applySessionSkillLevels(User user, List<SurfSession> rows, List<Candidate> accepted) {
+        SkillLevel profileSkill = user.getSkillLevel();
+        for (int position = 0; position < rows.size(); position++) {
+            rows.get(position).setSkillLevel(
+                    profileSkill != null ? profileSkill : accepted.get(position).request().getSkillLevel());
+        }
+    }
+
+    private static SurfSession toRow(
+            User user, SurfSpot surfSpot, Surfboard surfboard, Candidate candidate, ResolvedTiming timing) {
+        SurfSessionRequest item = candidate.request();
+        return SurfSession.builder()
+                .user(user)
+                .surfSpot(surfSpot)
+                .surfboard(surfboard)
+                .status(SessionStatus.COMPLETED)
+                .sessionDate(timing.sessionDate())
+                .durationMinutes(timing.durationMinutes())
+                .sessionStartInstant(timing.sessionStartInstant())
+                .sessionEndInstant(timing.sessionEndInstant())
+                .externalSessionProvider(candidate.key().provider())
+                .externalSessionId(candidate.key().externalSessionId())
+                .waveSize(item.getWaveSize())
+                .crowdLevel(item.getCrowdLevel())
+                .waveFace(item.getWaveFace())
+                .sessionRating(item.getSessionRating())
+                .swellDirection(StringUtils.blankToNull(item.getSwellDirection()))
+                .windDirection(StringUtils.blankToNull(item.getWindDirection()))
+                .tide(item.getTide())
+                .sessionNotes(StringUtils.blankToNull(item.getSessionNotes()))
+                .build();
+    }
+
+    private static SurfSessionImportItemDTO.SurfSessionImportItemDTOBuilder outcome(
+            int index, ExternalSessionKey key, SessionImportOutcome outcome) {
+        return SurfSessionImportItemDTO.builder()
+                .index(index)
+                .externalSessionProvider(key.provider())
+                .externalSessionId(key.externalSessionId())
+                .outcome(outcome);
+    }
+
+    private static SurfSessionImportItemDTO invalid(int index, SurfSessionRequest item, String message) {
+        return SurfSessionImportItemDTO.builder()
+                .index(index)
+                .externalSessionProvider(item != null ? item.getExternalSessionProvider() : null)
+                .externalSessionId(item != null ? StringUtils.blankToNull(item.getExternalSessionId()) : null)
+                .outcome(SessionImportOutcome.INVALID)
+                .message(message)
+                .build();
+    }
+
+    private static SurfSessionImportResultDTO toResult(List<SurfSessionImportItemDTO> items) {
+        Map<SessionImportOutcome, Long> counts = items.stream()
+                .collect(Collectors.groupingBy(SurfSessionImportItemDTO::getOutcome, Collectors.counting()));
+        return SurfSessionImportResultDTO.builder()
+                .createdCount(counts.getOrDefault(SessionImportOutcome.CREATED, 0L).intValue())
+                .duplicateCount(counts.getOrDefault(SessionImportOutcome.DUPLICATE, 0L).intValue())
+                .invalidCount(counts.getOrDefault(SessionImportOutcome.INVALID, 0L).intValue())
+                .items(items)
+                .build();
+    }
+}
@@ -12,6 +12,7 @@ import com.lovettj.surfspotsapi.entity.Surfboard;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.enums.CrowdLevel;
 import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
 import com.lovettj.surfspotsapi.enums.SessionStatus;
 import com.lovettj.surfspotsapi.enums.SkillLevel;
 import com.lovettj.surfspotsapi.repository.SurfSessionMediaRepository;
@@ -25,6 +26,7 @@ import com.lovettj.surfspotsapi.requests.LinkSessionsToSpotRequest;
 import com.lovettj.surfspotsapi.requests.StartLiveSurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
 import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService.SessionKeys;
 import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
 import com.lovettj.surfspotsapi.util.SessionTimeZoneUtil;
 import com.lovettj.surfspotsapi.util.StringUtils;
@@ -47,13 +49,11 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -64,7 +64,7 @@ public class SurfSessionService {
     private static final int MIN_SAMPLE_FOR_SKILL_SEGMENT = 3;
     private static final int MAX_SESSION_DURATION_MINUTES = 24 * 60;
 
-    private record ResolvedTiming(
+    record ResolvedTiming(
             LocalDate sessionDate, Integer durationMinutes, Instant sessionStartInstant, Instant sessionEndInstant) {}
 
     private final SurfSessionRepository surfSessionRepository;
@@ -75,6 +75,8 @@ public class SurfSessionService {
     private final UserSurfSpotService userSurfSpotService;
     private final StorageService storageService;
     private final SessionNotificationService sessionNotificationService;
+    private final MediaThumbnailService mediaThumbnailService;
+    private final UserProfileStatsService userProfileStatsService;
 
     public SurfSessionService(
             SurfSessionRepository surfSessionRepository,
@@ -84,7 +86,9 @@ public class SurfSessionService {
             SurfboardRepository surfboardRepository,
             UserSurfSpotService userSurfSpotService,
             StorageService storageService,
-            SessionNotificationService sessionNotificationService) {
+            SessionNotificationService sessionNotificationService,
+            MediaThumbnailService mediaThumbnailService,
+            UserProfileStatsService userProfileStatsService) {
         this.surfSessionRepository = surfSessionRepository;
         this.surfSessionMediaRepository = surfSessionMediaRepository;
         this.surfSpotRepository = surfSpotRepository;
@@ -93,6 +97,8 @@ public class SurfSessionService {
         this.userSurfSpotService = userSurfSpotService;
         this.storageService = storageService;
         this.sessionNotificationService = sessionNotificationService;
+        this.mediaThumbnailService = mediaThumbnailService;
+        this.userProfileStatsService = userProfileStatsService;
     }
 
     @Transactional
@@ -138,6 +144,7 @@ public class SurfSessionService {
                 session, request, timing, userSkillLevel, surfboard);
 
         persistSessionOrConflictOnDuplicateExternalId(session, externalSync != null);
+        userProfileStatsService.sessionChanged(request.getUserId(), null, SessionKeys.of(session));
 
         // Idempotent: ensures the spot appears in surfed spots without a separate "I surfed here" step.
         userSurfSpotService.addUserSurfSpot(request.getUserId(), request.getSurfSpotId());
@@ -187,6 +194,7 @@ public class SurfSessionService {
             }
             throw exception;
         }
+        userProfileStatsService.sessionChanged(userId, null, SessionKeys.of(session));
         sessionNotificationService.notifySessionStarted(user, session);
 
         SurfSessionListItemDTO dto = toListItem(session);
@@ -236,6 +244,7 @@ public class SurfSessionService {
         long recordedMinutes = Math.min(betweenMinutes, MAX_SESSION_DURATION_MINUTES);
 
         Surfboard surfboard = loadOptionalSurfboardForLiveSessionRequest(request.getSurfboardId(), userId);
+        SessionKeys statKeysBefore = SessionKeys.of(session);
 
         session.setSkillLevel(skillForSession);
         session.setSessionEndInstant(endInstant);
@@ -254,6 +263,7 @@ public class SurfSessionService {
         applyLiveSessionSurfSpotAssignment(session, userId, request.getSurfSpotId());
 
         surfSessionRepository.save(session);
+        userProfileStatsService.sessionChanged(userId, statKeysBefore, SessionKeys.of(session));
         sessionNotificationService.notifySessionEnded(user, session);
 
         SurfSessionListItemDTO dto = toListItem(session);
@@ -310,6 +320,7 @@ public class SurfSessionService {
         if (session.getStatus() == SessionStatus.IN_PROGRESS) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.SURF_SESSION_IN_PROGRESS_USE_END);
         }
+        SessionKeys statKeysBefore = SessionKeys.of(session);
 
         if (hasRecordedLiveStartLocation(session)) {
             applyLiveSessionSurfSpotAssignment(session, userId, request.getSurfSpotId());
@@ -340,6 +351,7 @@ public class SurfSessionService {
                 session, request, timing, skillForSession, surfboard);
 
         surfSessionRepository.save(session);
+        userProfileStatsService.sessionChanged(userId, statKeysBefore, SessionKeys.of(session));
     }
 
     /**
@@ -348,62 +360,33 @@ public class SurfSessionService {
      */
     @Transactional
     public LinkSessionsToSpotResultDTO linkSessionsToSpot(String userId, LinkSessionsToSpotRequest request) {
-        SurfSpot surfSpot = surfSpotRepository
-                .findById(request.getSurfSpotId())
-                .orElseThrow(
-                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, ApiErrors.SURF_SPOT_NOT_FOUND));
-
-        double anchorLatitude = request.getAnchorLatitude();
-        double anchorLongitude = request.getAnchorLongitude();
+        Long surfSpotId = request.getSurfSpotId();
+        if (!surfSpotRepository.existsById(surfSpotId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ApiErrors.SURF_SPOT_NOT_FOUND);
+        }
 
-        Set<Long> sessionIdsToLink = new HashSet<>();
         if (request.getSessionId() != null) {
-            SurfSession explicitSession = surfSessionRepository
-                    .findById(request.getSessionId())
+            String ownerId = surfSessionRepository
+                    .findUserIdById(request.getSessionId())
                     .orElseThrow(
                             () -> new ResponseStatusException(HttpStatus.NOT_FOUND, ApiErrors.SURF_SESSION_NOT_FOUND));
-            if (!explicitSession.getUser().getId().equals(userId)) {
+            if (!ownerId.equals(userId)) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, ApiErrors.SURF_SESSION_ACCESS_FORBIDDEN);
             }
-            if (explicitSession.getStatus() != SessionStatus.IN_PROGRESS
-                    && hasRecordedLiveStartLocation(explicitSession)
-                    && explicitSession.getSurfSpot() == null) {
-                sessionIdsToLink.add(explicitSession.getId());
-            }
-        }
-
-        List<SurfSession> candidates =
-                surfSessionRepository.findUnassignedWithStartLocationByUserIdExcludingInProgress(
-                        userId, SessionStatus.IN_PROGRESS);
-        for (SurfSession candidate : candidates) {
-            double distanceKm = CoordinateDistanceUtil.distanceKm(
-                    candidate.getStartLatitude(),
-                    candidate.getStartLongitude(),
-                    anchorLatitude,
-                    anchorLongitude);
-            if (distanceKm <= CoordinateDistanceUtil.AT_SPOT_RADIUS_KM) {
-                sessionIdsToLink.add(candidate.getId());
-            }
         }
 
-        int linkedSessionCount = 0;
-        for (Long sessionId : sessionIdsToLink) {
-            SurfSession session = surfSessionRepository
-                    .findById(sessionId)
-                    .orElseThrow(
-                            () -> new ResponseStatusException(HttpStatus.NOT_FOUND, ApiErrors.SURF_SESSION_NOT_FOUND));
-            if (!session.getUser().getId().equals(userId)) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, ApiErrors.SURF_SESSION_ACCESS_FORBIDDEN);
-            }
-            if (session.getStatus() == SessionStatus.IN_PROGRESS || session.getSurfSpot() != null) {
-                continue;
-            }
-            if (!hasRecordedLiveStartLocation(session)) {
-                continue;
-            }
-            applyLiveSessionSurfSpotAssignment(session, userId, surfSpot.getId());
-            surfSessionRepository.save(session);
-            linkedSessionCount++;
+        // Ownership, status and "still spotless" are predicates of the UPDATE, so a session that changed since
+        // the client listed it is skipped rather than overwritten.
+        int linkedSessionCount = surfSessionRepository.linkUnassignedSessionsNear(
+                userId,
+                surfSpotId,
+                request.getAnchorLatitude(),
+                request.getAnchorLongitude(),
+                CoordinateDistanceUtil.AT_SPOT_RADIUS_KM,
+                request.getSessionId());
+        if (linkedSessionCount > 0) {
+            userProfileStatsService.sessionsLinkedToSpot(userId, surfSpotId, linkedSessionCount);
+            userSurfSpotService.addUserSurfSpot(userId, surfSpotId);
         }
 
         return LinkSessionsToSpotResultDTO.builder()
@@ -474,6 +457,7 @@ public class SurfSessionService {
             }
         }
         surfSessionRepository.delete(session);
+        userProfileStatsService.sessionChanged(userId, SessionKeys.of(session), null);
     }
 
     private void deleteSessionMediaObjectFromStorage(SurfSessionMedia media) {
@@ -485,6 +469,7 @@ public class SurfSessionService {
                 mediaType,
                 "surf-sessions/media");
         storageService.deleteObject(objectKey);
+        storageService.deleteObject(media.getThumbObjectKey());
     }
 
     /**
@@ -504,8 +489,8 @@ public class SurfSessionService {
     }
 
     /**
-     * Sessions page for a user: DB-backed headline stats plus the full session list (newest first),
-     * same bundle pattern as user-spots / watch list.
+     * Sessions page for a user: headline stats from the user's profile counters plus the full session list
+     * (newest first), same bundle pattern as user-spots / watch list.
      */
     @Transactional(readOnly = true)
     public UserSurfSessionsDTO getSurfSessionsForUser(String userId) {
@@ -519,10 +504,11 @@ public class SurfSessionService {
                 .map(this::toListItem)
                 .toList();
         sessions.forEach(this::applySignedMediaUrls);
+        UserProfileStats stats = userProfileStatsService.getStats(userId);
         return UserSurfSessionsDTO.builder()
-                .totalSessions(surfSessionRepository.countAllByUserId(userId))
-                .spotsSurfedCount(surfSessionRepository.countDistinctSurfSpotsByUserId(userId))
-                .boardsUsedCount(surfSessionRepository.countDistinctBoardsByUserId(userId))
+                .totalSessions(stats.total(ProfileStat.SESSION))
+                .spotsSurfedCount(stats.distinctCount(ProfileStat.SESSION_SPOT))
+                .boardsUsedCount(stats.distinctCount(ProfileStat.SESSION_BOARD))
                 .sessions(sessions)
                 .build();
     }
@@ -630,7 +616,9 @@ public class SurfSessionService {
             try {
                 String signedUrl = storageService.generatePresignedDownloadUrl(resolvedKey);
                 mediaDto.setOriginalUrl(signedUrl);
-                mediaDto.setThumbUrl(signedUrl);
+                mediaDto.setThumbUrl(mediaDto.getThumbObjectKey() != null
+                        ? storageService.generatePresignedDownloadUrl(mediaDto.getThumbObjectKey())
+                        : signedUrl);
             } catch (Exception exception) {
                 logger.warn("Failed to presign surf session media URL. mediaId={}, keeping original URL.", mediaDto.getId(), exception);
             }
@@ -674,6 +662,8 @@ public class SurfSessionService {
                 .mediaType(mediaType)
                 .build();
         media = surfSessionMediaRepository.save(media);
+        mediaThumbnailService.generateAfterCommit(
+                MediaThumbnailService.MediaOwner.SURF_SESSION, media.getId(), objectKey, mediaType);
         return new SurfSessionMediaDTO(media);
     }
 
@@ -780,7 +770,7 @@ public class SurfSessionService {
      * Local calendar fields for instant-based sessions are derived using the surf spot's {@link SurfSpot#getIanaZoneId()}
      * when set; otherwise UTC.
      */
-    private ResolvedTiming resolveTiming(SurfSessionRequest request, SurfSpot surfSpot) {
+    static ResolvedTiming resolveTiming(SurfSessionRequest request, SurfSpot surfSpot) {
         boolean usesInstants =
                 request.getSessionStartInstant() != null || request.getSessionEndInstant() != null;
         if (usesInstants) {
@@ -800,11 +790,11 @@ public class SurfSessionService {
         return SessionTimeZoneUtil.zoneForSpot(surfSpot);
     }
 
-    private ZoneId zoneForSpotDisplay(SurfSpot surfSpot) {
+    private static ZoneId zoneForSpotDisplay(SurfSpot surfSpot) {
         return SessionTimeZoneUtil.zoneForSpot(surfSpot);
     }
 
-    private ResolvedTiming resolveFromInstants(SurfSessionRequest request, SurfSpot surfSpot) {
+    private static ResolvedTiming resolveFromInstants(SurfSessionRequest request, SurfSpot surfSpot) {
         Instant start = request.getSessionStartInstant();
         Instant end = request.getSessionEndInstant();
         ZoneId zone = zoneForSpotDisplay(surfSpot);
@@ -837,7 +827,7 @@ public class SurfSessionService {
         return new ResolvedTiming(sessionDate, null, start, null);
     }
 
-    private ResolvedTiming resolveFromManualLocalTimes(
+    private static ResolvedTiming resolveFromManualLocalTimes(
             SurfSessionRequest request, SurfSpot surfSpot, LocalDate sessionDate) {
         LocalTime start = request.getSessionStartTime();
         LocalTime end = request.getSessionEndTime();
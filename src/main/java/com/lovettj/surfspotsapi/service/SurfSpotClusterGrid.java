@@ -0,0 +1,193 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+
+/**
+ * Hierarchical grid of spot clusters over Web Mercator: level {@code L} splits the world into
+ * {@code 2^L x 2^L} square cells, and every cell has 4 children one level down. Points are sorted once by
+ * the Morton (Z-order) key of their finest cell, which makes every cell at every level a contiguous run,
+ * so all levels are aggregated in one pass each without re-bucketing.
+ *
+ * <p>A cluster's position is the mean of its members' coordinates and its representative is the member
+ * nearest that mean, so a one-spot cluster sits exactly on the spot.
+ */
+final class SurfSpotClusterGrid {
+
+    static final int MAX_LEVEL = 16;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    record Point(long id, String name, double latitude, double longitude) {}
+
+    record Cluster(int count, double latitude, double longitude, Point representative) {}
+
+    private record Level(long[] keys, Cluster[] clusters) {
+        static final Level EMPTY = new Level(new long[0], new Cluster[0]);
+    }
+
+    private final Level[] levels;
+
+    private SurfSpotClusterGrid(Level[] levels) {
+        this.levels = levels;
+    }
+
+    /** Precomputes every level, for the shared snapshot of approved spots. */
+    static SurfSpotClusterGrid build(List<Point> points) {
+        KeyedPoints sorted = KeyedPoints.sort(points);
+        Level[] levels = new Level[MAX_LEVEL + 1];
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            levels[level] = aggregate(sorted, level);
+        }
+        return new SurfSpotClusterGrid(levels);
+    }
+
+    /** Clusters at one level for an ad hoc point set (a filtered query), without building the other levels. */
+    static List<Cluster> clusters(List<Point> points, int level, BoundingBox bounds) {
+        return withinBounds(aggregate(KeyedPoints.sort(points), checkedLevel(level)), bounds);
+    }
+
+    /**
+     * Precomputed clusters at {@code level} whose position lies within {@code bounds}, with {@code extraPoints}
+     * (a caller's own private and pending spots) folded into the cells they fall in.
+     */
+    List<Cluster> clusters(int level, BoundingBox bounds, List<Point> extraPoints) {
+        Level precomputed = levels[checkedLevel(level)];
+        if (extraPoints.isEmpty()) {
+            return withinBounds(precomputed, bounds);
+        }
+        return withinBounds(merge(precomputed, aggregate(KeyedPoints.sort(extraPoints), level)), bounds);
+    }
+
+    private static int checkedLevel(int level) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException("Cluster level must be between 0 and " + MAX_LEVEL);
+        }
+        return level;
+    }
+
+    private static Level aggregate(KeyedPoints sorted, int level) {
+        int shift = 2 * (MAX_LEVEL - level);
+        List<Cluster> clusters = new ArrayList<>();
+        long[] keys = new long[sorted.points.length];
+        int start = 0;
+        while (start < sorted.points.length) {
+            long key = sorted.keys[start] >>> shift;
+            int end = start + 1;
+            while (end < sorted.points.length && sorted.keys[end] >>> shift == key) {
+                end++;
+            }
+            keys[clusters.size()] = key;
+            clusters.add(cluster(sorted.points, start, end));
+            start = end;
+        }
+        return new Level(Arrays.copyOf(keys, clusters.size()), clusters.toArray(Cluster[]::new));
+    }
+
+    private static Cluster cluster(Point[] points, int start, int end) {
+        double latitudeSum = 0;
+        double longitudeSum = 0;
+        for (int index = start; index < end; index++) {
+            latitudeSum += points[index].latitude();
+            longitudeSum += points[index].longitude();
+        }
+        int count = end - start;
+        double latitude = latitudeSum / count;
+        double longitude = longitudeSum / count;
+
+        double longitudeScale = Math.cos(Math.toRadians(latitude));
+        Point representative = points[start];
+        double best = Double.MAX_VALUE;
+        for (int index = start; index < end; index++) {
+            double dLatitude = points[index].latitude() - latitude;
+            double dLongitude = (points[index].longitude() - longitude) * longitudeScale;
+            double distance = dLatitude * dLatitude + dLongitude * dLongitude;
+            if (distance < best) {
+                best = distance;
+                representative = points[index];
+            }
+        }
+        return new Cluster(count, latitude, longitude, representative);
+    }
+
+    /** Both levels are sorted by key; cells present in both are combined, keeping the larger side's representative. */
+    private static Level merge(Level first, Level second) {
+        long[] keys = new long[first.keys.length + second.keys.length];
+        Cluster[] clusters = new Cluster[keys.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.keys.length || j < second.keys.length) {
+            if (j == second.keys.length || (i < first.keys.length && first.keys[i] < second.keys[j])) {
+                keys[size] = first.keys[i];
+                clusters[size++] = first.clusters[i++];
+            } else if (i == first.keys.length || second.keys[j] < first.keys[i]) {
+                keys[size] = second.keys[j];
+                clusters[size++] = second.clusters[j++];
+            } else {
+                keys[size] = first.keys[i];
+                clusters[size++] = combine(first.clusters[i++], second.clusters[j++]);
+            }
+        }
+        return new Level(Arrays.copyOf(keys, size), Arrays.copyOf(clusters, size));
+    }
+
+    private static Cluster combine(Cluster first, Cluster second) {
+        int count = first.count() + second.count();
+        return new Cluster(
+                count,
+                (first.latitude() * first.count() + second.latitude() * second.count()) / count,
+                (first.longitude() * first.count() + second.longitude() * second.count()) / count,
+                first.count() >= second.count() ? first.representative() : second.representative());
+    }
+
+    private static List<Cluster> withinBounds(Level level, BoundingBox bounds) {
+        List<Cluster> result = new ArrayList<>();
+        for (Cluster cluster : level.clusters) {
+            if (cluster.latitude() >= bounds.getMinLatitude() && cluster.latitude() <= bounds.getMaxLatitude()
+                    && cluster.longitude() >= bounds.getMinLongitude()
+                    && cluster.longitude() <= bounds.getMaxLongitude()) {
+                result.add(cluster);
+            }
+        }
+        return result;
+    }
+
+    /** Points with their finest-level Morton keys, sorted by key. */
+    private record KeyedPoints(Point[] points, long[] keys) {
+
+        static KeyedPoints sort(List<Point> unsorted) {
+            Point[] points = unsorted.toArray(Point[]::new);
+            Arrays.sort(points, Comparator.comparingLong(SurfSpotClusterGrid::finestKey));
+            long[] keys = new long[points.length];
+            for (int index = 0; index < points.length; index++) {
+                keys[index] = finestKey(points[index]);
+            }
+            return new KeyedPoints(points, keys);
+        }
+    }
+
+    static long finestKey(Point point) {
+        int cells = 1 << MAX_LEVEL;
+        double x = (point.longitude() + 180) / 360;
+        double latitude = Math.toRadians(
+                Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, point.latitude())));
+        double y = (1 - Math.log(Math.tan(latitude) + 1 / Math.cos(latitude)) / Math.PI) / 2;
+        int column = Math.min(cells - 1, Math.max(0, (int) (x * cells)));
+        int row = Math.min(cells - 1, Math.max(0, (int) (y * cells)));
+        return interleave(column) | interleave(row) << 1;
+    }
+
+    /** Spreads the low 16 bits of {@code value} over the even bits of the result. */
+    private static long interleave(int value) {
+        long bits = value & 0xFFFFL;
+        bits = (bits | bits << 8) & 0x00FF00FFL;
+        bits = (bits | bits << 4) & 0x0F0F0F0FL;
+        bits = (bits | bits << 2) & 0x33333333L;
+        bits = (bits | bits << 1) & 0x55555555L;
+        return bits;
+    }
+}
@@ -0,0 +1,115 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.config.SurfSpotClusterProperties;
+import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClusterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClustersDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.SurfSpotClusterGrid.Cluster;
+import com.lovettj.surfspotsapi.service.SurfSpotClusterGrid.Point;
+
+/**
+ * Clusters for zoomed-out map views, so a world or continent view is a few hundred cells instead of every
+ * spot. Cells are a quarter of a map tile on each side (grid level = zoom + 2). Above
+ * {@code app.spot-clusters.max-cluster-zoom} the individual spots are returned as within-bounds would.
+ *
+ * <p>Requests without spot filters read the grid precomputed over approved spots
+ * ({@link SurfSpotLocationIndex#clusterGrid()}, rebuilt after spot writes), plus the signed-in user's own
+ * private and pending spots. Filtered requests run the same query as within-bounds and cluster its
+ * result at the requested level only.
+ */
+@Service
+public class SurfSpotClusterService {
+
+    static final int MAX_ZOOM = 22;
+    static final int CELLS_PER_TILE_SHIFT = 2;
+    private static final List<SurfSpotStatus> OWN_UNLISTED_STATUSES =
+            List.of(SurfSpotStatus.PRIVATE, SurfSpotStatus.PENDING);
+
+    private final SurfSpotService surfSpotService;
+    private final SurfSpotRepository surfSpotRepository;
+    private final SurfSpotLocationIndex surfSpotLocationIndex;
+    private final SurfSpotClusterProperties properties;
+
+    public SurfSpotClusterService(
+            SurfSpotService surfSpotService,
+            SurfSpotRepository surfSpotRepository,
+            SurfSpotLocationIndex surfSpotLocationIndex,
+            SurfSpotClusterProperties properties) {
+        this.surfSpotService = surfSpotService;
+        this.surfSpotRepository = surfSpotRepository;
+        this.surfSpotLocationIndex = surfSpotLocationIndex;
+        this.properties = properties;
+    }
+
+    public SurfSpotClustersDTO findClustersWithinBounds(SurfSpotBoundsFilterDTO filters, int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.MAP_ZOOM_OUT_OF_RANGE);
+        }
+        BoundingBox boundingBox = boundingBoxOf(filters);
+        if (zoom > properties.getMaxClusterZoom()) {
+            return SurfSpotClustersDTO.ofSurfSpots(
+                    zoom, surfSpotService.findSurfSpotsWithinBoundsWithFilters(boundingBox, filters));
+        }
+
+        int level = Math.min(zoom + CELLS_PER_TILE_SHIFT, SurfSpotClusterGrid.MAX_LEVEL);
+        List<Cluster> clusters;
+        if (filters.hasSpotFilters()) {
+            List<SurfSpot> surfSpots = surfSpotService.filterBySeason(
+                    surfSpotRepository.findWithinBoundsWithFilters(filters), filters);
+            clusters = SurfSpotClusterGrid.clusters(
+                    surfSpots.stream()
+                            .filter(spot -> spot.getLatitude() != null && spot.getLongitude() != null)
+                            .map(spot -> new Point(spot.getId(), spot.getName(), spot.getLatitude(), spot.getLongitude()))
+                            .toList(),
+                    level,
+                    boundingBox);
+        } else {
+            List<Point> ownUnlistedSpots = filters.getUserId() == null
+                    ? List.of()
+                    : surfSpotRepository.findCoordinatesByCreatedByAndStatusIn(filters.getUserId(), OWN_UNLISTED_STATUSES)
+                            .stream()
+                            .map(SurfSpotClusterService::toPoint)
+                            .toList();
+            clusters = surfSpotLocationIndex.clusterGrid().clusters(level, boundingBox, ownUnlistedSpots);
+        }
+        return SurfSpotClustersDTO.ofClusters(zoom, clusters.stream().map(SurfSpotClusterService::toDTO).toList());
+    }
+
+    private static BoundingBox boundingBoxOf(SurfSpotBoundsFilterDTO filters) {
+        if (filters.getMinLatitude() == null || filters.getMaxLatitude() == null
+                || filters.getMinLongitude() == null || filters.getMaxLongitude() == null
+                || filters.getMinLatitude() > filters.getMaxLatitude()
+                || filters.getMinLongitude() > filters.getMaxLongitude()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.MAP_BOUNDS_INVALID);
+        }
+        return new BoundingBox(
+                filters.getMinLatitude(), filters.getMaxLatitude(),
+                filters.getMinLongitude(), filters.getMaxLongitude());
+    }
+
+    private static Point toPoint(SpotCoordinates coordinates) {
+        return new Point(coordinates.getId(), coordinates.getName(), coordinates.getLatitude(), coordinates.getLongitude());
+    }
+
+    private static SurfSpotClusterDTO toDTO(Cluster cluster) {
+        Point representative = cluster.representative();
+        return new SurfSpotClusterDTO(
+                cluster.count(),
+                cluster.latitude(),
+                cluster.longitude(),
+                new SurfSpotClusterDTO.RepresentativeSpot(
+                        representative.id(), representative.name(), representative.latitude(), representative.longitude()));
+    }
+}
@@ -0,0 +1,242 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovettj.surfspotsapi.config.SurfSpotListingProperties;
+import com.lovettj.surfspotsapi.dto.NormalizedSurfSpotsDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * The anonymous, unfiltered spot list of each region and sub-region, held as the spot DTOs plus their
+ * serialized JSON (default and normalized view) and an ETag over those bytes. Filtered anonymous lists are
+ * cut from the DTOs in memory ({@link SurfSpotListingFilter}); the GET list endpoints send the bytes as they
+ * are. Bounded by total bytes ({@code app.spot-listings.cache-max-bytes}); hit and miss counts are
+ * published as {@code cache.gets{cache=surfSpotListings}}.
+ *
+ * <p>Listings are built on first use. A spot write evicts only the listings of the spot's region (its own
+ * list and its sub-regions') and any listing that contained the spot ({@link #evictAfterCommit(SurfSpot)});
+ * bulk writes and contest links, which change the "on tour this season" flag, clear everything.
+ */
+@Service
+public class SurfSpotListingCache {
+
+    static final String CACHE_NAME = "surfSpotListings";
+    // Rough per-entry overhead (key, arrays, map node) so many empty listings still count towards the bound.
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    private static final int ETAG_HEX_LENGTH = 32;
+
+    /** A region's own spots (those outside its sub-regions), or a sub-region's spots by slug. */
+    record Key(Long regionId, String subRegionSlug) {
+
+        static Key region(Long regionId) {
+            return new Key(regionId, null);
+        }
+
+        static Key subRegion(String subRegionSlug) {
+            return new Key(null, subRegionSlug);
+        }
+    }
+
+    /** What a loader returns: the region the listing belongs to and its spots, mapped without user flags. */
+    record Contents(Long regionId, List<SurfSpotDTO> surfSpots) {}
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Key, Listing> listings;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SurfSpotListingCache(
+            SurfSpotListingProperties properties,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.listings = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheMaxBytes())
+                .weigher((Key key, Listing listing) -> listing.weight())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, CACHE_NAME);
+    }
+
+    /**
+     * The cached listing, or a freshly loaded one. Loading runs outside the cache's compute lock (it queries,
+     * and blocking there would pin a virtual thread), so concurrent misses may load twice; a listing loaded
+     * while an eviction ran is returned but not cached, since it may predate the write.
+     *
+     * <p>The loader runs in a read-write transaction, so on the primary even when a read replica is
+     * configured: a lagging replica could return the list from before the write that just evicted it, and
+     * that list would then be served until it expires. Lazy collections are copied and the JSON written
+     * inside the same transaction.
+     */
+    Listing get(Key key, Supplier<Contents> loader) {
+        Listing cached = listings.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long evictionsBefore = evictions.get();
+        Listing loaded = transactionTemplate.execute(status -> toListing(loader.get()));
+        if (evictions.get() == evictionsBefore) {
+            listings.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Evicts, once the surrounding transaction commits, the listings of the spot's region and any listing
+     * holding the spot. Called with the spot as saved, so an update's new region is covered by the first
+     * rule and its old one by the second.
+     */
+    public void evictAfterCommit(SurfSpot surfSpot) {
+        Long surfSpotId = surfSpot.getId();
+        Long regionId = surfSpot.getRegion() != null ? surfSpot.getRegion().getId() : null;
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            listings.asMap().values().removeIf(listing -> listing.isAffectedBy(surfSpotId, regionId));
+        });
+    }
+
+    public void evictAllAfterCommit() {
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            listings.invalidateAll();
+        });
+    }
+
+    private Listing toListing(Contents contents) {
+        List<SurfSpotDTO> surfSpots = contents.surfSpots().stream().map(SurfSpotListingCache::detached).toList();
+        List<SurfSpotDTO> normalizedCopies = surfSpots.stream().map(surfSpot -> surfSpot.toBuilder().build()).toList();
+        try {
+            return new Listing(
+                    contents.regionId(),
+                    surfSpots,
+                    objectMapper.writeValueAsBytes(surfSpots),
+                    objectMapper.writeValueAsBytes(NormalizedSurfSpotsDTO.from(normalizedCopies)));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Could not serialize surf spot listing", exception);
+        }
+    }
+
+    /** A copy whose collections no longer point into the persistence context that loaded them. */
+    private static SurfSpotDTO detached(SurfSpotDTO surfSpot) {
+        return surfSpot.toBuilder()
+                .foodOptions(copyOf(surfSpot.getFoodOptions()))
+                .accommodationOptions(copyOf(surfSpot.getAccommodationOptions()))
+                .facilities(copyOf(surfSpot.getFacilities()))
+                .hazards(copyOf(surfSpot.getHazards()))
+                .forecasts(copyOf(surfSpot.getForecasts()))
+                .webcams(copyOf(surfSpot.getWebcams()))
+                .build();
+    }
+
+    private static <T> List<T> copyOf(List<T> values) {
+        return values == null ? null : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eviction.run();
+                        }
+                    });
+        } else {
+            eviction.run();
+        }
+    }
+
+    /**
+     * One region's or sub-region's listing. The DTOs are shared between requests and never handed out;
+     * {@link #surfSpots(Predicate)} returns copies. The ETags are weak for the same reason as the catalog
+     * ETags (see {@code HttpCacheFilter}): the bytes may go out gzip-encoded or not.
+     */
+    public static final class Listing {
+
+        private final Long regionId;
+        private final List<SurfSpotDTO> surfSpots;
+        private final long[] surfSpotIds;
+        private final byte[] json;
+        private final byte[] normalizedJson;
+        private final String etag;
+        private final String normalizedEtag;
+
+        public Listing(Long regionId, List<SurfSpotDTO> surfSpots, byte[] json, byte[] normalizedJson) {
+            this.regionId = regionId;
+            this.surfSpots = surfSpots;
+            this.surfSpotIds = surfSpots.stream()
+                    .map(SurfSpotDTO::getId)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            this.json = json;
+            this.normalizedJson = normalizedJson;
+            this.etag = weakEtag(json);
+            this.normalizedEtag = weakEtag(normalizedJson);
+        }
+
+        /** Copies of the spots that pass {@code filter}, in listing order; callers may modify them. */
+        public List<SurfSpotDTO> surfSpots(Predicate<SurfSpotDTO> filter) {
+            return surfSpots.stream()
+                    .filter(filter)
+                    .map(surfSpot -> surfSpot.toBuilder().build())
+                    .toList();
+        }
+
+        /** The spot list as JSON, or {@link NormalizedSurfSpotsDTO} as JSON; not to be modified. */
+        public byte[] json(boolean normalized) {
+            return normalized ? normalizedJson : json;
+        }
+
+        public String etag(boolean normalized) {
+            return normalized ? normalizedEtag : etag;
+        }
+
+        boolean isAffectedBy(Long surfSpotId, Long writtenRegionId) {
+            return (writtenRegionId != null && writtenRegionId.equals(regionId))
+                    || (surfSpotId != null && Arrays.binarySearch(surfSpotIds, surfSpotId) >= 0);
+        }
+
+        // The DTOs take roughly as much memory again as their JSON.
+        int weight() {
+            return 2 * json.length + normalizedJson.length + 8 * surfSpotIds.length + ENTRY_OVERHEAD_BYTES;
+        }
+
+        private static String weakEtag(byte[] content) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+                return "W/\"" + HexFormat.of().formatHex(digest).substring(0, ETAG_HEX_LENGTH) + "\"";
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
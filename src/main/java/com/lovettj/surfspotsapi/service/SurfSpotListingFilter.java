@@ -0,0 +1,114 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.Tide;
+import com.lovettj.surfspotsapi.enums.WaveDirection;
+import com.lovettj.surfspotsapi.util.EnumFilterUtils;
+
+/**
+ * The spot list filters applied to an already loaded listing (see {@link SurfSpotListingCache}), with the
+ * same matching rules as the criteria query in {@code SurfSpotRepositoryImpl} and
+ * {@link SurfSpotService#filterBySeason}. Hazard, facility, food and accommodation filters are left to the
+ * query ({@link #supports}).
+ */
+final class SurfSpotListingFilter {
+
+    private SurfSpotListingFilter() {
+    }
+
+    static boolean supports(SurfSpotFilterDTO filters) {
+        return !isSet(filters.getHazards()) && !isSet(filters.getFacilities())
+                && !isSet(filters.getFoodOptions()) && !isSet(filters.getAccommodationOptions());
+    }
+
+    static Predicate<SurfSpotDTO> of(SurfSpotFilterDTO filters) {
+        List<Predicate<SurfSpotDTO>> predicates = new ArrayList<>();
+
+        in(predicates, filters.getType(), SurfSpotDTO::getType);
+        in(predicates, filters.getBeachBottomType(), SurfSpotDTO::getBeachBottomType);
+        in(predicates, filters.getCrowdLevel(), SurfSpotDTO::getCrowdLevel);
+        in(predicates, filters.getParking(), SurfSpotDTO::getParking);
+
+        // "Intermediate" also matches "Beginner - Intermediate", "Intermediate - Advanced" and "All Levels".
+        if (isSet(filters.getSkillLevel())) {
+            List<SkillLevel> skillLevels = EnumFilterUtils.expand(filters.getSkillLevel(), SkillLevel.values());
+            skillLevels.add(SkillLevel.ALL_LEVELS);
+            in(predicates, skillLevels, SurfSpotDTO::getSkillLevel);
+        }
+        // "Low" also matches "Low - Mid" and "Any".
+        if (isSet(filters.getTide())) {
+            List<Tide> tides = EnumFilterUtils.expand(filters.getTide(), Tide.values());
+            tides.add(Tide.ANY);
+            in(predicates, tides, SurfSpotDTO::getTide);
+        }
+        // "Left" also matches "Left and Right".
+        if (isSet(filters.getWaveDirection())) {
+            in(predicates, EnumFilterUtils.expand(filters.getWaveDirection(), WaveDirection.values()),
+                    SurfSpotDTO::getWaveDirection);
+        }
+
+        equal(predicates, filters.getStatus(), SurfSpotDTO::getStatus);
+        equal(predicates, filters.getBoatRequired(), SurfSpotDTO::getBoatRequired);
+        equal(predicates, filters.getIsWavepool(), SurfSpotDTO::getIsWavepool);
+        equal(predicates, filters.getIsRiverWave(), SurfSpotDTO::getIsRiverWave);
+
+        // As in the query, the flag's value is not compared: a set filter means "tour stops only".
+        if (filters.getIsWslTourStop() != null) {
+            predicates.add(surfSpot -> Boolean.TRUE.equals(surfSpot.getIsWslTourStop())
+                    || Boolean.TRUE.equals(surfSpot.getIsOnWslTourThisSeason()));
+        }
+
+        // "E" also matches "E-NE", "E-SE" and so on.
+        containsAny(predicates, filters.getSwellDirection(), SurfSpotDTO::getSwellDirection);
+        containsAny(predicates, filters.getWindDirection(), SurfSpotDTO::getWindDirection);
+
+        if (isSet(filters.getSeasons())) {
+            List<String> seasons = filters.getSeasons();
+            predicates.add(surfSpot -> SurfSpotService.isInAnySeason(surfSpot.getSwellSeason(), seasons));
+        }
+
+        return surfSpot -> predicates.stream().allMatch(predicate -> predicate.test(surfSpot));
+    }
+
+    private static <T> void in(
+            List<Predicate<SurfSpotDTO>> predicates, List<T> values, Function<SurfSpotDTO, T> attribute) {
+        if (isSet(values)) {
+            predicates.add(surfSpot -> values.contains(attribute.apply(surfSpot)));
+        }
+    }
+
+    private static <T> void equal(
+            List<Predicate<SurfSpotDTO>> predicates, T value, Function<SurfSpotDTO, T> attribute) {
+        if (value != null) {
+            predicates.add(surfSpot -> value.equals(attribute.apply(surfSpot)));
+        }
+    }
+
+    private static void containsAny(
+            List<Predicate<SurfSpotDTO>> predicates, List<String> directions, Function<SurfSpotDTO, String> attribute) {
+        if (!isSet(directions)) {
+            return;
+        }
+        List<String> lowerCaseDirections = directions.stream().map(direction -> direction.toLowerCase(Locale.ROOT)).toList();
+        predicates.add(surfSpot -> {
+            String value = attribute.apply(surfSpot);
+            if (value == null) {
+                return false;
+            }
+            String lowerCaseValue = value.toLowerCase(Locale.ROOT);
+            return lowerCaseDirections.stream().anyMatch(lowerCaseValue::contains);
+        });
+    }
+
+    private static boolean isSet(List<?> values) {
+        return values != null && !values.isEmpty();
+    }
+}
@@ -0,0 +1,315 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
+
+/**
+ * In-memory k-nearest-neighbour index over approved spot coordinates, so "which spots are near this
+ * point" never hydrates {@code SurfSpot} entities. Points are stored as unit vectors in an implicit
+ * 3-d tree on primitive arrays: straight-line distance between unit vectors orders points exactly like
+ * great-circle distance and has no antimeridian or pole special cases.
+ *
+ * <p>The snapshot is rebuilt lazily from one projection query after {@link #invalidateAfterCommit()}
+ * (spot create/update/delete, seeding) and at least every {@link #MAX_SNAPSHOT_AGE_MINUTES} minutes
+ * so writes made outside the services are picked up too. The same snapshot carries the
+ * {@link SurfSpotClusterGrid} behind the map clustering endpoint, so it follows the same invalidation.
+ */
+@Service
+public class SurfSpotLocationIndex {
+
+    static final long MAX_SNAPSHOT_AGE_MINUTES = 10;
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    public record NearbySpot(long id, String name, double latitude, double longitude, double distanceKm) {}
+
+    private final SurfSpotRepository surfSpotRepository;
+    private final AtomicLong generation = new AtomicLong();
+    // Not synchronized: the rebuild runs a query, and blocking inside synchronized pins a virtual thread.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public SurfSpotLocationIndex(SurfSpotRepository surfSpotRepository) {
+        this.surfSpotRepository = surfSpotRepository;
+    }
+
+    /**
+     * Up to {@code limit} approved spots within {@code maxRadiusKm} of the point, nearest first.
+     * Distances are Haversine km, matching {@link CoordinateDistanceUtil#distanceKm}.
+     */
+    public List<NearbySpot> nearest(double latitude, double longitude, int limit, double maxRadiusKm) {
+        if (limit <= 0 || maxRadiusKm < 0) {
+            return List.of();
+        }
+        return currentSnapshot().nearest(latitude, longitude, limit, maxRadiusKm);
+    }
+
+    /** Marks the index stale once the surrounding transaction commits (immediately when none is active). */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate();
+                        }
+                    });
+        } else {
+            invalidate();
+        }
+    }
+
+    /** Precomputed clusters of the approved spots in the current snapshot. */
+    SurfSpotClusterGrid clusterGrid() {
+        return currentSnapshot().clusterGrid;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            // Capture the generation first: an invalidation during the query leaves this snapshot stale.
+            long buildGeneration = generation.get();
+            current = Snapshot.build(
+                    surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED), buildGeneration);
+            snapshot = current;
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Snapshot candidate) {
+        return candidate != null
+                && candidate.generation == generation.get()
+                && System.nanoTime() - candidate.builtAtNanos < TimeUnit.MINUTES.toNanos(MAX_SNAPSHOT_AGE_MINUTES);
+    }
+
+    /** Immutable implicit k-d tree: the node for range [lo, hi) sits at its midpoint, split axis = depth % 3. */
+    static final class Snapshot {
+        private final long generation;
+        private final long builtAtNanos;
+        private final long[] ids;
+        private final String[] names;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final double[][] axes;
+        private final SurfSpotClusterGrid clusterGrid;
+
+        private Snapshot(long generation, int size, SurfSpotClusterGrid clusterGrid) {
+            this.generation = generation;
+            this.builtAtNanos = System.nanoTime();
+            this.ids = new long[size];
+            this.names = new String[size];
+            this.latitudes = new double[size];
+            this.longitudes = new double[size];
+            this.axes = new double[3][size];
+            this.clusterGrid = clusterGrid;
+        }
+
+        static Snapshot build(List<SpotCoordinates> rows, long generation) {
+            List<SpotCoordinates> usable = new ArrayList<>(rows.size());
+            for (SpotCoordinates row : rows) {
+                if (row.getId() != null && row.getLatitude() != null && row.getLongitude() != null
+                        && row.getName() != null && !row.getName().isBlank()) {
+                    usable.add(row);
+                }
+            }
+            List<SurfSpotClusterGrid.Point> clusterPoints = new ArrayList<>(usable.size());
+            for (SpotCoordinates row : usable) {
+                clusterPoints.add(new SurfSpotClusterGrid.Point(
+                        row.getId(), row.getName().trim(), row.getLatitude(), row.getLongitude()));
+            }
+            Snapshot built = new Snapshot(generation, usable.size(), SurfSpotClusterGrid.build(clusterPoints));
+            for (int index = 0; index < usable.size(); index++) {
+                SpotCoordinates row = usable.get(index);
+                built.ids[index] = row.getId();
+                built.names[index] = row.getName().trim();
+                built.latitudes[index] = row.getLatitude();
+                built.longitudes[index] = row.getLongitude();
+                double[] unit = toUnitVector(row.getLatitude(), row.getLongitude());
+                built.axes[0][index] = unit[0];
+                built.axes[1][index] = unit[1];
+                built.axes[2][index] = unit[2];
+            }
+            built.buildTree(0, usable.size(), 0);
+            return built;
+        }
+
+        private void buildTree(int lo, int hi, int depth) {
+            if (hi - lo <= 1) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axes[depth % 3]);
+            buildTree(lo, mid, depth + 1);
+            buildTree(mid + 1, hi, depth + 1);
+        }
+
+        /** Quickselect: after the call, position k holds the value it would have if [left, right] were sorted. */
+        private void select(int left, int right, int k, double[] axis) {
+            while (left < right) {
+                double pivot = axis[(left + right) >>> 1];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (axis[i] < pivot) {
+                        i++;
+                    }
+                    while (axis[j] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void swap(int first, int second) {
+            long id = ids[first];
+            ids[first] = ids[second];
+            ids[second] = id;
+            String name = names[first];
+            names[first] = names[second];
+            names[second] = name;
+            double latitude = latitudes[first];
+            latitudes[first] = latitudes[second];
+            latitudes[second] = latitude;
+            double longitude = longitudes[first];
+            longitudes[first] = longitudes[second];
+            longitudes[second] = longitude;
+            for (double[] axis : axes) {
+                double value = axis[first];
+                axis[first] = axis[second];
+                axis[second] = value;
+            }
+        }
+
+        List<NearbySpot> nearest(double latitude, double longitude, int limit, double maxRadiusKm) {
+            if (ids.length == 0) {
+                return List.of();
+            }
+            double[] query = toUnitVector(latitude, longitude);
+            double maxChord = chordForDistanceKm(maxRadiusKm) + 1e-9;
+            Candidates candidates = new Candidates(limit, maxChord * maxChord);
+            search(0, ids.length, 0, query, candidates);
+
+            List<NearbySpot> result = new ArrayList<>(candidates.size);
+            for (int rank = 0; rank < candidates.size; rank++) {
+                int index = candidates.indexes[rank];
+                double distanceKm = CoordinateDistanceUtil.distanceKm(
+                        latitude, longitude, latitudes[index], longitudes[index]);
+                if (distanceKm <= maxRadiusKm) {
+                    result.add(new NearbySpot(ids[index], names[index], latitudes[index], longitudes[index], distanceKm));
+                }
+            }
+            return result;
+        }
+
+        private void search(int lo, int hi, int depth, double[] query, Candidates candidates) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            double dx = axes[0][mid] - query[0];
+            double dy = axes[1][mid] - query[1];
+            double dz = axes[2][mid] - query[2];
+            candidates.offer(mid, dx * dx + dy * dy + dz * dz);
+
+            double split = query[depth % 3] - axes[depth % 3][mid];
+            boolean queryOnLowSide = split < 0;
+            if (queryOnLowSide) {
+                search(lo, mid, depth + 1, query, candidates);
+            } else {
+                search(mid + 1, hi, depth + 1, query, candidates);
+            }
+            if (split * split <= candidates.bound()) {
+                if (queryOnLowSide) {
+                    search(mid + 1, hi, depth + 1, query, candidates);
+                } else {
+                    search(lo, mid, depth + 1, query, candidates);
+                }
+            }
+        }
+    }
+
+    /** Best-k list kept sorted by squared chord length; k is small (a handful of names). */
+    private static final class Candidates {
+        private final int[] indexes;
+        private final double[] distances;
+        private final double maxDistance;
+        private int size;
+
+        Candidates(int limit, double maxDistance) {
+            this.indexes = new int[limit];
+            this.distances = new double[limit];
+            this.maxDistance = maxDistance;
+        }
+
+        double bound() {
+            return size == indexes.length ? Math.min(maxDistance, distances[size - 1]) : maxDistance;
+        }
+
+        void offer(int index, double distance) {
+            if (distance > bound() || (size == indexes.length && distance >= distances[size - 1])) {
+                return;
+            }
+            int position = size < indexes.length ? size++ : size - 1;
+            while (position > 0 && distances[position - 1] > distance) {
+                indexes[position] = indexes[position - 1];
+                distances[position] = distances[position - 1];
+                position--;
+            }
+            indexes[position] = index;
+            distances[position] = distance;
+        }
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double latitudeRadians = Math.toRadians(latitude);
+        double longitudeRadians = Math.toRadians(longitude);
+        double cosLatitude = Math.cos(latitudeRadians);
+        return new double[] {
+            cosLatitude * Math.cos(longitudeRadians),
+            cosLatitude * Math.sin(longitudeRadians),
+            Math.sin(latitudeRadians)
+        };
+    }
+
+    private static double chordForDistanceKm(double distanceKm) {
+        double angle = Math.min(distanceKm / EARTH_RADIUS_KM, Math.PI);
+        return 2 * Math.sin(angle / 2);
+    }
+}
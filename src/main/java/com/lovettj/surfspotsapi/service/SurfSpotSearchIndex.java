@@ -0,0 +1,315 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over spot name, region (and sub-region), country and description. Text is folded to
+ * lower-case ASCII-ish tokens (accents stripped), so "nazaré" and "Nazare" match.
+ *
+ * <p>Every query term must match a token of the spot, either exactly, as a prefix (the last term only, for
+ * autocomplete) or fuzzily by trigram similarity (typos in terms of three or more letters). A term scores
+ * its match quality times the weight of the best field it matched in; the spot scores the sum, plus a
+ * bonus when its name starts with the whole query, plus {@link #POPULARITY_WEIGHT} x ln(1 + watchers +
+ * sessions).
+ *
+ * <p>Readers never lock: postings and the token dictionary are concurrent maps, so a search running
+ * during {@link #put}/{@link #remove} sees the spot before or after the change (or briefly partly
+ * indexed). Writers must be serialized by the caller.
+ */
+class SurfSpotSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int PLACE_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+    static final double POPULARITY_WEIGHT = 0.25;
+    static final double NAME_PREFIX_BONUS = 2;
+    static final double MIN_TRIGRAM_SIMILARITY = 0.4;
+    static final int MAX_QUERY_TERMS = 8;
+    private static final double FUZZY_MATCH = 0.7;
+    private static final double PREFIX_MATCH_MIN = 0.5;
+    private static final double PREFIX_MATCH_RANGE = 0.4;
+    private static final int MIN_FUZZY_TERM_LENGTH = 3;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    record Document(
+            long id,
+            String name,
+            String path,
+            String regionName,
+            String subRegionName,
+            String countryName,
+            String description,
+            Double latitude,
+            Double longitude,
+            long popularity) {
+
+        Document withPopularity(long value) {
+            return new Document(
+                    id, name, path, regionName, subRegionName, countryName, description, latitude, longitude, value);
+        }
+    }
+
+    record Hit(Document document, double score) {}
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(hit -> hit.document().name(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparingLong(hit -> hit.document().id());
+
+    /** An indexed spot: its document, best field weight per token and the folded name for the phrase bonus. */
+    private record Entry(Document document, Map<String, Integer> tokenWeights, String foldedName) {}
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> tokensByTrigram = new ConcurrentHashMap<>();
+
+    static SurfSpotSearchIndex build(List<Document> documents) {
+        SurfSpotSearchIndex index = new SurfSpotSearchIndex();
+        for (Document document : documents) {
+            index.put(document);
+        }
+        return index;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Watchers plus sessions of an indexed spot, or 0 when it is not indexed. */
+    long popularity(long id) {
+        Entry entry = entries.get(id);
+        return entry != null ? entry.document().popularity() : 0;
+    }
+
+    /** Indexes the spot, replacing what was indexed under its id. */
+    void put(Document document) {
+        remove(document.id());
+        Map<String, Integer> tokenWeights = new HashMap<>();
+        addTokens(tokenWeights, document.name(), NAME_WEIGHT);
+        addTokens(tokenWeights, document.regionName(), PLACE_WEIGHT);
+        addTokens(tokenWeights, document.subRegionName(), PLACE_WEIGHT);
+        addTokens(tokenWeights, document.countryName(), PLACE_WEIGHT);
+        addTokens(tokenWeights, document.description(), DESCRIPTION_WEIGHT);
+        if (tokenWeights.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> tokenWeight : tokenWeights.entrySet()) {
+            String token = tokenWeight.getKey();
+            Map<Long, Integer> posting = postings.computeIfAbsent(token, key -> new ConcurrentHashMap<>());
+            if (posting.isEmpty()) {
+                for (String trigram : trigrams(token)) {
+                    tokensByTrigram.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(token);
+                }
+            }
+            posting.put(document.id(), tokenWeight.getValue());
+        }
+        entries.put(document.id(), new Entry(document, tokenWeights, String.join(" ", tokenize(document.name()))));
+    }
+
+    void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokenWeights().keySet()) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                for (String trigram : trigrams(token)) {
+                    Set<String> tokens = tokensByTrigram.get(trigram);
+                    if (tokens != null) {
+                        tokens.remove(token);
+                        if (tokens.isEmpty()) {
+                            tokensByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Best {@code limit} spots matching every term of the query, highest score first (then name, id). */
+    List<Hit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        List<TermMatch> matches = new ArrayList<>(terms.size());
+        for (int position = 0; position < terms.size(); position++) {
+            TermMatch match = matchTerm(terms.get(position), position == terms.size() - 1);
+            if (match.spotCount() == 0) {
+                return List.of();
+            }
+            matches.add(match);
+        }
+        // Expand only the most selective term to spots and probe the others per candidate, so
+        // "synthetic spot 42" costs the spots matching "42" rather than every "synthetic spot".
+        matches.sort(Comparator.comparingInt(TermMatch::spotCount));
+        Map<Long, Double> candidates = matches.get(0).spotScores();
+
+        String foldedQuery = String.join(" ", terms);
+        // Worst kept hit on top, so each candidate costs O(log limit) instead of sorting every match.
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> candidate : candidates.entrySet()) {
+            double total = candidate.getValue();
+            for (int other = 1; other < matches.size() && total > 0; other++) {
+                double score = matches.get(other).score(candidate.getKey());
+                total = score > 0 ? total + score : 0;
+            }
+            Entry entry = total > 0 ? entries.get(candidate.getKey()) : null;
+            if (entry == null) {
+                continue;
+            }
+            total += (entry.foldedName().startsWith(foldedQuery) ? NAME_PREFIX_BONUS : 0)
+                    + POPULARITY_WEIGHT * Math.log1p(entry.document().popularity());
+            best.offer(new Hit(entry.document(), total));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    /** The tokens a query term matches (exactly, as a prefix or fuzzily) with their match quality. */
+    private TermMatch matchTerm(String term, boolean allowPrefix) {
+        Map<String, Double> qualities = new HashMap<>();
+        if (allowPrefix) {
+            for (String token : postings.subMap(term, false, term + Character.MAX_VALUE, false).keySet()) {
+                qualities.put(token, PREFIX_MATCH_MIN + PREFIX_MATCH_RANGE * term.length() / token.length());
+            }
+        }
+        if (term.length() >= MIN_FUZZY_TERM_LENGTH) {
+            for (Map.Entry<String, Double> similar : similarTokens(term).entrySet()) {
+                qualities.merge(similar.getKey(), FUZZY_MATCH * similar.getValue(), Math::max);
+            }
+        }
+        if (postings.containsKey(term)) {
+            qualities.put(term, 1.0);
+        }
+
+        List<Map<Long, Integer>> matchedPostings = new ArrayList<>(qualities.size());
+        double[] matchedQualities = new double[qualities.size()];
+        int spotCount = 0;
+        for (Map.Entry<String, Double> quality : qualities.entrySet()) {
+            Map<Long, Integer> posting = postings.get(quality.getKey());
+            if (posting != null) {
+                matchedQualities[matchedPostings.size()] = quality.getValue();
+                matchedPostings.add(posting);
+                spotCount += posting.size();
+            }
+        }
+        return new TermMatch(matchedPostings, matchedQualities, spotCount);
+    }
+
+    /**
+     * A matched term: its postings with their match quality. {@code spotCount} counts a spot once per
+     * matched token, which is all the selectivity ordering needs.
+     */
+    private record TermMatch(List<Map<Long, Integer>> postings, double[] qualities, int spotCount) {
+
+        /** Best match quality x field weight of the spot over the matched tokens, or 0 when it has none. */
+        double score(long id) {
+            double best = 0;
+            for (int index = 0; index < postings.size(); index++) {
+                Integer weight = postings.get(index).get(id);
+                if (weight != null) {
+                    best = Math.max(best, qualities[index] * weight);
+                }
+            }
+            return best;
+        }
+
+        Map<Long, Double> spotScores() {
+            Map<Long, Double> scores = new HashMap<>(spotCount * 2);
+            for (int index = 0; index < postings.size(); index++) {
+                double quality = qualities[index];
+                for (Map.Entry<Long, Integer> spot : postings.get(index).entrySet()) {
+                    scores.merge(spot.getKey(), quality * spot.getValue(), Math::max);
+                }
+            }
+            return scores;
+        }
+    }
+
+    /** Tokens whose trigram sets overlap the term's with Jaccard similarity of at least the minimum. */
+    private Map<String, Double> similarTokens(String term) {
+        Set<String> termTrigrams = trigrams(term);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : termTrigrams) {
+            Set<String> tokens = tokensByTrigram.get(trigram);
+            if (tokens != null) {
+                for (String token : tokens) {
+                    shared.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+        Map<String, Double> similar = new HashMap<>();
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            int common = candidate.getValue();
+            // Jaccard can only reach the minimum if at least that share of the term's trigrams is shared.
+            if (common < MIN_TRIGRAM_SIMILARITY * termTrigrams.size()) {
+                continue;
+            }
+            double similarity = (double) common / (termTrigrams.size() + trigrams(candidate.getKey()).size() - common);
+            if (similarity >= MIN_TRIGRAM_SIMILARITY && !candidate.getKey().equals(term)) {
+                similar.put(candidate.getKey(), similarity);
+            }
+        }
+        return similar;
+    }
+
+    private static void addTokens(Map<String, Integer> tokenWeights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            tokenWeights.merge(token, weight, Math::max);
+        }
+    }
+
+    /** Lower-cased, accent-stripped words; anything that is not a letter or digit separates them. */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** Trigrams of the token padded with a boundary marker, so starts and ends of words count too. */
+    static Set<String> trigrams(String token) {
+        String padded = "$" + token + "$";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int start = 0; start + 3 <= padded.length(); start++) {
+            trigrams.add(padded.substring(start, start + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,225 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.dto.SurfSpotSearchResultDTO;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotCount;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotSearchRow;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.SurfSpotSearchIndex.Document;
+import com.lovettj.surfspotsapi.util.SurfSpotPathUtil;
+
+/**
+ * Spot search and autocomplete over approved spots, served from an in-memory {@link SurfSpotSearchIndex}
+ * so a keystroke never reaches the filter queries.
+ *
+ * <p>The index is built lazily from three projection queries (spots with their geography names, watch-list
+ * counts, session counts) and rebuilt at least every {@link #MAX_INDEX_AGE_MINUTES} minutes, which
+ * refreshes popularity and picks up writes made outside the services. Spot create/update/delete apply to
+ * the live index after commit ({@link #indexAfterCommit}, {@link #removeAfterCommit}); seeding and
+ * reference sync mark it stale instead ({@link #invalidateAfterCommit()}).
+ */
+@Service
+public class SurfSpotSearchService {
+
+    static final long MAX_INDEX_AGE_MINUTES = 10;
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MAX_LIMIT = 25;
+
+    private final SurfSpotRepository surfSpotRepository;
+    private final WatchListRepository watchListRepository;
+    private final SurfSessionRepository surfSessionRepository;
+    private final AtomicLong generation = new AtomicLong();
+    // Serializes rebuilds and incremental writes. Not synchronized: the rebuild runs queries, and blocking
+    // inside synchronized pins a virtual thread.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Built built;
+
+    private record Built(SurfSpotSearchIndex index, long generation, long builtAtNanos) {}
+
+    public SurfSpotSearchService(
+            SurfSpotRepository surfSpotRepository,
+            WatchListRepository watchListRepository,
+            SurfSessionRepository surfSessionRepository) {
+        this.surfSpotRepository = surfSpotRepository;
+        this.watchListRepository = watchListRepository;
+        this.surfSessionRepository = surfSessionRepository;
+    }
+
+    /** Best matches for the query, most relevant first; a blank query matches nothing. */
+    public List<SurfSpotSearchResultDTO> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.SEARCH_LIMIT_OUT_OF_RANGE);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.SEARCH_QUERY_TOO_LONG);
+        }
+        return currentIndex().search(query, limit).stream()
+                .map(hit -> toDTO(hit.document()))
+                .toList();
+    }
+
+    /**
+     * Re-indexes the spot once the surrounding transaction commits, or drops it when it is no longer
+     * approved. The document is read from the entity now, while its geography is still loaded; the spot
+     * keeps the popularity it had until the next rebuild.
+     */
+    public void indexAfterCommit(SurfSpot surfSpot) {
+        if (surfSpot.getId() == null) {
+            return;
+        }
+        long id = surfSpot.getId();
+        Document document = surfSpot.getStatus() == SurfSpotStatus.APPROVED ? toDocument(surfSpot) : null;
+        afterCommit(() -> apply(id, document));
+    }
+
+    public void removeAfterCommit(Long surfSpotId) {
+        if (surfSpotId != null) {
+            afterCommit(() -> apply(surfSpotId, null));
+        }
+    }
+
+    /** Marks the index stale, for bulk writes (seeding, reference sync) that are cheaper to rebuild from. */
+    public void invalidateAfterCommit() {
+        afterCommit(generation::incrementAndGet);
+    }
+
+    private void apply(long id, Document document) {
+        writeLock.lock();
+        try {
+            Built current = built;
+            if (current == null) {
+                // Not built yet: the first search reads the committed state.
+                return;
+            }
+            if (document == null) {
+                current.index().remove(id);
+            } else {
+                current.index().put(document.withPopularity(current.index().popularity(id)));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private SurfSpotSearchIndex currentIndex() {
+        Built current = built;
+        if (isFresh(current)) {
+            return current.index();
+        }
+        writeLock.lock();
+        try {
+            current = built;
+            if (isFresh(current)) {
+                return current.index();
+            }
+            // Capture the generation first: an invalidation during the queries leaves this index stale.
+            long buildGeneration = generation.get();
+            current = new Built(SurfSpotSearchIndex.build(loadDocuments()), buildGeneration, System.nanoTime());
+            built = current;
+            return current.index();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Built candidate) {
+        return candidate != null
+                && candidate.generation() == generation.get()
+                && System.nanoTime() - candidate.builtAtNanos() < TimeUnit.MINUTES.toNanos(MAX_INDEX_AGE_MINUTES);
+    }
+
+    private List<Document> loadDocuments() {
+        Map<Long, Long> popularity = new HashMap<>();
+        for (SurfSpotCount count : watchListRepository.countBySurfSpot()) {
+            popularity.merge(count.getSurfSpotId(), count.getCount(), Long::sum);
+        }
+        for (SurfSpotCount count : surfSessionRepository.countBySurfSpot()) {
+            popularity.merge(count.getSurfSpotId(), count.getCount(), Long::sum);
+        }
+
+        List<SpotSearchRow> rows = surfSpotRepository.findSearchRowsByStatus(SurfSpotStatus.APPROVED);
+        List<Document> documents = new ArrayList<>(rows.size());
+        for (SpotSearchRow row : rows) {
+            documents.add(new Document(
+                    row.getId(),
+                    row.getName(),
+                    SurfSpotPathUtil.pathFor(
+                            row.getId(),
+                            row.getContinentSlug(),
+                            row.getCountrySlug(),
+                            row.getRegionSlug(),
+                            row.getSubRegionSlug(),
+                            row.getSlug()),
+                    row.getRegionName(),
+                    row.getSubRegionName(),
+                    row.getCountryName(),
+                    row.getDescription(),
+                    row.getLatitude(),
+                    row.getLongitude(),
+                    popularity.getOrDefault(row.getId(), 0L)));
+        }
+        return documents;
+    }
+
+    private static Document toDocument(SurfSpot surfSpot) {
+        Region region = surfSpot.getRegion();
+        return new Document(
+                surfSpot.getId(),
+                surfSpot.getName(),
+                SurfSpotPathUtil.pathFor(surfSpot),
+                region != null ? region.getName() : null,
+                surfSpot.getSubRegion() != null ? surfSpot.getSubRegion().getName() : null,
+                region != null && region.getCountry() != null ? region.getCountry().getName() : null,
+                surfSpot.getDescription(),
+                surfSpot.getLatitude(),
+                surfSpot.getLongitude(),
+                0);
+    }
+
+    private static SurfSpotSearchResultDTO toDTO(Document document) {
+        return new SurfSpotSearchResultDTO(
+                document.id(),
+                document.name(),
+                document.path(),
+                document.regionName(),
+                document.countryName(),
+                document.latitude(),
+                document.longitude());
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            change.run();
+                        }
+                    });
+        } else {
+            change.run();
+        }
+    }
+}
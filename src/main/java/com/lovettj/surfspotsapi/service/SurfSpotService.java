@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
@@ -29,6 +30,7 @@ import com.lovettj.surfspotsapi.repository.SurfEventRepository;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.requests.BoundingBox;
 import com.lovettj.surfspotsapi.requests.SurfSpotRequest;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService.SurfedSpotKeys;
 import com.lovettj.surfspotsapi.util.MonthUtils;
 import com.lovettj.surfspotsapi.util.UrlUtils;
 
@@ -45,6 +47,12 @@ public class SurfSpotService {
     private final SwellSeasonDeterminationService swellSeasonDeterminationService;
     private final SurfEventRepository surfEventRepository;
     private final NewSurfSpotEmailService newSurfSpotEmailService;
+    private final SurfSpotLocationIndex surfSpotLocationIndex;
+    private final CatalogVersionService catalogVersionService;
+    private final SurfSpotTileCache surfSpotTileCache;
+    private final SurfSpotSearchService surfSpotSearchService;
+    private final UserProfileStatsService userProfileStatsService;
+    private final SurfSpotListingCache surfSpotListingCache;
 
     public SurfSpotService(
             SurfSpotRepository surfSpotRepository,
@@ -54,7 +62,13 @@ public class SurfSpotService {
             WatchListService watchListService,
             SwellSeasonDeterminationService swellSeasonDeterminationService,
             SurfEventRepository surfEventRepository,
-            NewSurfSpotEmailService newSurfSpotEmailService) {
+            NewSurfSpotEmailService newSurfSpotEmailService,
+            SurfSpotLocationIndex surfSpotLocationIndex,
+            CatalogVersionService catalogVersionService,
+            SurfSpotTileCache surfSpotTileCache,
+            SurfSpotSearchService surfSpotSearchService,
+            UserProfileStatsService userProfileStatsService,
+            SurfSpotListingCache surfSpotListingCache) {
         this.surfSpotRepository = surfSpotRepository;
         this.regionRepository = regionRepository;
         this.subRegionRepository = subRegionRepository;
@@ -63,13 +77,19 @@ public class SurfSpotService {
         this.swellSeasonDeterminationService = swellSeasonDeterminationService;
         this.surfEventRepository = surfEventRepository;
         this.newSurfSpotEmailService = newSurfSpotEmailService;
+        this.surfSpotLocationIndex = surfSpotLocationIndex;
+        this.catalogVersionService = catalogVersionService;
+        this.surfSpotTileCache = surfSpotTileCache;
+        this.surfSpotSearchService = surfSpotSearchService;
+        this.userProfileStatsService = userProfileStatsService;
+        this.surfSpotListingCache = surfSpotListingCache;
     }
 
     /**
      * Checks if a selected month falls within a season range using month names.
      * Handles both normal ranges (e.g., March-June) and wrapping ranges (e.g., December-April).
      */
-    private boolean isMonthInSeasonRange(String selectedMonth, String startMonth, String endMonth) {
+    private static boolean isMonthInSeasonRange(String selectedMonth, String startMonth, String endMonth) {
         Month selected = MonthUtils.parseMonthString(selectedMonth);
         Month start = MonthUtils.parseMonthString(startMonth);
         Month end = MonthUtils.parseMonthString(endMonth);
@@ -96,31 +116,34 @@ public class SurfSpotService {
     /**
      * Filters surf spots by season if season filter is provided
      */
-    private List<SurfSpot> filterBySeason(List<SurfSpot> surfSpots, SurfSpotFilterDTO filters) {
+    List<SurfSpot> filterBySeason(List<SurfSpot> surfSpots, SurfSpotFilterDTO filters) {
         if (filters.getSeasons() == null || filters.getSeasons().isEmpty()) {
             return surfSpots;
         }
 
         return surfSpots.stream()
-                .filter(spot -> {
-                    if (spot.getSwellSeason() == null) {
-                        return false;
-                    }
-
-                    String start = spot.getSwellSeason().getStartMonth();
-                    String end = spot.getSwellSeason().getEndMonth();
-                    
-                    if (start == null || end == null) {
-                        return false;
-                    }
-
-                    // Check if any selected month falls within this spot's season range
-                    return filters.getSeasons().stream()
-                            .anyMatch(selectedMonth -> isMonthInSeasonRange(selectedMonth, start, end));
-                })
+                .filter(spot -> isInAnySeason(spot.getSwellSeason(), filters.getSeasons()))
                 .collect(Collectors.toList());
     }
 
+    /** Whether any of the selected months falls within the swell season; spots without one never match. */
+    static boolean isInAnySeason(SwellSeason swellSeason, List<String> selectedMonths) {
+        if (swellSeason == null) {
+            return false;
+        }
+
+        String start = swellSeason.getStartMonth();
+        String end = swellSeason.getEndMonth();
+
+        if (start == null || end == null) {
+            return false;
+        }
+
+        // Check if any selected month falls within this spot's season range
+        return selectedMonths.stream()
+                .anyMatch(selectedMonth -> isMonthInSeasonRange(selectedMonth, start, end));
+    }
+
     public Optional<SurfSpotDTO> findByIdAndUserId(Long id, String userId) {
         Optional<SurfSpot> surfSpot = surfSpotRepository.findById(id);
         return surfSpot.map(sp -> mapToSurfSpotDTO(sp, userId));
@@ -219,6 +242,13 @@ public class SurfSpotService {
 
         // Save the SurfSpot entity
         SurfSpot savedSurfSpot = surfSpotRepository.save(surfSpot);
+        if (savedSurfSpot.getStatus() == SurfSpotStatus.APPROVED) {
+            surfSpotLocationIndex.invalidateAfterCommit();
+            surfSpotTileCache.evictAfterCommit(savedSurfSpot.getLatitude(), savedSurfSpot.getLongitude());
+            surfSpotListingCache.evictAfterCommit(savedSurfSpot);
+            surfSpotSearchService.indexAfterCommit(savedSurfSpot);
+            catalogVersionService.bump();
+        }
         // Create never emails: only PENDING → APPROVED transitions do.
         return savedSurfSpot;
     }
@@ -233,6 +263,9 @@ public class SurfSpotService {
         }
 
         SurfSpotStatus previousStatus = existingSurfSpot.getStatus();
+        SurfedSpotKeys previousStatKeys = SurfedSpotKeys.of(existingSurfSpot);
+        Double previousLatitude = existingSurfSpot.getLatitude();
+        Double previousLongitude = existingSurfSpot.getLongitude();
 
         validateForecastAndWebcamUrls(
                 surfSpotRequest.isWavepool() ? null : surfSpotRequest.getForecasts(),
@@ -302,6 +335,15 @@ public class SurfSpotService {
 
         // Save and return the updated entity
         SurfSpot savedSurfSpot = surfSpotRepository.save(existingSurfSpot);
+        surfSpotLocationIndex.invalidateAfterCommit();
+        // Tiles at the old position lose the spot, tiles at the new one gain it.
+        surfSpotTileCache.evictAfterCommit(previousLatitude, previousLongitude);
+        surfSpotTileCache.evictAfterCommit(savedSurfSpot.getLatitude(), savedSurfSpot.getLongitude());
+        surfSpotListingCache.evictAfterCommit(savedSurfSpot);
+        surfSpotSearchService.indexAfterCommit(savedSurfSpot);
+        userProfileStatsService.surfSpotChanged(
+                savedSurfSpot.getId(), previousStatKeys, SurfedSpotKeys.of(savedSurfSpot));
+        catalogVersionService.bump();
         scheduleNewSurfSpotApprovalEmails(savedSurfSpot, previousStatus);
         return savedSurfSpot;
     }
@@ -335,13 +377,23 @@ public class SurfSpotService {
         }
     }
 
+    @Transactional
     public void deleteSurfSpot(Long id, String userId) {
         SurfSpot surfSpot = surfSpotRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("SurfSpot not found"));
         if (userId == null || !userId.equals(surfSpot.getCreatedBy())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You can only delete surf spots you created");
         }
+        // Surfed spots and sessions go with the spot (ON DELETE CASCADE), so their users' counters are rebuilt.
+        List<String> affectedUserIds = userProfileStatsService.findUserIdsCountingSurfSpot(id);
         surfSpotRepository.deleteById(id);
+        surfSpotRepository.flush();
+        userProfileStatsService.rebuild(affectedUserIds);
+        surfSpotLocationIndex.invalidateAfterCommit();
+        surfSpotTileCache.evictAfterCommit(surfSpot.getLatitude(), surfSpot.getLongitude());
+        surfSpotListingCache.evictAfterCommit(surfSpot);
+        surfSpotSearchService.removeAfterCommit(id);
+        catalogVersionService.bump();
     }
 
     public List<SurfSpotDTO> findSurfSpotsWithinBoundsWithFilters(BoundingBox boundingBox, SurfSpotBoundsFilterDTO filters) {
@@ -355,8 +407,12 @@ public class SurfSpotService {
     /**
      * Get surf spots for a region by region id so the correct region is used
      * when the same region slug exists in multiple countries (e.g. "south-west" in England and Italy).
+     * Anonymous requests are answered from the region's listing snapshot (see {@link #findRegionListing}).
      */
     public List<SurfSpotDTO> findSurfSpotsByRegionIdWithFilters(Long regionId, SurfSpotFilterDTO filters) {
+        if (filters.getUserId() == null && SurfSpotListingFilter.supports(filters)) {
+            return findRegionListing(regionId).surfSpots(SurfSpotListingFilter.of(filters));
+        }
         Region region = regionRepository.findById(regionId)
                 .orElseThrow(() -> new EntityNotFoundException("Region not found"));
         List<SurfSpot> surfSpots = surfSpotRepository.findByRegionWithFilters(region, filters);
@@ -365,6 +421,9 @@ public class SurfSpotService {
     }
 
     public List<SurfSpotDTO> findSurfSpotsBySubRegionSlugWithFilters(String slug, SurfSpotFilterDTO filters) {
+        if (filters.getUserId() == null && SurfSpotListingFilter.supports(filters)) {
+            return findSubRegionListing(slug).surfSpots(SurfSpotListingFilter.of(filters));
+        }
         SubRegion subRegion = subRegionRepository.findBySlug(slug)
                 .orElseThrow(() -> new EntityNotFoundException("SubRegion not found"));
         List<SurfSpot> surfSpots = surfSpotRepository.findBySubRegionWithFilters(subRegion, filters);
@@ -373,6 +432,30 @@ public class SurfSpotService {
         return mapSurfSpotsToDTOs(surfSpots, filters.getUserId());
     }
 
+    /**
+     * The approved spots of a region outside its sub-regions, as seen without signing in and without
+     * filters, from {@link SurfSpotListingCache}.
+     */
+    public SurfSpotListingCache.Listing findRegionListing(Long regionId) {
+        return surfSpotListingCache.get(SurfSpotListingCache.Key.region(regionId), () -> {
+            Region region = regionRepository.findById(regionId)
+                    .orElseThrow(() -> new EntityNotFoundException("Region not found"));
+            List<SurfSpot> surfSpots = surfSpotRepository.findByRegionWithFilters(region, new SurfSpotFilterDTO());
+            return new SurfSpotListingCache.Contents(region.getId(), mapSurfSpotsToDTOs(surfSpots, null));
+        });
+    }
+
+    /** The approved spots of a sub-region, as seen without signing in and without filters. */
+    public SurfSpotListingCache.Listing findSubRegionListing(String slug) {
+        return surfSpotListingCache.get(SurfSpotListingCache.Key.subRegion(slug), () -> {
+            SubRegion subRegion = subRegionRepository.findBySlug(slug)
+                    .orElseThrow(() -> new EntityNotFoundException("SubRegion not found"));
+            List<SurfSpot> surfSpots = surfSpotRepository.findBySubRegionWithFilters(subRegion, new SurfSpotFilterDTO());
+            Long regionId = subRegion.getRegion() != null ? subRegion.getRegion().getId() : null;
+            return new SurfSpotListingCache.Contents(regionId, mapSurfSpotsToDTOs(surfSpots, null));
+        });
+    }
+
     public SurfSpotDTO mapToSurfSpotDTO(SurfSpot surfSpot, String userId) {
         return mapToSurfSpotDTO(surfSpot, userId, loadActiveContestSpotIdsForCurrentYear());
     }
@@ -396,7 +479,7 @@ public class SurfSpotService {
                 surfSpot, activeContestSpotIds, surfedSpotIds, watchedSpotIds, includeUserFlags);
     }
 
-    private List<SurfSpotDTO> mapSurfSpotsToDTOs(List<SurfSpot> surfSpots, String userId) {
+    List<SurfSpotDTO> mapSurfSpotsToDTOs(List<SurfSpot> surfSpots, String userId) {
         Set<Long> activeContestSpotIds = loadActiveContestSpotIdsForCurrentYear();
         Set<Long> surfedSpotIds = Collections.emptySet();
         Set<Long> watchedSpotIds = Collections.emptySet();
@@ -0,0 +1,66 @@
+package com.lovettj.surfspotsapi.service;
+
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+
+/**
+ * One Web Mercator (XYZ) map tile, with the geometry the spot tiles need: tile-local coordinates in
+ * {@link #EXTENT} units, and a {@link #BUFFER} around the edge so markers near a border are drawn whole
+ * on both neighbouring tiles.
+ */
+record SurfSpotTile(int zoom, int x, int y) {
+
+    static final int MAX_ZOOM = 22;
+    static final int EXTENT = 4096;
+    static final int BUFFER = 64;
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    static boolean isValid(int zoom, int x, int y) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            return false;
+        }
+        long tiles = 1L << zoom;
+        return x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    /** Bounds of the tile plus its buffer, for the spot query. */
+    BoundingBox bufferedBounds() {
+        double buffer = (double) BUFFER / EXTENT;
+        return new BoundingBox(
+                latitudeOf(y + 1 + buffer), latitudeOf(y - buffer),
+                Math.max(-180, longitudeOf(x - buffer)), Math.min(180, longitudeOf(x + 1 + buffer)));
+    }
+
+    int pixelX(double longitude) {
+        return (int) Math.round((worldX(longitude) * (1L << zoom) - x) * EXTENT);
+    }
+
+    int pixelY(double latitude) {
+        return (int) Math.round((worldY(latitude) * (1L << zoom) - y) * EXTENT);
+    }
+
+    /** Whether a spot at this point is drawn on this tile, buffer included. */
+    boolean covers(double latitude, double longitude) {
+        int pixelX = pixelX(longitude);
+        int pixelY = pixelY(latitude);
+        return pixelX >= -BUFFER && pixelX <= EXTENT + BUFFER && pixelY >= -BUFFER && pixelY <= EXTENT + BUFFER;
+    }
+
+    private double longitudeOf(double tileX) {
+        return tileX / (1L << zoom) * 360 - 180;
+    }
+
+    private double latitudeOf(double tileY) {
+        double n = Math.PI * (1 - 2 * tileY / (1L << zoom));
+        double latitude = Math.toDegrees(Math.atan(Math.sinh(n)));
+        return Math.max(-90, Math.min(90, latitude));
+    }
+
+    private static double worldX(double longitude) {
+        return (longitude + 180) / 360;
+    }
+
+    private static double worldY(double latitude) {
+        double radians = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        return (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2;
+    }
+}
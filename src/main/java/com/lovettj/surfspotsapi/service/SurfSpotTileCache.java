@@ -0,0 +1,96 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovettj.surfspotsapi.config.SurfSpotTileProperties;
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Encoded spot tiles, keyed by tile and filter set, bounded by total bytes
+ * ({@code app.spot-tiles.cache-max-bytes}). A spot write evicts only the tiles that draw the spot, at every
+ * zoom and for every filter set ({@link #evictAfterCommit(Double, Double)}); bulk writes (seeding, reference
+ * sync) clear everything. Hit and miss counts are published as {@code cache.gets{cache=surfSpotTiles}}.
+ */
+@Service
+public class SurfSpotTileCache {
+
+    static final String CACHE_NAME = "surfSpotTiles";
+    // Rough per-entry overhead (key, filter DTO, map node) so many empty tiles still count towards the bound.
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    record Key(SurfSpotTile tile, SurfSpotFilterDTO filters) {}
+
+    private final Cache<Key, byte[]> tiles;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SurfSpotTileCache(SurfSpotTileProperties properties, MeterRegistry meterRegistry) {
+        this.tiles = Caffeine.newBuilder()
+                .maximumWeight(properties.getCacheMaxBytes())
+                .weigher((Key key, byte[] tile) -> tile.length + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tiles, CACHE_NAME);
+    }
+
+    /**
+     * The cached tile, or a freshly encoded one. Encoding runs outside the cache's compute lock (it queries,
+     * and blocking there would pin a virtual thread), so concurrent misses may encode twice. A tile encoded
+     * while an eviction ran is returned but not cached, since it may predate the write.
+     */
+    byte[] get(SurfSpotTile tile, SurfSpotFilterDTO filters, Supplier<byte[]> encoder) {
+        Key key = new Key(tile, filters);
+        byte[] cached = tiles.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long evictionsBefore = evictions.get();
+        byte[] encoded = encoder.get();
+        if (evictions.get() == evictionsBefore) {
+            tiles.put(key, encoded);
+        }
+        return encoded;
+    }
+
+    /** Evicts the tiles drawing a spot at this point once the surrounding transaction commits. */
+    public void evictAfterCommit(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            tiles.asMap().keySet().removeIf(key -> key.tile().covers(latitude, longitude));
+        });
+    }
+
+    public void evictAllAfterCommit() {
+        afterCommit(() -> {
+            evictions.incrementAndGet();
+            tiles.invalidateAll();
+        });
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eviction.run();
+                        }
+                    });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.util.VectorTileEncoder;
+
+/**
+ * Approved spots as Mapbox Vector Tiles: one {@value #LAYER} layer of points carrying {@code name} and
+ * {@code type}, with the spot id as feature id. Filters are applied as on within-bounds. Tiles never
+ * include private or pending spots, so every client can share them (and HTTP caches can store them).
+ */
+@Service
+public class SurfSpotTileService {
+
+    static final String LAYER = "surf_spots";
+
+    private final SurfSpotRepository surfSpotRepository;
+    private final SurfSpotService surfSpotService;
+    private final SurfSpotTileCache surfSpotTileCache;
+
+    public SurfSpotTileService(
+            SurfSpotRepository surfSpotRepository,
+            SurfSpotService surfSpotService,
+            SurfSpotTileCache surfSpotTileCache) {
+        this.surfSpotRepository = surfSpotRepository;
+        this.surfSpotService = surfSpotService;
+        this.surfSpotTileCache = surfSpotTileCache;
+    }
+
+    public byte[] getTile(int zoom, int x, int y, SurfSpotFilterDTO filters) {
+        if (!SurfSpotTile.isValid(zoom, x, y)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ApiErrors.MAP_TILE_OUT_OF_RANGE);
+        }
+        filters.setUserId(null);
+        SurfSpotTile tile = new SurfSpotTile(zoom, x, y);
+        return surfSpotTileCache.get(tile, filters, () -> encode(tile, filters));
+    }
+
+    private byte[] encode(SurfSpotTile tile, SurfSpotFilterDTO filters) {
+        List<SurfSpot> surfSpots = surfSpotService.filterBySeason(
+                surfSpotRepository.findWithinBoundsWithFilters(tile.bufferedBounds(), filters), filters);
+
+        VectorTileEncoder encoder = new VectorTileEncoder(LAYER, SurfSpotTile.EXTENT);
+        for (SurfSpot surfSpot : surfSpots) {
+            if (surfSpot.getLatitude() == null || surfSpot.getLongitude() == null) {
+                continue;
+            }
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("name", surfSpot.getName());
+            properties.put("type", surfSpot.getType() != null ? surfSpot.getType().getDisplayName() : null);
+            encoder.addPoint(
+                    surfSpot.getId(),
+                    tile.pixelX(surfSpot.getLongitude()),
+                    tile.pixelY(surfSpot.getLatitude()),
+                    properties);
+        }
+        return encoder.encode();
+    }
+}
@@ -32,16 +32,22 @@ public class SurfboardService {
     private final SurfboardMediaRepository surfboardMediaRepository;
     private final UserRepository userRepository;
     private final StorageService storageService;
+    private final MediaThumbnailService mediaThumbnailService;
+    private final UserProfileStatsService userProfileStatsService;
 
     public SurfboardService(
             SurfboardRepository surfboardRepository,
             SurfboardMediaRepository surfboardMediaRepository,
             UserRepository userRepository,
-            StorageService storageService) {
+            StorageService storageService,
+            MediaThumbnailService mediaThumbnailService,
+            UserProfileStatsService userProfileStatsService) {
         this.surfboardRepository = surfboardRepository;
         this.surfboardMediaRepository = surfboardMediaRepository;
         this.userRepository = userRepository;
         this.storageService = storageService;
+        this.mediaThumbnailService = mediaThumbnailService;
+        this.userProfileStatsService = userProfileStatsService;
     }
 
     @Transactional
@@ -113,6 +119,7 @@ public class SurfboardService {
         surfboardMediaRepository.deleteAll(media);
 
         surfboardRepository.delete(surfboard);
+        userProfileStatsService.surfboardDeleted(userId, surfboardId);
     }
 
     public SurfboardDTO getSurfboard(String userId, String surfboardId) {
@@ -155,6 +162,8 @@ public class SurfboardService {
                 .build();
 
         media = surfboardMediaRepository.save(media);
+        mediaThumbnailService.generateAfterCommit(
+                MediaThumbnailService.MediaOwner.SURFBOARD, media.getId(), objectKey, mediaType);
         return new SurfboardMediaDTO(media);
     }
 
@@ -195,6 +204,7 @@ public class SurfboardService {
                 mediaType,
                 "surfboards/media");
         storageService.deleteObject(objectKey);
+        storageService.deleteObject(media.getThumbObjectKey());
 
         surfboardMediaRepository.delete(media);
     }
@@ -215,7 +225,9 @@ public class SurfboardService {
             try {
                 String signedUrl = storageService.generatePresignedDownloadUrl(resolvedKey);
                 mediaDto.setOriginalUrl(signedUrl);
-                mediaDto.setThumbUrl(signedUrl);
+                mediaDto.setThumbUrl(mediaDto.getThumbObjectKey() != null
+                        ? storageService.generatePresignedDownloadUrl(mediaDto.getThumbObjectKey())
+                        : signedUrl);
             } catch (Exception exception) {
                 logger.warn("Failed to presign surfboard media URL. mediaId={}, keeping original URL.", mediaDto.getId(), exception);
             }
@@ -4,17 +4,56 @@ import com.lovettj.surfspotsapi.entity.SwellSeason;
 import com.lovettj.surfspotsapi.repository.SwellSeasonRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Service to automatically determine the swell season for a surf spot based on its location.
  * Uses geographic coordinates (latitude/longitude) to determine which ocean region the spot is in.
+ *
+ * <p>The rectangle rules below are compiled once into a {@value #CELLS_PER_DEGREE}-cells-per-degree
+ * global grid, so a lookup is one array read. Every rule boundary is a whole degree, so each cell
+ * interior has a single answer; points exactly on a cell edge fall back to the rules to keep inclusive
+ * and exclusive bounds exact. Season rows are cached in memory (few, rarely changed) and reloaded after
+ * {@link #evictSeasonCache()}.
  */
 @Service
 public class SwellSeasonDeterminationService {
 
+    static final int CELLS_PER_DEGREE = 4;
+    private static final int GRID_ROWS = 180 * CELLS_PER_DEGREE;
+    private static final int GRID_COLUMNS = 360 * CELLS_PER_DEGREE;
+
+    /** Grid values are indexes into this array; 0 means no region. Order matches the rule checks. */
+    private static final String[] REGION_NAMES = {
+        null,
+        "North Sea",
+        "Baltic Sea",
+        "Mediterranean",
+        "Red Sea",
+        "Arabian Sea",
+        "Bay of Bengal",
+        "Central America Pacific",
+        "Gulf of Mexico",
+        "Caribbean",
+        "Tasman Sea",
+        "Coral Sea",
+        "Indonesia",
+        "South China Sea",
+        "Japan / Northwest Pacific",
+        "North Atlantic",
+        "North Pacific",
+        "South Pacific",
+        "Indian Ocean",
+        "West Africa Atlantic",
+        "South Atlantic"
+    };
+
     private final SwellSeasonRepository swellSeasonRepository;
 
+    private volatile SeasonCache seasonCache;
+
     public SwellSeasonDeterminationService(SwellSeasonRepository swellSeasonRepository) {
         this.swellSeasonRepository = swellSeasonRepository;
     }
@@ -27,19 +66,89 @@ public class SwellSeasonDeterminationService {
      * @return Optional SwellSeason if a match is found, empty otherwise
      */
     public Optional<SwellSeason> determineSwellSeason(Double latitude, Double longitude) {
+        return determineSwellSeasonName(latitude, longitude)
+                .map(name -> seasons().byName().get(name));
+    }
+
+    /**
+     * Resolves the swell season name for coordinates without touching the database, so bulk callers
+     * (seeding) can map names to ids themselves.
+     *
+     * @param latitude The latitude of the surf spot
+     * @param longitude The longitude of the surf spot
+     * @return Optional swell season name if the coordinates fall in a known ocean region
+     */
+    public Optional<String> determineSwellSeasonName(Double latitude, Double longitude) {
         if (latitude == null || longitude == null) {
             return Optional.empty();
         }
+        return Optional.ofNullable(lookupOceanRegion(latitude, longitude));
+    }
 
-        // Determine ocean region based on coordinates
-        String regionName = determineOceanRegion(latitude, longitude);
-        
-        if (regionName == null) {
-            return Optional.empty();
+    /** Cached swell season by id (same instances {@link #determineSwellSeason} returns). */
+    public Optional<SwellSeason> findSwellSeasonById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(seasons().byId().get(id));
+    }
+
+    /** Drops cached season rows; call after swell_season rows are written. */
+    public void evictSeasonCache() {
+        seasonCache = null;
+    }
+
+    private SeasonCache seasons() {
+        SeasonCache cached = seasonCache;
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, SwellSeason> byName = new HashMap<>();
+        Map<Long, SwellSeason> byId = new HashMap<>();
+        for (SwellSeason season : swellSeasonRepository.findAll()) {
+            byName.putIfAbsent(season.getName(), season);
+            byId.put(season.getId(), season);
+        }
+        SeasonCache loaded = new SeasonCache(byName, byId);
+        // An empty table means seeding has not run yet; keep asking until it has.
+        if (!byId.isEmpty()) {
+            seasonCache = loaded;
+        }
+        return loaded;
+    }
+
+    private record SeasonCache(Map<String, SwellSeason> byName, Map<Long, SwellSeason> byId) {}
+
+    /** Grid lookup, falling back to the rules for cell edges and out-of-range coordinates. */
+    static String lookupOceanRegion(double latitude, double longitude) {
+        if (!(latitude > -90 && latitude < 90 && longitude > -180 && longitude < 180)) {
+            return determineOceanRegion(latitude, longitude);
         }
+        double row = (latitude + 90) * CELLS_PER_DEGREE;
+        double column = (longitude + 180) * CELLS_PER_DEGREE;
+        if (row == Math.rint(row) || column == Math.rint(column)) {
+            return determineOceanRegion(latitude, longitude);
+        }
+        return REGION_NAMES[Grid.CELLS[(int) row * GRID_COLUMNS + (int) column]];
+    }
 
-        // Find the swell season by name
-        return swellSeasonRepository.findByName(regionName);
+    /** Region index per cell, evaluated at cell centres; built on first lookup. */
+    private static final class Grid {
+        static final short[] CELLS = build();
+
+        private static short[] build() {
+            Map<String, Short> indexByName = new HashMap<>();
+            for (short index = 1; index < REGION_NAMES.length; index++) {
+                indexByName.put(REGION_NAMES[index], index);
+            }
+            short[] cells = new short[GRID_ROWS * GRID_COLUMNS];
+            for (int row = 0; row < GRID_ROWS; row++) {
+                double latitude = (row + 0.5) / CELLS_PER_DEGREE - 90;
+                for (int column = 0; column < GRID_COLUMNS; column++) {
+                    double longitude = (column + 0.5) / CELLS_PER_DEGREE - 180;
+                    String name = determineOceanRegion(latitude, longitude);
+                    cells[row * GRID_COLUMNS + column] = name != null ? indexByName.get(name) : (short) 0;
+                }
+            }
+            return cells;
+        }
     }
 
     /**
@@ -50,7 +159,7 @@ public class SwellSeasonDeterminationService {
      * @param longitude Longitude of the location
      * @return The name of the ocean region, or null if not determinable
      */
-    private String determineOceanRegion(double latitude, double longitude) {
+    static String determineOceanRegion(double latitude, double longitude) {
         // Check specific seas first (more specific boundaries)
         
         // North Sea (UK, Netherlands, Germany, Denmark, Norway)
@@ -164,7 +273,7 @@ public class SwellSeasonDeterminationService {
     // Geographic region determination methods
     // Based on IHO (International Hydrographic Organization) boundaries and documented sea/ocean boundaries
 
-    private boolean isInNorthAtlantic(double lat, double lon) {
+    private static boolean isInNorthAtlantic(double lat, double lon) {
         // North Atlantic Ocean boundaries (IHO definition)
         // Europe coast: 35-71N, 10W-30E (from Portugal to Norway)
         // East Coast US/Canada: 25-50N, 80-50W (from Florida to Newfoundland)
@@ -174,26 +283,26 @@ public class SwellSeasonDeterminationService {
                (lat >= 25 && lat <= 50 && lon >= -80 && lon <= -50);
     }
 
-    private boolean isInNorthSea(double lat, double lon) {
+    private static boolean isInNorthSea(double lat, double lon) {
         // North Sea boundaries: 51-62N, 4W-9E
         // Bounded by UK, Norway, Denmark, Germany, Netherlands, Belgium
         return lat >= 51 && lat <= 62 && lon >= -4 && lon <= 9;
     }
 
-    private boolean isInBalticSea(double lat, double lon) {
+    private static boolean isInBalticSea(double lat, double lon) {
         // Baltic Sea boundaries: 54-66N, 9-30E
         // Bounded by Sweden, Finland, Estonia, Latvia, Lithuania, Poland, Germany, Denmark
         return lat >= 54 && lat <= 66 && lon >= 9 && lon <= 30;
     }
 
-    private boolean isInMediterranean(double lat, double lon) {
+    private static boolean isInMediterranean(double lat, double lon) {
         // Mediterranean Sea boundaries: 30-46N, 6W-36E
         // Includes: Western Mediterranean, Adriatic, Ionian, Aegean, Levantine
         // Excludes: Black Sea (separate)
         return lat >= 30 && lat <= 46 && lon >= -6 && lon <= 36;
     }
 
-    private boolean isInCaribbean(double lat, double lon) {
+    private static boolean isInCaribbean(double lat, double lon) {
         // Caribbean Sea boundaries: 9-25N, 85-55W (east of Central America isthmus)
         // Bounded by Central America, Greater Antilles (Cuba, Jamaica, Hispaniola, Puerto Rico),
         // Lesser Antilles (including Barbados), South America
@@ -203,7 +312,7 @@ public class SwellSeasonDeterminationService {
         return lat >= 9 && lat <= 25 && lon > -85 && lon <= -55;
     }
 
-    private boolean isInGulfOfMexico(double lat, double lon) {
+    private static boolean isInGulfOfMexico(double lat, double lon) {
         // Gulf of Mexico boundaries: 18-31N, 98-85W
         // Bounded by US (Texas, Louisiana, Mississippi, Alabama, Florida), Mexico
         // Excludes Caribbean islands (Cuba, Florida Keys) which are east of -85W
@@ -211,7 +320,7 @@ public class SwellSeasonDeterminationService {
         return lat >= 18 && lat <= 31 && lon >= -98 && lon <= -85;
     }
 
-    private boolean isInNorthPacific(double lat, double lon) {
+    private static boolean isInNorthPacific(double lat, double lon) {
         // North Pacific Ocean boundaries (IHO definition)
         // West Coast US/Canada: 32-60N, 125-105W (California to British Columbia)
         // Hawaii: 18-23N, 161-154W
@@ -222,14 +331,14 @@ public class SwellSeasonDeterminationService {
                (lat >= 51 && lat <= 72 && (lon <= -130 || lon >= 170));
     }
 
-    private boolean isInCentralAmericaPacific(double lat, double lon) {
+    private static boolean isInCentralAmericaPacific(double lat, double lon) {
         // Central America Pacific coast: 7-20N, 110-82W
         // From Mexico (south of Baja) to Panama Pacific coast
         // Includes Costa Rica (-84.8W) and extends to Panama (-82W)
         return lat >= 7 && lat <= 20 && lon >= -110 && lon <= -82;
     }
 
-    private boolean isInSouthPacific(double lat, double lon) {
+    private static boolean isInSouthPacific(double lat, double lon) {
         // South Pacific Ocean boundaries (IHO definition)
         // Australia (Pacific-facing coasts): 10-45S, 113-155E
         // New Zealand: 34-47S, 166-179E
@@ -240,7 +349,7 @@ public class SwellSeasonDeterminationService {
                (lat >= -30 && lat <= 0 && (lon >= 150 || lon <= -150));
     }
 
-    private boolean isInIndianOcean(double lat, double lon) {
+    private static boolean isInIndianOcean(double lat, double lon) {
         // Indian Ocean boundaries (IHO definition)
         // West boundary: 20E (Africa coast)
         // East boundary: 146E (Australia west coast, Indonesia)
@@ -250,32 +359,32 @@ public class SwellSeasonDeterminationService {
         return lat >= -60 && lat <= 30 && lon >= 20 && lon <= 146;
     }
 
-    private boolean isInRedSea(double lat, double lon) {
+    private static boolean isInRedSea(double lat, double lon) {
         // Red Sea boundaries: 12-30N, 32-43E
         // Bounded by Egypt, Sudan, Eritrea, Saudi Arabia, Yemen
         return lat >= 12 && lat <= 30 && lon >= 32 && lon <= 43;
     }
 
-    private boolean isInArabianSea(double lat, double lon) {
+    private static boolean isInArabianSea(double lat, double lon) {
         // Arabian Sea boundaries: 5-25N, 50-78E
         // Bounded by Arabian Peninsula, Pakistan, India (west coast), Somalia
         return lat >= 5 && lat <= 25 && lon >= 50 && lon <= 78;
     }
 
-    private boolean isInBayOfBengal(double lat, double lon) {
+    private static boolean isInBayOfBengal(double lat, double lon) {
         // Bay of Bengal boundaries: 5-22N, 80-95E
         // Bounded by India (east coast), Bangladesh, Myanmar, Thailand, Sri Lanka
         return lat >= 5 && lat <= 22 && lon >= 80 && lon <= 95;
     }
 
-    private boolean isInWestAfricaAtlantic(double lat, double lon) {
+    private static boolean isInWestAfricaAtlantic(double lat, double lon) {
         // West Africa Atlantic coast: 5S-35N, 20W-10E
         // From South Africa (west) to Morocco (Atlantic coast)
         // Note: Mediterranean coast regions are checked first
         return lat >= -5 && lat <= 35 && lon >= -20 && lon <= 10;
     }
 
-    private boolean isInSouthAtlantic(double lat, double lon) {
+    private static boolean isInSouthAtlantic(double lat, double lon) {
         // South Atlantic Ocean boundaries (IHO definition)
         // South America (East Coast): 5S-55S, 50-35W (from Brazil to Argentina)
         // South Africa (west coast): 25-35S, 15-20E
@@ -284,19 +393,19 @@ public class SwellSeasonDeterminationService {
                (lat >= -35 && lat <= -17 && lon >= 11 && lon <= 20);
     }
 
-    private boolean isInTasmanSea(double lat, double lon) {
+    private static boolean isInTasmanSea(double lat, double lon) {
         // Tasman Sea boundaries: 25-47S, 150-167E
         // Between Australia (east coast) and New Zealand
         return lat >= -47 && lat <= -25 && lon >= 150 && lon <= 167;
     }
 
-    private boolean isInCoralSea(double lat, double lon) {
+    private static boolean isInCoralSea(double lat, double lon) {
         // Coral Sea boundaries: 10-25S, 145-165E
         // Between Australia (northeast), Papua New Guinea, Solomon Islands, New Caledonia
         return lat >= -25 && lat <= -10 && lon >= 145 && lon <= 165;
     }
 
-    private boolean isInJapanNorthwestPacific(double lat, double lon) {
+    private static boolean isInJapanNorthwestPacific(double lat, double lon) {
         // Japan / Northwest Pacific boundaries
         // Japan: 24-46N, 123-146E
         // Korea: 33-43N, 124-132E
@@ -310,7 +419,7 @@ public class SwellSeasonDeterminationService {
                (lat >= 23 && lat <= 41 && lon >= 117 && lon <= 131);
     }
 
-    private boolean isInSouthChinaSea(double lat, double lon) {
+    private static boolean isInSouthChinaSea(double lat, double lon) {
         // South China Sea boundaries: 0-25N, 100-120E
         // Bounded by China (south), Vietnam, Philippines, Malaysia, Brunei
         // Note: Indonesia is checked first, so Indonesian islands won't match here
@@ -318,7 +427,7 @@ public class SwellSeasonDeterminationService {
         return lat >= 0 && lat <= 25 && lon >= 100 && lon <= 120;
     }
 
-    private boolean isInIndonesia(double lat, double lon) {
+    private static boolean isInIndonesia(double lat, double lon) {
         // Indonesia archipelago boundaries: 11S-6N, 95-141E
         // Includes: Sumatra, Java, Bali, Lombok, Sumbawa, Flores, Sulawesi, Maluku, Papua
         // This region has both Indian Ocean and Pacific Ocean coasts
@@ -18,6 +18,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,6 +39,7 @@ public class TripService {
     private final SurfboardRepository surfboardRepository;
     private final EmailService emailService;
     private final StorageService storageService;
+    private final MediaThumbnailService mediaThumbnailService;
 
     public TripService(
             TripRepository tripRepository,
@@ -50,7 +52,8 @@ public class TripService {
             SurfSpotRepository surfSpotRepository,
             SurfboardRepository surfboardRepository,
             EmailService emailService,
-            StorageService storageService) {
+            StorageService storageService,
+            MediaThumbnailService mediaThumbnailService) {
         this.tripRepository = tripRepository;
         this.tripMemberRepository = tripMemberRepository;
         this.tripSpotRepository = tripSpotRepository;
@@ -62,6 +65,7 @@ public class TripService {
         this.surfboardRepository = surfboardRepository;
         this.emailService = emailService;
         this.storageService = storageService;
+        this.mediaThumbnailService = mediaThumbnailService;
     }
 
     @Transactional
@@ -184,6 +188,11 @@ public class TripService {
 
     public List<TripDTO> getUserTrips(String userId) {
         List<Trip> trips = tripRepository.findByOwnerIdOrMemberId(userId);
+        Map<String, List<TripInvitation>> pendingInvitationsByTrip = trips.isEmpty()
+                ? Map.of()
+                : tripInvitationRepository.findByTripIdInAndStatus(
+                                trips.stream().map(Trip::getId).toList(), "PENDING").stream()
+                        .collect(Collectors.groupingBy(invitation -> invitation.getTrip().getId()));
         return trips.stream()
                 .map(trip -> {
                     TripDTO dto = new TripDTO(trip, userId);
@@ -199,10 +208,9 @@ public class TripService {
                         allMembers.addAll(members);
                     }
                     
-                    // Add pending invitations
-                    List<TripInvitation> invitations = tripInvitationRepository.findByTripId(trip.getId());
-                    List<TripMemberDTO> pendingInvitations = invitations.stream()
-                            .filter(inv -> "PENDING".equals(inv.getStatus()))
+                    // Add pending invitations (loaded for all trips in one query above)
+                    List<TripMemberDTO> pendingInvitations = pendingInvitationsByTrip
+                            .getOrDefault(trip.getId(), List.of()).stream()
                             .map(TripMemberDTO::new)
                             .collect(Collectors.toList());
                     allMembers.addAll(pendingInvitations);
@@ -515,6 +523,8 @@ public class TripService {
                 .build();
 
         tripMediaRepository.save(tripMedia);
+        mediaThumbnailService.generateAfterCommit(
+                MediaThumbnailService.MediaOwner.TRIP, request.getMediaId(), objectKey, mediaType);
     }
 
     @Transactional
@@ -538,6 +548,7 @@ public class TripService {
                 mediaType,
                 "trips/media");
         storageService.deleteObject(objectKey);
+        storageService.deleteObject(tripMedia.getThumbObjectKey());
 
         tripMediaRepository.delete(tripMedia);
     }
@@ -618,7 +629,11 @@ public class TripService {
                     "trips/media");
                     
             try {
-                mediaDto.setUrl(storageService.generatePresignedDownloadUrl(resolvedKey));
+                String signedUrl = storageService.generatePresignedDownloadUrl(resolvedKey);
+                mediaDto.setUrl(signedUrl);
+                mediaDto.setThumbUrl(mediaDto.getThumbObjectKey() != null
+                        ? storageService.generatePresignedDownloadUrl(mediaDto.getThumbObjectKey())
+                        : signedUrl);
             } catch (Exception exception) {
                 logger.warn("Failed to presign trip media URL. mediaId={}, keeping original URL.", mediaDto.getId(), exception);
             }
@@ -0,0 +1,47 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.lovettj.surfspotsapi.enums.ProfileStat;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository.StatCount;
+
+/** A user's profile counters as read in one query, with the derived figures the profile pages show. */
+public final class UserProfileStats {
+
+    private final Map<ProfileStat, Map<String, Integer>> countsByStat = new EnumMap<>(ProfileStat.class);
+
+    public UserProfileStats(List<StatCount> counts) {
+        for (StatCount count : counts) {
+            if (count.count() > 0) {
+                countsByStat.computeIfAbsent(count.stat(), stat -> new HashMap<>()).put(count.statKey(), count.count());
+            }
+        }
+    }
+
+    /** The total of a stat kept under the empty key, such as {@link ProfileStat#SURFED_SPOT}. */
+    public int total(ProfileStat stat) {
+        return countsByStat.getOrDefault(stat, Map.of()).getOrDefault("", 0);
+    }
+
+    /** How many distinct keys a stat has, such as countries surfed. */
+    public int distinctCount(ProfileStat stat) {
+        return countsByStat.getOrDefault(stat, Map.of()).size();
+    }
+
+    /**
+     * The key with the highest count, as a constant of {@code type}, or null when the stat has none. Ties go
+     * to the constant declared first, so the answer does not depend on read order.
+     */
+    public <E extends Enum<E>> E mostCommon(ProfileStat stat, Class<E> type) {
+        return countsByStat.getOrDefault(stat, Map.of()).entrySet().stream()
+                .map(entry -> Map.entry(Enum.valueOf(type, entry.getKey()), entry.getValue()))
+                .max(Comparator.<Map.Entry<E, Integer>>comparingInt(Map.Entry::getValue)
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,219 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository.StatDelta;
+
+/**
+ * Keeps each user's {@code user_profile_stat} counters in step with their surfed spots, watch list and
+ * sessions, so the surfed-spots and sessions pages read their headline figures from one query.
+ *
+ * <p>Callers report changes from inside the transaction that makes them. A spot edit moves its surfers'
+ * counters from the old keys to the new ones in one statement; a spot deletion and reference data changes
+ * rebuild instead.
+ */
+@Service
+public class UserProfileStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProfileStatsService.class);
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    /** What a session contributes to the counters: its spot and board, either of which may be missing. */
+    public record SessionKeys(Long surfSpotId, String surfboardId) {
+        public static SessionKeys of(SurfSession session) {
+            return new SessionKeys(
+                    session.getSurfSpot() != null ? session.getSurfSpot().getId() : null,
+                    session.getSurfboard() != null ? session.getSurfboard().getId() : null);
+        }
+    }
+
+    /**
+     * The surfed-spot counter keys a spot feeds besides the total, as {@code UserProfileStatRepository} derives
+     * them from its row. Missing values feed no counter.
+     */
+    public record SurfedSpotKeys(
+            Long countryId, Long continentId, String type, String beachBottom, String waveDirection, String skillLevel) {
+
+        public static SurfedSpotKeys of(SurfSpot spot) {
+            Country country = spot.getRegion() != null ? spot.getRegion().getCountry() : null;
+            return new SurfedSpotKeys(
+                    country != null ? country.getId() : null,
+                    country != null && country.getContinent() != null ? country.getContinent().getId() : null,
+                    enumName(spot.getType()),
+                    enumName(spot.getBeachBottomType()),
+                    enumName(spot.getWaveDirection()),
+                    enumName(spot.getSkillLevel()));
+        }
+
+        private void addDeltas(Map<String, StatDelta> deltas, int change) {
+            addKeyDelta(deltas, ProfileStat.SURFED_COUNTRY, countryId != null ? String.valueOf(countryId) : null, change);
+            addKeyDelta(deltas, ProfileStat.SURFED_CONTINENT, continentId != null ? String.valueOf(continentId) : null, change);
+            addKeyDelta(deltas, ProfileStat.SURFED_SPOT_TYPE, type, change);
+            addKeyDelta(deltas, ProfileStat.SURFED_BEACH_BOTTOM, beachBottom, change);
+            addKeyDelta(deltas, ProfileStat.SURFED_WAVE_DIRECTION, waveDirection, change);
+            addKeyDelta(deltas, ProfileStat.SURFED_SKILL_LEVEL, skillLevel, change);
+        }
+
+        private static void addKeyDelta(Map<String, StatDelta> deltas, ProfileStat stat, String statKey, int change) {
+            if (statKey != null) {
+                addDelta(deltas, stat, statKey, change);
+            }
+        }
+
+        private static String enumName(Enum<?> value) {
+            return value != null ? value.name() : null;
+        }
+    }
+
+    private final UserProfileStatRepository userProfileStatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserProfileStatsService(
+            UserProfileStatRepository userProfileStatRepository,
+            PlatformTransactionManager transactionManager) {
+        this.userProfileStatRepository = userProfileStatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public UserProfileStats getStats(String userId) {
+        return new UserProfileStats(userProfileStatRepository.findByUserId(userId));
+    }
+
+    public void surfedSpotsAdded(String userId, Collection<Long> surfSpotIds) {
+        userProfileStatRepository.applySurfedSpots(userId, surfSpotIds, 1);
+    }
+
+    public void surfedSpotRemoved(String userId, Long surfSpotId) {
+        userProfileStatRepository.applySurfedSpots(userId, List.of(surfSpotId), -1);
+    }
+
+    public void watchedSpotAdded(String userId) {
+        userProfileStatRepository.applyDeltas(userId, List.of(new StatDelta(ProfileStat.WATCHED_SPOT, "", 1)));
+    }
+
+    public void watchedSpotRemoved(String userId) {
+        userProfileStatRepository.applyDeltas(userId, List.of(new StatDelta(ProfileStat.WATCHED_SPOT, "", -1)));
+    }
+
+    /** Sessions created, changed or deleted: {@code before} is null for new ones, {@code after} for deleted ones. */
+    public void sessionChanged(String userId, SessionKeys before, SessionKeys after) {
+        Map<String, StatDelta> deltas = new LinkedHashMap<>();
+        if (before != null) {
+            addSessionDeltas(deltas, before, -1);
+        }
+        if (after != null) {
+            addSessionDeltas(deltas, after, 1);
+        }
+        userProfileStatRepository.applyDeltas(
+                userId, deltas.values().stream().filter(delta -> delta.change() != 0).toList());
+    }
+
+    /** Sessions created in bulk, such as an import. */
+    public void sessionsAdded(String userId, Collection<SessionKeys> sessions) {
+        Map<String, StatDelta> deltas = new LinkedHashMap<>();
+        sessions.forEach(session -> addSessionDeltas(deltas, session, 1));
+        userProfileStatRepository.applyDeltas(userId, new ArrayList<>(deltas.values()));
+    }
+
+    /** Sessions without a spot that were linked to {@code surfSpotId} (their total is unchanged). */
+    public void sessionsLinkedToSpot(String userId, Long surfSpotId, int sessionCount) {
+        if (sessionCount > 0) {
+            userProfileStatRepository.applyDeltas(userId, List.of(
+                    new StatDelta(ProfileStat.SESSION_SPOT, String.valueOf(surfSpotId), sessionCount)));
+        }
+    }
+
+    /** The board's sessions keep their row but lose the board ({@code ON DELETE SET NULL}). */
+    public void surfboardDeleted(String userId, String surfboardId) {
+        userProfileStatRepository.deleteCounter(userId, ProfileStat.SESSION_BOARD, surfboardId);
+    }
+
+    /** Users whose counters depend on the spot, to rebuild once it is deleted. */
+    public List<String> findUserIdsCountingSurfSpot(Long surfSpotId) {
+        return userProfileStatRepository.findUserIdsCountingSurfSpot(surfSpotId);
+    }
+
+    /**
+     * After a spot edit. Nothing is written unless a counted attribute changed; then everyone who surfed the
+     * spot moves from the old keys to the new ones in one statement. Session counters key on the spot id
+     * and are not affected.
+     */
+    @Transactional
+    public void surfSpotChanged(Long surfSpotId, SurfedSpotKeys before, SurfedSpotKeys after) {
+        if (before.equals(after)) {
+            return;
+        }
+        Map<String, StatDelta> deltas = new LinkedHashMap<>();
+        before.addDeltas(deltas, -1);
+        after.addDeltas(deltas, 1);
+        userProfileStatRepository.applyDeltasToSurfers(
+                surfSpotId, deltas.values().stream().filter(delta -> delta.change() != 0).toList());
+    }
+
+    @Transactional
+    public void rebuild(Collection<String> userIds) {
+        userProfileStatRepository.rebuild(userIds);
+    }
+
+    /** After reference data moved spots between regions or changed their attributes. */
+    @Transactional
+    public void rebuildSurfedSpotCounters() {
+        userProfileStatRepository.rebuildSurfedSpotCounters();
+    }
+
+    /**
+     * Rebuilds every user's counters, {@value #REBUILD_BATCH_SIZE} users per transaction, and returns how
+     * many users were rebuilt. For repairs (the counters are otherwise kept up to date); writes for a user
+     * racing with their batch can be counted twice or missed, so run it when traffic is low.
+     */
+    public int rebuildAll() {
+        int rebuiltCount = 0;
+        String afterUserId = "";
+        while (true) {
+            String cursor = afterUserId;
+            List<String> userIds = transactionTemplate.execute(status -> {
+                List<String> batch = userProfileStatRepository.findUserIdsAfter(cursor, REBUILD_BATCH_SIZE);
+                userProfileStatRepository.rebuild(batch);
+                return batch;
+            });
+            rebuiltCount += userIds.size();
+            if (userIds.size() < REBUILD_BATCH_SIZE) {
+                logger.info("Rebuilt profile stats for {} users", rebuiltCount);
+                return rebuiltCount;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+        }
+    }
+
+    private static void addSessionDeltas(Map<String, StatDelta> deltas, SessionKeys session, int change) {
+        addDelta(deltas, ProfileStat.SESSION, "", change);
+        if (session.surfSpotId() != null) {
+            addDelta(deltas, ProfileStat.SESSION_SPOT, String.valueOf(session.surfSpotId()), change);
+        }
+        if (session.surfboardId() != null) {
+            addDelta(deltas, ProfileStat.SESSION_BOARD, session.surfboardId(), change);
+        }
+    }
+
+    private static void addDelta(Map<String, StatDelta> deltas, ProfileStat stat, String statKey, int change) {
+        deltas.merge(stat + "/" + statKey, new StatDelta(stat, statKey, change),
+                (existing, added) -> new StatDelta(stat, statKey, existing.change() + added.change()));
+    }
+}
@@ -0,0 +1,152 @@
+package com.lovettj.surfspotsapi.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lovettj.surfspotsapi.config.SpotMembershipProperties;
+import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Each user's surfed and watched spot ids, loaded once per user so {@code isSurfedSpot}/{@code isWatched}
+ * flags on spot lists and pages are in-memory lookups. Bounded by user count
+ * ({@code app.spot-membership.cache-max-users}); hit and miss counts are published as
+ * {@code cache.gets{cache=userSpotMemberships}}.
+ *
+ * <p>Writers call {@link #evict(String)} (or {@link #evictAll()} for jobs that touch many users) from the
+ * transaction that changes the rows: the entry is dropped at once and again when the transaction ends, so
+ * neither a load inside it nor one racing with it outlives the write.
+ */
+@Service
+public class UserSpotMembershipCache {
+
+    static final String CACHE_NAME = "userSpotMemberships";
+
+    private final UserSurfSpotRepository userSurfSpotRepository;
+    private final WatchListRepository watchListRepository;
+    private final Cache<String, Memberships> memberships;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserSpotMembershipCache(
+            UserSurfSpotRepository userSurfSpotRepository,
+            WatchListRepository watchListRepository,
+            SpotMembershipProperties properties,
+            MeterRegistry meterRegistry) {
+        this.userSurfSpotRepository = userSurfSpotRepository;
+        this.watchListRepository = watchListRepository;
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxUsers())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, CACHE_NAME);
+    }
+
+    /**
+     * The user's memberships, cached or freshly loaded. Loading queries outside the cache's compute lock, so
+     * concurrent misses may load twice; a load that ran while an eviction happened is returned but not cached.
+     */
+    public Memberships get(String userId) {
+        Memberships cached = memberships.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long evictionsBefore = evictions.get();
+        Memberships loaded = new Memberships(
+                sortedIds(userSurfSpotRepository.findSurfSpotIdsByUserId(userId)),
+                sortedIds(watchListRepository.findSurfSpotIdsByUserId(userId)));
+        if (evictions.get() == evictionsBefore) {
+            memberships.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    /** After the user's surfed spots or watch list changed. */
+    public void evict(String userId) {
+        onceNowAndAfterCompletion(() -> memberships.invalidate(userId));
+    }
+
+    public void evictAll() {
+        onceNowAndAfterCompletion(memberships::invalidateAll);
+    }
+
+    private void onceNowAndAfterCompletion(Runnable eviction) {
+        Runnable counted = () -> {
+            evictions.incrementAndGet();
+            eviction.run();
+        };
+        counted.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            counted.run();
+                        }
+                    });
+        }
+    }
+
+    private static long[] sortedIds(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * A user's surfed and watched spot ids as sorted arrays: spot ids are sparse and a user's sets are small,
+     * so this stays a few hundred bytes per user and each flag is a binary search.
+     */
+    public static final class Memberships {
+
+        private final long[] surfedSpotIds;
+        private final long[] watchedSpotIds;
+
+        Memberships(long[] surfedSpotIds, long[] watchedSpotIds) {
+            this.surfedSpotIds = surfedSpotIds;
+            this.watchedSpotIds = watchedSpotIds;
+        }
+
+        public boolean isSurfed(long spotId) {
+            return Arrays.binarySearch(surfedSpotIds, spotId) >= 0;
+        }
+
+        public boolean isWatched(long spotId) {
+            return Arrays.binarySearch(watchedSpotIds, spotId) >= 0;
+        }
+
+        /** The ids from {@code spotIds} the user has surfed. */
+        public Set<Long> surfedIn(Collection<Long> spotIds) {
+            return in(surfedSpotIds, spotIds);
+        }
+
+        /** The ids from {@code spotIds} on the user's watch list. */
+        public Set<Long> watchedIn(Collection<Long> spotIds) {
+            return in(watchedSpotIds, spotIds);
+        }
+
+        private static Set<Long> in(long[] memberIds, Collection<Long> spotIds) {
+            Set<Long> found = new HashSet<>();
+            if (memberIds.length == 0) {
+                return found;
+            }
+            for (Long spotId : spotIds) {
+                if (spotId != null && Arrays.binarySearch(memberIds, spotId) >= 0) {
+                    found.add(spotId);
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -6,29 +6,24 @@ import org.springframework.transaction.annotation.Transactional;
 import com.lovettj.surfspotsapi.dto.SurfedSpotDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
 import com.lovettj.surfspotsapi.dto.UserSurfSpotsDTO;
-import com.lovettj.surfspotsapi.entity.Country;
 import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.entity.UserSurfSpot;
 import com.lovettj.surfspotsapi.enums.BeachBottomType;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
 import com.lovettj.surfspotsapi.enums.SkillLevel;
 import com.lovettj.surfspotsapi.enums.SurfSpotType;
 import com.lovettj.surfspotsapi.enums.WaveDirection;
 import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
-import com.lovettj.surfspotsapi.repository.WatchListRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.response.ApiErrors;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -38,47 +33,47 @@ import org.springframework.web.server.ResponseStatusException;
 public class UserSurfSpotService {
 
     private final UserSurfSpotRepository userSurfSpotRepository;
-    private final WatchListRepository watchListRepository;
+    private final UserSpotMembershipCache userSpotMembershipCache;
     private final UserRepository userRepository;
     private final SurfSpotRepository surfSpotRepository;
+    private final UserProfileStatsService userProfileStatsService;
 
     public UserSurfSpotService(UserSurfSpotRepository userSurfSpotRepository,
-                               WatchListRepository watchListRepository,
+                               UserSpotMembershipCache userSpotMembershipCache,
                                UserRepository userRepository,
-                               SurfSpotRepository surfSpotRepository) {
+                               SurfSpotRepository surfSpotRepository,
+                               UserProfileStatsService userProfileStatsService) {
         this.userSurfSpotRepository = userSurfSpotRepository;
-        this.watchListRepository = watchListRepository;
+        this.userSpotMembershipCache = userSpotMembershipCache;
         this.userRepository = userRepository;
         this.surfSpotRepository = surfSpotRepository;
+        this.userProfileStatsService = userProfileStatsService;
     }
 
+    /**
+     * Surfed-spots page: headline figures from the user's profile counters (one query) plus the spot list,
+     * each flagged with whether it is also on the watch list.
+     */
     public UserSurfSpotsDTO getUserSurfSpotsSummary(String userId) {
-        List<UserSurfSpot> userSurfSpots = userSurfSpotRepository.findByUserIdOrderByCreatedAtDesc(userId);
-
-        if (userSurfSpots.isEmpty()) {
-            return new UserSurfSpotsDTO(0, 0, 0, null, null, null, null, Collections.emptyList());
+        UserProfileStats stats = userProfileStatsService.getStats(userId);
+        if (stats.total(ProfileStat.SURFED_SPOT) == 0) {
+            return UserSurfSpotsDTO.builder()
+                    .watchListCount(stats.total(ProfileStat.WATCHED_SPOT))
+                    .surfedSpots(Collections.emptyList())
+                    .build();
         }
 
-        int totalCount = userSurfSpots.size();
-        Set<String> distinctCountries = getDistinctCountries(userSurfSpots);
-        Set<String> distinctContinents = getDistinctContinents(userSurfSpots);
-        int countryCount = distinctCountries.size();
-        int continentCount = distinctContinents.size();
-        SurfSpotType mostSurfedSpotType = getMostSurfedSpotType(userSurfSpots);
-        BeachBottomType mostSurfedBeachType = getMostSurfedBeachType(userSurfSpots);
-        WaveDirection mostSurfedWaveDirection = getMostSurfedWaveDirection(userSurfSpots);
-        SkillLevel skillLevel = getSkillLevel(userSurfSpots);
-        List<SurfedSpotDTO> surfedSpots = mapToSurfSpotDTO(userSurfSpots);
-
+        List<UserSurfSpot> userSurfSpots = userSurfSpotRepository.findByUserIdOrderByCreatedAtDesc(userId);
         return UserSurfSpotsDTO.builder()
-                .totalCount(totalCount)
-                .countryCount(countryCount)
-                .continentCount(continentCount)
-                .mostSurfedSpotType(mostSurfedSpotType)
-                .mostSurfedBeachBottomType(mostSurfedBeachType)
-                .mostSurfedWaveDirection(mostSurfedWaveDirection)
-                .skillLevel(skillLevel)
-                .surfedSpots(surfedSpots).build();
+                .totalCount(stats.total(ProfileStat.SURFED_SPOT))
+                .countryCount(stats.distinctCount(ProfileStat.SURFED_COUNTRY))
+                .continentCount(stats.distinctCount(ProfileStat.SURFED_CONTINENT))
+                .mostSurfedSpotType(stats.mostCommon(ProfileStat.SURFED_SPOT_TYPE, SurfSpotType.class))
+                .mostSurfedBeachBottomType(stats.mostCommon(ProfileStat.SURFED_BEACH_BOTTOM, BeachBottomType.class))
+                .mostSurfedWaveDirection(stats.mostCommon(ProfileStat.SURFED_WAVE_DIRECTION, WaveDirection.class))
+                .skillLevel(stats.mostCommon(ProfileStat.SURFED_SKILL_LEVEL, SkillLevel.class))
+                .watchListCount(stats.total(ProfileStat.WATCHED_SPOT))
+                .surfedSpots(mapToSurfSpotDTO(userId, userSurfSpots)).build();
     }
 
     @Transactional
@@ -100,28 +95,34 @@ public class UserSurfSpotService {
                     .isFavourite(false)
                     .build();
             userSurfSpotRepository.save(newEntry);
+            userProfileStatsService.surfedSpotsAdded(userId, List.of(spotId));
+            userSpotMembershipCache.evict(userId);
         }
     }
 
     public boolean isUserSurfedSpot(String userId, Long spotId) {
-        Optional<UserSurfSpot> existingEntry = userSurfSpotRepository.findByUserIdAndSurfSpotId(userId, spotId);
-        return existingEntry.isPresent();
+        return userSpotMembershipCache.get(userId).isSurfed(spotId);
     }
 
     /**
      * Spot IDs from {@code spotIds} that the user has marked as surfed.
-     * One query for list endpoints instead of per-spot exists checks.
+     * Read from {@link UserSpotMembershipCache}, so list endpoints do not query per page.
      */
     public Set<Long> findSurfedSpotIdsIn(String userId, Collection<Long> spotIds) {
         if (userId == null || spotIds == null || spotIds.isEmpty()) {
             return Collections.emptySet();
         }
-        return userSurfSpotRepository.findSurfSpotIdsByUserIdAndSurfSpotIdIn(userId, spotIds);
+        return userSpotMembershipCache.get(userId).surfedIn(spotIds);
     }
 
+    @Transactional
     public void removeUserSurfSpot(String userId, Long spotId) {
         Optional<UserSurfSpot> existingEntry = userSurfSpotRepository.findByUserIdAndSurfSpotId(userId, spotId);
-        existingEntry.ifPresent(userSurfSpotRepository::delete);
+        if (existingEntry.isPresent()) {
+            userSurfSpotRepository.delete(existingEntry.get());
+            userProfileStatsService.surfedSpotRemoved(userId, spotId);
+            userSpotMembershipCache.evict(userId);
+        }
     }
 
     public void toggleIsFavourite(String userId, Long spotId) {
@@ -134,107 +135,17 @@ public class UserSurfSpotService {
         }
     }
 
-    private Set<String> getDistinctCountries(List<UserSurfSpot> userSurfSpots) {
-        return userSurfSpots.stream()
-                .map(UserSurfSpotService::resolveCountryName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
+    private List<SurfedSpotDTO> mapToSurfSpotDTO(String userId, List<UserSurfSpot> userSurfSpots) {
+        UserSpotMembershipCache.Memberships memberships = userSpotMembershipCache.get(userId);
 
-    private Set<String> getDistinctContinents(List<UserSurfSpot> userSurfSpots) {
-        return userSurfSpots.stream()
-                .map(UserSurfSpotService::resolveContinentName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
-
-    private static String resolveCountryName(UserSurfSpot uss) {
-        SurfSpot spot = uss.getSurfSpot();
-        if (spot == null || spot.getRegion() == null) {
-            return null;
-        }
-        Country country = spot.getRegion().getCountry();
-        return country != null ? country.getName() : null;
-    }
-
-    private static String resolveContinentName(UserSurfSpot uss) {
-        SurfSpot spot = uss.getSurfSpot();
-        if (spot == null || spot.getRegion() == null) {
-            return null;
-        }
-        Country country = spot.getRegion().getCountry();
-        if (country == null || country.getContinent() == null) {
-            return null;
-        }
-        return country.getContinent().getName();
-    }
-
-    private SurfSpotType getMostSurfedSpotType(List<UserSurfSpot> userSurfSpots) {
-        return getMostCommonAttribute(userSurfSpots, uss -> {
-            SurfSpot s = uss.getSurfSpot();
-            return s != null ? s.getType() : null;
-        });
-    }
-
-    private BeachBottomType getMostSurfedBeachType(List<UserSurfSpot> userSurfSpots) {
-        return getMostCommonAttribute(userSurfSpots, uss -> {
-            SurfSpot s = uss.getSurfSpot();
-            return s != null ? s.getBeachBottomType() : null;
-        });
-    }
-
-    private WaveDirection getMostSurfedWaveDirection(List<UserSurfSpot> userSurfSpots) {
-        return getMostCommonAttribute(userSurfSpots, uss -> {
-            SurfSpot s = uss.getSurfSpot();
-            return s != null ? s.getWaveDirection() : null;
-        });
-    }
-
-    private SkillLevel getSkillLevel(List<UserSurfSpot> userSurfSpots) {
-        return getMostCommonAttribute(userSurfSpots, uss -> {
-            SurfSpot s = uss.getSurfSpot();
-            return s != null ? s.getSkillLevel() : null;
-        });
-    }
-
-    private List<SurfedSpotDTO> mapToSurfSpotDTO(List<UserSurfSpot> userSurfSpots) {
-        if (userSurfSpots.isEmpty()) {
-            return Collections.emptyList();
-        }
-        
-        String userId = userSurfSpots.get(0).getUser().getId();
-        
-        // Get all watched spot IDs for this user
-        Set<Long> watchedSpotIds = watchListRepository.findByUserId(userId).stream()
-                .map(wls -> wls.getSurfSpot().getId())
-                .collect(Collectors.toSet());
-        
         return userSurfSpots.stream()
                 .map(userSurfSpot -> {
                     SurfSpotDTO surfSpotDTO = new SurfSpotDTO(userSurfSpot.getSurfSpot());
                     // Set both flags
                     surfSpotDTO.setIsSurfedSpot(true);
-                    surfSpotDTO.setIsWatched(watchedSpotIds.contains(userSurfSpot.getSurfSpot().getId()));
+                    surfSpotDTO.setIsWatched(memberships.isWatched(userSurfSpot.getSurfSpot().getId()));
                     return SurfedSpotDTO.fromUserSurfSpot(userSurfSpot, surfSpotDTO);
                 })
                 .toList();
     }
-
-    /**
-     * Most frequent non-null value from mapped attributes. Uses a plain map count so we never pass
-     * null keys into {@code Collectors.groupingBy} (novelty spots may have null type/beach/skill).
-     */
-    private <T> T getMostCommonAttribute(List<UserSurfSpot> userSurfSpots, java.util.function.Function<UserSurfSpot, T> mapper) {
-        Map<T, Long> counts = new HashMap<>();
-        for (UserSurfSpot uss : userSurfSpots) {
-            T attr = mapper.apply(uss);
-            if (attr != null) {
-                counts.merge(attr, 1L, Long::sum);
-            }
-        }
-        return counts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-    }
 }
@@ -6,6 +6,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.lovettj.surfspotsapi.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
 @Component
 @ConditionalOnProperty(
         name = "app.watch-list.email-alerts-enabled",
@@ -16,18 +21,24 @@ public class WatchListNotificationEmailScheduler {
     private static final Logger logger =
             LoggerFactory.getLogger(WatchListNotificationEmailScheduler.class);
 
+    private static final Tags JOB_TAGS = Tags.of("job", "watch-list-alert-emails");
+
     private final WatchListNotificationEmailService watchListNotificationEmailService;
+    private final MeterRegistry meterRegistry;
 
     public WatchListNotificationEmailScheduler(
-            WatchListNotificationEmailService watchListNotificationEmailService) {
+            WatchListNotificationEmailService watchListNotificationEmailService,
+            MeterRegistry meterRegistry) {
         this.watchListNotificationEmailService = watchListNotificationEmailService;
+        this.meterRegistry = meterRegistry;
     }
 
     /** Daily check for swell/event watch-list emails. */
     @Scheduled(cron = "${app.watch-list.email-alerts-cron:0 0 8 * * *}")
     public void sendWatchListAlertEmails() {
         try {
-            int sentCount = watchListNotificationEmailService.processWatchListAlertEmails();
+            int sentCount = OutcomeTimer.record(
+                    meterRegistry, "scheduled.job", JOB_TAGS, watchListNotificationEmailService::processWatchListAlertEmails);
             if (sentCount > 0) {
                 logger.info("Sent {} watch-list alert email(s)", sentCount);
             }
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,8 @@ import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
 import com.lovettj.surfspotsapi.entity.Settings;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.repository.WatchListRepository;
@@ -37,6 +40,7 @@ public class WatchListNotificationEmailService {
     private final WatchListRepository watchListRepository;
     private final NotificationService notificationService;
     private final NotificationEmailSentRepository notificationEmailSentRepository;
+    private final NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
     private final EmailService emailService;
     private final String appBaseUrl;
 
@@ -45,12 +49,14 @@ public class WatchListNotificationEmailService {
             WatchListRepository watchListRepository,
             NotificationService notificationService,
             NotificationEmailSentRepository notificationEmailSentRepository,
+            NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository,
             EmailService emailService,
             AppProperties appProperties) {
         this.userRepository = userRepository;
         this.watchListRepository = watchListRepository;
         this.notificationService = notificationService;
         this.notificationEmailSentRepository = notificationEmailSentRepository;
+        this.notificationEmailSentJdbcRepository = notificationEmailSentJdbcRepository;
         this.emailService = emailService;
         this.appBaseUrl = EmailLayoutVariables.normalizeAppBaseUrl(appProperties.getUrl());
     }
@@ -75,17 +81,23 @@ public class WatchListNotificationEmailService {
             return 0;
         }
 
-        List<NotificationDTO> notifications = notificationService.generateNotifications(watchList);
+        List<NotificationDTO> emailable = notificationService.generateNotifications(watchList).stream()
+                .filter(notification -> shouldEmailNotification(settings, notification))
+                .filter(notification -> notification.getId() != null && !notification.getId().isBlank())
+                .toList();
+        if (emailable.isEmpty()) {
+            return 0;
+        }
+        // One anti-join for the user's alerts instead of a probe per alert.
+        Set<NotificationClaim> unclaimed = notificationEmailSentJdbcRepository.findUnclaimed(
+                emailable.stream()
+                        .map(notification -> new NotificationClaim(user.getId(), notification.getId()))
+                        .toList());
+
         int sentCount = 0;
-        for (NotificationDTO notification : notifications) {
-            if (!shouldEmailNotification(settings, notification)) {
-                continue;
-            }
-            String notificationKey = notification.getId();
-            if (notificationKey == null || notificationKey.isBlank()) {
-                continue;
-            }
-            if (sendAndClaim(user, notification, notificationKey)) {
+        for (NotificationDTO notification : emailable) {
+            if (unclaimed.contains(new NotificationClaim(user.getId(), notification.getId()))
+                    && sendAndClaim(user, notification, notification.getId())) {
                 sentCount++;
             }
         }
@@ -94,11 +106,6 @@ public class WatchListNotificationEmailService {
 
     private boolean sendAndClaim(
             User user, NotificationDTO notification, String notificationKey) {
-        if (notificationEmailSentRepository.existsByUserIdAndNotificationKey(
-                user.getId(), notificationKey)) {
-            return false;
-        }
-
         Map<String, Object> variables = new HashMap<>();
         variables.put("alertTitle", notification.getTitle());
         variables.put("alertDescription", notification.getDescription());
@@ -18,9 +18,7 @@ import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
 import com.lovettj.surfspotsapi.repository.WatchListRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
-import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
 import com.lovettj.surfspotsapi.response.ApiErrors;
-import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
@@ -31,20 +29,23 @@ public class WatchListService {
     private final WatchListRepository watchListRepository;
     private final UserRepository userRepository;
     private final SurfSpotRepository surfSpotRepository;
-    private final UserSurfSpotRepository userSurfSpotRepository;
+    private final UserSpotMembershipCache userSpotMembershipCache;
     private final NotificationService notificationService;
+    private final UserProfileStatsService userProfileStatsService;
 
     public WatchListService(
             WatchListRepository watchListRepository,
             UserRepository userRepository,
             SurfSpotRepository surfSpotRepository,
-            UserSurfSpotRepository userSurfSpotRepository,
-            NotificationService notificationService) {
+            UserSpotMembershipCache userSpotMembershipCache,
+            NotificationService notificationService,
+            UserProfileStatsService userProfileStatsService) {
         this.watchListRepository = watchListRepository;
         this.userRepository = userRepository;
         this.surfSpotRepository = surfSpotRepository;
-        this.userSurfSpotRepository = userSurfSpotRepository;
+        this.userSpotMembershipCache = userSpotMembershipCache;
         this.notificationService = notificationService;
+        this.userProfileStatsService = userProfileStatsService;
     }
 
     /**
@@ -68,22 +69,24 @@ public class WatchListService {
                 .build();
 
             watchListRepository.save(newEntry);
+            userProfileStatsService.watchedSpotAdded(userId);
+            userSpotMembershipCache.evict(userId);
         }
     }
 
     public boolean isWatched(String userId, Long spotId) {
-        return watchListRepository.findByUserIdAndSurfSpotId(userId, spotId).isPresent();
+        return userSpotMembershipCache.get(userId).isWatched(spotId);
     }
 
     /**
      * Spot IDs from {@code spotIds} that are on the user's watch list.
-     * One query for list endpoints instead of per-spot exists checks.
+     * Read from {@link UserSpotMembershipCache}, so list endpoints do not query per page.
      */
     public Set<Long> findWatchedSpotIdsIn(String userId, Collection<Long> spotIds) {
         if (userId == null || spotIds == null || spotIds.isEmpty()) {
             return Collections.emptySet();
         }
-        return watchListRepository.findSurfSpotIdsByUserIdAndSurfSpotIdIn(userId, spotIds);
+        return userSpotMembershipCache.get(userId).watchedIn(spotIds);
     }
 
     /**
@@ -94,7 +97,11 @@ public class WatchListService {
      */
     public void removeSurfSpotFromWishList(String userId, Long spotId) {
         Optional<WatchListSurfSpot> existingEntry = watchListRepository.findByUserIdAndSurfSpotId(userId, spotId);
-        existingEntry.ifPresent(watchListRepository::delete);
+        if (existingEntry.isPresent()) {
+            watchListRepository.delete(existingEntry.get());
+            userProfileStatsService.watchedSpotRemoved(userId);
+            userSpotMembershipCache.evict(userId);
+        }
     }
 
     /**
@@ -129,17 +136,14 @@ public class WatchListService {
         
         String userId = watchListSurfSpots.get(0).getUser().getId();
         
-        // Get all surfed spot IDs for this user
-        Set<Long> surfedSpotIds = userSurfSpotRepository.findByUserId(userId).stream()
-                .map(uss -> uss.getSurfSpot().getId())
-                .collect(Collectors.toSet());
+        UserSpotMembershipCache.Memberships memberships = userSpotMembershipCache.get(userId);
         
         return watchListSurfSpots.stream()
             .map(watchListSurfSpot -> {
                 SurfSpotDTO surfSpotDTO = new SurfSpotDTO(watchListSurfSpot.getSurfSpot());
                 // Set both flags
                 surfSpotDTO.setIsWatched(true);
-                surfSpotDTO.setIsSurfedSpot(surfedSpotIds.contains(watchListSurfSpot.getSurfSpot().getId()));
+                surfSpotDTO.setIsSurfedSpot(memberships.isSurfed(watchListSurfSpot.getSurfSpot().getId()));
                 return WatchListSpotDTO.fromWatchListSurfSpot(watchListSurfSpot, surfSpotDTO);
             })
             .toList();
@@ -0,0 +1,51 @@
+package com.lovettj.surfspotsapi.util;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Enum filter expansion shared by the spot list query ({@code SurfSpotRepositoryImpl}) and the in-memory
+ * listing filter ({@code SurfSpotListingFilter}), so both match the same values.
+ */
+public class EnumFilterUtils {
+
+    private EnumFilterUtils() {
+    }
+
+    /**
+     * Expands enum filter to include all enum values that contain the filter value as a substring.
+     * For example, if filtering by "Intermediate", it will also include "Beginner - Intermediate" and "Intermediate - Advanced".
+     *
+     * @param filterValues The selected filter values
+     * @param allEnumValues All possible enum values
+     * @return List of expanded enum values that match any of the filter values
+     */
+    public static <T extends Enum<T>> List<T> expand(List<T> filterValues, T[] allEnumValues) {
+        return filterValues.stream()
+            .flatMap(filterValue -> {
+                String filterDisplayName = displayName(filterValue);
+                return Arrays.stream(allEnumValues)
+                    .filter(enumValue -> {
+                        String enumDisplayName = displayName(enumValue);
+                        return enumDisplayName.toLowerCase().contains(filterDisplayName.toLowerCase());
+                    });
+            })
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the display name from an enum value.
+     * Uses reflection to call getDisplayName() if available, otherwise uses name().
+     */
+    private static <T extends Enum<T>> String displayName(T enumValue) {
+        try {
+            Method getDisplayName = enumValue.getClass().getMethod("getDisplayName");
+            return (String) getDisplayName.invoke(enumValue);
+        } catch (Exception e) {
+            return enumValue.name();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.lovettj.surfspotsapi.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads a top-level JSON array one element at a time so large seed files never sit in memory as a
+ * whole entity array.
+ */
+public final class JsonArrayStreamReader {
+
+    private JsonArrayStreamReader() {}
+
+    /**
+     * Binds each element of the top-level array in {@code input} to {@code type} and hands it to
+     * {@code consumer} in file order. An empty document is treated as an empty array.
+     *
+     * @return number of elements read
+     */
+    public static <T> int forEachElement(
+            ObjectMapper mapper, InputStream input, Class<T> type, Consumer<? super T> consumer)
+            throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(input)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return 0;
+            }
+            if (first != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array but found " + first);
+            }
+            int count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new IOException("Unexpected end of JSON array after " + count + " elements");
+                }
+                consumer.accept(mapper.readValue(parser, type));
+                count++;
+            }
+            return count;
+        }
+    }
+}
@@ -39,6 +39,27 @@ public final class SurfSpotPathUtil {
         return region.getName() + ", " + country.getName();
     }
 
+    /**
+     * Same path from slugs alone (projection rows without entities); {@code subRegionSlug} is null for
+     * spots outside a sub-region.
+     */
+    public static String pathFor(
+            Long id,
+            String continentSlug,
+            String countrySlug,
+            String regionSlug,
+            String subRegionSlug,
+            String spotSlug) {
+        try {
+            return buildSlugBasedPath(continentSlug, countrySlug, regionSlug, subRegionSlug, spotSlug);
+        } catch (IllegalStateException ex) {
+            if (id != null) {
+                return String.format("/surf-spots/id/%d", id);
+            }
+            throw ex;
+        }
+    }
+
     private static String buildSlugBasedPath(SurfSpot surfSpot) {
         Region region = surfSpot.getRegion();
         Country country = region != null ? region.getCountry() : null;
@@ -48,13 +69,26 @@ public final class SurfSpotPathUtil {
             throw new IllegalStateException("Unable to generate surf spot path: missing continent/country/region");
         }
 
-        String continentSlug = requireNonBlank(continent.getSlug(), "continent slug");
-        String countrySlug = requireNonBlank(country.getSlug(), "country slug");
-        String regionSlug = requireNonBlank(region.getSlug(), "region slug");
-        String spotSlug = requireNonBlank(surfSpot.getSlug(), "surf spot slug");
+        String subRegionSlug = surfSpot.getSubRegion() != null
+                ? requireNonBlank(surfSpot.getSubRegion().getSlug(), "sub-region slug")
+                : null;
+        return buildSlugBasedPath(
+                continent.getSlug(), country.getSlug(), region.getSlug(), subRegionSlug, surfSpot.getSlug());
+    }
+
+    private static String buildSlugBasedPath(
+            String rawContinentSlug,
+            String rawCountrySlug,
+            String rawRegionSlug,
+            String rawSubRegionSlug,
+            String rawSpotSlug) {
+        String continentSlug = requireNonBlank(rawContinentSlug, "continent slug");
+        String countrySlug = requireNonBlank(rawCountrySlug, "country slug");
+        String regionSlug = requireNonBlank(rawRegionSlug, "region slug");
+        String spotSlug = requireNonBlank(rawSpotSlug, "surf spot slug");
 
-        if (surfSpot.getSubRegion() != null) {
-            String subRegionSlug = requireNonBlank(surfSpot.getSubRegion().getSlug(), "sub-region slug");
+        if (rawSubRegionSlug != null) {
+            String subRegionSlug = requireNonBlank(rawSubRegionSlug, "sub-region slug");
             return String.format(
                     "/surf-spots/%s/%s/%s/sub-regions/%s/%s",
                     continentSlug,
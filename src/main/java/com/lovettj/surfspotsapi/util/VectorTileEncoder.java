@@ -0,0 +1,138 @@
+package com.lovettj.surfspotsapi.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a Mapbox Vector Tile (MVT 2.1) with a single layer of point features and string properties.
+ * That is all the spot tiles need, so the protobuf encoding is written out here rather than pulling in a
+ * protobuf runtime and geometry library.
+ *
+ * <p>Coordinates are tile-local integers in {@code [0, extent)}; points in the buffer around the tile may
+ * fall slightly outside that range, as the spec allows.
+ */
+public class VectorTileEncoder {
+
+    private static final int TILE_LAYERS = 3;
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int LAYER_VERSION = 15;
+    private static final int FEATURE_ID = 1;
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    private static final int VALUE_STRING = 1;
+    private static final int GEOMETRY_TYPE_POINT = 1;
+    private static final int COMMAND_MOVE_TO_ONE = 1 | 1 << 3;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private final String layerName;
+    private final int extent;
+    private final Map<String, Integer> keys = new LinkedHashMap<>();
+    private final Map<String, Integer> values = new LinkedHashMap<>();
+    private final List<byte[]> features = new ArrayList<>();
+
+    public VectorTileEncoder(String layerName, int extent) {
+        this.layerName = layerName;
+        this.extent = extent;
+    }
+
+    /** Adds a point; null property values are left out. */
+    public void addPoint(long id, int x, int y, Map<String, String> properties) {
+        ProtobufWriter tags = new ProtobufWriter();
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            if (property.getValue() == null) {
+                continue;
+            }
+            tags.varint(keys.computeIfAbsent(property.getKey(), key -> keys.size()));
+            tags.varint(values.computeIfAbsent(property.getValue(), value -> values.size()));
+        }
+        ProtobufWriter geometry = new ProtobufWriter();
+        geometry.varint(COMMAND_MOVE_TO_ONE);
+        geometry.varint(zigZag(x));
+        geometry.varint(zigZag(y));
+
+        ProtobufWriter feature = new ProtobufWriter();
+        feature.tag(FEATURE_ID, WIRE_VARINT).varint(id);
+        if (tags.size() > 0) {
+            feature.tag(FEATURE_TAGS, WIRE_LENGTH_DELIMITED).bytes(tags.toByteArray());
+        }
+        feature.tag(FEATURE_TYPE, WIRE_VARINT).varint(GEOMETRY_TYPE_POINT);
+        feature.tag(FEATURE_GEOMETRY, WIRE_LENGTH_DELIMITED).bytes(geometry.toByteArray());
+        features.add(feature.toByteArray());
+    }
+
+    public int featureCount() {
+        return features.size();
+    }
+
+    /** The encoded tile; a tile without features has no layer, i.e. zero bytes. */
+    public byte[] encode() {
+        if (features.isEmpty()) {
+            return new byte[0];
+        }
+        ProtobufWriter layer = new ProtobufWriter();
+        layer.tag(LAYER_VERSION, WIRE_VARINT).varint(2);
+        layer.tag(LAYER_NAME, WIRE_LENGTH_DELIMITED).bytes(layerName.getBytes(StandardCharsets.UTF_8));
+        for (byte[] feature : features) {
+            layer.tag(LAYER_FEATURES, WIRE_LENGTH_DELIMITED).bytes(feature);
+        }
+        for (String key : keys.keySet()) {
+            layer.tag(LAYER_KEYS, WIRE_LENGTH_DELIMITED).bytes(key.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String value : values.keySet()) {
+            ProtobufWriter encodedValue = new ProtobufWriter();
+            encodedValue.tag(VALUE_STRING, WIRE_LENGTH_DELIMITED).bytes(value.getBytes(StandardCharsets.UTF_8));
+            layer.tag(LAYER_VALUES, WIRE_LENGTH_DELIMITED).bytes(encodedValue.toByteArray());
+        }
+        layer.tag(LAYER_EXTENT, WIRE_VARINT).varint(extent);
+
+        ProtobufWriter tile = new ProtobufWriter();
+        tile.tag(TILE_LAYERS, WIRE_LENGTH_DELIMITED).bytes(layer.toByteArray());
+        return tile.toByteArray();
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static final class ProtobufWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ProtobufWriter tag(int field, int wireType) {
+            return varint(field << 3 | wireType);
+        }
+
+        ProtobufWriter varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+            return this;
+        }
+
+        ProtobufWriter bytes(byte[] value) {
+            varint(value.length);
+            out.writeBytes(value);
+            return this;
+        }
+
+        int size() {
+            return out.size();
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- Server-generated thumbnail derivatives (written after upload by MediaThumbnailService).
+-- NULL until the derivative exists; list views fall back to the original object.
+ALTER TABLE surf_session_media
+    ADD COLUMN thumb_object_key TEXT;
+
+ALTER TABLE surfboard_media
+    ADD COLUMN thumb_object_key TEXT;
+
+ALTER TABLE trip_media
+    ADD COLUMN thumb_object_key TEXT;
@@ -0,0 +1,9 @@
+-- Content hash per seed record so reference-data sync only writes what changed in static/seedData.
+CREATE TABLE reference_data_hash (
+    entity_type  VARCHAR(32) NOT NULL,
+    natural_key  TEXT NOT NULL,
+    entity_id    BIGINT NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    synced_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (entity_type, natural_key)
+);
@@ -0,0 +1,9 @@
+-- Single-row counter bumped by every write to geography, surf spots or contest links. HTTP ETags on the
+-- reference and spot endpoints are derived from it, so a migration that edits those tables by hand should
+-- also run: UPDATE catalog_version SET version = version + 1;
+CREATE TABLE catalog_version (
+    id      SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL
+);
+
+INSERT INTO catalog_version (id, version) VALUES (1, 1);
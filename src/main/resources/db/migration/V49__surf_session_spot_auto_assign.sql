@@ -0,0 +1,14 @@
+-- Resume point for batch jobs that walk a table in id order: one row per job, holding the last id processed.
+CREATE TABLE job_cursor (
+    name       VARCHAR(64) PRIMARY KEY,
+    last_id    BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Completed GPS sessions not linked to a spot, walked by id by the spot auto-assign job.
+CREATE INDEX idx_surf_session_unassigned_gps
+    ON surf_session (id)
+    WHERE surf_spot_id IS NULL
+      AND start_latitude IS NOT NULL
+      AND start_longitude IS NOT NULL
+      AND status <> 'IN_PROGRESS';
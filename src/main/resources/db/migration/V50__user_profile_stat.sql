@@ -0,0 +1,43 @@
+-- Per-user profile counters (see ProfileStat), kept up to date by the services that change surfed spots,
+-- watch-list entries and sessions. Totals use an empty stat_key; other stats count per key.
+CREATE TABLE user_profile_stat (
+    user_id  VARCHAR(36) NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    stat     VARCHAR(32) NOT NULL,
+    stat_key VARCHAR(64) NOT NULL,
+    count    INTEGER NOT NULL,
+    PRIMARY KEY (user_id, stat, stat_key)
+);
+
+-- Backfill, same as the --profile-stats-rebuild CLI.
+INSERT INTO user_profile_stat (user_id, stat, stat_key, count)
+SELECT surfed.user_id, spot_stat.stat, spot_stat.stat_key, COUNT(*)
+FROM user_surf_spot surfed
+JOIN surf_spot spot ON spot.id = surfed.surf_spot_id
+LEFT JOIN region spot_region ON spot_region.id = spot.region_id
+LEFT JOIN country spot_country ON spot_country.id = spot_region.country_id
+CROSS JOIN LATERAL (VALUES
+    ('SURFED_SPOT', ''),
+    ('SURFED_COUNTRY', CAST(spot_country.id AS VARCHAR)),
+    ('SURFED_CONTINENT', CAST(spot_country.continent_id AS VARCHAR)),
+    ('SURFED_SPOT_TYPE', spot.type),
+    ('SURFED_BEACH_BOTTOM', spot.beach_bottom_type),
+    ('SURFED_WAVE_DIRECTION', spot.wave_direction),
+    ('SURFED_SKILL_LEVEL', spot.skill_level)
+) AS spot_stat(stat, stat_key)
+WHERE surfed.user_id IS NOT NULL AND spot_stat.stat_key IS NOT NULL
+GROUP BY surfed.user_id, spot_stat.stat, spot_stat.stat_key
+UNION ALL
+SELECT user_id, 'WATCHED_SPOT', '', COUNT(*)
+FROM watch_list_surf_spot
+WHERE user_id IS NOT NULL
+GROUP BY user_id
+UNION ALL
+SELECT session.user_id, session_stat.stat, session_stat.stat_key, COUNT(*)
+FROM surf_session session
+CROSS JOIN LATERAL (VALUES
+    ('SESSION', ''),
+    ('SESSION_SPOT', CAST(session.surf_spot_id AS VARCHAR)),
+    ('SESSION_BOARD', session.surfboard_id)
+) AS session_stat(stat, stat_key)
+WHERE session_stat.stat_key IS NOT NULL
+GROUP BY session.user_id, session_stat.stat, session_stat.stat_key;
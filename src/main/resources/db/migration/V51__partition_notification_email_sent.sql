@@ -0,0 +1,50 @@
+-- notification_email_sent gains a row per user per notification and was never pruned. It becomes a table
+-- range-partitioned by month of sent_at (UTC). NotificationEmailSentPartitionService creates months ahead
+-- and drops months older than app.notification-email.retention-months.
+--
+-- A unique key on a partitioned table must include sent_at, so each month enforces (user_id,
+-- notification_key) on its own partition. The senders' dedupe probe reads every partition; keys are tied
+-- to a spot approval, event, alert, season or month, so one older than the retention is not sent again.
+ALTER TABLE notification_email_sent RENAME TO notification_email_sent_unpartitioned;
+ALTER SEQUENCE notification_email_sent_id_seq RENAME TO notification_email_sent_unpartitioned_id_seq;
+
+CREATE TABLE notification_email_sent (
+    id BIGSERIAL,
+    user_id VARCHAR(36) NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    notification_key VARCHAR(255) NOT NULL,
+    sent_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+-- Months from the oldest existing row to three months ahead; the same names and bounds as the service.
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', LEAST(
+        COALESCE((SELECT MIN(sent_at) FROM notification_email_sent_unpartitioned), NOW()), NOW()) AT TIME ZONE 'UTC');
+    last_month TIMESTAMP := date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months';
+    partition_name TEXT;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := 'notification_email_sent_' || to_char(month_start, 'YYYY_MM');
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF notification_email_sent FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            month_start::TEXT || '+00',
+            (month_start + INTERVAL '1 month')::TEXT || '+00');
+        EXECUTE format(
+            'CREATE UNIQUE INDEX %I ON %I (user_id, notification_key)',
+            partition_name || '_user_key',
+            partition_name);
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO notification_email_sent (id, user_id, notification_key, sent_at)
+SELECT id, user_id, notification_key, sent_at FROM notification_email_sent_unpartitioned;
+
+SELECT setval(
+    'notification_email_sent_id_seq',
+    COALESCE((SELECT MAX(id) FROM notification_email_sent), 0) + 1,
+    false);
+
+DROP TABLE notification_email_sent_unpartitioned;
@@ -0,0 +1,139 @@
+package com.lovettj.surfspotsapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.lovettj.surfspotsapi.security.AuthenticatedUserResolver;
+import com.lovettj.surfspotsapi.service.CatalogVersionService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class HttpCacheFilterTests {
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private AuthenticatedUserResolver authenticatedUserResolver;
+
+    private HttpCacheFilter filter;
+    private String expectedEtag;
+
+    @BeforeEach
+    void setUp() {
+        filter = new HttpCacheFilter(catalogVersionService, authenticatedUserResolver, new HttpCacheProperties());
+        expectedEtag = "W/\"7-" + LocalDate.now().getYear() + "\"";
+    }
+
+    @Test
+    void referenceReadShouldBePubliclyCacheableWithCatalogEtag() throws Exception {
+        when(catalogVersionService.current()).thenReturn(7L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/countries/portugal"), response,
+                (servletRequest, servletResponse) -> {
+                    servletResponse.getWriter().write("{}");
+                    servletResponse.flushBuffer();
+                });
+
+        assertEquals("public, max-age=300", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(expectedEtag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    void matchingIfNoneMatchShouldReturnNotModifiedWithoutRunningController() throws Exception {
+        when(catalogVersionService.current()).thenReturn(7L);
+        when(authenticatedUserResolver.currentUserIdOrNull()).thenReturn(null);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surf-spots/uluwatu");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"6-2020\", " + expectedEtag.substring(2));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean controllerRan = new AtomicBoolean();
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> controllerRan.set(true));
+
+        assertFalse(controllerRan.get());
+        assertEquals(304, response.getStatus());
+        assertEquals(expectedEtag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals("public, max-age=60", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.COOKIE), response.getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    void signedInSpotReadShouldBePrivateWithoutEtag() throws Exception {
+        when(authenticatedUserResolver.currentUserIdOrNull()).thenReturn("user-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/surf-spots/id/42"), response,
+                (servletRequest, servletResponse) -> servletResponse.getWriter().write("{}"));
+
+        assertEquals("private, no-cache", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.COOKIE), response.getHeaders(HttpHeaders.VARY));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+        verifyNoInteractions(catalogVersionService);
+    }
+
+    @Test
+    void errorResponseShouldNotBeMadeCacheable() throws Exception {
+        when(catalogVersionService.current()).thenReturn(7L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/regions/unknown"), response,
+                (servletRequest, servletResponse) -> ((HttpServletResponse) servletResponse).setStatus(404));
+
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void sendErrorShouldNotBeMadeCacheable() throws Exception {
+        when(catalogVersionService.current()).thenReturn(7L);
+        when(authenticatedUserResolver.currentUserIdOrNull()).thenReturn(null);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/surf-spots/missing"), response,
+                (servletRequest, servletResponse) -> ((HttpServletResponse) servletResponse).sendError(404));
+
+        assertEquals(404, response.getStatus());
+        assertNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void writesAndUncachedRoutesShouldPassThroughUntouched() throws Exception {
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/surf-spots/within-bounds"), postResponse,
+                (servletRequest, servletResponse) -> {});
+        MockHttpServletResponse tripResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/trips/mine"), tripResponse,
+                (servletRequest, servletResponse) -> {});
+
+        assertNull(postResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertNull(tripResponse.getHeader(HttpHeaders.CACHE_CONTROL));
+        verifyNoInteractions(catalogVersionService, authenticatedUserResolver);
+    }
+
+    @Test
+    void matchesAnyShouldHandleWildcardAndMismatches() {
+        assertTrue(HttpCacheFilter.matchesAny("*", expectedEtag));
+        assertFalse(HttpCacheFilter.matchesAny("\"8-2026\"", expectedEtag));
+        assertFalse(HttpCacheFilter.matchesAny(null, expectedEtag));
+    }
+}
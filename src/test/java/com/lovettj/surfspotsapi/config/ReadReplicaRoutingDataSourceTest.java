@@ -0,0 +1,217 @@
+package com.lovettj.surfspotsapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T08:00:00Z");
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<Double> lagSeconds = new AtomicReference<>(0.0);
+    private final AtomicReference<String> currentUserId = new AtomicReference<>();
+    private Clock clock = Clock.fixed(START, ZoneOffset.UTC);
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setUrl("jdbc:postgresql://replica:5432/surf_spots_db");
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagCheckInterval(Duration.ofSeconds(5));
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                primary,
+                replica,
+                properties,
+                meterRegistry,
+                dataSource -> {
+                    Double lag = lagSeconds.get();
+                    if (lag == null) {
+                        throw new SQLException("replica down");
+                    }
+                    return lag;
+                },
+                Runnable::run,
+                currentUserId::get,
+                new Clock() {
+                    @Override
+                    public Instant instant() {
+                        return clock.instant();
+                    }
+
+                    @Override
+                    public ZoneId getZone() {
+                        return ZoneOffset.UTC;
+                    }
+
+                    @Override
+                    public Clock withZone(ZoneId zone) {
+                        return this;
+                    }
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyConnectionsShouldGoToTheReplicaAndOthersToThePrimary() throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        useConnection(true);
+        useConnection(false);
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection).createStatement();
+        assertEquals(1.0, routedReads("replica", "read-only"));
+    }
+
+    @Test
+    void readOnlyTransactionsNotDeclaredByTheApplicationShouldStayOnThePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Spring Data opens these around findById when no service transaction is running.
+        useConnection(true, "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById");
+        useConnection(true, null);
+
+        verify(primaryConnection, times(2)).setReadOnly(true);
+        verify(primaryConnection, times(2)).createStatement();
+        assertEquals(2.0, routedReads("primary", "undeclared"));
+    }
+
+    @Test
+    void readOnlyConnectionsShouldStayOnThePrimaryWhileTheReplicaLags() throws SQLException {
+        lagSeconds.set(30.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        useConnection(true);
+        lagSeconds.set(0.5);
+        useConnection(true);
+        // Measured again only once the interval has passed.
+        advance(Duration.ofSeconds(5));
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        useConnection(true);
+
+        verify(primaryConnection, times(2)).setReadOnly(true);
+        verify(replicaConnection).createStatement();
+        assertEquals(2.0, routedReads("primary", "replica-lagging"));
+    }
+
+    @Test
+    void readOnlyConnectionsShouldFallBackToThePrimaryWhenTheReplicaIsUnreachable() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        useConnection(true);
+        // Marked down until the next successful measurement.
+        useConnection(true);
+
+        verify(replica, times(1)).getConnection();
+        verify(primaryConnection, times(2)).createStatement();
+        assertEquals(1.0, routedReads("primary", "replica-unavailable"));
+        assertEquals(1.0, routedReads("primary", "replica-lagging"));
+    }
+
+    @Test
+    void readsShouldStayOnThePrimaryForAUserWhoseWriteJustCommitted() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        currentUserId.set("user-1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        useConnection(false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        useConnection(true);
+        currentUserId.set("user-2");
+        useConnection(true);
+
+        verify(primaryConnection, times(2)).createStatement();
+        verify(replicaConnection).createStatement();
+        assertEquals(1.0, routedReads("primary", "recent-write"));
+    }
+
+    @Test
+    void readsShouldNotStickWhenTheWriteRolledBack() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        currentUserId.set("user-1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        useConnection(false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        useConnection(true);
+
+        verify(replicaConnection).createStatement();
+        assertEquals(0.0, routedReads("primary", "recent-write"));
+    }
+
+    /** A transaction declared on a service method. */
+    private void useConnection(boolean readOnly) throws SQLException {
+        useConnection(readOnly, "com.lovettj.surfspotsapi.service.SurfSessionService.getSurfSessionsForUser");
+    }
+
+    /** What a transaction does: take a connection, publish its read-only flag and name, then run a statement. */
+    private void useConnection(boolean readOnly, String transactionName) throws SQLException {
+        try (Connection connection = routingDataSource.getConnection()) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+            TransactionSynchronizationManager.setCurrentTransactionName(transactionName);
+            connection.createStatement();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setCurrentTransactionName(null);
+        }
+    }
+
+    private void advance(Duration duration) {
+        clock = Clock.offset(clock, duration);
+    }
+
+    private double routedReads(String target, String reason) {
+        return meterRegistry.get("db.read.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
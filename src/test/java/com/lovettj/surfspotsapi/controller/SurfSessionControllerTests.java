@@ -45,12 +45,15 @@ import jakarta.servlet.http.Cookie;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lovettj.surfspotsapi.dto.LinkSessionsToSpotResultDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportItemDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportResultDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionListItemDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionMediaDTO;
 import com.lovettj.surfspotsapi.dto.SurfSessionSummaryDTO;
 import com.lovettj.surfspotsapi.dto.UserSurfSessionsDTO;
 import com.lovettj.surfspotsapi.enums.CrowdLevel;
 import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.SessionImportOutcome;
 import com.lovettj.surfspotsapi.enums.SessionStatus;
 import com.lovettj.surfspotsapi.enums.SkillLevel;
 import com.lovettj.surfspotsapi.enums.Tide;
@@ -59,9 +62,11 @@ import com.lovettj.surfspotsapi.requests.CreateSurfSessionMediaRequest;
 import com.lovettj.surfspotsapi.requests.EndLiveSurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.LinkSessionsToSpotRequest;
 import com.lovettj.surfspotsapi.requests.StartLiveSurfSessionRequest;
+import com.lovettj.surfspotsapi.requests.SurfSessionImportRequest;
 import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.UploadMediaRequest;
 import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.SurfSessionImportService;
 import com.lovettj.surfspotsapi.service.SurfSessionService;
 import com.lovettj.surfspotsapi.testutil.BaseControllerTest;
 import com.lovettj.surfspotsapi.testutil.MockMvcDefaults;
@@ -77,6 +82,9 @@ class SurfSessionControllerTests extends BaseControllerTest {
     @MockBean
     private SurfSessionService surfSessionService;
 
+    @MockBean
+    private SurfSessionImportService surfSessionImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -314,6 +322,32 @@ class SurfSessionControllerTests extends BaseControllerTest {
         verify(surfSessionService).linkSessionsToSpot(eq("user-1"), any(LinkSessionsToSpotRequest.class));
     }
 
+    @Test
+    void testImportSessionsShouldReturnPerItemOutcomes() throws Exception {
+        SurfSessionImportRequest request = new SurfSessionImportRequest();
+        request.setSessions(List.of(validRequest));
+        when(surfSessionImportService.importSessions(eq("user-1"), any(SurfSessionImportRequest.class)))
+                .thenReturn(SurfSessionImportResultDTO.builder()
+                        .createdCount(1)
+                        .items(List.of(SurfSessionImportItemDTO.builder()
+                                .index(0)
+                                .externalSessionProvider(ExternalSessionProvider.GARMIN)
+                                .externalSessionId("garmin-1")
+                                .outcome(SessionImportOutcome.CREATED)
+                                .sessionId(41L)
+                                .build()))
+                        .build());
+
+        mockMvc.perform(post("/api/surf-sessions/import")
+                        .cookie(sessionCookie())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.items[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.data.items[0].sessionId").value(41));
+    }
+
     @Test
     void testLinkSessionsToSpotShouldReturnOkWithoutMessageWhenNoneLinked() throws Exception {
         LinkSessionsToSpotRequest request = new LinkSessionsToSpotRequest();
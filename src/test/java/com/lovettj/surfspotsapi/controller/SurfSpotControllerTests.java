@@ -2,11 +2,21 @@ package com.lovettj.surfspotsapi.controller;
 
 import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotSearchResultDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClusterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClustersDTO;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
 import com.lovettj.surfspotsapi.enums.SurfSpotType;
 import com.lovettj.surfspotsapi.requests.BoundingBox;
+import com.lovettj.surfspotsapi.service.SurfSpotClusterService;
+import com.lovettj.surfspotsapi.service.SurfSpotListingCache;
 import com.lovettj.surfspotsapi.service.SurfSpotService;
+import com.lovettj.surfspotsapi.service.SurfSpotSearchService;
+import com.lovettj.surfspotsapi.service.SurfSpotTileService;
 import com.lovettj.surfspotsapi.testutil.BaseControllerTest;
 import com.lovettj.surfspotsapi.testutil.MockMvcDefaults;
 import com.lovettj.surfspotsapi.testutil.SessionTestCookieFactory;
@@ -29,9 +39,11 @@ import org.springframework.http.MediaType;
 
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Arrays;
+import java.util.List;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.Cookie;
@@ -48,6 +60,15 @@ class SurfSpotControllerTests extends BaseControllerTest {
     @MockBean
     private SurfSpotService surfSpotService;
 
+    @MockBean
+    private SurfSpotClusterService surfSpotClusterService;
+
+    @MockBean
+    private SurfSpotTileService surfSpotTileService;
+
+    @MockBean
+    private SurfSpotSearchService surfSpotSearchService;
+
     private SurfSpotDTO surfSpotDTO;
 
     private static final String TEST_USER_ID = "test-user-id-123";
@@ -81,6 +102,38 @@ class SurfSpotControllerTests extends BaseControllerTest {
                 .andExpect(jsonPath("$[0].name", is("Pipeline")));
     }
 
+    @Test
+    void testGetSurfSpotListingByRegionIdShouldSendTheSnapshotWithAnEtag() throws Exception {
+        SurfSpotListingCache.Listing listing = new SurfSpotListingCache.Listing(
+                1L,
+                List.of(surfSpotDTO),
+                "[{\"name\":\"Pipeline\"}]".getBytes(StandardCharsets.UTF_8),
+                "{\"surfSpots\":[{\"name\":\"Pipeline\"}]}".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(surfSpotService.findRegionListing(1L)).thenReturn(listing);
+
+        mockMvc.perform(get("/api/surf-spots/region-id/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", listing.etag(false)))
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(jsonPath("$[0].name", is("Pipeline")));
+        mockMvc.perform(get("/api/surf-spots/region-id/1").param("view", "normalized"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", listing.etag(true)))
+                .andExpect(jsonPath("$.surfSpots[0].name", is("Pipeline")));
+        mockMvc.perform(get("/api/surf-spots/region-id/1").header("If-None-Match", listing.etag(false)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetSurfSpotListingBySubRegionShouldReturnNotFoundWhenSubRegionDoesNotExist() throws Exception {
+        Mockito.when(surfSpotService.findSubRegionListing("non-existent-sub-region"))
+                .thenThrow(new EntityNotFoundException("SubRegion not found"));
+
+        mockMvc.perform(get("/api/surf-spots/sub-region/non-existent-sub-region"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testGetSurfSpotBySlugShouldReturnSurfSpot() throws Exception {
         Mockito.when(surfSpotService.findBySlugAndLocationAndUserId("pipeline", TEST_USER_ID, null, null))
@@ -208,6 +261,98 @@ class SurfSpotControllerTests extends BaseControllerTest {
                 .andExpect(jsonPath("$[0].name", is("Pipeline")));
     }
 
+    @Test
+    void testGetSurfSpotsWithinBoundsNormalizedViewShouldSendGeographyOnce() throws Exception {
+        Continent continent = new Continent();
+        continent.setId(3L);
+        continent.setName("North America");
+        Country country = new Country();
+        country.setId(7L);
+        country.setName("United States");
+        Region region = new Region();
+        region.setId(11L);
+        region.setName("Hawaii");
+        SurfSpotDTO pipeline = SurfSpotDTO.builder().id(1L).name("Pipeline")
+                .region(region).country(country).continent(continent).build();
+        SurfSpotDTO sunsetBeach = SurfSpotDTO.builder().id(2L).name("Sunset Beach")
+                .region(region).country(country).continent(continent).build();
+        Mockito.when(surfSpotService.findSurfSpotsWithinBoundsWithFilters(Mockito.any(BoundingBox.class), Mockito.any(SurfSpotBoundsFilterDTO.class)))
+                .thenReturn(Arrays.asList(pipeline, sunsetBeach));
+        SurfSpotBoundsFilterDTO filters = new SurfSpotBoundsFilterDTO();
+        filters.setMinLatitude(21.2);
+        filters.setMaxLatitude(21.7);
+        filters.setMinLongitude(-158.1);
+        filters.setMaxLongitude(-157.7);
+
+        mockMvc.perform(post("/api/surf-spots/within-bounds")
+                .param("view", "normalized")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(filters)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.surfSpots", hasSize(2)))
+                .andExpect(jsonPath("$.surfSpots[1].regionId", is(11)))
+                .andExpect(jsonPath("$.surfSpots[1].countryId", is(7)))
+                .andExpect(jsonPath("$.surfSpots[1].continentId", is(3)))
+                .andExpect(jsonPath("$.surfSpots[1].region").doesNotExist())
+                .andExpect(jsonPath("$.regions.11.name", is("Hawaii")))
+                .andExpect(jsonPath("$.countries.7.name", is("United States")))
+                .andExpect(jsonPath("$.continents.3.name", is("North America")))
+                .andExpect(jsonPath("$.regions.*", hasSize(1)));
+    }
+
+    @Test
+    void testGetSurfSpotClustersShouldReturnClustersForZoom() throws Exception {
+        SurfSpotClusterDTO cluster = new SurfSpotClusterDTO(2, 21.6, -158.0,
+                new SurfSpotClusterDTO.RepresentativeSpot(1L, "Pipeline", 21.665, -158.053));
+        Mockito.when(surfSpotClusterService.findClustersWithinBounds(Mockito.any(SurfSpotBoundsFilterDTO.class), Mockito.eq(3)))
+                .thenReturn(SurfSpotClustersDTO.ofClusters(3, Collections.singletonList(cluster)));
+        SurfSpotBoundsFilterDTO filters = new SurfSpotBoundsFilterDTO();
+        filters.setMinLatitude(-90.0);
+        filters.setMaxLatitude(90.0);
+        filters.setMinLongitude(-180.0);
+        filters.setMaxLongitude(180.0);
+
+        mockMvc.perform(post("/api/surf-spots/clusters")
+                .param("zoom", "3")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(filters)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clustered", is(true)))
+                .andExpect(jsonPath("$.clusters[0].count", is(2)))
+                .andExpect(jsonPath("$.clusters[0].representative.name", is("Pipeline")))
+                .andExpect(jsonPath("$.surfSpots").doesNotExist());
+    }
+
+    @Test
+    void testGetSurfSpotTileShouldBindQueryFiltersAndReturnVectorTile() throws Exception {
+        byte[] tile = {0x1a, 0x02, 0x78, 0x02};
+        Mockito.when(surfSpotTileService.getTile(Mockito.eq(10), Mockito.eq(62), Mockito.eq(448),
+                        Mockito.argThat(filters -> filters.getType() != null
+                                && filters.getType().equals(Arrays.asList(SurfSpotType.REEF_BREAK)))))
+                .thenReturn(tile);
+
+        mockMvc.perform(get("/api/surf-spots/tiles/10/62/448.mvt").param("type", "REEF_BREAK"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.mapbox-vector-tile"))
+                .andExpect(content().bytes(tile))
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void testSearchSurfSpotsShouldReturnMatchesWithoutCacheHeaders() throws Exception {
+        Mockito.when(surfSpotSearchService.search("supertub", 5)).thenReturn(List.of(
+                new SurfSpotSearchResultDTO(
+                        1L, "Supertubos", "/surf-spots/europe/portugal/peniche/supertubos",
+                        "Peniche", "Portugal", 39.345, -9.363)));
+
+        mockMvc.perform(get("/api/surf-spots/search").param("q", "supertub").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is("Supertubos")))
+                .andExpect(jsonPath("$[0].path", is("/surf-spots/europe/portugal/peniche/supertubos")))
+                .andExpect(jsonPath("$[0].country", is("Portugal")))
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
     @Test
     void testGetSurfSpotsByRegionIdWithStandingWaveTypeFilterShouldReturnFilteredSpots() throws Exception {
         SurfSpotDTO surfSpotDTO = SurfSpotDTO.builder()
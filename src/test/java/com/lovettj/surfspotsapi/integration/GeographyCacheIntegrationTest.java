@@ -0,0 +1,77 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.lovettj.surfspotsapi.repository.CountryRepository;
+import com.lovettj.surfspotsapi.service.GeographyCache;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The geography cache regions are sized by application.conf. The slug lookup region is keyed by whatever
+ * slug a client requests, so lookups of slugs that do not exist must not grow it past its bound.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class GeographyCacheIntegrationTest {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void geographyRegionsShouldBeBoundedAndExpire() {
+        // The query region is created by its first cached query.
+        countryRepository.findBySlug("no-such-country");
+
+        for (String region : new String[] {GeographyCache.REGION, GeographyCache.QUERY_REGION}) {
+            CaffeineConfiguration<?, ?> configuration = configuration(region);
+            assertTrue(configuration.getMaximumSize().isPresent(), region);
+            assertTrue(configuration.getExpireAfterWrite().isPresent(), region);
+        }
+    }
+
+    @Test
+    void slugLookupsForUnknownSlugsShouldNotGrowTheQueryRegionPastItsBound() {
+        long maximumSize = configuration(GeographyCache.QUERY_REGION).getMaximumSize().getAsLong();
+
+        for (long lookup = 0; lookup < maximumSize + 100; lookup++) {
+            assertTrue(countryRepository.findBySlug("no-such-country-" + UUID.randomUUID()).isEmpty());
+        }
+
+        Cache<?, ?> queryRegion = cacheManager().getCache(GeographyCache.QUERY_REGION).unwrap(Cache.class);
+        queryRegion.cleanUp();
+        assertTrue(queryRegion.estimatedSize() <= maximumSize,
+                () -> queryRegion.estimatedSize() + " entries, bound " + maximumSize);
+    }
+
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        javax.cache.Cache<?, ?> cache = cacheManager().getCache(region);
+        assertEquals(region, cache.getName());
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+
+    private CacheManager cacheManager() {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(RegionFactory.class);
+        return ((JCacheRegionFactory) regionFactory).getCacheManager();
+    }
+}
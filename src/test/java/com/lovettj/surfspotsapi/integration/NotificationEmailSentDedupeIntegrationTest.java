@@ -0,0 +1,57 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+
+/**
+ * The bulk dedupe probe against Postgres: one query answers for every recipient.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class NotificationEmailSentDedupeIntegrationTest {
+
+    @Autowired
+    private NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+
+    @Autowired
+    private NotificationEmailSentRepository notificationEmailSentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findUnclaimedShouldReturnOnlyClaimsNotSentYet() {
+        User emailed = userRepository.save(User.builder().name("Emailed").email("dedupe-emailed@example.com").build());
+        User notEmailed = userRepository.save(
+                User.builder().name("Not Emailed").email("dedupe-not-emailed@example.com").build());
+        notificationEmailSentRepository.saveAndFlush(NotificationEmailSent.builder()
+                .user(emailed)
+                .notificationKey("new-surf-spot-7-" + emailed.getId())
+                .sentAt(Instant.now())
+                .build());
+
+        NotificationClaim sent = new NotificationClaim(emailed.getId(), "new-surf-spot-7-" + emailed.getId());
+        NotificationClaim unsent = new NotificationClaim(notEmailed.getId(), "new-surf-spot-7-" + notEmailed.getId());
+        NotificationClaim otherKey = new NotificationClaim(emailed.getId(), "new-surf-spot-8-" + emailed.getId());
+
+        assertEquals(Set.of(unsent, otherKey),
+                notificationEmailSentJdbcRepository.findUnclaimed(List.of(sent, unsent, otherKey)));
+    }
+}
@@ -0,0 +1,132 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lovettj.surfspotsapi.config.ReadReplicaRoutingDataSource;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Routing against Postgres, with the test database standing in for the replica: a second pool whose sessions
+ * are read-only and carry their own application name. Against a real standby, point
+ * {@code app.datasource.replica.url} at it instead (see docs/read-replica.md).
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=${spring.datasource.url}",
+        "app.datasource.replica.maximum-pool-size=2",
+        "app.datasource.replica.lag-check-interval=50ms"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA_APPLICATION_NAME = "surf-spots-api-replica";
+    private static final String APPLICATION_NAME_QUERY = "SELECT current_setting('application_name')";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactionsShouldReadFromTheReplicaOnceItsLagIsMeasured() throws InterruptedException {
+        assertInstanceOf(ReadReplicaRoutingDataSource.class, dataSource);
+
+        assertEquals(REPLICA_APPLICATION_NAME, awaitReplicaRead());
+        assertNotEquals(REPLICA_APPLICATION_NAME, transaction(false).execute(
+                status -> jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class)));
+    }
+
+    @Test
+    void repositoryReadsOutsideAServiceTransactionShouldStayOnThePrimary() throws InterruptedException {
+        awaitReplicaRead();
+
+        double undeclaredBefore = undeclaredReads();
+
+        // SimpleJpaRepository opens its own read-only transaction, named after itself, for findById.
+        userRepository.findById("no-such-user");
+
+        assertEquals(undeclaredBefore + 1, undeclaredReads());
+    }
+
+    @Test
+    void writeAfterAReadInTheSameEntityManagerShouldReachThePrimary() throws InterruptedException {
+        awaitReplicaRead();
+        // As open-in-view does for a request: one EntityManager across the request's transactions.
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        String email = "replica-" + UUID.randomUUID() + "@example.com";
+        try {
+            transaction(true).executeWithoutResult(status -> userRepository.findByEmail(email));
+            // The stand-in replica would accept the insert, so check where it ran; a standby would reject it.
+            String writtenThrough = transaction(false).execute(status -> {
+                userRepository.save(User.builder().name("Replica Tester").email(email).build());
+                return jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class);
+            });
+
+            assertNotEquals(REPLICA_APPLICATION_NAME, writtenThrough);
+            transaction(false).executeWithoutResult(
+                    status -> userRepository.findByEmail(email).ifPresent(userRepository::delete));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    /** The first reads stay on the primary until the background lag check has run. */
+    private String awaitReplicaRead() throws InterruptedException {
+        String applicationName = null;
+        for (int attempt = 0; attempt < 50 && !REPLICA_APPLICATION_NAME.equals(applicationName); attempt++) {
+            applicationName = transaction(true).execute(
+                    status -> jdbcTemplate.queryForObject(APPLICATION_NAME_QUERY, String.class));
+            if (!REPLICA_APPLICATION_NAME.equals(applicationName)) {
+                Thread.sleep(100);
+            }
+        }
+        return applicationName;
+    }
+
+    private double undeclaredReads() {
+        return meterRegistry.get("db.read.routing").tag("target", "primary").tag("reason", "undeclared").counter().count();
+    }
+
+    /** Named after this class, as {@code @Transactional} names a service method's transaction. */
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setName(getClass().getName());
+        return template;
+    }
+}
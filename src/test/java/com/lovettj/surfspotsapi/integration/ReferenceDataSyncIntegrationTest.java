@@ -0,0 +1,145 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.service.ReferenceDataSyncService;
+import com.lovettj.surfspotsapi.service.ReferenceDataSyncService.EntityDiff;
+import com.lovettj.surfspotsapi.service.ReferenceDataSyncService.SyncReport;
+
+/**
+ * Reference sync against Postgres when seed records are renamed or dropped while user data points at their
+ * rows, or match spots users added. The seed files are the real ones, so renames are staged by giving the
+ * stored rows an older name.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReferenceDataSyncIntegrationTest {
+
+    @Autowired
+    private ReferenceDataSyncService referenceDataSyncService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Tests build the schema from entities; the hash table has none (see V47). Rolled back with the test.
+        jdbcTemplate.execute(
+                """
+                CREATE TABLE IF NOT EXISTS reference_data_hash (
+                    entity_type  VARCHAR(32) NOT NULL,
+                    natural_key  TEXT NOT NULL,
+                    entity_id    BIGINT NOT NULL,
+                    content_hash VARCHAR(64) NOT NULL,
+                    synced_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (entity_type, natural_key))
+                """);
+    }
+
+    @Test
+    void syncShouldKeepRenamedRowsAndBlockDeletesStillInUse() {
+        referenceDataSyncService.sync(false);
+        Long countryId = jdbcTemplate.queryForObject(
+                "SELECT id FROM country WHERE name = 'Angola'", Long.class);
+        Long regionId = jdbcTemplate.queryForObject(
+                "SELECT id FROM region WHERE name = 'Luanda' AND country_id = ?", Long.class, countryId);
+        Long spotId = jdbcTemplate.queryForObject(
+                "SELECT id FROM surf_spot WHERE name = 'Cabo Ledo' AND region_id = ?", Long.class, regionId);
+
+        // As if the previous seed had named both differently.
+        renameStoredRow("region", regionId, "Luanda Province", "luanda-province", countryId + "|luanda province");
+        renameStoredRow("surf_spot", spotId, "Cabo Ledo Point", "cabo-ledo-point", regionId + "|cabo-ledo-point");
+        User user = userRepository.saveAndFlush(User.builder().name("Sync Tester").email("sync-tester@example.com").build());
+        jdbcTemplate.update("INSERT INTO user_surf_spot (user_id, surf_spot_id, is_favourite) VALUES (?, ?, false)", user.getId(), spotId);
+
+        // A region the seed no longer has, still holding a spot a user added.
+        Long droppedRegionId = jdbcTemplate.queryForObject(
+                "INSERT INTO region (name, slug, country_id) VALUES ('Sync Dropped', 'sync-dropped', ?) RETURNING id",
+                Long.class, countryId);
+        jdbcTemplate.update(
+                "INSERT INTO reference_data_hash (entity_type, natural_key, entity_id, content_hash) "
+                        + "VALUES ('region', ?, ?, 'stale')",
+                countryId + "|sync dropped", droppedRegionId);
+        jdbcTemplate.update(
+                "INSERT INTO surf_spot (name, slug, region_id, latitude, longitude, status) "
+                        + "VALUES ('Sync User Spot', 'sync-user-spot', ?, -9.5, 13.1, 'PRIVATE')",
+                droppedRegionId);
+
+        SyncReport report = referenceDataSyncService.sync(false);
+
+        EntityDiff regions = report.diff("region");
+        EntityDiff surfSpots = report.diff("surf_spot");
+        assertTrue(regions.updated().contains(countryId + "|luanda"));
+        assertTrue(regions.inserted().isEmpty());
+        assertTrue(surfSpots.updated().contains(regionId + "|cabo-ledo"));
+        assertTrue(surfSpots.inserted().isEmpty());
+        assertEquals(1, count("SELECT COUNT(*) FROM region WHERE name = 'Luanda' AND id = ?", regionId));
+        assertEquals(1, count("SELECT COUNT(*) FROM surf_spot WHERE name = 'Cabo Ledo'", null));
+        assertEquals(1, count("SELECT COUNT(*) FROM user_surf_spot WHERE surf_spot_id = ?", spotId));
+
+        assertEquals(List.of(countryId + "|sync dropped"), regions.blocked());
+        assertEquals(1, count("SELECT COUNT(*) FROM region WHERE id = ?", droppedRegionId));
+    }
+
+    @Test
+    void syncShouldNotAdoptSurfSpotsUsersAdded() {
+        referenceDataSyncService.sync(false);
+        Long regionId = jdbcTemplate.queryForObject(
+                "SELECT r.id FROM region r JOIN country c ON c.id = r.country_id "
+                        + "WHERE r.name = 'Luanda' AND c.name = 'Angola'",
+                Long.class);
+        Long spotId = jdbcTemplate.queryForObject(
+                "SELECT id FROM surf_spot WHERE name = 'Cabo Ledo' AND region_id = ?", Long.class, regionId);
+
+        // As if a user had added the spot through the API before the seed picked it up: untracked, theirs.
+        User user = userRepository.saveAndFlush(User.builder().name("Sync Adder").email("sync-adder@example.com").build());
+        jdbcTemplate.update(
+                "UPDATE surf_spot SET created_by = ?, description = 'Added by a user' WHERE id = ?",
+                user.getId(), spotId);
+        jdbcTemplate.update(
+                "DELETE FROM reference_data_hash WHERE entity_type = 'surf_spot' AND entity_id = ?", spotId);
+
+        EntityDiff surfSpots = referenceDataSyncService.sync(false).diff("surf_spot");
+
+        String key = regionId + "|cabo-ledo";
+        assertEquals(List.of(key), surfSpots.conflicts());
+        assertTrue(surfSpots.adopted().isEmpty());
+        assertTrue(surfSpots.inserted().isEmpty());
+        assertEquals("Added by a user", jdbcTemplate.queryForObject(
+                "SELECT description FROM surf_spot WHERE id = ?", String.class, spotId));
+        assertEquals(1, count("SELECT COUNT(*) FROM surf_spot WHERE name = 'Cabo Ledo'", null));
+        assertEquals(0, count(
+                "SELECT COUNT(*) FROM reference_data_hash WHERE entity_type = 'surf_spot' AND entity_id = ?", spotId));
+    }
+
+    private void renameStoredRow(String table, Long id, String name, String slug, String naturalKey) {
+        jdbcTemplate.update("UPDATE " + table + " SET name = ?, slug = ? WHERE id = ?", name, slug, id);
+        jdbcTemplate.update(
+                "UPDATE reference_data_hash SET natural_key = ? WHERE entity_type = ? AND entity_id = ?",
+                naturalKey, table, id);
+    }
+
+    private long count(String sql, Long id) {
+        Long count = id != null
+                ? jdbcTemplate.queryForObject(sql, Long.class, id)
+                : jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0;
+    }
+}
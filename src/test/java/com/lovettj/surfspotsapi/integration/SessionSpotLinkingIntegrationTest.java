@@ -0,0 +1,186 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.dto.LinkSessionsToSpotResultDTO;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.SessionStatus;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.ContinentRepository;
+import com.lovettj.surfspotsapi.repository.CountryRepository;
+import com.lovettj.surfspotsapi.repository.JobCursorRepository;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
+import com.lovettj.surfspotsapi.requests.LinkSessionsToSpotRequest;
+import com.lovettj.surfspotsapi.service.SessionSpotAutoAssignService;
+import com.lovettj.surfspotsapi.service.SurfSessionService;
+import com.lovettj.surfspotsapi.service.SurfSpotLocationIndex;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Set-based spot linking against Postgres: the manual link UPDATE and the auto-assign job. Fixtures sit
+ * off Tristan da Cunha so no other spot is within the match radius.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SessionSpotLinkingIntegrationTest {
+
+    @Autowired
+    private SurfSessionService surfSessionService;
+
+    @Autowired
+    private SessionSpotAutoAssignService sessionSpotAutoAssignService;
+
+    @Autowired
+    private SurfSpotLocationIndex surfSpotLocationIndex;
+
+    @Autowired
+    private JobCursorRepository jobCursorRepository;
+
+    @Autowired
+    private SurfSessionRepository surfSessionRepository;
+
+    @Autowired
+    private UserSurfSpotRepository userSurfSpotRepository;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private SurfSpotRepository surfSpotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Region region;
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        Continent continent = continentRepository.save(Continent.builder().name("Link Test Continent").build());
+        continent.generateSlug();
+        Country country = countryRepository.save(Country.builder().name("Link Test Country").continent(continent).build());
+        country.generateSlug();
+        region = regionRepository.save(Region.builder().name("Link Test Region").country(country).build());
+        region.generateSlug();
+        user = userRepository.save(User.builder().name("Link Tester").email("link-tester@example.com").build());
+        otherUser = userRepository.save(User.builder().name("Other Surfer").email("link-other@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // The index is a singleton; drop the rolled-back fixture spots from it.
+        surfSpotLocationIndex.invalidate();
+    }
+
+    @Test
+    void linkSessionsToSpotShouldOnlyLinkTheUsersCompletedSpotlessSessionsNearTheAnchor() {
+        SurfSpot spot = spot("Link Test Point", -37.10, -12.30);
+        SurfSession nearby = session(user, SessionStatus.COMPLETED, -37.101, -12.30);
+        SurfSession farButExplicit = session(user, SessionStatus.COMPLETED, -37.20, -12.30);
+        SurfSession far = session(user, SessionStatus.COMPLETED, -37.25, -12.30);
+        SurfSession inProgress = session(user, SessionStatus.IN_PROGRESS, -37.101, -12.30);
+        SurfSession otherUsers = session(otherUser, SessionStatus.COMPLETED, -37.101, -12.30);
+        entityManager.flush();
+
+        LinkSessionsToSpotRequest request = new LinkSessionsToSpotRequest();
+        request.setSurfSpotId(spot.getId());
+        request.setAnchorLatitude(-37.10);
+        request.setAnchorLongitude(-12.30);
+        request.setSessionId(farButExplicit.getId());
+        LinkSessionsToSpotResultDTO result = surfSessionService.linkSessionsToSpot(user.getId(), request);
+
+        assertEquals(2, result.getLinkedSessionCount());
+        assertEquals(spot.getId(), surfSpotIdOf(nearby));
+        assertEquals(spot.getId(), surfSpotIdOf(farButExplicit));
+        assertNull(surfSpotIdOf(far));
+        assertNull(surfSpotIdOf(inProgress));
+        assertNull(surfSpotIdOf(otherUsers));
+        assertTrue(userSurfSpotRepository.findByUserIdAndSurfSpotId(user.getId(), spot.getId()).isPresent());
+    }
+
+    @Test
+    void autoAssignShouldLinkSessionsStartedAtAClearSpotAndMarkItSurfed() {
+        SurfSpot spot = spot("Auto Assign Point", -37.30, -12.30);
+        SurfSession atSpot = session(user, SessionStatus.COMPLETED, -37.3005, -12.30);
+        SurfSession otherUserAtSpot = session(otherUser, SessionStatus.COMPLETED, -37.2995, -12.30);
+        SurfSession offshore = session(user, SessionStatus.COMPLETED, -37.40, -12.30);
+        SurfSession inProgress = session(user, SessionStatus.IN_PROGRESS, -37.3005, -12.30);
+        entityManager.flush();
+        surfSpotLocationIndex.invalidate();
+
+        SessionSpotAutoAssignService.RunResult result = sessionSpotAutoAssignService.assignUnassignedSessions();
+
+        assertTrue(result.passCompleted());
+        assertTrue(result.assignedCount() >= 2);
+        assertEquals(0L, jobCursorRepository.lastId("session-spot-auto-assign"));
+        entityManager.clear();
+        assertEquals(spot.getId(), surfSpotIdOf(atSpot));
+        assertEquals(spot.getId(), surfSpotIdOf(otherUserAtSpot));
+        assertNull(surfSpotIdOf(offshore));
+        assertNull(surfSpotIdOf(inProgress));
+        assertTrue(userSurfSpotRepository.findByUserIdAndSurfSpotId(user.getId(), spot.getId()).isPresent());
+        assertTrue(userSurfSpotRepository.findByUserIdAndSurfSpotId(otherUser.getId(), spot.getId()).isPresent());
+    }
+
+    private SurfSpot spot(String name, double latitude, double longitude) {
+        SurfSpot spot = SurfSpot.builder()
+                .name(name)
+                .region(region)
+                .latitude(latitude)
+                .longitude(longitude)
+                .status(SurfSpotStatus.APPROVED)
+                .hazards(List.of())
+                .build();
+        spot.generateSlug();
+        return surfSpotRepository.save(spot);
+    }
+
+    private SurfSession session(User owner, SessionStatus status, double startLatitude, double startLongitude) {
+        return surfSessionRepository.save(SurfSession.builder()
+                .user(owner)
+                .status(status)
+                .sessionDate(LocalDate.of(2025, 4, 1))
+                .startLatitude(startLatitude)
+                .startLongitude(startLongitude)
+                .build());
+    }
+
+    private Long surfSpotIdOf(SurfSession session) {
+        SurfSession stored = surfSessionRepository.findById(session.getId()).orElseThrow();
+        return stored.getSurfSpot() != null ? stored.getSurfSpot().getId() : null;
+    }
+}
@@ -0,0 +1,224 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.Trip;
+import com.lovettj.surfspotsapi.entity.TripInvitation;
+import com.lovettj.surfspotsapi.entity.TripMember;
+import com.lovettj.surfspotsapi.entity.TripSpot;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.metrics.HibernateStatementCounter;
+import com.lovettj.surfspotsapi.repository.ContinentRepository;
+import com.lovettj.surfspotsapi.repository.CountryRepository;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.TripRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+import com.lovettj.surfspotsapi.service.EnvironmentalAlertSyncService;
+import com.lovettj.surfspotsapi.service.GeographyCache;
+import com.lovettj.surfspotsapi.testutil.MockMvcDefaults;
+import com.lovettj.surfspotsapi.testutil.SessionTestCookieFactory;
+import com.lovettj.surfspotsapi.testutil.SqlStatementBudget;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * SQL statement budgets for paths that have regressed into N+1 queries before. The fixture has several
+ * trips, members and watched spots, so a per-row query pushes the count over budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(MockMvcDefaults.class)
+@ActiveProfiles("test")
+@Transactional
+class SqlStatementBudgetIntegrationTest {
+
+    private static final int TRIP_COUNT = 4;
+    private static final int SPOT_COUNT = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HibernateStatementCounter statementCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private SurfSpotRepository surfSpotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private WatchListRepository watchListRepository;
+
+    @Autowired
+    private EnvironmentalAlertSyncService environmentalAlertSyncService;
+
+    @Autowired
+    private GeographyCache geographyCache;
+
+    private SqlStatementBudget budget;
+    private User owner;
+    private final List<SurfSpot> spots = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        budget = new SqlStatementBudget(statementCounter, entityManager);
+
+        Continent continent = continentRepository.save(Continent.builder().name("Budget Test Continent").build());
+        continent.generateSlug();
+        Country country = countryRepository.save(Country.builder().name("Budget Test Country").continent(continent).build());
+        country.generateSlug();
+        Region region = regionRepository.save(Region.builder().name("Budget Test Region").country(country).build());
+        region.generateSlug();
+
+        for (int index = 0; index < SPOT_COUNT; index++) {
+            SurfSpot spot = SurfSpot.builder()
+                    .name("Budget Test Point " + index)
+                    .region(region)
+                    .latitude(50.0 + index * 0.01)
+                    .longitude(-5.0)
+                    .status(SurfSpotStatus.APPROVED)
+                    .hazards(List.of())
+                    .build();
+            spot.generateSlug();
+            spots.add(surfSpotRepository.save(spot));
+        }
+
+        owner = saveUser("budget-owner@example.com");
+        for (int tripIndex = 0; tripIndex < TRIP_COUNT; tripIndex++) {
+            User companion = saveUser("budget-companion-" + tripIndex + "@example.com");
+            Trip trip = Trip.builder().owner(owner).title("Budget trip " + tripIndex).build();
+            trip.setMembers(List.of(
+                    TripMember.builder().trip(trip).user(owner).build(),
+                    TripMember.builder().trip(trip).user(companion).build()));
+            trip.setInvitations(List.of(TripInvitation.builder()
+                    .trip(trip)
+                    .email("budget-invitee-" + tripIndex + "@example.com")
+                    .invitedBy(owner)
+                    .invitedAt(LocalDateTime.now())
+                    .status("PENDING")
+                    .token("budget-token-" + tripIndex)
+                    .build()));
+            trip.setSpots(List.of(
+                    TripSpot.builder().trip(trip).surfSpot(spots.get(tripIndex % SPOT_COUNT)).build(),
+                    TripSpot.builder().trip(trip).surfSpot(spots.get((tripIndex + 1) % SPOT_COUNT)).build()));
+            tripRepository.save(trip);
+        }
+
+        for (SurfSpot spot : spots) {
+            watchListRepository.save(WatchListSurfSpot.builder().user(owner).surfSpot(spot).build());
+        }
+    }
+
+    @Test
+    void userTripsShouldStayWithinBudget() throws Exception {
+        // Session user check, trips, pending invitations, then one batch per trip collection.
+        budget.assertAtMost(8, "GET /api/trips/user/{userId}", () -> mockMvc.perform(get("/api/trips/user/" + owner.getId())
+                        .cookie(SessionTestCookieFactory.createSignedSessionCookie(owner.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(TRIP_COUNT)));
+    }
+
+    @Test
+    void surfSpotDetailShouldStayWithinBudget() throws Exception {
+        budget.assertAtMost(14, "GET /api/surf-spots/{slug}", () -> mockMvc.perform(get("/api/surf-spots/" + spots.get(0).getSlug())
+                        .cookie(SessionTestCookieFactory.createSignedSessionCookie(owner.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isWatched").value(true))
+                .andExpect(jsonPath("$.region.surfSpots").doesNotExist()));
+    }
+
+    @Test
+    void surfSpotDetailShouldReadGeographyFromSecondLevelCache() throws Exception {
+        SqlStatementBudget.Call<?> request = () -> mockMvc.perform(get("/api/surf-spots/" + spots.get(0).getSlug()))
+                .andExpect(status().isOk());
+        geographyCache.evict();
+
+        int cold = budget.count(request);
+        int warm = budget.count(request);
+        geographyCache.evict();
+        int evicted = budget.count(request);
+
+        assertTrue(warm < cold, "expected fewer statements once geography is cached: cold=" + cold + ", warm=" + warm);
+        assertEquals(cold, evicted);
+    }
+
+    @Test
+    void anonymousRegionListingShouldNotQueryOnceBuilt() throws Exception {
+        String listingPath = "/api/surf-spots/region-id/" + spots.get(0).getRegion().getId();
+        int cold = budget.count(() -> mockMvc.perform(get(listingPath))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(SPOT_COUNT)));
+
+        budget.assertAtMost(0, "GET /api/surf-spots/region-id/{regionId}", () -> mockMvc.perform(get(listingPath))
+                .andExpect(status().isOk()));
+        // Filtered lists are cut from the same snapshot in memory.
+        budget.assertAtMost(0, "POST /api/surf-spots/region-id/{regionId}", () -> mockMvc.perform(post(listingPath)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"Approved\",\"swellDirection\":[\"W\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0)));
+        assertTrue(cold > 0);
+    }
+
+    @Test
+    void environmentalAlertSyncShouldStayWithinBudget() throws Exception {
+        EnvironmentalAlertSyncService.SyncResult result = budget.assertAtMost(
+                4, "EnvironmentalAlertSyncService.syncWatchedSpots", environmentalAlertSyncService::syncWatchedSpots);
+
+        assertEquals(SPOT_COUNT, result.spotsProcessed());
+    }
+
+    private User saveUser(String email) {
+        return userRepository.save(User.builder()
+                .name(email)
+                .email(email)
+                .emailVerified(true)
+                .skillLevel(SkillLevel.INTERMEDIATE)
+                .build());
+    }
+}
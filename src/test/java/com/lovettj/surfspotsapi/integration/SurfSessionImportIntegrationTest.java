@@ -0,0 +1,162 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.dto.SurfSessionImportItemDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportResultDTO;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.SessionImportOutcome;
+import com.lovettj.surfspotsapi.enums.SessionStatus;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.WaveSize;
+import com.lovettj.surfspotsapi.repository.ContinentRepository;
+import com.lovettj.surfspotsapi.repository.CountryRepository;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
+import com.lovettj.surfspotsapi.requests.SurfSessionImportRequest;
+import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
+import com.lovettj.surfspotsapi.service.SurfSessionImportService;
+
+import jakarta.persistence.EntityManager;
+
+/** Bulk import against Postgres: the JDBC batch, the conflict handling and the read-back of written ids. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SurfSessionImportIntegrationTest {
+
+    private static final Instant START = Instant.parse("2025-04-01T23:30:00Z");
+
+    @Autowired
+    private SurfSessionImportService surfSessionImportService;
+
+    @Autowired
+    private SurfSessionRepository surfSessionRepository;
+
+    @Autowired
+    private UserSurfSpotRepository userSurfSpotRepository;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private SurfSpotRepository surfSpotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private SurfSpot spot;
+
+    @BeforeEach
+    void setUp() {
+        Continent continent = continentRepository.save(Continent.builder().name("Import Test Continent").build());
+        continent.generateSlug();
+        Country country = countryRepository.save(Country.builder().name("Import Test Country").continent(continent).build());
+        country.generateSlug();
+        Region region = regionRepository.save(Region.builder().name("Import Test Region").country(country).build());
+        region.generateSlug();
+        spot = SurfSpot.builder()
+                .name("Import Test Point")
+                .region(region)
+                .latitude(38.7)
+                .longitude(-9.4)
+                .ianaZoneId("Europe/Lisbon")
+                .status(SurfSpotStatus.APPROVED)
+                .hazards(List.of())
+                .build();
+        spot.generateSlug();
+        spot = surfSpotRepository.save(spot);
+        user = userRepository.save(User.builder()
+                .name("Import Tester")
+                .email("import-tester@example.com")
+                .emailVerified(true)
+                .skillLevel(SkillLevel.INTERMEDIATE)
+                .build());
+        // The import writes over JDBC, so the fixture has to be in the database, not just the session.
+        entityManager.flush();
+    }
+
+    @Test
+    void importShouldWriteTheBatchAndTreatAReplayAsDuplicates() {
+        SurfSessionImportRequest request = batch(
+                garmin("g-1", spot.getId()),
+                garmin("g-2", spot.getId()),
+                garmin("g-1", spot.getId()),
+                garmin("g-3", spot.getId() + 10_000));
+
+        SurfSessionImportResultDTO first = surfSessionImportService.importSessions(user.getId(), request);
+        SurfSessionImportResultDTO replay = surfSessionImportService.importSessions(user.getId(), request);
+
+        assertEquals(2, first.getCreatedCount());
+        assertEquals(1, first.getDuplicateCount());
+        assertEquals(1, first.getInvalidCount());
+        assertEquals(0, replay.getCreatedCount());
+        assertEquals(List.of(
+                        SessionImportOutcome.DUPLICATE,
+                        SessionImportOutcome.DUPLICATE,
+                        SessionImportOutcome.DUPLICATE,
+                        SessionImportOutcome.INVALID),
+                replay.getItems().stream().map(SurfSessionImportItemDTO::getOutcome).toList());
+
+        entityManager.clear();
+        SurfSession stored = surfSessionRepository.findById(first.getItems().get(0).getSessionId()).orElseThrow();
+        assertEquals(SessionStatus.COMPLETED, stored.getStatus());
+        assertEquals(START, stored.getSessionStartInstant());
+        assertEquals(75, stored.getDurationMinutes());
+        // 23:30 UTC is already the next day in Lisbon (summer time).
+        assertEquals(LocalDate.of(2025, 4, 2), stored.getSessionDate());
+        assertEquals(WaveSize.HEAD_PLUS, stored.getWaveSize());
+        assertEquals(ExternalSessionProvider.GARMIN, stored.getExternalSessionProvider());
+        assertEquals(2, surfSessionRepository.findBySurfSpotId(spot.getId()).size());
+        assertTrue(userSurfSpotRepository.findByUserIdAndSurfSpotId(user.getId(), spot.getId()).isPresent());
+    }
+
+    private static SurfSessionImportRequest batch(SurfSessionRequest... items) {
+        SurfSessionImportRequest request = new SurfSessionImportRequest();
+        request.setSessions(List.of(items));
+        return request;
+    }
+
+    private static SurfSessionRequest garmin(String externalSessionId, Long surfSpotId) {
+        SurfSessionRequest request = new SurfSessionRequest();
+        request.setSurfSpotId(surfSpotId);
+        request.setSessionStartInstant(START);
+        request.setSessionEndInstant(START.plusSeconds(75 * 60));
+        request.setWaveSize(WaveSize.HEAD_PLUS);
+        request.setExternalSessionProvider(ExternalSessionProvider.GARMIN);
+        request.setExternalSessionId(externalSessionId);
+        return request;
+    }
+}
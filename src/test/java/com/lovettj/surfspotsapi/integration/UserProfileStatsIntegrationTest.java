@@ -0,0 +1,219 @@
+package com.lovettj.surfspotsapi.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.lovettj.surfspotsapi.dto.UserSurfSpotsDTO;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSession;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
+import com.lovettj.surfspotsapi.enums.WaveDirection;
+import com.lovettj.surfspotsapi.repository.ContinentRepository;
+import com.lovettj.surfspotsapi.repository.CountryRepository;
+import com.lovettj.surfspotsapi.repository.RegionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository.StatCount;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
+import com.lovettj.surfspotsapi.service.SurfSessionService;
+import com.lovettj.surfspotsapi.service.SurfSpotLocationIndex;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService.SurfedSpotKeys;
+import com.lovettj.surfspotsapi.service.UserSurfSpotService;
+import com.lovettj.surfspotsapi.service.WatchListService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Profile counters against Postgres: what the writers add and take away must match a rebuild from the
+ * underlying rows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class UserProfileStatsIntegrationTest {
+
+    @Autowired
+    private UserProfileStatsService userProfileStatsService;
+
+    @Autowired
+    private UserProfileStatRepository userProfileStatRepository;
+
+    @Autowired
+    private UserSurfSpotService userSurfSpotService;
+
+    @Autowired
+    private WatchListService watchListService;
+
+    @Autowired
+    private SurfSessionService surfSessionService;
+
+    @Autowired
+    private SurfSpotLocationIndex surfSpotLocationIndex;
+
+    @Autowired
+    private SurfSessionRepository surfSessionRepository;
+
+    @Autowired
+    private ContinentRepository continentRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private SurfSpotRepository surfSpotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Region portugal;
+    private Region morocco;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        portugal = region("Stats Test Portugal", "Stats Test Europe");
+        morocco = region("Stats Test Morocco", "Stats Test Africa");
+        user = userRepository.save(User.builder().name("Stats Tester").email("stats-tester@example.com").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // The index is a singleton; drop the rolled-back fixture spots from it.
+        surfSpotLocationIndex.invalidate();
+    }
+
+    @Test
+    void countersKeptByWritersShouldMatchARebuild() {
+        SurfSpot ericeira = spot("Stats Ericeira", portugal, SurfSpotType.REEF_BREAK, WaveDirection.RIGHT);
+        SurfSpot peniche = spot("Stats Peniche", portugal, SurfSpotType.BEACH_BREAK, WaveDirection.LEFT);
+        SurfSpot anchor = spot("Stats Anchor Point", morocco, SurfSpotType.POINT_BREAK, WaveDirection.RIGHT);
+
+        userSurfSpotService.addUserSurfSpot(user.getId(), ericeira.getId());
+        userSurfSpotService.addUserSurfSpot(user.getId(), peniche.getId());
+        userSurfSpotService.removeUserSurfSpot(user.getId(), peniche.getId());
+        watchListService.addSurfSpotToWatchList(user.getId(), peniche.getId());
+        surfSessionService.createSession(sessionAt(anchor));
+        surfSessionService.createSession(sessionAt(anchor));
+        entityManager.flush();
+        Long deletedSessionId = surfSessionRepository.findAll().stream()
+                .filter(session -> session.getUser().getId().equals(user.getId()))
+                .map(SurfSession::getId)
+                .findFirst()
+                .orElseThrow();
+        surfSessionService.deleteSession(user.getId(), deletedSessionId);
+        entityManager.flush();
+
+        List<StatCount> kept = sorted(userProfileStatRepository.findByUserId(user.getId()));
+        userProfileStatsService.rebuild(List.of(user.getId()));
+        List<StatCount> rebuilt = sorted(userProfileStatRepository.findByUserId(user.getId()));
+
+        assertEquals(rebuilt, kept);
+        UserSurfSpotsDTO summary = userSurfSpotService.getUserSurfSpotsSummary(user.getId());
+        assertEquals(2, summary.getTotalCount());
+        assertEquals(2, summary.getCountryCount());
+        assertEquals(2, summary.getContinentCount());
+        assertEquals(1, summary.getWatchListCount());
+        assertEquals(1, surfSessionService.getSurfSessionsForUser(user.getId()).getTotalSessions());
+    }
+
+    @Test
+    void surfSpotChangedShouldMoveSurfersToTheNewKeysLikeARebuild() {
+        SurfSpot ericeira = spot("Stats Ericeira", portugal, SurfSpotType.REEF_BREAK, WaveDirection.RIGHT);
+        SurfSpot peniche = spot("Stats Peniche", portugal, SurfSpotType.REEF_BREAK, WaveDirection.LEFT);
+        userSurfSpotService.addUserSurfSpot(user.getId(), ericeira.getId());
+        userSurfSpotService.addUserSurfSpot(user.getId(), peniche.getId());
+        entityManager.flush();
+
+        SurfedSpotKeys before = SurfedSpotKeys.of(ericeira);
+        ericeira.setRegion(morocco);
+        ericeira.setType(SurfSpotType.POINT_BREAK);
+        surfSpotRepository.saveAndFlush(ericeira);
+        userProfileStatsService.surfSpotChanged(ericeira.getId(), before, SurfedSpotKeys.of(ericeira));
+
+        List<StatCount> moved = sorted(userProfileStatRepository.findByUserId(user.getId()));
+        userProfileStatsService.rebuild(List.of(user.getId()));
+        List<StatCount> rebuilt = sorted(userProfileStatRepository.findByUserId(user.getId()));
+
+        assertEquals(rebuilt, moved);
+        assertEquals(2, userProfileStatsService.getStats(user.getId()).total(ProfileStat.SURFED_SPOT));
+    }
+
+    @Test
+    void rebuildAllShouldRestoreCountersThatDrifted() {
+        SurfSpot ericeira = spot("Stats Ericeira", portugal, SurfSpotType.REEF_BREAK, WaveDirection.RIGHT);
+        userSurfSpotService.addUserSurfSpot(user.getId(), ericeira.getId());
+        entityManager.flush();
+        userProfileStatRepository.deleteCounter(user.getId(), ProfileStat.SURFED_SPOT, "");
+
+        int rebuiltUsers = userProfileStatsService.rebuildAll();
+
+        assertTrue(rebuiltUsers >= 1);
+        assertEquals(1, userProfileStatsService.getStats(user.getId()).total(ProfileStat.SURFED_SPOT));
+    }
+
+    private Region region(String name, String continentName) {
+        Continent continent = continentRepository.save(Continent.builder().name(continentName).build());
+        continent.generateSlug();
+        Country country = countryRepository.save(Country.builder().name(name).continent(continent).build());
+        country.generateSlug();
+        Region region = regionRepository.save(Region.builder().name(name + " Region").country(country).build());
+        region.generateSlug();
+        return region;
+    }
+
+    private SurfSpot spot(String name, Region region, SurfSpotType type, WaveDirection waveDirection) {
+        SurfSpot spot = SurfSpot.builder()
+                .name(name)
+                .region(region)
+                .type(type)
+                .waveDirection(waveDirection)
+                .latitude(-37.10)
+                .longitude(-12.30)
+                .status(SurfSpotStatus.APPROVED)
+                .hazards(List.of())
+                .build();
+        spot.generateSlug();
+        return surfSpotRepository.save(spot);
+    }
+
+    private SurfSessionRequest sessionAt(SurfSpot spot) {
+        SurfSessionRequest request = new SurfSessionRequest();
+        request.setUserId(user.getId());
+        request.setSurfSpotId(spot.getId());
+        request.setSessionDate(LocalDate.of(2025, 4, 1));
+        return request;
+    }
+
+    private static List<StatCount> sorted(List<StatCount> counts) {
+        return counts.stream()
+                .sorted(Comparator.comparing(StatCount::stat).thenComparing(StatCount::statKey))
+                .toList();
+    }
+}
@@ -24,6 +24,8 @@ import com.lovettj.surfspotsapi.enums.EnvironmentalAlertSeverity;
 import com.lovettj.surfspotsapi.enums.EnvironmentalAlertType;
 import com.lovettj.surfspotsapi.integration.environmental.uk.ScottishWaterOverflowFeedClient.OutletStatus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class UkOverflowAlertProviderTest {
 
@@ -42,7 +44,7 @@ class UkOverflowAlertProviderTest {
         properties.getScottishWater().setSourceName("Scottish Water");
         properties.getScottishWater().setSourceUrl("https://www.scottishwater.co.uk/");
         properties.setStreamCompanies(List.of());
-        provider = new UkOverflowAlertProvider(properties, scottishFeed, restClient);
+        provider = new UkOverflowAlertProvider(properties, scottishFeed, restClient, new SimpleMeterRegistry());
     }
 
     @Test
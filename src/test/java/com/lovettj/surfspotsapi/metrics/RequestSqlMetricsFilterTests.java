@@ -0,0 +1,56 @@
+package com.lovettj.surfspotsapi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestSqlMetricsFilterTests {
+
+    private HibernateStatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private RequestSqlMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new HibernateStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestSqlMetricsFilter(statementCounter, meterRegistry);
+    }
+
+    @Test
+    void doFilterShouldRecordStatementsPerUriPattern() throws Exception {
+        statementCounter.inspect("select 1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/surf-spots/uluwatu");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/surf-spots/{slug}");
+            statementCounter.inspect("select * from surf_spot");
+            statementCounter.inspect("select * from swell_season");
+        });
+
+        DistributionSummary summary = meterRegistry.get(RequestSqlMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/api/surf-spots/{slug}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2.0, summary.totalAmount());
+    }
+
+    @Test
+    void doFilterShouldTagUnmatchedRequestsAsUnknown() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/missing");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {});
+
+        assertEquals(1, meterRegistry.get(RequestSqlMetricsFilter.METRIC_NAME)
+                .tags("uri", "UNKNOWN")
+                .summary()
+                .count());
+    }
+}
@@ -40,11 +40,18 @@ class ContestScheduleSyncServiceTests {
     @Mock
     private SurfSpotRepository surfSpotRepository;
 
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private SurfSpotListingCache surfSpotListingCache;
+
     private ContestScheduleSyncService contestScheduleSyncService;
 
     @BeforeEach
     void setUp() {
-        contestScheduleSyncService = new ContestScheduleSyncService(surfEventRepository, surfSpotRepository);
+        contestScheduleSyncService = new ContestScheduleSyncService(
+                surfEventRepository, surfSpotRepository, catalogVersionService, surfSpotListingCache);
     }
 
     @Test
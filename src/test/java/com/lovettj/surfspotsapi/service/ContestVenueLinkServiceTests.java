@@ -33,11 +33,18 @@ class ContestVenueLinkServiceTests {
     @Mock
     private SurfSpotRepository surfSpotRepository;
 
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private SurfSpotListingCache surfSpotListingCache;
+
     private ContestVenueLinkService contestVenueLinkService;
 
     @BeforeEach
     void setUp() {
-        contestVenueLinkService = new ContestVenueLinkService(surfEventRepository, surfSpotRepository);
+        contestVenueLinkService = new ContestVenueLinkService(
+                surfEventRepository, surfSpotRepository, catalogVersionService, surfSpotListingCache);
     }
 
     @Test
@@ -63,6 +70,8 @@ class ContestVenueLinkServiceTests {
         assertEquals(true, surfSpot.getIsWslTourStop());
         verify(surfEventRepository).saveAll(List.of(event2025, event2026));
         verify(surfSpotRepository).save(surfSpot);
+        verify(surfSpotListingCache).evictAllAfterCommit();
+        verify(catalogVersionService).bump();
     }
 
     @Test
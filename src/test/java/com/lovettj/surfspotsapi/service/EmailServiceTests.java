@@ -24,6 +24,7 @@ import org.thymeleaf.context.Context;
 
 import com.lovettj.surfspotsapi.email.TransactionalEmailTemplate;
 import com.lovettj.surfspotsapi.testutil.AppPropertiesFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
@@ -44,14 +45,17 @@ class EmailServiceTests {
 
     private EmailService emailService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private Map<String, Object> variables;
 
     @BeforeEach
     void setUp() {
         variables = new HashMap<>();
+        meterRegistry = new SimpleMeterRegistry();
         doReturn(mimeMessage).when(mailSender).createMimeMessage();
         emailService = new EmailService(
-                mailSender, templateEngine, true, AppPropertiesFactory.localhostDefaults(), "", "");
+                mailSender, templateEngine, true, AppPropertiesFactory.localhostDefaults(), "", "", meterRegistry);
     }
 
     @Test
@@ -59,6 +63,8 @@ class EmailServiceTests {
         doReturn("<html>Test</html>").when(templateEngine).process(anyString(), any(Context.class));
         emailService.sendEmail("test@example.com", "Test Subject", "templateName", variables);
         verify(mailSender).send(any(MimeMessage.class));
+        assertEquals(1, meterRegistry.get("email.send")
+                .tags("template", "templateName", "outcome", "success").timer().count());
     }
 
     @Test
@@ -83,6 +89,8 @@ class EmailServiceTests {
         emailService.sendEmail("test@example.com", "Test Subject", "templateName", variables);
 
         verify(mailSender).send(any(MimeMessage.class));
+        assertEquals(1, meterRegistry.get("email.send")
+                .tags("template", "templateName", "outcome", "failure").timer().count());
     }
 
     @Test
@@ -94,7 +102,8 @@ class EmailServiceTests {
                 true,
                 AppPropertiesFactory.withUrls("https://surf.example.com/", "http://localhost:8080"),
                 "",
-                "");
+                "",
+                meterRegistry);
         doReturn("<html></html>").when(templateEngine).process(eq(TransactionalEmailTemplate.TRIP_INVITATION.getLogicalName()), ctxCaptor.capture());
 
         emailService.sendTripInvitation(
@@ -145,7 +154,8 @@ class EmailServiceTests {
                 true,
                 AppPropertiesFactory.withUrls("https://app.example.com///", "http://localhost:8080"),
                 "",
-                "");
+                "",
+                meterRegistry);
         doReturn("<html></html>").when(templateEngine).process(eq(TransactionalEmailTemplate.TRIP_MEMBER_ADDED.getLogicalName()), ctxCaptor.capture());
 
         emailService.sendTripMemberAddedNotification("m@example.com", "Mo", "Pat", "Trip X", null, null, null);
@@ -166,7 +176,8 @@ class EmailServiceTests {
                 true,
                 AppPropertiesFactory.withUrls("https://surf.example.com", "http://localhost:8080"),
                 "",
-                "https://cdn.example.com/logo.png");
+                "https://cdn.example.com/logo.png",
+                meterRegistry);
         doReturn("<html></html>").when(templateEngine).process(eq(TransactionalEmailTemplate.TRIP_INVITATION.getLogicalName()), ctxCaptor.capture());
 
         emailService.sendTripInvitation(
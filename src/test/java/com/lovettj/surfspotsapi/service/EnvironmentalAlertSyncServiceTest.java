@@ -169,7 +169,7 @@ class EnvironmentalAlertSyncServiceTest {
                 .build();
 
         when(watchListRepository.findDistinctWatchedSurfSpotIds()).thenReturn(List.of(22L));
-        when(surfSpotRepository.findById(22L)).thenReturn(Optional.of(cornwallSpot));
+        when(surfSpotRepository.findAllWithCountryByIdIn(List.of(22L))).thenReturn(List.of(cornwallSpot));
         when(provider.supports(unitedKingdom)).thenReturn(true);
         when(provider.fetchAlerts(cornwallSpot)).thenReturn(List.of());
         when(environmentalAlertRepository.findExpiredActiveAlerts(eq(EnvironmentalAlertStatus.ACTIVE), any()))
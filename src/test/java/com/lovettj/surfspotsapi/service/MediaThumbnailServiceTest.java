@@ -0,0 +1,127 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lovettj.surfspotsapi.config.MediaThumbnailProperties;
+import com.lovettj.surfspotsapi.repository.SurfSessionMediaRepository;
+import com.lovettj.surfspotsapi.repository.SurfboardMediaRepository;
+import com.lovettj.surfspotsapi.repository.TripMediaRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MediaThumbnailServiceTest {
+
+    private static final String OBJECT_KEY = "surf-sessions/media/image/media-1";
+    private static final String THUMB_KEY = OBJECT_KEY + "-thumb.jpg";
+
+    @Mock
+    private StorageService storageService;
+    @Mock
+    private SurfSessionMediaRepository surfSessionMediaRepository;
+    @Mock
+    private SurfboardMediaRepository surfboardMediaRepository;
+    @Mock
+    private TripMediaRepository tripMediaRepository;
+
+    private MediaThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MediaThumbnailService(
+                storageService,
+                surfSessionMediaRepository,
+                surfboardMediaRepository,
+                tripMediaRepository,
+                new MediaThumbnailProperties(),
+                Runnable::run);
+    }
+
+    @Test
+    void createThumbnailShouldFitLongestEdge() throws IOException {
+        byte[] thumbnail = MediaThumbnailService.createThumbnail(png(1600, 900), 480, 0.8f);
+
+        assertNotNull(thumbnail);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertEquals(480, decoded.getWidth());
+        assertEquals(270, decoded.getHeight());
+    }
+
+    @Test
+    void createThumbnailShouldReturnNullWhenAlreadySmall() throws IOException {
+        assertNull(MediaThumbnailService.createThumbnail(png(300, 200), 480, 0.8f));
+    }
+
+    @Test
+    void createThumbnailShouldReturnNullForNonImageBytes() throws IOException {
+        assertNull(MediaThumbnailService.createThumbnail(new byte[] {1, 2, 3}, 480, 0.8f));
+    }
+
+    @Test
+    void generateAfterCommitShouldUploadAndRecordThumbnailKey() throws IOException {
+        when(storageService.isStorageConfigured()).thenReturn(true);
+        when(storageService.getObjectBytes(eq(OBJECT_KEY), anyLong())).thenReturn(png(1200, 1200));
+        when(storageService.generateThumbnailKey(OBJECT_KEY)).thenReturn(THUMB_KEY);
+        when(storageService.putObject(eq(THUMB_KEY), any(byte[].class), eq("image/jpeg"))).thenReturn(true);
+        when(surfSessionMediaRepository.updateThumbObjectKey("media-1", THUMB_KEY)).thenReturn(1);
+
+        service.generateAfterCommit(MediaThumbnailService.MediaOwner.SURF_SESSION, "media-1", OBJECT_KEY, "image");
+
+        verify(surfSessionMediaRepository).updateThumbObjectKey("media-1", THUMB_KEY);
+        verify(storageService, never()).deleteObject(anyString());
+    }
+
+    @Test
+    void generateThumbnailShouldRemoveDerivativeWhenMediaRowWasDeleted() throws IOException {
+        when(storageService.getObjectBytes(eq(OBJECT_KEY), anyLong())).thenReturn(png(1200, 800));
+        when(storageService.generateThumbnailKey(OBJECT_KEY)).thenReturn(THUMB_KEY);
+        when(storageService.putObject(eq(THUMB_KEY), any(byte[].class), eq("image/jpeg"))).thenReturn(true);
+        when(tripMediaRepository.updateThumbObjectKey("media-1", THUMB_KEY)).thenReturn(0);
+
+        service.generateThumbnail(MediaThumbnailService.MediaOwner.TRIP, "media-1", OBJECT_KEY);
+
+        verify(storageService).deleteObject(THUMB_KEY);
+    }
+
+    @Test
+    void generateAfterCommitShouldSkipVideos() {
+        service.generateAfterCommit(MediaThumbnailService.MediaOwner.SURFBOARD, "media-1", OBJECT_KEY, "video");
+
+        verifyNoInteractions(storageService, surfboardMediaRepository);
+    }
+
+    @Test
+    void thumbnailKeyShouldSitNextToOriginal() {
+        StorageService storage = new StorageService("bucket", null);
+        assertTrue(storage.generateThumbnailKey(OBJECT_KEY).startsWith(OBJECT_KEY));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -2,7 +2,7 @@ package com.lovettj.surfspotsapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -14,10 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
-import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
 import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,12 +32,12 @@ class NearbySurfSpotResolverTest {
 
     @BeforeEach
     void setUp() {
-        nearbySurfSpotResolver = new NearbySurfSpotResolver(surfSpotRepository);
+        nearbySurfSpotResolver = new NearbySurfSpotResolver(new SurfSpotLocationIndex(surfSpotRepository));
     }
 
     @Test
     void findApprovedSpotNameNearCoordinatesShouldReturnNearestWhenClearlyWithinAtSpotRadius() {
-        when(surfSpotRepository.findWithinBoundsWithFilters(any(SurfSpotBoundsFilterDTO.class)))
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED))
                 .thenReturn(List.of(
                         buildSpot("Bundoran Peak", SESSION_LATITUDE + 0.001, SESSION_LONGITUDE),
                         buildSpot("Distant Peak", SESSION_LATITUDE + 0.02, SESSION_LONGITUDE)));
@@ -51,7 +50,7 @@ class NearbySurfSpotResolverTest {
 
     @Test
     void findApprovedSpotNameNearCoordinatesShouldReturnEmptyWhenNearestIsOutsideAtSpotRadius() {
-        when(surfSpotRepository.findWithinBoundsWithFilters(any(SurfSpotBoundsFilterDTO.class)))
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED))
                 .thenReturn(List.of(
                         buildSpot(
                                 "Far Peak",
@@ -66,7 +65,7 @@ class NearbySurfSpotResolverTest {
 
     @Test
     void findApprovedSpotNameNearCoordinatesShouldReturnEmptyWhenTwoSpotsAreAmbiguousWithinRadius() {
-        when(surfSpotRepository.findWithinBoundsWithFilters(any(SurfSpotBoundsFilterDTO.class)))
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED))
                 .thenReturn(List.of(
                         buildSpot("Peak A", SESSION_LATITUDE + 0.0005, SESSION_LONGITUDE),
                         buildSpot("Peak B", SESSION_LATITUDE + 0.0008, SESSION_LONGITUDE)));
@@ -79,19 +78,14 @@ class NearbySurfSpotResolverTest {
 
     @Test
     void findApprovedSpotNameNearCoordinatesShouldQueryApprovedSpotsOnly() {
-        when(surfSpotRepository.findWithinBoundsWithFilters(any(SurfSpotBoundsFilterDTO.class)))
-                .thenAnswer(invocation -> {
-                    SurfSpotBoundsFilterDTO filters = invocation.getArgument(0);
-                    assertEquals(SurfSpotStatus.APPROVED, filters.getStatus());
-                    return List.of();
-                });
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of());
 
         nearbySurfSpotResolver.findApprovedSpotNameNearCoordinates(SESSION_LATITUDE, SESSION_LONGITUDE);
+
+        verify(surfSpotRepository).findCoordinatesByStatus(SurfSpotStatus.APPROVED);
     }
 
-    private static SurfSpot buildSpot(String name, double latitude, double longitude) {
-        SurfSpot spot = SurfSpot.builder().name(name).latitude(latitude).longitude(longitude).build();
-        spot.setId(1L);
-        return spot;
+    private static SpotCoordinates buildSpot(String name, double latitude, double longitude) {
+        return SurfSpotLocationIndexTest.coordinates(1L, name, latitude, longitude);
     }
 }
@@ -1,6 +1,6 @@
 package com.lovettj.surfspotsapi.service;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,8 +24,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.lovettj.surfspotsapi.config.AppProperties;
 import com.lovettj.surfspotsapi.email.TransactionalEmailTemplate;
 import com.lovettj.surfspotsapi.entity.Settings;
-import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
@@ -41,6 +44,9 @@ class NearbyTravelNotificationServiceTest {
     @Mock
     private NotificationEmailSentRepository notificationEmailSentRepository;
 
+    @Mock
+    private NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+
     @Mock
     private EmailService emailService;
 
@@ -53,8 +59,9 @@ class NearbyTravelNotificationServiceTest {
         nearbyTravelNotificationService =
                 new NearbyTravelNotificationService(
                         userRepository,
-                        surfSpotRepository,
+                        new SurfSpotLocationIndex(surfSpotRepository),
                         notificationEmailSentRepository,
+                        notificationEmailSentJdbcRepository,
                         emailService,
                         appProperties);
     }
@@ -88,14 +95,11 @@ class NearbyTravelNotificationServiceTest {
     void testReportLocationShouldEmailWhenTravelJumpAndOptedIn() {
         User user = buildUser(10.0, 10.0, true, "imperial");
         when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
-        when(notificationEmailSentRepository.existsByUserIdAndNotificationKey(anyString(), anyString()))
-                .thenReturn(false);
-
-        SurfSpot nearbySpot = new SurfSpot();
-        nearbySpot.setName("Local Peak");
-        nearbySpot.setLatitude(54.5);
-        nearbySpot.setLongitude(-8.2);
-        when(surfSpotRepository.findWithinBoundsWithFilters(any())).thenReturn(List.of(nearbySpot));
+        when(notificationEmailSentJdbcRepository.findUnclaimed(anyCollection()))
+                .thenAnswer(invocation -> new HashSet<NotificationClaim>(invocation.getArgument(0)));
+
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED))
+                .thenReturn(List.of(SurfSpotLocationIndexTest.coordinates(1L, "Local Peak", 54.5, -8.2)));
         when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap())).thenReturn(true);
 
         nearbyTravelNotificationService.reportLocation("user-1", 54.5, -8.2);
@@ -1,6 +1,7 @@
 package com.lovettj.surfspotsapi.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -9,7 +10,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,8 @@ import com.lovettj.surfspotsapi.entity.Region;
 import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 
@@ -38,6 +43,9 @@ class NewSurfSpotEmailServiceTest {
     @Mock
     private NotificationEmailSentRepository notificationEmailSentRepository;
 
+    @Mock
+    private NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+
     @Mock
     private EmailService emailService;
 
@@ -54,6 +62,7 @@ class NewSurfSpotEmailServiceTest {
                 new NewSurfSpotEmailService(
                         userRepository,
                         notificationEmailSentRepository,
+                        notificationEmailSentJdbcRepository,
                         emailService,
                         appProperties);
     }
@@ -89,9 +98,8 @@ class NewSurfSpotEmailServiceTest {
         user.setId("user-1");
         user.setEmail("surfer@example.com");
         when(userRepository.findUsersWithNewSurfSpotEmailsEnabled()).thenReturn(List.of(user));
-        when(notificationEmailSentRepository.existsByUserIdAndNotificationKey(
-                        eq("user-1"), eq("new-surf-spot-42-user-1")))
-                .thenReturn(false);
+        NotificationClaim claim = new NotificationClaim("user-1", "new-surf-spot-42-user-1");
+        when(notificationEmailSentJdbcRepository.findUnclaimed(List.of(claim))).thenReturn(Set.of(claim));
         when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap()))
                 .thenReturn(true);
 
@@ -122,8 +130,8 @@ class NewSurfSpotEmailServiceTest {
         user.setId("user-1");
         user.setEmail("surfer@example.com");
         when(userRepository.findUsersWithNewSurfSpotEmailsEnabled()).thenReturn(List.of(user));
-        when(notificationEmailSentRepository.existsByUserIdAndNotificationKey(anyString(), anyString()))
-                .thenReturn(false);
+        when(notificationEmailSentJdbcRepository.findUnclaimed(anyCollection()))
+                .thenAnswer(invocation -> new HashSet<NotificationClaim>(invocation.getArgument(0)));
         when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap()))
                 .thenReturn(false);
 
@@ -132,6 +140,32 @@ class NewSurfSpotEmailServiceTest {
         verify(notificationEmailSentRepository, never()).saveAndFlush(any());
     }
 
+    @Test
+    void testNotifySubscribersShouldSkipSubscribersAlreadyEmailedInOneProbe() {
+        SurfSpot spot = buildSpot();
+        User alreadyEmailed = new User();
+        alreadyEmailed.setId("user-1");
+        alreadyEmailed.setEmail("first@example.com");
+        User notYetEmailed = new User();
+        notYetEmailed.setId("user-2");
+        notYetEmailed.setEmail("second@example.com");
+        User noEmail = new User();
+        noEmail.setId("user-3");
+        when(userRepository.findUsersWithNewSurfSpotEmailsEnabled())
+                .thenReturn(List.of(alreadyEmailed, notYetEmailed, noEmail));
+        NotificationClaim unclaimed = new NotificationClaim("user-2", "new-surf-spot-42-user-2");
+        when(notificationEmailSentJdbcRepository.findUnclaimed(List.of(
+                        new NotificationClaim("user-1", "new-surf-spot-42-user-1"), unclaimed)))
+                .thenReturn(Set.of(unclaimed));
+        when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap())).thenReturn(true);
+
+        newSurfSpotEmailService.notifySubscribers(spot);
+
+        verify(emailService).sendEmail(eq("second@example.com"), anyString(), anyString(), anyMap());
+        verify(emailService, never()).sendEmail(eq("first@example.com"), anyString(), anyString(), anyMap());
+        verify(notificationEmailSentRepository).saveAndFlush(any(NotificationEmailSent.class));
+    }
+
     private static SurfSpot buildSpot() {
         Continent continent = new Continent();
         continent.setSlug("europe");
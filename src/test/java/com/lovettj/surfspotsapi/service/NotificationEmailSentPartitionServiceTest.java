@@ -0,0 +1,68 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lovettj.surfspotsapi.config.NotificationEmailSentProperties;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationEmailSentPartitionServiceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2026, 10);
+
+    @Mock
+    private NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+
+    private NotificationEmailSentPartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        NotificationEmailSentProperties properties = new NotificationEmailSentProperties();
+        properties.setRetentionMonths(13);
+        properties.setMonthsAhead(2);
+        partitionService = new NotificationEmailSentPartitionService(notificationEmailSentJdbcRepository, properties);
+    }
+
+    @Test
+    void maintainPartitionsShouldCreateMissingMonthsAheadAndDropMonthsPastRetention() {
+        when(notificationEmailSentJdbcRepository.isPartitioned()).thenReturn(true);
+        when(notificationEmailSentJdbcRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2025, 9), YearMonth.of(2025, 10), YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+
+        NotificationEmailSentPartitionService.MaintenanceResult result =
+                partitionService.maintainPartitions(CURRENT_MONTH);
+
+        assertEquals(List.of(YearMonth.of(2026, 12)), result.createdMonths());
+        assertEquals(List.of(YearMonth.of(2025, 9)), result.droppedMonths());
+        verify(notificationEmailSentJdbcRepository).createPartition(YearMonth.of(2026, 12));
+        verify(notificationEmailSentJdbcRepository).dropPartition(YearMonth.of(2025, 9));
+        verify(notificationEmailSentJdbcRepository, never()).dropPartition(YearMonth.of(2025, 10));
+    }
+
+    @Test
+    void maintainPartitionsShouldSkipAPlainTable() {
+        when(notificationEmailSentJdbcRepository.isPartitioned()).thenReturn(false);
+
+        NotificationEmailSentPartitionService.MaintenanceResult result =
+                partitionService.maintainPartitions(CURRENT_MONTH);
+
+        assertTrue(result.createdMonths().isEmpty());
+        assertTrue(result.droppedMonths().isEmpty());
+        verify(notificationEmailSentJdbcRepository, never()).createPartition(any());
+        verify(notificationEmailSentJdbcRepository, never()).dropPartition(any());
+    }
+}
@@ -0,0 +1,138 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SeedJdbcRepository.StoredHash;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataSyncServiceTest {
+
+    @Mock
+    private SeedJdbcRepository seedJdbcRepository;
+    @Mock
+    private SwellSeasonDeterminationService swellSeasonDeterminationService;
+    @Mock
+    private SurfSpotLocationIndex surfSpotLocationIndex;
+    @Mock
+    private GeographyCache geographyCache;
+    @Mock
+    private CatalogVersionService catalogVersionService;
+    @Mock
+    private SurfSpotListingCache surfSpotListingCache;
+    @Mock
+    private SurfSpotTileCache surfSpotTileCache;
+    @Mock
+    private SurfSpotSearchService surfSpotSearchService;
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+
+    private ReferenceDataSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReferenceDataSyncService(
+                seedJdbcRepository,
+                swellSeasonDeterminationService,
+                surfSpotLocationIndex,
+                geographyCache,
+                catalogVersionService,
+                surfSpotTileCache,
+                surfSpotSearchService,
+                userProfileStatsService,
+                surfSpotListingCache);
+    }
+
+    @Test
+    void contentHashShouldIgnoreFieldOrder() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        String first = ReferenceDataSyncService.contentHash(
+                mapper.readTree("{\"name\":\"Uluwatu\",\"hazards\":[\"Reef\",\"Sharks\"]}"));
+        String reordered = ReferenceDataSyncService.contentHash(
+                mapper.readTree("{ \"hazards\": [\"Reef\", \"Sharks\"], \"name\": \"Uluwatu\" }"));
+        String changed = ReferenceDataSyncService.contentHash(
+                mapper.readTree("{\"name\":\"Uluwatu\",\"hazards\":[\"Sharks\",\"Reef\"]}"));
+
+        assertEquals(first, reordered);
+        assertNotEquals(first, changed);
+    }
+
+    @Test
+    void dryRunOnEmptyDatabaseShouldReportInsertsWithoutWriting() {
+        ReferenceDataSyncService.SyncReport report = service.sync(true);
+
+        assertTrue(report.dryRun());
+        assertEquals(6, report.entities().size());
+        report.entities().forEach(diff -> assertFalse(diff.inserted().isEmpty(), diff.entityType()));
+        verify(seedJdbcRepository, never()).reserveIds(anyString(), anyInt());
+        verify(seedJdbcRepository, never()).insertSurfSpots(anyList());
+        verify(seedJdbcRepository, never()).saveHashes(anyString(), anyList());
+        verify(geographyCache, never()).evictAfterCommit();
+        verify(surfSpotListingCache, never()).evictAllAfterCommit();
+        verify(catalogVersionService, never()).bump();
+    }
+
+    @Test
+    void syncShouldAdoptExistingRowsInsteadOfInserting() {
+        when(seedJdbcRepository.findReferenceRows(anyString(), any()))
+                .thenAnswer(invocation -> "continent".equals(invocation.getArgument(0))
+                        ? List.of(new SeedJdbcRepository.ReferenceRow(7L, null, "Europe", false))
+                        : List.of());
+        when(seedJdbcRepository.reserveIds(anyString(), anyInt()))
+                .thenAnswer(invocation -> LongStream.rangeClosed(1, invocation.<Integer>getArgument(1))
+                        .map(id -> id + 1000)
+                        .boxed()
+                        .toList());
+
+        ReferenceDataSyncService.SyncReport report = service.sync(false);
+
+        ReferenceDataSyncService.EntityDiff continents = report.diff("continent");
+        assertEquals(List.of("europe"), continents.adopted());
+        assertFalse(continents.inserted().contains("europe"));
+        verify(seedJdbcRepository).updateContinents(anyList());
+        verify(seedJdbcRepository).saveHashes(eq("continent"), anyList());
+        verify(geographyCache).evictAfterCommit();
+        verify(surfSpotListingCache).evictAllAfterCommit();
+        verify(catalogVersionService).bump();
+    }
+
+    @Test
+    void syncShouldKeepRemovedSurfSpotsThatHaveUserData() {
+        when(seedJdbcRepository.findHashes(anyString())).thenReturn(Map.of());
+        when(seedJdbcRepository.findHashes("surf_spot"))
+                .thenReturn(Map.of("1|removed-spot", new StoredHash(42L, "abc")));
+        when(seedJdbcRepository.findSurfSpotIdsWithUserData(anyCollection())).thenReturn(Set.of(42L));
+
+        ReferenceDataSyncService.SyncReport report = service.sync(true);
+
+        ReferenceDataSyncService.EntityDiff surfSpots = report.diff("surf_spot");
+        assertEquals(List.of("1|removed-spot"), surfSpots.blocked());
+        assertTrue(surfSpots.deleted().isEmpty());
+        verify(seedJdbcRepository, never()).deleteByIds(anyString(), any());
+    }
+}
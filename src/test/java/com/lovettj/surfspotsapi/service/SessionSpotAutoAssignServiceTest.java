@@ -0,0 +1,111 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.lovettj.surfspotsapi.config.SessionSpotAutoAssignProperties;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.JobCursorRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository.UnassignedGpsSession;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSpotAutoAssignServiceTest {
+
+    private static final String JOB = SessionSpotAutoAssignService.JOB_NAME;
+
+    @Mock
+    private SurfSessionJdbcRepository surfSessionJdbcRepository;
+    @Mock
+    private JobCursorRepository jobCursorRepository;
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+    @Mock
+    private UserSpotMembershipCache userSpotMembershipCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SessionSpotAutoAssignProperties properties = new SessionSpotAutoAssignProperties();
+    private SessionSpotAutoAssignService sessionSpotAutoAssignService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(10);
+        sessionSpotAutoAssignService = new SessionSpotAutoAssignService(
+                surfSessionJdbcRepository,
+                jobCursorRepository,
+                new NearbySurfSpotResolver(new SurfSpotLocationIndex(surfSpotRepository)),
+                properties,
+                userSpotMembershipCache,
+                transactionManager);
+    }
+
+    @Test
+    void runShouldAssignClearNearestSpotsBatchByBatchAndResetTheCursorAtTheEnd() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                SurfSpotLocationIndexTest.coordinates(7L, "Bundoran Peak", 54.4783, -8.2779),
+                SurfSpotLocationIndexTest.coordinates(8L, "Mullaghmore", 54.4660, -8.4490),
+                // Two peaks 50 m apart: sessions there are ambiguous and stay unassigned.
+                SurfSpotLocationIndexTest.coordinates(9L, "Left", 38.9670, -9.4200),
+                SurfSpotLocationIndexTest.coordinates(10L, "Right", 38.9674, -9.4200)));
+        when(jobCursorRepository.lastId(JOB)).thenReturn(0L);
+        when(surfSessionJdbcRepository.findUnassignedGpsSessionsAfter(0L, 2)).thenReturn(List.of(
+                new UnassignedGpsSession(11, 54.4784, -8.2779),
+                new UnassignedGpsSession(12, 40.0, -30.0)));
+        when(surfSessionJdbcRepository.findUnassignedGpsSessionsAfter(12L, 2)).thenReturn(List.of(
+                new UnassignedGpsSession(15, 54.4661, -8.4490),
+                new UnassignedGpsSession(16, 38.9672, -9.4200)));
+        when(surfSessionJdbcRepository.findUnassignedGpsSessionsAfter(16L, 2)).thenReturn(List.of());
+        when(surfSessionJdbcRepository.assignSurfSpots(List.of(11L), List.of(7L))).thenReturn(1);
+        when(surfSessionJdbcRepository.assignSurfSpots(List.of(15L), List.of(8L))).thenReturn(1);
+
+        SessionSpotAutoAssignService.RunResult result = sessionSpotAutoAssignService.assignUnassignedSessions();
+
+        assertEquals(4, result.scannedCount());
+        assertEquals(2, result.assignedCount());
+        assertTrue(result.passCompleted());
+        InOrder cursor = inOrder(jobCursorRepository);
+        cursor.verify(jobCursorRepository).save(JOB, 12L);
+        cursor.verify(jobCursorRepository).save(JOB, 16L);
+        cursor.verify(jobCursorRepository).save(JOB, 0L);
+        verify(userSpotMembershipCache, times(2)).evictAll();
+    }
+
+    @Test
+    void runShouldStopAtTheBatchCapAndTheNextRunShouldResumeFromTheSavedCursor() {
+        properties.setMaxBatchesPerRun(1);
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                SurfSpotLocationIndexTest.coordinates(7L, "Bundoran Peak", 54.4783, -8.2779)));
+        when(jobCursorRepository.lastId(JOB)).thenReturn(40L);
+        when(surfSessionJdbcRepository.findUnassignedGpsSessionsAfter(40L, 2)).thenReturn(List.of(
+                new UnassignedGpsSession(41, 54.4784, -8.2779),
+                new UnassignedGpsSession(42, 54.4785, -8.2779)));
+        when(surfSessionJdbcRepository.assignSurfSpots(List.of(41L, 42L), List.of(7L, 7L))).thenReturn(2);
+
+        SessionSpotAutoAssignService.RunResult result = sessionSpotAutoAssignService.assignUnassignedSessions();
+
+        assertEquals(2, result.assignedCount());
+        assertFalse(result.passCompleted());
+        verify(jobCursorRepository).save(JOB, 42L);
+    }
+}
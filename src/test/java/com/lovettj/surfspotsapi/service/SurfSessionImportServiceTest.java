@@ -0,0 +1,222 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.dto.SurfSessionImportItemDTO;
+import com.lovettj.surfspotsapi.dto.SurfSessionImportResultDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.entity.User;
+import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.SessionImportOutcome;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository;
+import com.lovettj.surfspotsapi.repository.SurfSessionJdbcRepository.ExternalSessionKey;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfboardRepository;
+import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.requests.SurfSessionImportRequest;
+import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
+import com.lovettj.surfspotsapi.response.ApiErrors;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSessionImportServiceTest {
+
+    private static final String USER_ID = "user-1";
+    private static final Instant START = Instant.parse("2025-04-01T07:00:00Z");
+
+    @Mock
+    private SurfSessionJdbcRepository surfSessionJdbcRepository;
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+    @Mock
+    private SurfboardRepository surfboardRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+    @Mock
+    private UserSpotMembershipCache userSpotMembershipCache;
+
+    private SurfSessionImportService surfSessionImportService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        surfSessionImportService = new SurfSessionImportService(
+                surfSessionJdbcRepository,
+                surfSpotRepository,
+                surfboardRepository,
+                userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                userProfileStatsService,
+                userSpotMembershipCache);
+        user = User.builder().id(USER_ID).skillLevel(SkillLevel.INTERMEDIATE).build();
+    }
+
+    @Test
+    void importShouldStoreNewSessionsAndReportDuplicatesAndInvalidItemsPerItem() {
+        SurfSessionRequest fresh = garmin("g-1", 10L);
+        SurfSessionRequest alreadyImported = garmin("g-2", 10L);
+        SurfSessionRequest repeatedInBatch = garmin("g-1", 10L);
+        SurfSessionRequest noExternalId = garmin(null, 10L);
+        SurfSessionRequest unknownSpot = garmin("g-3", 99L);
+        SurfSessionRequest endBeforeStart = garmin("g-4", 10L);
+        endBeforeStart.setSessionEndInstant(START.minusSeconds(60));
+        stubLookups(Set.of(new ExternalSessionKey(ExternalSessionProvider.GARMIN, "g-2")));
+        when(surfSessionJdbcRepository.reserveSessionIds(1)).thenReturn(List.of(501L));
+        when(surfSessionJdbcRepository.insertSessionsIgnoringConflicts(anyList())).thenReturn(Set.of(501L));
+        when(surfSessionJdbcRepository.insertUserSurfSpotsIgnoringConflicts(USER_ID, Set.of(10L)))
+                .thenReturn(Set.of(10L));
+
+        SurfSessionImportResultDTO result = surfSessionImportService.importSessions(USER_ID, batch(
+                fresh, alreadyImported, repeatedInBatch, noExternalId, unknownSpot, endBeforeStart));
+
+        assertEquals(1, result.getCreatedCount());
+        assertEquals(2, result.getDuplicateCount());
+        assertEquals(3, result.getInvalidCount());
+        assertEquals(List.of(
+                        SessionImportOutcome.CREATED,
+                        SessionImportOutcome.DUPLICATE,
+                        SessionImportOutcome.DUPLICATE,
+                        SessionImportOutcome.INVALID,
+                        SessionImportOutcome.INVALID,
+                        SessionImportOutcome.INVALID),
+                result.getItems().stream().map(SurfSessionImportItemDTO::getOutcome).toList());
+        assertEquals(501L, result.getItems().get(0).getSessionId());
+        assertEquals(ApiErrors.SURF_SESSION_IMPORT_EXTERNAL_ID_REQUIRED, result.getItems().get(3).getMessage());
+        assertEquals(ApiErrors.SURF_SPOT_NOT_FOUND, result.getItems().get(4).getMessage());
+        assertEquals(ApiErrors.SESSION_END_BEFORE_START, result.getItems().get(5).getMessage());
+
+        verify(surfSessionJdbcRepository).insertSessionsIgnoringConflicts(argThat(rows -> rows.size() == 1
+                && rows.get(0).getId() == 501L
+                && rows.get(0).getDurationMinutes() == 90
+                && rows.get(0).getSkillLevel() == SkillLevel.INTERMEDIATE
+                && "g-1".equals(rows.get(0).getExternalSessionId())));
+        verify(userProfileStatsService).surfedSpotsAdded(USER_ID, Set.of(10L));
+        verify(userSpotMembershipCache).evict(USER_ID);
+    }
+
+    @Test
+    void sessionsThatLoseTheInsertToAConcurrentImportShouldBeDuplicates() {
+        stubLookups(Set.of());
+        when(surfSessionJdbcRepository.reserveSessionIds(2)).thenReturn(List.of(501L, 502L));
+        when(surfSessionJdbcRepository.insertSessionsIgnoringConflicts(anyList())).thenReturn(Set.of(502L));
+
+        SurfSessionImportResultDTO result =
+                surfSessionImportService.importSessions(USER_ID, batch(garmin("g-1", 10L), garmin("g-2", 10L)));
+
+        assertEquals(SessionImportOutcome.DUPLICATE, result.getItems().get(0).getOutcome());
+        assertNull(result.getItems().get(0).getSessionId());
+        assertEquals(SessionImportOutcome.CREATED, result.getItems().get(1).getOutcome());
+        assertEquals(502L, result.getItems().get(1).getSessionId());
+    }
+
+    @Test
+    void importShouldFillAnEmptyProfileSkillFromTheFirstSessionThatHasOne() {
+        user.setSkillLevel(null);
+        SurfSessionRequest withoutSkill = garmin("g-1", 10L);
+        SurfSessionRequest withSkill = garmin("g-2", 10L);
+        withSkill.setSkillLevel(SkillLevel.ADVANCED);
+        stubLookups(Set.of());
+        when(surfSessionJdbcRepository.reserveSessionIds(2)).thenReturn(List.of(501L, 502L));
+        when(surfSessionJdbcRepository.insertSessionsIgnoringConflicts(anyList())).thenReturn(Set.of(501L, 502L));
+
+        surfSessionImportService.importSessions(USER_ID, batch(withoutSkill, withSkill));
+
+        assertEquals(SkillLevel.ADVANCED, user.getSkillLevel());
+        verify(userRepository).save(user);
+        verify(surfSessionJdbcRepository).insertSessionsIgnoringConflicts(argThat(rows -> rows.stream()
+                .allMatch(row -> row.getSkillLevel() == SkillLevel.ADVANCED)));
+    }
+
+    @Test
+    void surfboardsOfOtherUsersShouldMakeTheItemInvalid() {
+        SurfSessionRequest item = garmin("g-1", 10L);
+        item.setSurfboardId("someone-elses-board");
+        stubLookups(Set.of());
+        when(surfboardRepository.findByUserIdAndIdIn(USER_ID, Set.of("someone-elses-board")))
+                .thenReturn(List.of());
+
+        SurfSessionImportResultDTO result = surfSessionImportService.importSessions(USER_ID, batch(item));
+
+        assertEquals(ApiErrors.SURFBOARD_NOT_FOUND_FOR_USER, result.getItems().get(0).getMessage());
+        verify(surfSessionJdbcRepository).insertUserSurfSpotsIgnoringConflicts(USER_ID, Set.of());
+    }
+
+    @Test
+    void emptyOrOversizedBatchShouldBeBadRequest() {
+        SurfSessionRequest[] tooMany = Collections.nCopies(SurfSessionImportService.MAX_BATCH_SIZE + 1,
+                garmin("g-1", 10L)).toArray(SurfSessionRequest[]::new);
+
+        ResponseStatusException empty = assertThrows(ResponseStatusException.class,
+                () -> surfSessionImportService.importSessions(USER_ID, batch()));
+        ResponseStatusException oversized = assertThrows(ResponseStatusException.class,
+                () -> surfSessionImportService.importSessions(USER_ID, batch(tooMany)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, empty.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, oversized.getStatusCode());
+        verify(surfSessionJdbcRepository, never()).insertSessionsIgnoringConflicts(any());
+    }
+
+    @Test
+    void unknownUserShouldBeNotFound() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> surfSessionImportService.importSessions(USER_ID, batch(garmin("g-1", 10L))));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+        verify(surfSessionJdbcRepository, never()).findExistingExternalSessions(eq(USER_ID), any());
+    }
+
+    private void stubLookups(Set<ExternalSessionKey> alreadyImported) {
+        SurfSpot spot = SurfSpot.builder().id(10L).name("Supertubos").ianaZoneId("Europe/Lisbon").build();
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(surfSessionJdbcRepository.findExistingExternalSessions(eq(USER_ID), any()))
+                .thenReturn(alreadyImported);
+        when(surfSpotRepository.findAllById(any())).thenReturn(List.of(spot));
+    }
+
+    private static SurfSessionImportRequest batch(SurfSessionRequest... items) {
+        SurfSessionImportRequest request = new SurfSessionImportRequest();
+        request.setSessions(List.of(items));
+        return request;
+    }
+
+    private static SurfSessionRequest garmin(String externalSessionId, Long surfSpotId) {
+        SurfSessionRequest request = new SurfSessionRequest();
+        request.setSurfSpotId(surfSpotId);
+        request.setSessionStartInstant(START);
+        request.setSessionEndInstant(START.plusSeconds(90 * 60));
+        if (externalSessionId != null) {
+            request.setExternalSessionProvider(ExternalSessionProvider.GARMIN);
+            request.setExternalSessionId(externalSessionId);
+        }
+        return request;
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -22,6 +23,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +50,7 @@ import com.lovettj.surfspotsapi.entity.SurfSpot;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.enums.CrowdLevel;
 import com.lovettj.surfspotsapi.enums.ExternalSessionProvider;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
 import com.lovettj.surfspotsapi.enums.SessionStatus;
 import com.lovettj.surfspotsapi.enums.SkillLevel;
 import com.lovettj.surfspotsapi.enums.Tide;
@@ -56,12 +59,15 @@ import com.lovettj.surfspotsapi.repository.SurfSessionMediaRepository;
 import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.SurfboardRepository;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository.StatCount;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.requests.EndLiveSurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.LinkSessionsToSpotRequest;
 import com.lovettj.surfspotsapi.requests.StartLiveSurfSessionRequest;
 import com.lovettj.surfspotsapi.requests.SurfSessionRequest;
 import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.service.UserProfileStatsService.SessionKeys;
+import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
 import com.lovettj.surfspotsapi.util.SqlExceptionInspection;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +89,10 @@ class SurfSessionServiceTest {
     private StorageService storageService;
     @Mock
     private SessionNotificationService sessionNotificationService;
+    @Mock
+    private MediaThumbnailService mediaThumbnailService;
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
 
     @InjectMocks
     private SurfSessionService surfSessionService;
@@ -573,9 +583,7 @@ class SurfSessionServiceTest {
 
         when(userRepository.existsById("u1")).thenReturn(true);
         when(surfSessionRepository.findAllForUserList("u1")).thenReturn(List.of(session));
-        when(surfSessionRepository.countAllByUserId("u1")).thenReturn(1L);
-        when(surfSessionRepository.countDistinctSurfSpotsByUserId("u1")).thenReturn(1L);
-        when(surfSessionRepository.countDistinctBoardsByUserId("u1")).thenReturn(0L);
+        when(userProfileStatsService.getStats("u1")).thenReturn(sessionStats(1, 1, 0));
 
         UserSurfSessionsDTO mine = surfSessionService.getSurfSessionsForUser("u1");
 
@@ -596,9 +604,7 @@ class SurfSessionServiceTest {
     void getSurfSessionsForUserShouldReturnAggregatedCountsWithSessionsList() {
         when(userRepository.existsById("u1")).thenReturn(true);
         when(surfSessionRepository.findAllForUserList("u1")).thenReturn(Collections.emptyList());
-        when(surfSessionRepository.countAllByUserId("u1")).thenReturn(7L);
-        when(surfSessionRepository.countDistinctSurfSpotsByUserId("u1")).thenReturn(3L);
-        when(surfSessionRepository.countDistinctBoardsByUserId("u1")).thenReturn(2L);
+        when(userProfileStatsService.getStats("u1")).thenReturn(sessionStats(7, 3, 2));
 
         UserSurfSessionsDTO mine = surfSessionService.getSurfSessionsForUser("u1");
 
@@ -612,9 +618,7 @@ class SurfSessionServiceTest {
     void getSurfSessionsForUserShouldReturnZerosWhenNoSessionsExist() {
         when(userRepository.existsById("u1")).thenReturn(true);
         when(surfSessionRepository.findAllForUserList("u1")).thenReturn(Collections.emptyList());
-        when(surfSessionRepository.countAllByUserId("u1")).thenReturn(0L);
-        when(surfSessionRepository.countDistinctSurfSpotsByUserId("u1")).thenReturn(0L);
-        when(surfSessionRepository.countDistinctBoardsByUserId("u1")).thenReturn(0L);
+        when(userProfileStatsService.getStats("u1")).thenReturn(sessionStats(0, 0, 0));
 
         UserSurfSessionsDTO mine = surfSessionService.getSurfSessionsForUser("u1");
 
@@ -640,9 +644,7 @@ class SurfSessionServiceTest {
 
         when(userRepository.existsById("u1")).thenReturn(true);
         when(surfSessionRepository.findAllForUserList("u1")).thenReturn(List.of(liveSession));
-        when(surfSessionRepository.countAllByUserId("u1")).thenReturn(1L);
-        when(surfSessionRepository.countDistinctSurfSpotsByUserId("u1")).thenReturn(0L);
-        when(surfSessionRepository.countDistinctBoardsByUserId("u1")).thenReturn(0L);
+        when(userProfileStatsService.getStats("u1")).thenReturn(sessionStats(1, 0, 0));
 
         UserSurfSessionsDTO mine = surfSessionService.getSurfSessionsForUser("u1");
 
@@ -940,6 +942,7 @@ class SurfSessionServiceTest {
 
         verify(storageService, never()).deleteObject(anyString());
         verify(surfSessionRepository).delete(session);
+        verify(userProfileStatsService).sessionChanged("u1", SessionKeys.of(session), null);
     }
 
     @Test
@@ -1236,70 +1239,49 @@ class SurfSessionServiceTest {
     }
 
     @Test
-    void linkSessionsToSpotShouldLinkNearbySessionsAndExplicitSession() {
-        SurfSpot newSpot = SurfSpot.builder().id(22L).ianaZoneId("UTC").build();
-        when(surfSpotRepository.findById(22L)).thenReturn(Optional.of(newSpot));
+    void linkSessionsToSpotShouldLinkNearbySessionsAndExplicitSessionInOneUpdate() {
+        when(surfSpotRepository.existsById(22L)).thenReturn(true);
+        when(surfSessionRepository.findUserIdById(41L)).thenReturn(Optional.of("u1"));
+        when(surfSessionRepository.linkUnassignedSessionsNear(
+                        "u1", 22L, 54.4783, -8.2779, CoordinateDistanceUtil.AT_SPOT_RADIUS_KM, 41L))
+                .thenReturn(2);
 
-        SurfSession nearbySession = SurfSession.builder()
-                .user(user)
-                .status(SessionStatus.COMPLETED)
-                .startLatitude(54.4783)
-                .startLongitude(-8.2779)
-                .build();
-        nearbySession.setId(40L);
+        LinkSessionsToSpotRequest linkRequest = new LinkSessionsToSpotRequest();
+        linkRequest.setSurfSpotId(22L);
+        linkRequest.setAnchorLatitude(54.4783);
+        linkRequest.setAnchorLongitude(-8.2779);
+        linkRequest.setSessionId(41L);
 
-        SurfSession explicitFarSession = SurfSession.builder()
-                .user(user)
-                .status(SessionStatus.COMPLETED)
-                .startLatitude(54.60)
-                .startLongitude(-8.40)
-                .build();
-        explicitFarSession.setId(41L);
+        var result = surfSessionService.linkSessionsToSpot("u1", linkRequest);
 
-        SurfSession distantSession = SurfSession.builder()
-                .user(user)
-                .status(SessionStatus.COMPLETED)
-                .startLatitude(55.0)
-                .startLongitude(-9.0)
-                .build();
-        distantSession.setId(42L);
+        assertEquals(2, result.getLinkedSessionCount());
+        verify(userSurfSpotService, times(1)).addUserSurfSpot("u1", 22L);
+        verify(userProfileStatsService).sessionsLinkedToSpot("u1", 22L, 2);
+        verify(surfSessionRepository, never()).save(any(SurfSession.class));
+    }
 
-        when(surfSessionRepository.findById(41L)).thenReturn(Optional.of(explicitFarSession));
-        when(surfSessionRepository.findById(40L)).thenReturn(Optional.of(nearbySession));
-        when(surfSessionRepository.findUnassignedWithStartLocationByUserIdExcludingInProgress(
-                        eq("u1"), eq(SessionStatus.IN_PROGRESS)))
-                .thenReturn(List.of(nearbySession, explicitFarSession, distantSession));
+    @Test
+    void linkSessionsToSpotShouldNotMarkTheSpotSurfedWhenNothingWasLinked() {
+        when(surfSpotRepository.existsById(22L)).thenReturn(true);
+        when(surfSessionRepository.linkUnassignedSessionsNear(
+                        "u1", 22L, 54.4783, -8.2779, CoordinateDistanceUtil.AT_SPOT_RADIUS_KM, null))
+                .thenReturn(0);
 
         LinkSessionsToSpotRequest linkRequest = new LinkSessionsToSpotRequest();
         linkRequest.setSurfSpotId(22L);
         linkRequest.setAnchorLatitude(54.4783);
         linkRequest.setAnchorLongitude(-8.2779);
-        linkRequest.setSessionId(41L);
 
         var result = surfSessionService.linkSessionsToSpot("u1", linkRequest);
 
-        assertEquals(2, result.getLinkedSessionCount());
-        assertEquals(newSpot, nearbySession.getSurfSpot());
-        assertEquals(newSpot, explicitFarSession.getSurfSpot());
-        assertNull(distantSession.getSurfSpot());
-        verify(userSurfSpotService, times(2)).addUserSurfSpot("u1", 22L);
-        verify(surfSessionRepository, times(2)).save(any(SurfSession.class));
+        assertEquals(0, result.getLinkedSessionCount());
+        verify(userSurfSpotService, never()).addUserSurfSpot(anyString(), any());
     }
 
     @Test
     void linkSessionsToSpotShouldRejectForeignExplicitSession() {
-        SurfSpot newSpot = SurfSpot.builder().id(22L).ianaZoneId("UTC").build();
-        when(surfSpotRepository.findById(22L)).thenReturn(Optional.of(newSpot));
-
-        User otherUser = User.builder().id("other").build();
-        SurfSession foreignSession = SurfSession.builder()
-                .user(otherUser)
-                .status(SessionStatus.COMPLETED)
-                .startLatitude(54.4783)
-                .startLongitude(-8.2779)
-                .build();
-        foreignSession.setId(50L);
-        when(surfSessionRepository.findById(50L)).thenReturn(Optional.of(foreignSession));
+        when(surfSpotRepository.existsById(22L)).thenReturn(true);
+        when(surfSessionRepository.findUserIdById(50L)).thenReturn(Optional.of("other"));
 
         LinkSessionsToSpotRequest linkRequest = new LinkSessionsToSpotRequest();
         linkRequest.setSurfSpotId(22L);
@@ -1312,6 +1294,35 @@ class SurfSessionServiceTest {
                 () -> surfSessionService.linkSessionsToSpot("u1", linkRequest));
 
         assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
-        verify(surfSessionRepository, never()).save(any());
+        verify(surfSessionRepository, never()).linkUnassignedSessionsNear(
+                anyString(), any(), anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    void linkSessionsToSpotShouldBeNotFoundForUnknownSpot() {
+        when(surfSpotRepository.existsById(22L)).thenReturn(false);
+
+        LinkSessionsToSpotRequest linkRequest = new LinkSessionsToSpotRequest();
+        linkRequest.setSurfSpotId(22L);
+        linkRequest.setAnchorLatitude(54.4783);
+        linkRequest.setAnchorLongitude(-8.2779);
+
+        ResponseStatusException exception = assertThrows(
+                ResponseStatusException.class,
+                () -> surfSessionService.linkSessionsToSpot("u1", linkRequest));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    private static UserProfileStats sessionStats(int sessionCount, int spotCount, int boardCount) {
+        List<StatCount> counts = new ArrayList<>();
+        counts.add(new StatCount(ProfileStat.SESSION, "", sessionCount));
+        for (int spot = 1; spot <= spotCount; spot++) {
+            counts.add(new StatCount(ProfileStat.SESSION_SPOT, String.valueOf(spot), 1));
+        }
+        for (int board = 1; board <= boardCount; board++) {
+            counts.add(new StatCount(ProfileStat.SESSION_BOARD, "board-" + board, 1));
+        }
+        return new UserProfileStats(counts);
     }
 }
@@ -0,0 +1,189 @@
+package com.lovettj.surfspotsapi.service;
+
+import static com.lovettj.surfspotsapi.service.SurfSpotLocationIndexTest.coordinates;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.config.SurfSpotClusterProperties;
+import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClusterDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotClustersDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSpotClusterServiceTest {
+
+    private static final List<SurfSpotStatus> OWN_UNLISTED = List.of(SurfSpotStatus.PRIVATE, SurfSpotStatus.PENDING);
+
+    @Mock
+    private SurfSpotService surfSpotService;
+
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+
+    private SurfSpotClusterService surfSpotClusterService;
+
+    @BeforeEach
+    void setUp() {
+        surfSpotClusterService = new SurfSpotClusterService(
+                surfSpotService,
+                surfSpotRepository,
+                new SurfSpotLocationIndex(surfSpotRepository),
+                new SurfSpotClusterProperties());
+    }
+
+    @Test
+    void worldViewShouldCountEverySpotOnceFromThePrecomputedGrid() {
+        Random random = new Random(7);
+        List<SpotCoordinates> spots = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            spots.add(coordinates(id, "Spot " + id, -60 + random.nextDouble() * 120, -180 + random.nextDouble() * 360));
+        }
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(spots);
+
+        for (int zoom = 0; zoom <= 9; zoom++) {
+            SurfSpotClustersDTO result = surfSpotClusterService.findClustersWithinBounds(world(), zoom);
+
+            assertTrue(result.isClustered());
+            assertNull(result.getSurfSpots());
+            assertEquals(3000, result.getClusters().stream().mapToInt(SurfSpotClusterDTO::getCount).sum());
+            assertTrue(result.getClusters().size() <= 1 << (2 * (zoom + SurfSpotClusterService.CELLS_PER_TILE_SHIFT)));
+        }
+        verify(surfSpotRepository, never()).findWithinBoundsWithFilters(any());
+    }
+
+    @Test
+    void nearbySpotsShouldShareACellAtLowZoomAndSplitWhenZoomedIn() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                coordinates(1L, "Supertubos", 39.345, -9.363),
+                coordinates(2L, "Nazare", 39.605, -9.080),
+                coordinates(3L, "Ribeira d'Ilhas", 38.988, -9.420)));
+
+        SurfSpotClustersDTO zoomedOut = surfSpotClusterService.findClustersWithinBounds(world(), 3);
+        SurfSpotClustersDTO zoomedIn = surfSpotClusterService.findClustersWithinBounds(world(), 9);
+
+        assertEquals(1, zoomedOut.getClusters().size());
+        SurfSpotClusterDTO cluster = zoomedOut.getClusters().get(0);
+        assertEquals(3, cluster.getCount());
+        assertEquals((39.345 + 39.605 + 38.988) / 3, cluster.getLatitude(), 1e-9);
+        assertEquals("Supertubos", cluster.getRepresentative().getName());
+        assertEquals(3, zoomedIn.getClusters().size());
+    }
+
+    @Test
+    void clustersShouldOnlyIncludeCellsCentredInsideTheBounds() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                coordinates(1L, "Pipeline", 21.665, -158.053),
+                coordinates(2L, "Uluwatu", -8.815, 115.088)));
+
+        SurfSpotClustersDTO result = surfSpotClusterService.findClustersWithinBounds(bounds(-20, 0, 100, 130), 2);
+
+        assertEquals(1, result.getClusters().size());
+        assertEquals(2L, result.getClusters().get(0).getRepresentative().getId());
+    }
+
+    @Test
+    void signedInUserShouldAlsoSeeTheirOwnPrivateSpots() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                coordinates(1L, "Supertubos", 39.345, -9.363)));
+        when(surfSpotRepository.findCoordinatesByCreatedByAndStatusIn("user-1", OWN_UNLISTED)).thenReturn(List.of(
+                coordinates(2L, "Secret Reef", 39.35, -9.36),
+                coordinates(3L, "Secret Slab", -33.9, 18.4)));
+        SurfSpotBoundsFilterDTO filters = world();
+        filters.setUserId("user-1");
+
+        SurfSpotClustersDTO result = surfSpotClusterService.findClustersWithinBounds(filters, 2);
+
+        assertEquals(2, result.getClusters().size());
+        assertEquals(3, result.getClusters().stream().mapToInt(SurfSpotClusterDTO::getCount).sum());
+    }
+
+    @Test
+    void filteredRequestShouldClusterTheFilteredQueryResult() {
+        SurfSpotBoundsFilterDTO filters = world();
+        filters.setType(List.of(SurfSpotType.REEF_BREAK));
+        List<SurfSpot> reefs = List.of(
+                surfSpot(1L, "Pipeline", 21.665, -158.053),
+                surfSpot(2L, "Teahupoo", -17.86, -149.26));
+        when(surfSpotRepository.findWithinBoundsWithFilters(filters)).thenReturn(reefs);
+        when(surfSpotService.filterBySeason(reefs, filters)).thenReturn(reefs);
+
+        SurfSpotClustersDTO result = surfSpotClusterService.findClustersWithinBounds(filters, 4);
+
+        assertEquals(2, result.getClusters().size());
+        verify(surfSpotRepository, never()).findCoordinatesByStatus(any());
+    }
+
+    @Test
+    void zoomAboveThresholdShouldReturnIndividualSpots() {
+        SurfSpotBoundsFilterDTO filters = bounds(21.2, 21.7, -158.1, -157.7);
+        List<SurfSpotDTO> spots = List.of(SurfSpotDTO.builder().id(1L).name("Pipeline").build());
+        when(surfSpotService.findSurfSpotsWithinBoundsWithFilters(any(BoundingBox.class), eq(filters))).thenReturn(spots);
+
+        SurfSpotClustersDTO result = surfSpotClusterService.findClustersWithinBounds(filters, 12);
+
+        assertFalse(result.isClustered());
+        assertNull(result.getClusters());
+        assertEquals(spots, result.getSurfSpots());
+    }
+
+    @Test
+    void invalidZoomOrBoundsShouldBeBadRequest() {
+        ResponseStatusException badZoom = assertThrows(ResponseStatusException.class,
+                () -> surfSpotClusterService.findClustersWithinBounds(world(), 23));
+        ResponseStatusException missingBounds = assertThrows(ResponseStatusException.class,
+                () -> surfSpotClusterService.findClustersWithinBounds(new SurfSpotBoundsFilterDTO(), 3));
+
+        assertEquals(HttpStatus.BAD_REQUEST, badZoom.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, missingBounds.getStatusCode());
+    }
+
+    private static SurfSpotBoundsFilterDTO world() {
+        return bounds(-90, 90, -180, 180);
+    }
+
+    private static SurfSpotBoundsFilterDTO bounds(
+            double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        SurfSpotBoundsFilterDTO filters = new SurfSpotBoundsFilterDTO();
+        filters.setMinLatitude(minLatitude);
+        filters.setMaxLatitude(maxLatitude);
+        filters.setMinLongitude(minLongitude);
+        filters.setMaxLongitude(maxLongitude);
+        return filters;
+    }
+
+    private static SurfSpot surfSpot(Long id, String name, double latitude, double longitude) {
+        SurfSpot surfSpot = new SurfSpot();
+        surfSpot.setId(id);
+        surfSpot.setName(name);
+        surfSpot.setLatitude(latitude);
+        surfSpot.setLongitude(longitude);
+        return surfSpot;
+    }
+}
@@ -0,0 +1,136 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.config.SurfSpotListingProperties;
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSpotListingCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SurfSpotListingCache surfSpotListingCache;
+
+    @BeforeEach
+    void setUp() {
+        surfSpotListingCache = new SurfSpotListingCache(
+                new SurfSpotListingProperties(), MAPPER, transactionManager, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getShouldLoadOnceAndHandOutCopies() throws Exception {
+        CountingLoader loader = new CountingLoader(1L, spot(10L, "Anchor Point"), spot(11L, "Panoramas"));
+        SurfSpotListingCache.Key key = SurfSpotListingCache.Key.region(1L);
+
+        SurfSpotListingCache.Listing first = surfSpotListingCache.get(key, loader);
+        first.surfSpots(surfSpot -> true).get(0).setName("Changed by a caller");
+        SurfSpotListingCache.Listing second = surfSpotListingCache.get(key, loader);
+
+        assertEquals(1, loader.loads.get());
+        assertEquals("Anchor Point", second.surfSpots(surfSpot -> true).get(0).getName());
+        JsonNode json = MAPPER.readTree(second.json(false));
+        assertEquals(List.of("Anchor Point", "Panoramas"), List.of(json.get(0).get("name").asText(), json.get(1).get("name").asText()));
+        assertTrue(new String(second.json(true), StandardCharsets.UTF_8).startsWith("{\"surfSpots\":"));
+        assertTrue(second.etag(false).startsWith("W/\""));
+        assertNotEquals(second.etag(false), second.etag(true));
+    }
+
+    @Test
+    void evictAfterCommitShouldDropTheSpotsRegionAndListingsHoldingTheSpot() {
+        CountingLoader firstRegion = new CountingLoader(1L, spot(10L, "Anchor Point"));
+        CountingLoader secondRegion = new CountingLoader(2L, spot(20L, "Imsouane"));
+        CountingLoader otherSubRegion = new CountingLoader(3L, spot(30L, "Safi"));
+        loadAll(firstRegion, secondRegion, otherSubRegion);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Spot 20 moved from the second region into the first.
+        SurfSpot moved = SurfSpot.builder().id(20L).region(Region.builder().id(1L).build()).build();
+        surfSpotListingCache.evictAfterCommit(moved);
+        loadAll(firstRegion, secondRegion, otherSubRegion);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        loadAll(firstRegion, secondRegion, otherSubRegion);
+
+        assertEquals(2, firstRegion.loads.get());
+        assertEquals(2, secondRegion.loads.get());
+        assertEquals(1, otherSubRegion.loads.get());
+    }
+
+    @Test
+    void getShouldNotCacheAListingLoadedWhileAnEvictionRan() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<SurfSpotListingCache.Contents> loader = () -> {
+            loads.incrementAndGet();
+            surfSpotListingCache.evictAllAfterCommit();
+            return new SurfSpotListingCache.Contents(1L, List.of(spot(10L, "Anchor Point")));
+        };
+        SurfSpotListingCache.Key key = SurfSpotListingCache.Key.subRegion("taghazout-bay");
+
+        surfSpotListingCache.get(key, loader);
+        surfSpotListingCache.get(key, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    private void loadAll(CountingLoader firstRegion, CountingLoader secondRegion, CountingLoader otherSubRegion) {
+        surfSpotListingCache.get(SurfSpotListingCache.Key.region(1L), firstRegion);
+        surfSpotListingCache.get(SurfSpotListingCache.Key.region(2L), secondRegion);
+        surfSpotListingCache.get(SurfSpotListingCache.Key.subRegion("safi"), otherSubRegion);
+    }
+
+    private static SurfSpotDTO spot(Long id, String name) {
+        return SurfSpotDTO.builder().id(id).name(name).hazards(List.of()).build();
+    }
+
+    private static final class CountingLoader implements Supplier<SurfSpotListingCache.Contents> {
+
+        private final Long regionId;
+        private final List<SurfSpotDTO> surfSpots;
+        private final AtomicInteger loads = new AtomicInteger();
+
+        CountingLoader(Long regionId, SurfSpotDTO... surfSpots) {
+            this.regionId = regionId;
+            this.surfSpots = List.of(surfSpots);
+        }
+
+        @Override
+        public SurfSpotListingCache.Contents get() {
+            loads.incrementAndGet();
+            return new SurfSpotListingCache.Contents(regionId, surfSpots);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+import com.lovettj.surfspotsapi.enums.SkillLevel;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
+import com.lovettj.surfspotsapi.enums.Tide;
+import com.lovettj.surfspotsapi.enums.WaveDirection;
+
+class SurfSpotListingFilterTest {
+
+    private static final List<SurfSpotDTO> SURF_SPOTS = List.of(
+            SurfSpotDTO.builder().id(1L).name("Anchor Point").type(SurfSpotType.REEF_BREAK)
+                    .skillLevel(SkillLevel.INTERMEDIATE_ADVANCED).tide(Tide.LOW_MID).waveDirection(WaveDirection.RIGHT)
+                    .swellDirection("NW-W").isWslTourStop(false).isOnWslTourThisSeason(true)
+                    .swellSeason(season("October", "March")).build(),
+            SurfSpotDTO.builder().id(2L).name("Panoramas").type(SurfSpotType.BEACH_BREAK)
+                    .skillLevel(SkillLevel.ALL_LEVELS).tide(Tide.ANY).waveDirection(WaveDirection.LEFT_AND_RIGHT)
+                    .swellDirection(null).isWslTourStop(false).isOnWslTourThisSeason(false)
+                    .swellSeason(season("May", "August")).build(),
+            SurfSpotDTO.builder().id(3L).name("Killer Point").type(SurfSpotType.POINT_BREAK)
+                    .skillLevel(SkillLevel.ADVANCED).tide(Tide.MID).waveDirection(WaveDirection.LEFT)
+                    .swellDirection("N").isWslTourStop(true).isOnWslTourThisSeason(false).build());
+
+    @Test
+    void ofShouldMatchEverythingWithoutFilters() {
+        assertEquals(List.of(1L, 2L, 3L), matchingIds(new SurfSpotFilterDTO()));
+    }
+
+    @Test
+    void ofShouldExpandSkillLevelTideAndWaveDirectionLikeTheQuery() {
+        SurfSpotFilterDTO intermediate = new SurfSpotFilterDTO();
+        intermediate.setSkillLevel(List.of(SkillLevel.INTERMEDIATE));
+        SurfSpotFilterDTO lowTide = new SurfSpotFilterDTO();
+        lowTide.setTide(List.of(Tide.LOW));
+        SurfSpotFilterDTO lefts = new SurfSpotFilterDTO();
+        lefts.setWaveDirection(List.of(WaveDirection.LEFT));
+
+        assertEquals(List.of(1L, 2L), matchingIds(intermediate));
+        assertEquals(List.of(1L, 2L), matchingIds(lowTide));
+        assertEquals(List.of(2L, 3L), matchingIds(lefts));
+    }
+
+    @Test
+    void ofShouldCombineFiltersAndMatchDirectionsSeasonsAndTourStops() {
+        SurfSpotFilterDTO westSwellReefs = new SurfSpotFilterDTO();
+        westSwellReefs.setType(List.of(SurfSpotType.REEF_BREAK, SurfSpotType.POINT_BREAK));
+        westSwellReefs.setSwellDirection(List.of("w"));
+        SurfSpotFilterDTO january = new SurfSpotFilterDTO();
+        january.setSeasons(List.of("January"));
+        SurfSpotFilterDTO tourStops = new SurfSpotFilterDTO();
+        tourStops.setIsWslTourStop(false);
+
+        assertEquals(List.of(1L), matchingIds(westSwellReefs));
+        assertEquals(List.of(1L), matchingIds(january));
+        // Stops this season and historical stops, whatever value the filter carries.
+        assertEquals(List.of(1L, 3L), matchingIds(tourStops));
+    }
+
+    @Test
+    void supportsShouldLeaveAmenityAndHazardFiltersToTheQuery() {
+        SurfSpotFilterDTO hazards = new SurfSpotFilterDTO();
+        hazards.setHazards(List.of("Rocks"));
+        SurfSpotFilterDTO types = new SurfSpotFilterDTO();
+        types.setType(List.of(SurfSpotType.REEF_BREAK));
+
+        assertFalse(SurfSpotListingFilter.supports(hazards));
+        assertTrue(SurfSpotListingFilter.supports(types));
+    }
+
+    private static List<Long> matchingIds(SurfSpotFilterDTO filters) {
+        Predicate<SurfSpotDTO> filter = SurfSpotListingFilter.of(filters);
+        return SURF_SPOTS.stream().filter(filter).map(SurfSpotDTO::getId).toList();
+    }
+
+    private static SwellSeason season(String startMonth, String endMonth) {
+        SwellSeason swellSeason = new SwellSeason();
+        swellSeason.setStartMonth(startMonth);
+        swellSeason.setEndMonth(endMonth);
+        return swellSeason;
+    }
+}
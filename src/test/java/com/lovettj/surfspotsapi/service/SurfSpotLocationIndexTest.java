@@ -0,0 +1,134 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotCoordinates;
+import com.lovettj.surfspotsapi.service.SurfSpotLocationIndex.NearbySpot;
+import com.lovettj.surfspotsapi.util.CoordinateDistanceUtil;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSpotLocationIndexTest {
+
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+
+    private SurfSpotLocationIndex surfSpotLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        surfSpotLocationIndex = new SurfSpotLocationIndex(surfSpotRepository);
+    }
+
+    @Test
+    void nearestShouldMatchBruteForceOrdering() {
+        Random random = new Random(42);
+        List<SpotCoordinates> spots = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            double latitude = -60 + random.nextDouble() * 120;
+            double longitude = -180 + random.nextDouble() * 360;
+            spots.add(coordinates(id, "Spot " + id, latitude, longitude));
+        }
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(spots);
+
+        for (int query = 0; query < 200; query++) {
+            double latitude = -60 + random.nextDouble() * 120;
+            double longitude = -180 + random.nextDouble() * 360;
+
+            List<Long> expected = spots.stream()
+                    .filter(spot -> distance(latitude, longitude, spot) <= 800)
+                    .sorted(Comparator.comparingDouble(spot -> distance(latitude, longitude, spot)))
+                    .limit(5)
+                    .map(SpotCoordinates::getId)
+                    .toList();
+            List<Long> actual = surfSpotLocationIndex.nearest(latitude, longitude, 5, 800).stream()
+                    .map(NearbySpot::id)
+                    .toList();
+
+            assertEquals(expected, actual);
+        }
+        verify(surfSpotRepository, times(1)).findCoordinatesByStatus(SurfSpotStatus.APPROVED);
+    }
+
+    @Test
+    void nearestShouldFindSpotsAcrossTheAntimeridian() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                coordinates(1L, "West Fiji", -17.0, 179.99),
+                coordinates(2L, "Far Away", -17.0, 170.0)));
+
+        List<NearbySpot> nearby = surfSpotLocationIndex.nearest(-17.0, -179.99, 5, 50);
+
+        assertEquals(1, nearby.size());
+        assertEquals("West Fiji", nearby.get(0).name());
+        assertTrue(nearby.get(0).distanceKm() < 5);
+    }
+
+    @Test
+    void nearestShouldSkipSpotsWithoutUsableNames() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                coordinates(1L, "  ", 54.5, -8.2),
+                coordinates(2L, " Bundoran ", 54.501, -8.2)));
+
+        List<NearbySpot> nearby = surfSpotLocationIndex.nearest(54.5, -8.2, 5, 10);
+
+        assertEquals(1, nearby.size());
+        assertEquals("Bundoran", nearby.get(0).name());
+    }
+
+    @Test
+    void invalidateShouldRebuildOnNextQuery() {
+        when(surfSpotRepository.findCoordinatesByStatus(SurfSpotStatus.APPROVED))
+                .thenReturn(List.of())
+                .thenReturn(List.of(coordinates(1L, "New Peak", 54.5, -8.2)));
+
+        assertTrue(surfSpotLocationIndex.nearest(54.5, -8.2, 5, 10).isEmpty());
+        surfSpotLocationIndex.invalidateAfterCommit();
+
+        assertEquals(1, surfSpotLocationIndex.nearest(54.5, -8.2, 5, 10).size());
+        verify(surfSpotRepository, times(2)).findCoordinatesByStatus(SurfSpotStatus.APPROVED);
+    }
+
+    static SpotCoordinates coordinates(Long id, String name, Double latitude, Double longitude) {
+        return new SpotCoordinates() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+    private static double distance(double latitude, double longitude, SpotCoordinates spot) {
+        return CoordinateDistanceUtil.distanceKm(latitude, longitude, spot.getLatitude(), spot.getLongitude());
+    }
+}
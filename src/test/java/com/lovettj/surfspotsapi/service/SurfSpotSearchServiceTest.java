@@ -0,0 +1,271 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.dto.SurfSpotSearchResultDTO;
+import com.lovettj.surfspotsapi.entity.Continent;
+import com.lovettj.surfspotsapi.entity.Country;
+import com.lovettj.surfspotsapi.entity.Region;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.repository.SurfSessionRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotCount;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository.SpotSearchRow;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSpotSearchServiceTest {
+
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+
+    @Mock
+    private WatchListRepository watchListRepository;
+
+    @Mock
+    private SurfSessionRepository surfSessionRepository;
+
+    private SurfSpotSearchService surfSpotSearchService;
+
+    @BeforeEach
+    void setUp() {
+        surfSpotSearchService = new SurfSpotSearchService(
+                surfSpotRepository, watchListRepository, surfSessionRepository);
+    }
+
+    @Test
+    void searchShouldMatchNamePrefixesAndBuildDetailPaths() {
+        stubCatalog(List.of(
+                row(1L, "Supertubos", "Peniche", "Portugal", "Hollow beach break south of Peniche."),
+                row(2L, "Super Bank", "Gold Coast", "Australia", null),
+                row(3L, "Nazaré", "Leiria", "Portugal", "Big-wave canyon break.")));
+
+        List<SurfSpotSearchResultDTO> results = surfSpotSearchService.search("supert", 10);
+
+        assertEquals("Supertubos", results.get(0).getName());
+        assertEquals("/surf-spots/europe/portugal/peniche/supertubos", results.get(0).getPath());
+        assertEquals("Peniche", results.get(0).getRegion());
+        assertEquals("Portugal", results.get(0).getCountry());
+    }
+
+    @Test
+    void searchShouldIgnoreAccentsAndTolerateTypos() {
+        stubCatalog(List.of(
+                row(1L, "Nazaré", "Leiria", "Portugal", null),
+                row(2L, "Uluwatu", "Bali", "Indonesia", null)));
+
+        assertEquals("Nazaré", surfSpotSearchService.search("nazare", 10).get(0).getName());
+        assertEquals("Uluwatu", surfSpotSearchService.search("ulawatu", 10).get(0).getName());
+    }
+
+    @Test
+    void everyTermShouldMatchAndNameMatchesShouldOutrankDescriptionMatches() {
+        stubCatalog(List.of(
+                row(1L, "Coxos", "Ericeira", "Portugal", "Right-hand point north of Ericeira."),
+                row(2L, "Ribeira d'Ilhas", "Ericeira", "Portugal", "Contest right-hander."),
+                row(3L, "Ericeira Reef", "Mafra", "Portugal", null),
+                row(4L, "Mundaka", "Basque Country", "Spain", "Left-hand river mouth.")));
+
+        List<SurfSpotSearchResultDTO> ericeira = surfSpotSearchService.search("ericeira", 10);
+        List<SurfSpotSearchResultDTO> ericeiraPortugal = surfSpotSearchService.search("ericeira portugal", 10);
+        List<SurfSpotSearchResultDTO> ericeiraSpain = surfSpotSearchService.search("ericeira spain", 10);
+
+        assertEquals("Ericeira Reef", ericeira.get(0).getName());
+        assertEquals(3, ericeira.size());
+        assertEquals(3, ericeiraPortugal.size());
+        assertTrue(ericeiraSpain.isEmpty());
+    }
+
+    @Test
+    void popularityShouldBreakTiesBetweenEquallyGoodMatches() {
+        when(surfSpotRepository.findSearchRowsByStatus(SurfSpotStatus.APPROVED)).thenReturn(List.of(
+                row(1L, "Rocky Point", "North Shore", "United States", null),
+                row(2L, "Rocky Point", "Cabo", "Mexico", null)));
+        when(watchListRepository.countBySurfSpot()).thenReturn(List.of(count(2L, 40)));
+        when(surfSessionRepository.countBySurfSpot()).thenReturn(List.of(count(2L, 25), count(1L, 3)));
+
+        List<SurfSpotSearchResultDTO> results = surfSpotSearchService.search("rocky point", 10);
+
+        assertEquals(List.of(2L, 1L), results.stream().map(SurfSpotSearchResultDTO::getId).toList());
+    }
+
+    @Test
+    void spotWritesShouldUpdateTheBuiltIndexWithoutRebuilding() {
+        stubCatalog(List.of(row(1L, "Supertubos", "Peniche", "Portugal", null)));
+        assertEquals(1, surfSpotSearchService.search("supertubos", 10).size());
+
+        SurfSpot renamed = surfSpot(1L, "Supertubos Left", SurfSpotStatus.APPROVED);
+        SurfSpot created = surfSpot(2L, "Molhe Leste", SurfSpotStatus.APPROVED);
+        SurfSpot pending = surfSpot(3L, "Molhe Oeste", SurfSpotStatus.PENDING);
+        surfSpotSearchService.indexAfterCommit(renamed);
+        surfSpotSearchService.indexAfterCommit(created);
+        surfSpotSearchService.indexAfterCommit(pending);
+
+        assertEquals("Supertubos Left", surfSpotSearchService.search("supertubos", 10).get(0).getName());
+        assertEquals(List.of("Molhe Leste"),
+                surfSpotSearchService.search("molhe", 10).stream().map(SurfSpotSearchResultDTO::getName).toList());
+
+        surfSpotSearchService.removeAfterCommit(1L);
+
+        assertTrue(surfSpotSearchService.search("supertubos", 10).isEmpty());
+        verify(surfSpotRepository, times(1)).findSearchRowsByStatus(SurfSpotStatus.APPROVED);
+    }
+
+    @Test
+    void invalidateShouldRebuildOnTheNextSearch() {
+        stubCatalog(List.of(row(1L, "Supertubos", "Peniche", "Portugal", null)));
+        surfSpotSearchService.search("supertubos", 10);
+
+        surfSpotSearchService.invalidateAfterCommit();
+        surfSpotSearchService.search("supertubos", 10);
+
+        verify(surfSpotRepository, times(2)).findSearchRowsByStatus(SurfSpotStatus.APPROVED);
+    }
+
+    @Test
+    void blankQueryShouldMatchNothingAndBadInputShouldBeBadRequest() {
+        assertTrue(surfSpotSearchService.search("  ", 10).isEmpty());
+        ResponseStatusException tooLong = assertThrows(ResponseStatusException.class,
+                () -> surfSpotSearchService.search("a".repeat(SurfSpotSearchService.MAX_QUERY_LENGTH + 1), 10));
+        ResponseStatusException badLimit = assertThrows(ResponseStatusException.class,
+                () -> surfSpotSearchService.search("pipe", SurfSpotSearchService.MAX_LIMIT + 1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, tooLong.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, badLimit.getStatusCode());
+        verify(surfSpotRepository, never()).findSearchRowsByStatus(SurfSpotStatus.APPROVED);
+    }
+
+    private void stubCatalog(List<SpotSearchRow> rows) {
+        when(surfSpotRepository.findSearchRowsByStatus(SurfSpotStatus.APPROVED)).thenReturn(rows);
+        when(watchListRepository.countBySurfSpot()).thenReturn(List.of());
+        when(surfSessionRepository.countBySurfSpot()).thenReturn(List.of());
+    }
+
+    private static SurfSpot surfSpot(Long id, String name, SurfSpotStatus status) {
+        Continent continent = new Continent();
+        continent.setSlug("europe");
+        Country country = new Country();
+        country.setName("Portugal");
+        country.setSlug("portugal");
+        country.setContinent(continent);
+        Region region = new Region();
+        region.setName("Peniche");
+        region.setSlug("peniche");
+        region.setCountry(country);
+        SurfSpot surfSpot = new SurfSpot();
+        surfSpot.setId(id);
+        surfSpot.setName(name);
+        surfSpot.setSlug(slug(name));
+        surfSpot.setStatus(status);
+        surfSpot.setRegion(region);
+        return surfSpot;
+    }
+
+    private static SurfSpotCount count(Long surfSpotId, long count) {
+        return new SurfSpotCount() {
+            @Override
+            public Long getSurfSpotId() {
+                return surfSpotId;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static SpotSearchRow row(Long id, String name, String region, String country, String description) {
+        return new Row(id, name, region, country, description);
+    }
+
+    private static String slug(String name) {
+        return name.toLowerCase().replaceAll("[^a-z0-9]+", "-");
+    }
+
+    private record Row(Long id, String name, String region, String country, String description)
+            implements SpotSearchRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getSlug() {
+            return slug(name);
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public Double getLatitude() {
+            return 39.0;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return -9.0;
+        }
+
+        @Override
+        public String getRegionName() {
+            return region;
+        }
+
+        @Override
+        public String getRegionSlug() {
+            return slug(region);
+        }
+
+        @Override
+        public String getSubRegionName() {
+            return null;
+        }
+
+        @Override
+        public String getSubRegionSlug() {
+            return null;
+        }
+
+        @Override
+        public String getCountryName() {
+            return country;
+        }
+
+        @Override
+        public String getCountrySlug() {
+            return slug(country);
+        }
+
+        @Override
+        public String getContinentSlug() {
+            return "europe";
+        }
+    }
+}
@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.config.SurfSpotListingProperties;
 import com.lovettj.surfspotsapi.dto.SurfSpotDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
 import com.lovettj.surfspotsapi.dto.SurfSpotBoundsFilterDTO;
@@ -18,6 +20,7 @@ import com.lovettj.surfspotsapi.enums.EventType;
 import com.lovettj.surfspotsapi.requests.BoundingBox;
 import com.lovettj.surfspotsapi.enums.CrowdLevel;
 import com.lovettj.surfspotsapi.enums.SurfSpotStatus;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
 import com.lovettj.surfspotsapi.requests.SurfSpotRequest;
 import com.lovettj.surfspotsapi.entity.SluggableEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +29,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.persistence.EntityNotFoundException;
 
 import java.util.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class SurfSpotServiceTests {
 
@@ -59,6 +65,24 @@ class SurfSpotServiceTests {
     @Mock
     private NewSurfSpotEmailService newSurfSpotEmailService;
 
+    @Mock
+    private SurfSpotLocationIndex surfSpotLocationIndex;
+
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    @Mock
+    private SurfSpotTileCache surfSpotTileCache;
+
+    @Mock
+    private SurfSpotSearchService surfSpotSearchService;
+
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private SurfSpotService surfSpotService;
 
     private String testUserId;
@@ -73,7 +97,17 @@ class SurfSpotServiceTests {
                 watchListService,
                 swellSeasonDeterminationService,
                 surfEventRepository,
-                newSurfSpotEmailService);
+                newSurfSpotEmailService,
+                surfSpotLocationIndex,
+                catalogVersionService,
+                surfSpotTileCache,
+                surfSpotSearchService,
+                userProfileStatsService,
+                new SurfSpotListingCache(
+                        new SurfSpotListingProperties(),
+                        new ObjectMapper(),
+                        transactionManager,
+                        new SimpleMeterRegistry()));
         lenient()
                 .when(surfEventRepository.findLinkedSurfSpotIdsForSeasonYearExcludingStatuses(
                         eq(EventType.CONTEST), anyInt(), any()))
@@ -605,6 +639,9 @@ class SurfSpotServiceTests {
         assertNotNull(result.getSwellSeason());
         assertEquals("Mediterranean", result.getSwellSeason().getName());
         verify(swellSeasonDeterminationService).determineSwellSeason(36.7213, -4.4214);
+        verify(surfSpotTileCache).evictAfterCommit(36.5270, -6.2886);
+        verify(surfSpotTileCache).evictAfterCommit(36.7213, -4.4214);
+        verify(surfSpotSearchService).indexAfterCommit(result);
     }
 
     @Test
@@ -630,6 +667,8 @@ class SurfSpotServiceTests {
 
         verify(surfSpotRepository).findById(surfSpotId);
         verify(surfSpotRepository).deleteById(surfSpotId);
+        verify(surfSpotTileCache).evictAfterCommit(spot.getLatitude(), spot.getLongitude());
+        verify(surfSpotSearchService).removeAfterCommit(surfSpotId);
     }
 
     @Test
@@ -841,6 +880,48 @@ class SurfSpotServiceTests {
         verify(watchListService, never()).isWatched(any(), any());
     }
 
+    @Test
+    void testFindSurfSpotsByRegionIdWithFiltersShouldFilterAnonymousRequestsFromTheRegionListing() {
+        Region region = createMockRegion();
+        region.getCountry().setId(7L);
+        region.getCountry().getContinent().setId(3L);
+        SurfSpot reef = SurfSpot.builder()
+                .id(1L).name("Anchor Point").region(region).type(SurfSpotType.REEF_BREAK).build();
+        reef.generateSlug();
+        SurfSpot beach = SurfSpot.builder()
+                .id(2L).name("Panoramas").region(region).type(SurfSpotType.BEACH_BREAK).build();
+        beach.generateSlug();
+        when(regionRepository.findById(1L)).thenReturn(Optional.of(region));
+        when(surfSpotRepository.findByRegionWithFilters(eq(region), any(SurfSpotFilterDTO.class)))
+                .thenReturn(List.of(reef, beach));
+        SurfSpotFilterDTO reefsOnly = new SurfSpotFilterDTO();
+        reefsOnly.setType(List.of(SurfSpotType.REEF_BREAK));
+
+        List<SurfSpotDTO> unfiltered = surfSpotService.findSurfSpotsByRegionIdWithFilters(1L, new SurfSpotFilterDTO());
+        List<SurfSpotDTO> reefs = surfSpotService.findSurfSpotsByRegionIdWithFilters(1L, reefsOnly);
+
+        assertEquals(List.of("Anchor Point", "Panoramas"), unfiltered.stream().map(SurfSpotDTO::getName).toList());
+        assertEquals(List.of("Anchor Point"), reefs.stream().map(SurfSpotDTO::getName).toList());
+        // Both come from one unfiltered load; the type filter never reached the query.
+        verify(surfSpotRepository, times(1)).findByRegionWithFilters(eq(region), any(SurfSpotFilterDTO.class));
+        verify(userSurfSpotService, never()).findSurfedSpotIdsIn(any(), any());
+    }
+
+    @Test
+    void testFindSurfSpotsByRegionIdWithFiltersShouldQueryForSignedInUsers() {
+        Region region = createMockRegion();
+        SurfSpotFilterDTO filters = new SurfSpotFilterDTO();
+        filters.setUserId(testUserId);
+        when(regionRepository.findById(1L)).thenReturn(Optional.of(region));
+        when(surfSpotRepository.findByRegionWithFilters(region, filters)).thenReturn(Collections.emptyList());
+
+        surfSpotService.findSurfSpotsByRegionIdWithFilters(1L, filters);
+        surfSpotService.findSurfSpotsByRegionIdWithFilters(1L, filters);
+
+        // Their own private and pending spots are part of the list, so there is no shared listing to use.
+        verify(surfSpotRepository, times(2)).findByRegionWithFilters(region, filters);
+    }
+
     @Test
     void testFindSurfSpotsBySubRegionSlugWithFiltersShouldThrowExceptionWhenSubRegionDoesNotExist() {
         // Arrange
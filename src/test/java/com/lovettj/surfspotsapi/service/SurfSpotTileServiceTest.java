@@ -0,0 +1,142 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.lovettj.surfspotsapi.config.SurfSpotTileProperties;
+import com.lovettj.surfspotsapi.dto.SurfSpotFilterDTO;
+import com.lovettj.surfspotsapi.entity.SurfSpot;
+import com.lovettj.surfspotsapi.enums.SurfSpotType;
+import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
+import com.lovettj.surfspotsapi.requests.BoundingBox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SurfSpotTileServiceTest {
+
+    // Zoom 10 tile containing Pipeline, Oahu (21.665, -158.053).
+    private static final int ZOOM = 10;
+    private static final int X = 62;
+    private static final int Y = 448;
+
+    @Mock
+    private SurfSpotRepository surfSpotRepository;
+
+    @Mock
+    private SurfSpotService surfSpotService;
+
+    private SurfSpotTileCache surfSpotTileCache;
+    private SurfSpotTileService surfSpotTileService;
+
+    @BeforeEach
+    void setUp() {
+        surfSpotTileCache = new SurfSpotTileCache(new SurfSpotTileProperties(), new SimpleMeterRegistry());
+        surfSpotTileService = new SurfSpotTileService(surfSpotRepository, surfSpotService, surfSpotTileCache);
+    }
+
+    @Test
+    void getTileShouldQueryTheBufferedTileAndEncodeSpotsInside() {
+        stubSpots(List.of(pipeline()));
+
+        byte[] tile = surfSpotTileService.getTile(ZOOM, X, Y, new SurfSpotFilterDTO());
+
+        ArgumentCaptor<BoundingBox> bounds = ArgumentCaptor.forClass(BoundingBox.class);
+        verify(surfSpotRepository).findWithinBoundsWithFilters(bounds.capture(), any(SurfSpotFilterDTO.class));
+        assertTrue(bounds.getValue().getMinLatitude() < 21.665 && bounds.getValue().getMaxLatitude() > 21.665);
+        assertTrue(bounds.getValue().getMinLongitude() < -158.053 && bounds.getValue().getMaxLongitude() > -158.053);
+        assertTrue(tile.length > 0);
+        assertTrue(new String(tile, StandardCharsets.UTF_8).contains("Pipeline"));
+    }
+
+    @Test
+    void getTileShouldServeRepeatsFromTheCachePerFilterSet() {
+        stubSpots(List.of(pipeline()));
+        SurfSpotFilterDTO reefs = new SurfSpotFilterDTO();
+        reefs.setType(List.of(SurfSpotType.REEF_BREAK));
+        SurfSpotFilterDTO sameReefs = new SurfSpotFilterDTO();
+        sameReefs.setType(List.of(SurfSpotType.REEF_BREAK));
+
+        byte[] first = surfSpotTileService.getTile(ZOOM, X, Y, reefs);
+        byte[] second = surfSpotTileService.getTile(ZOOM, X, Y, sameReefs);
+        surfSpotTileService.getTile(ZOOM, X, Y, new SurfSpotFilterDTO());
+
+        assertArrayEquals(first, second);
+        verify(surfSpotRepository, times(2))
+                .findWithinBoundsWithFilters(any(BoundingBox.class), any(SurfSpotFilterDTO.class));
+    }
+
+    @Test
+    void evictAfterCommitShouldOnlyDropTilesDrawingThePoint() {
+        stubSpots(List.of(pipeline()));
+        surfSpotTileService.getTile(ZOOM, X, Y, new SurfSpotFilterDTO());
+        surfSpotTileService.getTile(0, 0, 0, new SurfSpotFilterDTO());
+        surfSpotTileService.getTile(ZOOM, 0, 0, new SurfSpotFilterDTO());
+
+        surfSpotTileCache.evictAfterCommit(21.66, -158.05);
+        surfSpotTileService.getTile(ZOOM, X, Y, new SurfSpotFilterDTO());
+        surfSpotTileService.getTile(0, 0, 0, new SurfSpotFilterDTO());
+        surfSpotTileService.getTile(ZOOM, 0, 0, new SurfSpotFilterDTO());
+
+        // 3 initial encodes, then only the two tiles drawing Pipeline are rebuilt.
+        verify(surfSpotRepository, times(5))
+                .findWithinBoundsWithFilters(any(BoundingBox.class), any(SurfSpotFilterDTO.class));
+    }
+
+    @Test
+    void getTileShouldIgnoreUserIdSoTilesStayShared() {
+        stubSpots(List.of());
+        SurfSpotFilterDTO filters = new SurfSpotFilterDTO();
+        filters.setUserId("user-1");
+
+        byte[] tile = surfSpotTileService.getTile(ZOOM, X, Y, filters);
+
+        assertNull(filters.getUserId());
+        assertEquals(0, tile.length);
+    }
+
+    @Test
+    void getTileShouldRejectCoordinatesOutsideTheGrid() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> surfSpotTileService.getTile(2, 4, 0, new SurfSpotFilterDTO()));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+
+    private void stubSpots(List<SurfSpot> surfSpots) {
+        when(surfSpotRepository.findWithinBoundsWithFilters(any(BoundingBox.class), any(SurfSpotFilterDTO.class)))
+                .thenReturn(surfSpots);
+        when(surfSpotService.filterBySeason(anyList(), any(SurfSpotFilterDTO.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static SurfSpot pipeline() {
+        SurfSpot surfSpot = new SurfSpot();
+        surfSpot.setId(1L);
+        surfSpot.setName("Pipeline");
+        surfSpot.setType(SurfSpotType.REEF_BREAK);
+        surfSpot.setLatitude(21.665);
+        surfSpot.setLongitude(-158.053);
+        return surfSpot;
+    }
+}
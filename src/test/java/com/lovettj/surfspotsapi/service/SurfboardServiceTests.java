@@ -44,6 +44,12 @@ class SurfboardServiceTests {
     @Mock
     private StorageService storageService;
 
+    @Mock
+    private MediaThumbnailService mediaThumbnailService;
+
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+
     @InjectMocks
     private SurfboardService surfboardService;
 
@@ -1,7 +1,6 @@
 package com.lovettj.surfspotsapi.service;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.lovettj.surfspotsapi.entity.SwellSeason;
@@ -12,7 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 @ExtendWith(MockitoExtension.class)
 class SwellSeasonDeterminationServiceTests {
@@ -43,19 +44,19 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnNorthAtlanticForEuropeCoordinates() {
         // Portugal - Lisbon
         SwellSeason expected = createSwellSeason("North Atlantic", "September", "April");
-        when(swellSeasonRepository.findByName("North Atlantic")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(38.7223, -9.1393);
         assertTrue(result.isPresent());
         assertEquals("North Atlantic", result.get().getName());
-        verify(swellSeasonRepository).findByName("North Atlantic");
+        verify(swellSeasonRepository).findAll();
     }
 
     @Test
     void testDetermineSwellSeasonShouldReturnNorthAtlanticForEastCoastUSCoordinates() {
         // New York
         SwellSeason expected = createSwellSeason("North Atlantic", "September", "April");
-        when(swellSeasonRepository.findByName("North Atlantic")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(40.7128, -74.0060);
         assertTrue(result.isPresent());
@@ -66,19 +67,19 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnMediterraneanForSpainCoordinates() {
         // Malaga, Spain (Mediterranean coast)
         SwellSeason expected = createSwellSeason("Mediterranean", "October", "March");
-        when(swellSeasonRepository.findByName("Mediterranean")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(36.7213, -4.4214);
         assertTrue(result.isPresent());
         assertEquals("Mediterranean", result.get().getName());
-        verify(swellSeasonRepository).findByName("Mediterranean");
+        verify(swellSeasonRepository).findAll();
     }
 
     @Test
     void testDetermineSwellSeasonShouldReturnMediterraneanForAndalusiaMediterraneanCoast() {
         // Andalusia, Spain - Mediterranean coast (not Atlantic)
         SwellSeason expected = createSwellSeason("Mediterranean", "October", "March");
-        when(swellSeasonRepository.findByName("Mediterranean")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(36.5, -3.5);
         assertTrue(result.isPresent());
@@ -90,7 +91,7 @@ class SwellSeasonDeterminationServiceTests {
         // Andalusia, Spain - Atlantic coast (not Mediterranean)
         // This tests the edge case where a region has multiple coastlines
         SwellSeason expected = createSwellSeason("North Atlantic", "September", "April");
-        when(swellSeasonRepository.findByName("North Atlantic")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         // Cadiz, Spain - Atlantic coast
         Optional<SwellSeason> result = service.determineSwellSeason(36.5270, -6.2886);
@@ -102,7 +103,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnNorthPacificForCaliforniaCoordinates() {
         // San Diego, California
         SwellSeason expected = createSwellSeason("North Pacific", "September", "April");
-        when(swellSeasonRepository.findByName("North Pacific")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(32.7157, -117.1611);
         assertTrue(result.isPresent());
@@ -113,7 +114,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnNorthPacificForHawaiiCoordinates() {
         // Oahu, Hawaii
         SwellSeason expected = createSwellSeason("North Pacific", "September", "April");
-        when(swellSeasonRepository.findByName("North Pacific")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(21.3099, -157.8581);
         assertTrue(result.isPresent());
@@ -124,7 +125,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnCaribbeanForCaribbeanCoordinates() {
         // Barbados (13.1939°N, -59.5432°W)
         SwellSeason expected = createSwellSeason("Caribbean", "June", "November");
-        when(swellSeasonRepository.findByName("Caribbean")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(13.1939, -59.5432);
         assertTrue(result.isPresent(), "Result should be present for Barbados coordinates");
@@ -135,7 +136,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnIndianOceanForMaldivesCoordinates() {
         // Maldives
         SwellSeason expected = createSwellSeason("Indian Ocean", "March", "October");
-        when(swellSeasonRepository.findByName("Indian Ocean")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(4.1755, 73.5093);
         assertTrue(result.isPresent());
@@ -146,7 +147,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnIndonesiaForIndonesiaCoordinates() {
         // Bali, Indonesia
         SwellSeason expected = createSwellSeason("Indonesia", "April", "October");
-        when(swellSeasonRepository.findByName("Indonesia")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(-8.3405, 115.0920);
         assertTrue(result.isPresent());
@@ -157,7 +158,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnTasmanSeaForAustraliaCoordinates() {
         // Sydney, Australia
         SwellSeason expected = createSwellSeason("Tasman Sea", "March", "October");
-        when(swellSeasonRepository.findByName("Tasman Sea")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(-33.8688, 151.2093);
         assertTrue(result.isPresent());
@@ -168,7 +169,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnSouthAtlanticForSouthAfricaCoordinates() {
         // Cape Town, South Africa
         SwellSeason expected = createSwellSeason("South Atlantic", "March", "October");
-        when(swellSeasonRepository.findByName("South Atlantic")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(-33.9249, 18.4241);
         assertTrue(result.isPresent());
@@ -179,7 +180,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnWestAfricaAtlanticForMoroccoCoordinates() {
         // Taghazout, Morocco
         SwellSeason expected = createSwellSeason("West Africa Atlantic", "April", "October");
-        when(swellSeasonRepository.findByName("West Africa Atlantic")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(30.5333, -9.7000);
         assertTrue(result.isPresent());
@@ -190,7 +191,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnRedSeaForRedSeaCoordinates() {
         // Sharm El Sheikh, Egypt
         SwellSeason expected = createSwellSeason("Red Sea", "October", "April");
-        when(swellSeasonRepository.findByName("Red Sea")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(27.9158, 34.3296);
         assertTrue(result.isPresent());
@@ -201,7 +202,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnNorthSeaForNorthSeaCoordinates() {
         // Amsterdam, Netherlands
         SwellSeason expected = createSwellSeason("North Sea", "September", "April");
-        when(swellSeasonRepository.findByName("North Sea")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(52.3676, 4.9041);
         assertTrue(result.isPresent());
@@ -212,7 +213,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnBalticSeaForBalticSeaCoordinates() {
         // Stockholm, Sweden
         SwellSeason expected = createSwellSeason("Baltic Sea", "October", "April");
-        when(swellSeasonRepository.findByName("Baltic Sea")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(59.3293, 18.0686);
         assertTrue(result.isPresent());
@@ -223,7 +224,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnJapanNorthwestPacificForJapanCoordinates() {
         // Tokyo, Japan
         SwellSeason expected = createSwellSeason("Japan / Northwest Pacific", "August", "November");
-        when(swellSeasonRepository.findByName("Japan / Northwest Pacific")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
 
         Optional<SwellSeason> result = service.determineSwellSeason(35.6762, 139.6503);
         assertTrue(result.isPresent());
@@ -234,7 +235,7 @@ class SwellSeasonDeterminationServiceTests {
     void testDetermineSwellSeasonShouldReturnCentralAmericaPacificForCentralAmericaCoordinates() {
         // Costa Rica Pacific coast
         SwellSeason expected = createSwellSeason("Central America Pacific", "April", "October");
-        when(swellSeasonRepository.findByName("Central America Pacific")).thenReturn(Optional.of(expected));
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(expected));
         // Lenient stub for Caribbean in case code path checks it (shouldn't with fixed boundaries)
         lenient().when(swellSeasonRepository.findByName("Caribbean")).thenReturn(Optional.empty());
 
@@ -246,7 +247,7 @@ class SwellSeasonDeterminationServiceTests {
     @Test
     void testDetermineSwellSeasonShouldReturnEmptyForUnknownRegionCoordinates() {
         // Coordinates that don't match any known region (e.g., middle of ocean)
-        when(swellSeasonRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(swellSeasonRepository.findAll()).thenReturn(List.of());
 
         Optional<SwellSeason> result = service.determineSwellSeason(0.0, 0.0);
         assertTrue(result.isEmpty());
@@ -255,12 +256,57 @@ class SwellSeasonDeterminationServiceTests {
     @Test
     void testDetermineSwellSeasonShouldReturnEmptyWhenRepositoryReturnsEmpty() {
         // Valid coordinates but repository doesn't find the season
-        when(swellSeasonRepository.findByName("North Atlantic")).thenReturn(Optional.empty());
+        when(swellSeasonRepository.findAll()).thenReturn(List.of());
 
         Optional<SwellSeason> result = service.determineSwellSeason(40.7128, -74.0060);
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void lookupOceanRegionShouldMatchRulesAcrossTheGlobe() {
+        Random random = new Random(42);
+        for (int sample = 0; sample < 200_000; sample++) {
+            double latitude = random.nextDouble() * 180 - 90;
+            double longitude = random.nextDouble() * 360 - 180;
+            assertEquals(
+                    SwellSeasonDeterminationService.determineOceanRegion(latitude, longitude),
+                    SwellSeasonDeterminationService.lookupOceanRegion(latitude, longitude),
+                    latitude + "," + longitude);
+        }
+    }
+
+    @Test
+    void lookupOceanRegionShouldKeepRuleBoundsOnCellEdges() {
+        // Caribbean excludes lon -85 exactly; Gulf of Mexico includes it
+        assertEquals("Gulf of Mexico", SwellSeasonDeterminationService.lookupOceanRegion(24.0, -85.0));
+        assertEquals("Caribbean", SwellSeasonDeterminationService.lookupOceanRegion(24.0, -84.9));
+        assertEquals("Mediterranean", SwellSeasonDeterminationService.lookupOceanRegion(46.0, 10.0));
+        assertEquals(
+                SwellSeasonDeterminationService.determineOceanRegion(51.0, 180.0),
+                SwellSeasonDeterminationService.lookupOceanRegion(51.0, 180.0));
+    }
+
+    @Test
+    void determineSwellSeasonNameShouldNotQueryRepository() {
+        assertEquals(Optional.of("North Atlantic"), service.determineSwellSeasonName(38.7223, -9.1393));
+        verifyNoInteractions(swellSeasonRepository);
+    }
+
+    @Test
+    void determineSwellSeasonShouldLoadSeasonsOnceUntilEvicted() {
+        SwellSeason northAtlantic = createSwellSeason("North Atlantic", "September", "April");
+        when(swellSeasonRepository.findAll()).thenReturn(List.of(northAtlantic));
+
+        service.determineSwellSeason(38.7223, -9.1393);
+        service.determineSwellSeason(40.7128, -74.0060);
+        assertEquals(Optional.of(northAtlantic), service.findSwellSeasonById(1L));
+        verify(swellSeasonRepository, times(1)).findAll();
+
+        service.evictSeasonCache();
+        service.determineSwellSeason(38.7223, -9.1393);
+        verify(swellSeasonRepository, times(2)).findAll();
+    }
+
     // Helper method to create SwellSeason for testing
     private SwellSeason createSwellSeason(String name, String start, String end) {
         SwellSeason season = new SwellSeason();
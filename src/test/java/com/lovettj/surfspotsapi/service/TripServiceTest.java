@@ -68,6 +68,9 @@ class TripServiceTest {
     @Mock
     private StorageService storageService;
 
+    @Mock
+    private MediaThumbnailService mediaThumbnailService;
+
     @InjectMocks
     private TripService tripService;
 
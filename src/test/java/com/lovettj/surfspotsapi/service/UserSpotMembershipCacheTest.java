@@ -0,0 +1,102 @@
+package com.lovettj.surfspotsapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lovettj.surfspotsapi.config.SpotMembershipProperties;
+import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
+import com.lovettj.surfspotsapi.repository.WatchListRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UserSpotMembershipCacheTest {
+
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private UserSurfSpotRepository userSurfSpotRepository;
+    @Mock
+    private WatchListRepository watchListRepository;
+
+    private UserSpotMembershipCache userSpotMembershipCache;
+
+    @BeforeEach
+    void setUp() {
+        userSpotMembershipCache = new UserSpotMembershipCache(
+                userSurfSpotRepository, watchListRepository, new SpotMembershipProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getShouldLoadEachUserOnceAndFlagFromMemory() {
+        when(userSurfSpotRepository.findSurfSpotIdsByUserId(USER_ID)).thenReturn(List.of(30L, 4L, 1200L));
+        when(watchListRepository.findSurfSpotIdsByUserId(USER_ID)).thenReturn(List.of(4L, 77L));
+
+        UserSpotMembershipCache.Memberships first = userSpotMembershipCache.get(USER_ID);
+        UserSpotMembershipCache.Memberships second = userSpotMembershipCache.get(USER_ID);
+
+        assertTrue(second.isSurfed(1200L));
+        assertFalse(second.isSurfed(77L));
+        assertTrue(second.isWatched(77L));
+        assertEquals(Set.of(4L, 30L), first.surfedIn(Arrays.asList(4L, 5L, 30L, null)));
+        assertEquals(Set.of(4L), first.watchedIn(List.of(4L, 30L)));
+        verify(userSurfSpotRepository, times(1)).findSurfSpotIdsByUserId(USER_ID);
+        verify(watchListRepository, times(1)).findSurfSpotIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void evictShouldReloadTheUserNowAndAgainWhenTheTransactionEnds() {
+        when(userSurfSpotRepository.findSurfSpotIdsByUserId(USER_ID))
+                .thenReturn(List.of(), List.of(9L), List.of(9L));
+        when(watchListRepository.findSurfSpotIdsByUserId(USER_ID)).thenReturn(List.of());
+        userSpotMembershipCache.get(USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        userSpotMembershipCache.evict(USER_ID);
+        // Loaded inside the writing transaction: may see rows that roll back, so it must not outlive it.
+        assertTrue(userSpotMembershipCache.get(USER_ID).isSurfed(9L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        userSpotMembershipCache.get(USER_ID);
+
+        verify(userSurfSpotRepository, times(3)).findSurfSpotIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void getShouldNotCacheALoadThatRacedWithAnEviction() {
+        when(userSurfSpotRepository.findSurfSpotIdsByUserId(USER_ID)).thenAnswer(invocation -> {
+            userSpotMembershipCache.evictAll();
+            return List.of(3L);
+        });
+        when(watchListRepository.findSurfSpotIdsByUserId(USER_ID)).thenReturn(List.of());
+
+        assertTrue(userSpotMembershipCache.get(USER_ID).isSurfed(3L));
+        userSpotMembershipCache.get(USER_ID);
+
+        verify(userSurfSpotRepository, times(2)).findSurfSpotIdsByUserId(USER_ID);
+    }
+}
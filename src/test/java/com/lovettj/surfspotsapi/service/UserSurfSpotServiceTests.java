@@ -2,13 +2,11 @@ package com.lovettj.surfspotsapi.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +22,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import com.lovettj.surfspotsapi.dto.UserSurfSpotsDTO;
 import com.lovettj.surfspotsapi.response.ApiErrors;
+import com.lovettj.surfspotsapi.enums.ProfileStat;
 import com.lovettj.surfspotsapi.enums.WaveDirection;
 import com.lovettj.surfspotsapi.entity.Continent;
 import com.lovettj.surfspotsapi.entity.Country;
@@ -33,8 +32,8 @@ import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.entity.UserSurfSpot;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
+import com.lovettj.surfspotsapi.repository.UserProfileStatRepository.StatCount;
 import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
-import com.lovettj.surfspotsapi.repository.WatchListRepository;
 
 @ExtendWith(MockitoExtension.class)
 class UserSurfSpotServiceTests {
@@ -43,7 +42,7 @@ class UserSurfSpotServiceTests {
     private UserSurfSpotRepository userSurfSpotRepository;
 
     @Mock
-    private WatchListRepository watchListRepository;
+    private UserSpotMembershipCache userSpotMembershipCache;
 
     @Mock
     private UserRepository userRepository;
@@ -51,6 +50,9 @@ class UserSurfSpotServiceTests {
     @Mock
     private SurfSpotRepository surfSpotRepository;
 
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+
     @InjectMocks
     private UserSurfSpotService userSurfSpotService;
 
@@ -94,13 +96,19 @@ class UserSurfSpotServiceTests {
                 .isFavourite(false)
                 .build();
 
+        when(userProfileStatsService.getStats(userId)).thenReturn(stats(
+                new StatCount(ProfileStat.SURFED_SPOT, "", 1),
+                new StatCount(ProfileStat.SURFED_COUNTRY, "7", 1),
+                new StatCount(ProfileStat.SURFED_CONTINENT, "3", 1)));
         when(userSurfSpotRepository.findByUserIdOrderByCreatedAtDesc(userId)).thenReturn(List.of(uss));
-        when(watchListRepository.findByUserId(anyString())).thenReturn(Collections.emptyList());
+        when(userSpotMembershipCache.get(userId)).thenReturn(memberships(new long[] {99L}, new long[] {}));
 
         UserSurfSpotsDTO summary = userSurfSpotService.getUserSurfSpotsSummary(userId);
 
         assertNotNull(summary);
         assertEquals(1, summary.getTotalCount());
+        assertEquals(1, summary.getCountryCount());
+        assertEquals(1, summary.getContinentCount());
         assertNull(summary.getMostSurfedSpotType());
         assertNull(summary.getMostSurfedBeachBottomType());
         assertNull(summary.getMostSurfedWaveDirection());
@@ -119,12 +127,31 @@ class UserSurfSpotServiceTests {
                 userSurfSpotFor(rightSpot),
                 userSurfSpotFor(anotherLeftSpot));
 
+        when(userProfileStatsService.getStats(userId)).thenReturn(stats(
+                new StatCount(ProfileStat.SURFED_SPOT, "", 3),
+                new StatCount(ProfileStat.SURFED_WAVE_DIRECTION, "LEFT", 2),
+                new StatCount(ProfileStat.SURFED_WAVE_DIRECTION, "RIGHT", 1)));
         when(userSurfSpotRepository.findByUserIdOrderByCreatedAtDesc(userId)).thenReturn(userSurfSpots);
-        when(watchListRepository.findByUserId(anyString())).thenReturn(Collections.emptyList());
+        when(userSpotMembershipCache.get(userId)).thenReturn(memberships(new long[] {1L, 2L, 3L}, new long[] {2L}));
 
         UserSurfSpotsDTO summary = userSurfSpotService.getUserSurfSpotsSummary(userId);
 
         assertEquals(WaveDirection.LEFT, summary.getMostSurfedWaveDirection());
+        assertFalse(summary.getSurfedSpots().get(0).getSurfSpot().getIsWatched());
+        assertTrue(summary.getSurfedSpots().get(1).getSurfSpot().getIsWatched());
+    }
+
+    @Test
+    void getUserSurfSpotsSummaryShouldSkipSpotQueriesWhenNothingSurfed() {
+        when(userProfileStatsService.getStats(userId)).thenReturn(stats(
+                new StatCount(ProfileStat.WATCHED_SPOT, "", 4)));
+
+        UserSurfSpotsDTO summary = userSurfSpotService.getUserSurfSpotsSummary(userId);
+
+        assertEquals(0, summary.getTotalCount());
+        assertEquals(4, summary.getWatchListCount());
+        assertTrue(summary.getSurfedSpots().isEmpty());
+        verify(userSurfSpotRepository, never()).findByUserIdOrderByCreatedAtDesc(any());
     }
 
     @Test
@@ -137,9 +164,11 @@ class UserSurfSpotServiceTests {
         UserSurfSpot newerEntry = userSurfSpotFor(newerSpot);
         newerEntry.setCreatedAt(LocalDateTime.of(2025, 6, 15, 10, 0));
 
+        when(userProfileStatsService.getStats(userId)).thenReturn(stats(
+                new StatCount(ProfileStat.SURFED_SPOT, "", 2)));
         when(userSurfSpotRepository.findByUserIdOrderByCreatedAtDesc(userId))
                 .thenReturn(List.of(newerEntry, olderEntry));
-        when(watchListRepository.findByUserId(anyString())).thenReturn(Collections.emptyList());
+        when(userSpotMembershipCache.get(userId)).thenReturn(memberships(new long[] {1L, 2L}, new long[] {}));
 
         UserSurfSpotsDTO summary = userSurfSpotService.getUserSurfSpotsSummary(userId);
 
@@ -163,8 +192,7 @@ class UserSurfSpotServiceTests {
 
     @Test
     void findSurfedSpotIdsInShouldReturnMatchingIds() {
-        when(userSurfSpotRepository.findSurfSpotIdsByUserIdAndSurfSpotIdIn(userId, List.of(1L, 2L, 3L)))
-                .thenReturn(Set.of(2L, 3L));
+        when(userSpotMembershipCache.get(userId)).thenReturn(memberships(new long[] {2L, 3L, 8L}, new long[] {1L}));
 
         Set<Long> result = userSurfSpotService.findSurfedSpotIdsIn(userId, List.of(1L, 2L, 3L));
 
@@ -176,7 +204,38 @@ class UserSurfSpotServiceTests {
         Set<Long> result = userSurfSpotService.findSurfedSpotIdsIn(userId, List.of());
 
         assertTrue(result.isEmpty());
-        verify(userSurfSpotRepository, never()).findSurfSpotIdsByUserIdAndSurfSpotIdIn(any(), any());
+        verify(userSpotMembershipCache, never()).get(any());
+    }
+
+    @Test
+    void addUserSurfSpotShouldCountNewSurfedSpot() {
+        SurfSpot spot = copySpotWithWaveDirection(riverSpotWithNullEnums, 5L, "Point", WaveDirection.LEFT);
+        when(userSurfSpotRepository.findByUserIdAndSurfSpotId(userId, 5L)).thenReturn(Optional.empty());
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(surfSpotRepository.findById(5L)).thenReturn(Optional.of(spot));
+
+        userSurfSpotService.addUserSurfSpot(userId, 5L);
+
+        verify(userSurfSpotRepository).save(any(UserSurfSpot.class));
+        verify(userProfileStatsService).surfedSpotsAdded(userId, List.of(5L));
+        verify(userSpotMembershipCache).evict(userId);
+    }
+
+    @Test
+    void removeUserSurfSpotShouldNotTouchCountersWhenSpotWasNotSurfed() {
+        when(userSurfSpotRepository.findByUserIdAndSurfSpotId(userId, 5L)).thenReturn(Optional.empty());
+
+        userSurfSpotService.removeUserSurfSpot(userId, 5L);
+
+        verify(userProfileStatsService, never()).surfedSpotRemoved(any(), any());
+    }
+
+    private static UserSpotMembershipCache.Memberships memberships(long[] surfedSpotIds, long[] watchedSpotIds) {
+        return new UserSpotMembershipCache.Memberships(surfedSpotIds, watchedSpotIds);
+    }
+
+    private static UserProfileStats stats(StatCount... counts) {
+        return new UserProfileStats(List.of(counts));
     }
 
     private UserSurfSpot userSurfSpotFor(SurfSpot surfSpot) {
@@ -2,6 +2,7 @@ package com.lovettj.surfspotsapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -9,7 +10,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,8 @@ import com.lovettj.surfspotsapi.entity.NotificationEmailSent;
 import com.lovettj.surfspotsapi.entity.Settings;
 import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository;
+import com.lovettj.surfspotsapi.repository.NotificationEmailSentJdbcRepository.NotificationClaim;
 import com.lovettj.surfspotsapi.repository.NotificationEmailSentRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
 import com.lovettj.surfspotsapi.repository.WatchListRepository;
@@ -43,6 +48,9 @@ class WatchListNotificationEmailServiceTest {
     @Mock
     private NotificationEmailSentRepository notificationEmailSentRepository;
 
+    @Mock
+    private NotificationEmailSentJdbcRepository notificationEmailSentJdbcRepository;
+
     @Mock
     private EmailService emailService;
 
@@ -58,6 +66,7 @@ class WatchListNotificationEmailServiceTest {
                         watchListRepository,
                         notificationService,
                         notificationEmailSentRepository,
+                        notificationEmailSentJdbcRepository,
                         emailService,
                         appProperties);
     }
@@ -77,9 +86,8 @@ class WatchListNotificationEmailServiceTest {
                                         .description("Get ready")
                                         .link("/watch-list")
                                         .build()));
-        when(notificationEmailSentRepository.existsByUserIdAndNotificationKey(
-                        eq("user-1"), eq("swell-1-2026-starting")))
-                .thenReturn(false);
+        NotificationClaim claim = new NotificationClaim("user-1", "swell-1-2026-starting");
+        when(notificationEmailSentJdbcRepository.findUnclaimed(List.of(claim))).thenReturn(Set.of(claim));
         when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap()))
                 .thenReturn(true);
 
@@ -130,8 +138,8 @@ class WatchListNotificationEmailServiceTest {
                                         .title("Swell season starting")
                                         .description("Get ready")
                                         .build()));
-        when(notificationEmailSentRepository.existsByUserIdAndNotificationKey(anyString(), anyString()))
-                .thenReturn(false);
+        when(notificationEmailSentJdbcRepository.findUnclaimed(anyCollection()))
+                .thenAnswer(invocation -> new HashSet<NotificationClaim>(invocation.getArgument(0)));
         when(emailService.sendEmail(anyString(), anyString(), anyString(), anyMap()))
                 .thenReturn(false);
 
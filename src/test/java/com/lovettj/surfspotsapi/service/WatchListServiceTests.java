@@ -28,7 +28,6 @@ import com.lovettj.surfspotsapi.entity.User;
 import com.lovettj.surfspotsapi.entity.WatchListSurfSpot;
 import com.lovettj.surfspotsapi.repository.SurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.UserRepository;
-import com.lovettj.surfspotsapi.repository.UserSurfSpotRepository;
 import com.lovettj.surfspotsapi.repository.WatchListRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,11 +43,14 @@ class WatchListServiceTests {
     private SurfSpotRepository surfSpotRepository;
 
     @Mock
-    private UserSurfSpotRepository userSurfSpotRepository;
+    private UserSpotMembershipCache userSpotMembershipCache;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private UserProfileStatsService userProfileStatsService;
+
     @InjectMocks
     private WatchListService watchListService;
 
@@ -118,8 +120,8 @@ class WatchListServiceTests {
     void testGetUsersWatchList() {
         when(watchListRepository.findByUserId(testUserId))
             .thenReturn(Arrays.asList(testWatchListEntry));
-        when(userSurfSpotRepository.findByUserId(testUserId))
-            .thenReturn(Arrays.asList());
+        when(userSpotMembershipCache.get(testUserId))
+            .thenReturn(new UserSpotMembershipCache.Memberships(new long[] {1L}, new long[] {1L}));
         when(notificationService.generateNotifications(any()))
             .thenReturn(Arrays.asList());
 
@@ -130,6 +132,7 @@ class WatchListServiceTests {
         assertNotNull(result.getNotifications());
         // surfSpots now contains WatchListSpotDTO wrappers
         assertEquals(testSpot.getName(), result.getSurfSpots().get(0).getSurfSpot().getName());
+        assertTrue(result.getSurfSpots().get(0).getSurfSpot().getIsSurfedSpot());
         verify(notificationService).generateNotifications(any());
     }
 
@@ -141,22 +144,22 @@ class WatchListServiceTests {
         watchListService.removeSurfSpotFromWishList(testUserId, 1L);
 
         verify(watchListRepository).delete(testWatchListEntry);
+        verify(userSpotMembershipCache).evict(testUserId);
     }
 
     @Test
     void testIsWatched() {
-        when(watchListRepository.findByUserIdAndSurfSpotId(testUserId, 1L))
-            .thenReturn(Optional.of(testWatchListEntry));
-
-        boolean result = watchListService.isWatched(testUserId, 1L);
+        when(userSpotMembershipCache.get(testUserId))
+            .thenReturn(new UserSpotMembershipCache.Memberships(new long[] {}, new long[] {1L}));
 
-        assertTrue(result);
+        assertTrue(watchListService.isWatched(testUserId, 1L));
+        assertFalse(watchListService.isWatched(testUserId, 2L));
     }
 
     @Test
     void findWatchedSpotIdsInShouldReturnMatchingIds() {
-        when(watchListRepository.findSurfSpotIdsByUserIdAndSurfSpotIdIn(testUserId, List.of(1L, 2L)))
-                .thenReturn(Set.of(1L));
+        when(userSpotMembershipCache.get(testUserId))
+                .thenReturn(new UserSpotMembershipCache.Memberships(new long[] {2L}, new long[] {1L, 3L}));
 
         Set<Long> result = watchListService.findWatchedSpotIdsIn(testUserId, List.of(1L, 2L));
 
@@ -168,7 +171,7 @@ class WatchListServiceTests {
         Set<Long> result = watchListService.findWatchedSpotIdsIn(testUserId, List.of());
 
         assertTrue(result.isEmpty());
-        verify(watchListRepository, never()).findSurfSpotIdsByUserIdAndSurfSpotIdIn(any(), any());
+        verify(userSpotMembershipCache, never()).get(any());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.lovettj.surfspotsapi.testutil;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.lovettj.surfspotsapi.metrics.HibernateStatementCounter;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Per-call SQL budget for integration tests: fails when the wrapped call (a service method or a MockMvc
+ * request) runs more Hibernate statements than declared, so an N+1 that creeps back in breaks the build.
+ * Set budgets from the fixture, not the data size: a fixture with several rows per collection keeps
+ * per-row queries from hiding under the limit.
+ *
+ * <p>Flushes and clears the persistence context first, so fixtures saved in the test transaction are
+ * read back from the database as they would be in a real request. To see the statements behind a
+ * failure, run the test with {@code logging.level.org.hibernate.SQL=DEBUG}.
+ */
+public final class SqlStatementBudget {
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T run() throws Exception;
+    }
+
+    private final HibernateStatementCounter statementCounter;
+    private final EntityManager entityManager;
+
+    public SqlStatementBudget(HibernateStatementCounter statementCounter, EntityManager entityManager) {
+        this.statementCounter = statementCounter;
+        this.entityManager = entityManager;
+    }
+
+    public <T> T assertAtMost(int maxStatements, String description, Call<T> call) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+        T result = call.run();
+        int executed = statementCounter.count();
+        if (executed > maxStatements) {
+            fail(description + " ran " + executed + " SQL statements, budget is " + maxStatements);
+        }
+        return result;
+    }
+
+    /** Statements the call runs, for tests that compare two fixture sizes. */
+    public int count(Call<?> call) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statementCounter.reset();
+        call.run();
+        return statementCounter.count();
+    }
+}
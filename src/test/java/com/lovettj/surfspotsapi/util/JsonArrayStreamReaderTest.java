@@ -0,0 +1,55 @@
+package com.lovettj.surfspotsapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lovettj.surfspotsapi.entity.SwellSeason;
+
+class JsonArrayStreamReaderTest {
+
+    private final ObjectMapper mapper =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void forEachElementShouldBindElementsInOrder() throws IOException {
+        String json = """
+                [
+                  {"name": "North Atlantic", "startMonth": "September", "endMonth": "April", "extra": 1},
+                  {"name": "Mediterranean", "startMonth": "October", "endMonth": "March"}
+                ]
+                """;
+        List<String> names = new ArrayList<>();
+
+        int count = JsonArrayStreamReader.forEachElement(
+                mapper, stream(json), SwellSeason.class, season -> names.add(season.getName()));
+
+        assertEquals(2, count);
+        assertEquals(List.of("North Atlantic", "Mediterranean"), names);
+    }
+
+    @Test
+    void forEachElementShouldTreatEmptyDocumentAsEmptyArray() throws IOException {
+        assertEquals(0, JsonArrayStreamReader.forEachElement(mapper, stream(""), SwellSeason.class, season -> {}));
+        assertEquals(0, JsonArrayStreamReader.forEachElement(mapper, stream("[]"), SwellSeason.class, season -> {}));
+    }
+
+    @Test
+    void forEachElementShouldRejectNonArrayDocument() {
+        assertThrows(IOException.class,
+                () -> JsonArrayStreamReader.forEachElement(mapper, stream("{\"name\": \"x\"}"), SwellSeason.class, season -> {}));
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+package com.lovettj.surfspotsapi.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class VectorTileEncoderTests {
+
+    @Test
+    void encodeShouldWriteOnePointLayerThatDecodesBack() {
+        VectorTileEncoder encoder = new VectorTileEncoder("surf_spots", 4096);
+        Map<String, String> pipeline = new LinkedHashMap<>();
+        pipeline.put("name", "Pipeline");
+        pipeline.put("type", "Reef Break");
+        encoder.addPoint(7, 100, 4000, pipeline);
+        Map<String, String> edge = new LinkedHashMap<>();
+        edge.put("name", "Edge");
+        edge.put("type", null);
+        encoder.addPoint(300, -20, 5, edge);
+
+        Reader tile = new Reader(encoder.encode());
+        assertEquals(3, tile.field());
+        Reader layer = tile.message();
+
+        List<Reader> features = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        String name = null;
+        long version = 0;
+        long extent = 0;
+        while (layer.hasMore()) {
+            switch (layer.field()) {
+                case 1 -> name = layer.string();
+                case 2 -> features.add(layer.message());
+                case 3 -> keys.add(layer.string());
+                case 4 -> {
+                    Reader value = layer.message();
+                    assertEquals(1, value.field());
+                    values.add(value.string());
+                }
+                case 5 -> extent = layer.varint();
+                case 15 -> version = layer.varint();
+                default -> throw new AssertionError("unexpected layer field");
+            }
+        }
+
+        assertEquals("surf_spots", name);
+        assertEquals(2, version);
+        assertEquals(4096, extent);
+        assertEquals(List.of("name", "type"), keys);
+        assertEquals(List.of("Pipeline", "Reef Break", "Edge"), values);
+        assertEquals(2, features.size());
+        assertFeature(features.get(0), 7, List.of(0L, 0L, 1L, 1L), 100, 4000);
+        assertFeature(features.get(1), 300, List.of(0L, 2L), -20, 5);
+    }
+
+    @Test
+    void encodeShouldReturnNoBytesForAnEmptyTile() {
+        assertEquals(0, new VectorTileEncoder("surf_spots", 4096).encode().length);
+    }
+
+    private static void assertFeature(Reader feature, long id, List<Long> tags, int x, int y) {
+        assertEquals(1, feature.field());
+        assertEquals(id, feature.varint());
+        assertEquals(2, feature.field());
+        assertEquals(tags, feature.message().varints());
+        assertEquals(3, feature.field());
+        assertEquals(1, feature.varint());
+        assertEquals(4, feature.field());
+        List<Long> geometry = feature.message().varints();
+        assertEquals(List.of(9L, zigZag(x), zigZag(y)), geometry);
+    }
+
+    private static long zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /** Just enough protobuf decoding to read back what the encoder writes. */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasMore() {
+            return position < bytes.length;
+        }
+
+        int field() {
+            return (int) (varint() >>> 3);
+        }
+
+        long varint() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = bytes[position++];
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+
+        Reader message() {
+            int length = (int) varint();
+            byte[] nested = new byte[length];
+            System.arraycopy(bytes, position, nested, 0, length);
+            position += length;
+            return new Reader(nested);
+        }
+
+        String string() {
+            return new String(message().bytes, StandardCharsets.UTF_8);
+        }
+
+        List<Long> varints() {
+            List<Long> values = new ArrayList<>();
+            while (hasMore()) {
+                values.add(varint());
+            }
+            return values;
+        }
+    }
+}